@@ -2,7 +2,6 @@ package org.mockserver.client;
 
 import com.google.common.collect.ImmutableList;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
 import org.mockserver.authentication.AuthenticationException;
@@ -229,8 +228,8 @@ public class MockServerClient implements Stoppable {
         this.eventLoopGroup = eventLoopGroup();
     }
 
-    private NioEventLoopGroup eventLoopGroup() {
-        return new NioEventLoopGroup(configuration.clientNioEventLoopThreadCount(), new Scheduler.SchedulerThreadFactory(this.getClass().getSimpleName() + "-eventLoop"));
+    private EventLoopGroup eventLoopGroup() {
+        return configuration.transport().createEventLoopGroup(configuration.clientNioEventLoopThreadCount(), new Scheduler.SchedulerThreadFactory(this.getClass().getSimpleName() + "-eventLoop"), MOCK_SERVER_LOGGER);
     }
 
     /**
@@ -0,0 +1,46 @@
+package org.mockserver.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hit, miss and eviction counts shared by all caches with the same name
+ */
+public class CacheStatistics {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    void recordHit() {
+        hits.increment();
+    }
+
+    void recordMiss() {
+        misses.increment();
+    }
+
+    void recordEviction() {
+        evictions.increment();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * entries removed because the cache was full or the entry had expired
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    void reset() {
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+}
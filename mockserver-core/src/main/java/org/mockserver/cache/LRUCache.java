@@ -1,34 +1,55 @@
 package org.mockserver.cache;
 
 import com.google.common.annotations.VisibleForTesting;
-import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
-
-import static org.slf4j.event.Level.TRACE;
-
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrent LRU cache with a maximum size and a time to live that is extended on each get.
+ * <p>
+ * Lookups use a ConcurrentHashMap, access order is maintained in a doubly linked list so moving an entry to the most
+ * recently used position and evicting the least recently used entry are both O(1).  The list is guarded by a lock that
+ * gets only try to acquire, so under contention a get returns without updating the access order instead of waiting.
+ */
 @SuppressWarnings("unused")
 public class LRUCache<K, V> {
 
+    private static final String DEFAULT_NAME = "default";
     private static boolean allCachesEnabled = true;
     private static int maxSizeOverride = 0;
-    private static final List<LRUCache<?, ?>> allCaches = new ArrayList<>();
+    private static final Set<LRUCache<?, ?>> allCaches = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+    private static final ConcurrentMap<String, CacheStatistics> allStatistics = new ConcurrentHashMap<>();
     private final long ttlInMillis;
     private final int maxSize;
-    private final ConcurrentHashMap<K, Entry<V>> map;
-    private final ConcurrentLinkedQueue<K> queue;
+    private final ConcurrentHashMap<K, Node<K, V>> map;
+    private final ReentrantLock accessOrderLock = new ReentrantLock();
+    // sentinel node, head.next is least recently used and head.previous is most recently used
+    private final Node<K, V> head = new Node<>(null, null);
+    private final CacheStatistics statistics;
     private final MockServerLogger mockServerLogger;
 
     public LRUCache(final MockServerLogger mockServerLogger, final int maxSize, long ttlInMillis) {
+        this(mockServerLogger, DEFAULT_NAME, maxSize, ttlInMillis);
+    }
+
+    public LRUCache(final MockServerLogger mockServerLogger, final String name, final int maxSize, long ttlInMillis) {
         this.mockServerLogger = mockServerLogger;
         this.maxSize = maxSize;
         this.map = new ConcurrentHashMap<>(maxSize);
-        this.queue = new ConcurrentLinkedQueue<>();
         this.ttlInMillis = ttlInMillis;
+        this.statistics = allStatistics.computeIfAbsent(name, key -> new CacheStatistics());
+        this.head.previous = head;
+        this.head.next = head;
         LRUCache.allCaches.add(this);
     }
 
@@ -38,32 +59,47 @@ public class LRUCache<K, V> {
 
     @VisibleForTesting
     public static void clearAllCaches() {
-        for (LRUCache<?, ?> cache : allCaches) {
+        List<LRUCache<?, ?>> caches;
+        synchronized (allCaches) {
+            caches = new ArrayList<>(allCaches);
+        }
+        for (LRUCache<?, ?> cache : caches) {
             if (cache != null) {
                 cache.clear();
             }
         }
     }
 
+    /**
+     * statistics for all caches, by cache name, sorted by name
+     */
+    public static Map<String, CacheStatistics> allStatistics() {
+        return new TreeMap<>(allStatistics);
+    }
+
+    @VisibleForTesting
+    public static void clearAllStatistics() {
+        allStatistics.values().forEach(CacheStatistics::reset);
+    }
+
     public void put(K key, final V value) {
         put(key, value, ttlInMillis);
     }
 
     public void put(K key, final V value, long ttl) {
         if (allCachesEnabled && key != null) {
-            if (map.containsKey(key)) {
-                // ensure the queue is in FIFO order
-                queue.remove(key);
-            }
-            while (queue.size() >= maxSize
-                || maxSizeOverride > 0 && queue.size() >= maxSizeOverride) {
-                K oldestKey = queue.poll();
-                if (null != oldestKey) {
-                    map.remove(oldestKey);
+            accessOrderLock.lock();
+            try {
+                Node<K, V> node = new Node<>(key, new Entry<>(ttl, expiryInMillis(ttl), value));
+                Node<K, V> existing = map.put(key, node);
+                if (existing != null) {
+                    unlink(existing);
                 }
+                linkLast(node);
+                evict();
+            } finally {
+                accessOrderLock.unlock();
             }
-            queue.add(key);
-            map.put(key, new Entry<>(ttl, expiryInMillis(ttl), value));
         }
     }
 
@@ -73,40 +109,114 @@ public class LRUCache<K, V> {
 
     public V get(K key) {
         if (allCachesEnabled && key != null) {
-            if (map.containsKey(key)) {
-                // remove from the queue and add it again in FIFO queue
-                queue.remove(key);
-                queue.add(key);
-            }
-
-            Entry<V> entry = map.get(key);
-            if (entry != null) {
+            Node<K, V> node = map.get(key);
+            if (node != null) {
+                Entry<V> entry = node.entry;
                 if (entry.getExpiryInMillis() > System.currentTimeMillis()) {
-                    return entry.updateExpiryInMillis(expiryInMillis(entry.getTtlInMillis())).getValue();
+                    entry.updateExpiryInMillis(expiryInMillis(entry.getTtlInMillis()));
+                    if (accessOrderLock.tryLock()) {
+                        try {
+                            // node may have been removed or replaced since the lookup
+                            if (node.next != null) {
+                                unlink(node);
+                                linkLast(node);
+                            }
+                        } finally {
+                            accessOrderLock.unlock();
+                        }
+                    }
+                    statistics.recordHit();
+                    return entry.getValue();
                 } else {
-                    delete(key);
+                    accessOrderLock.lock();
+                    try {
+                        if (map.remove(key, node)) {
+                            unlink(node);
+                            statistics.recordEviction();
+                        }
+                    } finally {
+                        accessOrderLock.unlock();
+                    }
                 }
             }
+            statistics.recordMiss();
         }
         return null;
     }
 
     public void delete(K key) {
         if (allCachesEnabled && key != null) {
-            if (map.containsKey(key)) {
-                map.remove(key);
-                queue.remove(key);
+            accessOrderLock.lock();
+            try {
+                Node<K, V> node = map.remove(key);
+                if (node != null) {
+                    unlink(node);
+                }
+            } finally {
+                accessOrderLock.unlock();
             }
         }
     }
 
     private void clear() {
-        map.clear();
-        queue.clear();
+        accessOrderLock.lock();
+        try {
+            map.clear();
+            while (head.next != head) {
+                unlink(head.next);
+            }
+        } finally {
+            accessOrderLock.unlock();
+        }
     }
 
     public static void setMaxSizeOverride(int maxSizeOverride) {
         LRUCache.maxSizeOverride = maxSizeOverride;
     }
 
+    private void evict() {
+        long now = System.currentTimeMillis();
+        // the list is in access order not expiry order, as each put can have its own ttl, so only expired entries at the
+        // least recently used end are removed here, any other expired entry is removed when next read or once it becomes
+        // least recently used
+        while (head.next != head && (head.next.entry.getExpiryInMillis() <= now || map.size() > maxSize())) {
+            Node<K, V> eldest = head.next;
+            unlink(eldest);
+            map.remove(eldest.key, eldest);
+            statistics.recordEviction();
+        }
+    }
+
+    private int maxSize() {
+        return maxSizeOverride > 0 ? Math.min(maxSize, maxSizeOverride) : maxSize;
+    }
+
+    private void linkLast(Node<K, V> node) {
+        node.previous = head.previous;
+        node.next = head;
+        head.previous.next = node;
+        head.previous = node;
+    }
+
+    private void unlink(Node<K, V> node) {
+        if (node.next != null) {
+            node.previous.next = node.next;
+            node.next.previous = node.previous;
+            node.previous = null;
+            node.next = null;
+        }
+    }
+
+    private static class Node<K, V> {
+        private final K key;
+        private final Entry<V> entry;
+        private Node<K, V> previous;
+        private Node<K, V> next;
+
+        private Node(K key, Entry<V> entry) {
+            this.key = key;
+            this.entry = entry;
+        }
+    }
+
 }
@@ -6,7 +6,6 @@ import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.http.HttpClientCodec;
 import io.netty.handler.codec.http.HttpObjectAggregator;
 import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
@@ -14,11 +13,14 @@ import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.SslProvider;
 import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
 import io.netty.util.AttributeKey;
+import org.mockserver.configuration.ConfigurationProperties;
 import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.LoggingHandler;
 import org.mockserver.logging.MockServerLogger;
 import org.mockserver.mock.action.ExpectationCallback;
 import org.mockserver.mock.action.ExpectationForwardAndResponseCallback;
+import org.mockserver.mock.action.ExpectationForwardAsyncCallback;
+import org.mockserver.mock.action.ExpectationResponseAsyncCallback;
 import org.mockserver.model.HttpMessage;
 import org.mockserver.model.HttpRequest;
 import org.mockserver.model.HttpRequestAndHttpResponse;
@@ -26,14 +28,19 @@ import org.mockserver.model.HttpResponse;
 import org.mockserver.serialization.WebSocketMessageSerializer;
 import org.mockserver.serialization.model.WebSocketClientIdDTO;
 import org.mockserver.serialization.model.WebSocketErrorDTO;
+import org.mockserver.socket.Transport;
 import org.slf4j.event.Level;
 
 import javax.net.ssl.SSLException;
 import java.net.InetSocketAddress;
 import java.net.URISyntaxException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeoutException;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.mockserver.closurecallback.websocketregistry.WebSocketClientRegistry.WEB_SOCKET_CORRELATION_ID_HEADER_NAME;
 import static org.slf4j.event.Level.TRACE;
 import static org.slf4j.event.Level.WARN;
@@ -53,11 +60,20 @@ public class WebSocketClient<T extends HttpMessage> {
     private boolean isStopped = false;
     private final EventLoopGroup eventLoopGroup;
     private final String clientId;
+    private final long maxFutureTimeoutInMillis;
     public static final String CLIENT_REGISTRATION_ID_HEADER = "X-CLIENT-REGISTRATION-ID";
 
     public WebSocketClient(final EventLoopGroup eventLoopGroup, final String clientId, final MockServerLogger mockServerLogger) {
+        this(eventLoopGroup, clientId, mockServerLogger, ConfigurationProperties.maxFutureTimeout());
+    }
+
+    /**
+     * @param maxFutureTimeoutInMillis the maximum time to wait for an asynchronous callback to complete
+     */
+    public WebSocketClient(final EventLoopGroup eventLoopGroup, final String clientId, final MockServerLogger mockServerLogger, final long maxFutureTimeoutInMillis) {
         this.eventLoopGroup = eventLoopGroup;
         this.clientId = clientId;
+        this.maxFutureTimeoutInMillis = maxFutureTimeoutInMillis;
         this.mockServerLogger = mockServerLogger;
         this.webSocketMessageSerializer = new WebSocketMessageSerializer(mockServerLogger);
     }
@@ -67,7 +83,7 @@ public class WebSocketClient<T extends HttpMessage> {
         try {
             new Bootstrap()
                 .group(this.eventLoopGroup)
-                .channel(NioSocketChannel.class)
+                .channel(Transport.socketChannelClass(this.eventLoopGroup))
                 .attr(REGISTRATION_FUTURE, registrationFuture)
                 .handler(new ChannelInitializer<SocketChannel>() {
                     @Override
@@ -131,33 +147,8 @@ public class WebSocketClient<T extends HttpMessage> {
                     );
                 }
                 if (expectationCallback != null) {
-                    try {
-                        T result = expectationCallback.handle(request);
-                        if (MockServerLogger.isEnabled(TRACE)) {
-                            mockServerLogger.logEvent(
-                                new LogEntry()
-                                    .setLogLevel(TRACE)
-                                    .setHttpRequest(request)
-                                    .setMessageFormat("returning{}for request{}over websocket for client " + clientId + " for correlationId " + webSocketCorrelationId)
-                                    .setArguments(result, request)
-                            );
-                        }
-                        result.withHeader(WEB_SOCKET_CORRELATION_ID_HEADER_NAME, webSocketCorrelationId);
-                        channel.writeAndFlush(new TextWebSocketFrame(webSocketMessageSerializer.serialize(result)));
-                    } catch (Throwable throwable) {
-                        mockServerLogger.logEvent(
-                            new LogEntry()
-                                .setLogLevel(Level.ERROR)
-                                .setHttpRequest(request)
-                                .setMessageFormat("exception thrown while handling callback for request - " + throwable.getMessage())
-                                .setThrowable(throwable)
-                        );
-                        channel.writeAndFlush(new TextWebSocketFrame(webSocketMessageSerializer.serialize(
-                            new WebSocketErrorDTO()
-                                .setMessage(throwable.getMessage())
-                                .setWebSocketCorrelationId(webSocketCorrelationId)
-                        )));
-                    }
+                    // asynchronous callbacks are written once complete so the event loop isn't blocked while waiting
+                    handleCallback(request).whenComplete((result, throwable) -> writeCallbackResult(request, webSocketCorrelationId, result, throwable));
                 }
             } else if (deserializedMessage instanceof HttpRequestAndHttpResponse) {
                 HttpRequestAndHttpResponse httpRequestAndHttpResponse = (HttpRequestAndHttpResponse) deserializedMessage;
@@ -227,6 +218,83 @@ public class WebSocketClient<T extends HttpMessage> {
         }
     }
 
+    private void writeCallbackResult(HttpRequest request, String webSocketCorrelationId, T result, Throwable throwable) {
+        if (throwable == null) {
+            try {
+                if (MockServerLogger.isEnabled(TRACE)) {
+                    mockServerLogger.logEvent(
+                        new LogEntry()
+                            .setLogLevel(TRACE)
+                            .setHttpRequest(request)
+                            .setMessageFormat("returning{}for request{}over websocket for client " + clientId + " for correlationId " + webSocketCorrelationId)
+                            .setArguments(result, request)
+                    );
+                }
+                result.withHeader(WEB_SOCKET_CORRELATION_ID_HEADER_NAME, webSocketCorrelationId);
+                channel.writeAndFlush(new TextWebSocketFrame(webSocketMessageSerializer.serialize(result)));
+                return;
+            } catch (Throwable serializationThrowable) {
+                throwable = serializationThrowable;
+            }
+        }
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+        mockServerLogger.logEvent(
+            new LogEntry()
+                .setLogLevel(Level.ERROR)
+                .setHttpRequest(request)
+                .setMessageFormat("exception thrown while handling callback for request - " + cause.getMessage())
+                .setThrowable(cause)
+        );
+        try {
+            channel.writeAndFlush(new TextWebSocketFrame(webSocketMessageSerializer.serialize(
+                new WebSocketErrorDTO()
+                    .setMessage(cause.getMessage())
+                    .setWebSocketCorrelationId(webSocketCorrelationId)
+            )));
+        } catch (Throwable serializationThrowable) {
+            mockServerLogger.logEvent(
+                new LogEntry()
+                    .setLogLevel(Level.ERROR)
+                    .setHttpRequest(request)
+                    .setMessageFormat("exception thrown while serializing callback error for request - " + serializationThrowable.getMessage())
+                    .setThrowable(serializationThrowable)
+            );
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<T> handleCallback(HttpRequest request) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            CompletableFuture<? extends HttpMessage> asyncResult = null;
+            if (expectationCallback instanceof ExpectationResponseAsyncCallback) {
+                asyncResult = ((ExpectationResponseAsyncCallback) expectationCallback).handleAsync(request);
+            } else if (expectationCallback instanceof ExpectationForwardAsyncCallback) {
+                asyncResult = ((ExpectationForwardAsyncCallback) expectationCallback).handleAsync(request);
+            }
+            if (asyncResult != null) {
+                asyncResult.whenComplete((response, throwable) -> {
+                    if (throwable != null) {
+                        result.completeExceptionally(throwable);
+                    } else if (response == null) {
+                        result.completeExceptionally(new WebSocketException("Callback future completed with null for request " + request));
+                    } else {
+                        result.complete((T) response);
+                    }
+                });
+                if (!result.isDone()) {
+                    ScheduledFuture<?> timeout = eventLoopGroup.schedule(() -> result.completeExceptionally(new TimeoutException("Callback future was not completed after " + maxFutureTimeoutInMillis + " milliseconds")), maxFutureTimeoutInMillis, MILLISECONDS);
+                    result.whenComplete((response, throwable) -> timeout.cancel(false));
+                }
+            } else {
+                result.complete(expectationCallback.handle(request));
+            }
+        } catch (Throwable throwable) {
+            result.completeExceptionally(throwable);
+        }
+        return result;
+    }
+
     public void stopClient() {
         isStopped = true;
         try {
@@ -0,0 +1,35 @@
+package org.mockserver.codec;
+
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpMessage;
+import io.netty.handler.codec.http2.HttpConversionUtil;
+
+/**
+ * Removes the extension headers (such as x-http2-stream-id) that are added when HTTP/2 frames are converted into
+ * HTTP/1.x messages, so they are not matched, logged or forwarded as if they had been sent by the client or server
+ */
+@ChannelHandler.Sharable
+public class Http2ExtensionHeadersRemover extends ChannelInboundHandlerAdapter {
+
+    public static final Http2ExtensionHeadersRemover INSTANCE = new Http2ExtensionHeadersRemover();
+
+    private Http2ExtensionHeadersRemover() {
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        if (msg instanceof HttpMessage) {
+            removeExtensionHeaders(((HttpMessage) msg).headers());
+        }
+        ctx.fireChannelRead(msg);
+    }
+
+    public static void removeExtensionHeaders(HttpHeaders headers) {
+        for (HttpConversionUtil.ExtensionHeaderNames extensionHeaderName : HttpConversionUtil.ExtensionHeaderNames.values()) {
+            headers.remove(extensionHeaderName.text());
+        }
+    }
+}
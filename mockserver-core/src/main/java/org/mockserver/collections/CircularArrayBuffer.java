@@ -0,0 +1,318 @@
+package org.mockserver.collections;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Bounded, array backed, circular buffer with O(1) append and O(1) eviction of the oldest element once maxSize is reached.
+ * <p>
+ * Writes are serialised, iteration (in either direction) is lock free and only returns elements that were present when the
+ * iteration started, elements evicted or removed during iteration are skipped.  The backing array grows as elements are
+ * added, so memory is only allocated for maxSize elements once the buffer is full.
+ * <p>
+ * Eviction is based on the number of elements in the buffer, so elements removed (i.e. by removeIf) leave space for new
+ * elements without evicting any remaining elements; the backing array grows to at most twice maxSize to hold the gaps
+ * left by removed elements, beyond which the oldest elements are evicted.
+ */
+public class CircularArrayBuffer<E> implements Iterable<E> {
+
+    private static final int INITIAL_CAPACITY = 256;
+    private final int initialCapacity;
+    private final Consumer<E> onEvictCallback;
+    private int maxSize;
+    private volatile AtomicReferenceArray<Slot<E>> slots;
+    private volatile long head;
+    private volatile long tail;
+    private volatile int size;
+
+    public CircularArrayBuffer(int maxSize, Consumer<E> onEvictCallback) {
+        this(maxSize, INITIAL_CAPACITY, onEvictCallback);
+    }
+
+    public CircularArrayBuffer(int maxSize, int initialCapacity, Consumer<E> onEvictCallback) {
+        this.maxSize = maxSize;
+        this.initialCapacity = Math.max(1, initialCapacity);
+        this.onEvictCallback = onEvictCallback;
+        this.slots = new AtomicReferenceArray<>(initialCapacity(maxSize));
+    }
+
+    public synchronized void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+        while (size > Math.max(maxSize, 0) || tail - head > maxCapacity()) {
+            evictOldest();
+        }
+        int capacity = (int) Math.max(Math.max(maxSize, 1), tail - head);
+        if (slots.length() > capacity) {
+            resize(capacity);
+        }
+    }
+
+    public synchronized boolean add(E element) {
+        if (maxSize > 0 && element != null) {
+            while (size >= maxSize || tail - head >= maxCapacity()) {
+                evictOldest();
+            }
+            if (tail - head >= slots.length()) {
+                // only grow beyond maxSize to hold the gaps left by removed elements
+                resize((int) Math.min(tail - head < maxSize ? maxSize : maxCapacity(), 2L * slots.length()));
+            }
+            slots.set(index(slots, tail), new Slot<>(tail, element));
+            tail++;
+            size++;
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    public synchronized boolean removeIf(Predicate<E> predicate) {
+        boolean removed = false;
+        for (long sequence = head; sequence < tail; sequence++) {
+            int index = index(slots, sequence);
+            Slot<E> slot = slots.get(index);
+            if (slot != null && slot.sequence == sequence && predicate.test(slot.element)) {
+                slots.set(index, null);
+                size--;
+                if (onEvictCallback != null) {
+                    onEvictCallback.accept(slot.element);
+                }
+                removed = true;
+            }
+        }
+        skipRemoved();
+        return removed;
+    }
+
+    /**
+     * removes the oldest element only if it matches the predicate, allowing a buffer holding a subset of the elements of
+     * another buffer, added in the same order, to follow that buffer's evictions in O(1)
+     */
+    public synchronized boolean removeOldestIf(Predicate<E> predicate) {
+        while (head < tail) {
+            Slot<E> slot = slots.get(index(slots, head));
+            if (slot != null && slot.sequence == head) {
+                if (predicate.test(slot.element)) {
+                    evictOldest();
+                    return true;
+                } else {
+                    return false;
+                }
+            }
+            // skip elements already removed
+            head++;
+        }
+        return false;
+    }
+
+    public synchronized void clear() {
+        if (onEvictCallback != null) {
+            for (long sequence = head; sequence < tail; sequence++) {
+                Slot<E> slot = slots.get(index(slots, sequence));
+                if (slot != null && slot.sequence == sequence) {
+                    onEvictCallback.accept(slot.element);
+                }
+            }
+        }
+        slots = new AtomicReferenceArray<>(initialCapacity(maxSize));
+        head = tail;
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * iterates from oldest to newest element
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return snapshotIterator(false);
+    }
+
+    /**
+     * iterates from newest to oldest element
+     */
+    public Iterator<E> descendingIterator() {
+        return snapshotIterator(true);
+    }
+
+    public Stream<E> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * the sequence the next element added will be given, sequences increase by one for every element added and are not
+     * reset when elements are evicted, removed or cleared
+     */
+    public long nextSequence() {
+        return tail;
+    }
+
+    /**
+     * a view of the elements added from fromSequence (inclusive) to the end of the buffer when the snapshot is taken,
+     * elements added after the snapshot is taken are not returned and elements evicted or removed are skipped
+     */
+    public synchronized Snapshot<E> snapshot(long fromSequence) {
+        return new Snapshot<>(slots, Math.max(head, fromSequence), tail);
+    }
+
+    /**
+     * the maximum number of sequences the backing array can hold, i.e. the live elements plus the gaps left by removed
+     * elements
+     */
+    private long maxCapacity() {
+        return Math.min(2L * maxSize, Integer.MAX_VALUE - 8);
+    }
+
+    /**
+     * moves head past removed elements so their gaps don't need to be held in the backing array
+     */
+    private void skipRemoved() {
+        while (head < tail) {
+            Slot<E> slot = slots.get(index(slots, head));
+            if (slot != null && slot.sequence == head) {
+                return;
+            }
+            head++;
+        }
+    }
+
+    private void evictOldest() {
+        int index = index(slots, head);
+        Slot<E> slot = slots.get(index);
+        if (slot != null && slot.sequence == head) {
+            slots.set(index, null);
+            size--;
+            if (onEvictCallback != null) {
+                onEvictCallback.accept(slot.element);
+            }
+        }
+        head++;
+    }
+
+    private void resize(int capacity) {
+        AtomicReferenceArray<Slot<E>> resized = new AtomicReferenceArray<>(capacity);
+        for (long sequence = head; sequence < tail; sequence++) {
+            Slot<E> slot = slots.get(index(slots, sequence));
+            if (slot != null && slot.sequence == sequence) {
+                resized.set(index(resized, sequence), slot);
+            }
+        }
+        slots = resized;
+    }
+
+    private synchronized SnapshotIterator<E> snapshotIterator(boolean descending) {
+        return new SnapshotIterator<>(slots, head, tail, descending);
+    }
+
+    public static class Snapshot<E> implements Iterable<E> {
+        private final AtomicReferenceArray<Slot<E>> slots;
+        private final long fromSequence;
+        private final long toSequence;
+
+        private Snapshot(AtomicReferenceArray<Slot<E>> slots, long fromSequence, long toSequence) {
+            this.slots = slots;
+            this.fromSequence = fromSequence;
+            this.toSequence = toSequence;
+        }
+
+        /**
+         * the sequence of the oldest element that can be returned
+         */
+        public long fromSequence() {
+            return fromSequence;
+        }
+
+        /**
+         * the sequence after the newest element that can be returned, i.e. the fromSequence of a later snapshot that
+         * only returns the elements added after this snapshot
+         */
+        public long toSequence() {
+            return toSequence;
+        }
+
+        /**
+         * iterates from oldest to newest element
+         */
+        @Override
+        public Iterator<E> iterator() {
+            return new SnapshotIterator<>(slots, fromSequence, toSequence, false);
+        }
+
+        /**
+         * iterates from newest to oldest element
+         */
+        public Iterator<E> descendingIterator() {
+            return new SnapshotIterator<>(slots, fromSequence, toSequence, true);
+        }
+    }
+
+    private int initialCapacity(int maxSize) {
+        return Math.max(1, Math.min(maxSize, initialCapacity));
+    }
+
+    private static int index(AtomicReferenceArray<?> slots, long sequence) {
+        return (int) (sequence % slots.length());
+    }
+
+    private static class Slot<E> {
+        private final long sequence;
+        private final E element;
+
+        private Slot(long sequence, E element) {
+            this.sequence = sequence;
+            this.element = element;
+        }
+    }
+
+    private static class SnapshotIterator<E> implements Iterator<E> {
+        private final AtomicReferenceArray<Slot<E>> slots;
+        private final long head;
+        private final long tail;
+        private final boolean descending;
+        private long sequence;
+        private E next;
+
+        private SnapshotIterator(AtomicReferenceArray<Slot<E>> slots, long head, long tail, boolean descending) {
+            this.slots = slots;
+            this.head = head;
+            this.tail = tail;
+            this.descending = descending;
+            this.sequence = descending ? tail - 1 : head;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && sequence >= head && sequence < tail) {
+                Slot<E> slot = slots.get(index(slots, sequence));
+                if (slot != null && slot.sequence == sequence) {
+                    next = slot.element;
+                }
+                sequence += descending ? -1 : 1;
+            }
+            return next != null;
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            E element = next;
+            next = null;
+            return element;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -16,15 +17,21 @@ public class CircularPriorityQueue<K, V, SLK extends Keyed<K>> {
     private int maxSize;
     private final Function<V, SLK> skipListKeyFunction;
     private final Function<V, K> mapKeyFunction;
+    private final Consumer<V> evictionListener;
     private final ConcurrentSkipListSet<SLK> sortOrderSkipList;
     private final ConcurrentLinkedQueue<V> insertionOrderQueue = new ConcurrentLinkedQueue<>();
     private final ConcurrentMap<K, V> byKey = new ConcurrentHashMap<>();
 
     public CircularPriorityQueue(int maxSize, Comparator<? super SLK> skipListComparator, Function<V, SLK> skipListKeyFunction, Function<V, K> mapKeyFunction) {
+        this(maxSize, skipListComparator, skipListKeyFunction, mapKeyFunction, null);
+    }
+
+    public CircularPriorityQueue(int maxSize, Comparator<? super SLK> skipListComparator, Function<V, SLK> skipListKeyFunction, Function<V, K> mapKeyFunction, Consumer<V> evictionListener) {
         sortOrderSkipList = new ConcurrentSkipListSet<>(skipListComparator);
         this.maxSize = maxSize;
         this.skipListKeyFunction = skipListKeyFunction;
         this.mapKeyFunction = mapKeyFunction;
+        this.evictionListener = evictionListener;
     }
 
     public void setMaxSize(int maxSize) {
@@ -48,6 +55,9 @@ public class CircularPriorityQueue<K, V, SLK extends Keyed<K>> {
                 V elementToRemove = insertionOrderQueue.poll();
                 sortOrderSkipList.remove(skipListKeyFunction.apply(elementToRemove));
                 byKey.remove(mapKeyFunction.apply(elementToRemove));
+                if (evictionListener != null) {
+                    evictionListener.accept(elementToRemove);
+                }
             }
         }
     }
@@ -1,5 +1,7 @@
 package org.mockserver.configuration;
 
+import org.mockserver.socket.Transport;
+
 import static org.mockserver.configuration.Configuration.configuration;
 
 @SuppressWarnings("UnusedReturnValue")
@@ -25,6 +27,7 @@ public class ClientConfiguration {
         }
         webSocketClientEventLoopThreadCount(serverConfiguration.webSocketClientEventLoopThreadCount());
         clientNioEventLoopThreadCount(serverConfiguration.clientNioEventLoopThreadCount());
+        transport(serverConfiguration.transport());
         maxSocketTimeoutInMillis(serverConfiguration.maxSocketTimeoutInMillis());
         maxFutureTimeoutInMillis(serverConfiguration.maxFutureTimeoutInMillis());
         controlPlaneTLSMutualAuthenticationRequired(serverConfiguration.controlPlaneTLSMutualAuthenticationRequired());
@@ -41,6 +44,7 @@ public class ClientConfiguration {
         }
         serverConfiguration.webSocketClientEventLoopThreadCount(this.webSocketClientEventLoopThreadCount);
         serverConfiguration.clientNioEventLoopThreadCount(this.clientNioEventLoopThreadCount);
+        serverConfiguration.transport(this.transport);
         serverConfiguration.maxSocketTimeoutInMillis(this.maxSocketTimeoutInMillis);
         serverConfiguration.maxFutureTimeoutInMillis(this.maxFutureTimeoutInMillis);
         serverConfiguration.controlPlaneTLSMutualAuthenticationRequired(this.controlPlaneTLSMutualAuthenticationRequired);
@@ -58,6 +62,7 @@ public class ClientConfiguration {
     // scalability
     private Integer webSocketClientEventLoopThreadCount;
     private Integer clientNioEventLoopThreadCount;
+    private Transport transport;
 
     // socket
     private Long maxSocketTimeoutInMillis;
@@ -131,6 +136,26 @@ public class ClientConfiguration {
         return this;
     }
 
+    public Transport transport() {
+        if (transport == null) {
+            transport = ConfigurationProperties.transport();
+        }
+        return transport;
+    }
+
+    /**
+     * <p>Netty transport used for server and client event loops, allowed values: NIO, EPOLL, IO_URING.</p>
+     * <p>EPOLL is only available on Linux and IO_URING also requires the netty-incubator-transport-native-io_uring artifact on the classpath, if the transport is not available NIO is used.</p>
+     * <p>
+     * Default is NIO
+     *
+     * @param transport Netty transport, allowed values: NIO, EPOLL, IO_URING
+     */
+    public ClientConfiguration transport(Transport transport) {
+        this.transport = transport;
+        return this;
+    }
+
     public Long maxSocketTimeoutInMillis() {
         if (maxSocketTimeoutInMillis == null) {
             maxSocketTimeoutInMillis = ConfigurationProperties.maxSocketTimeout();
@@ -2,7 +2,9 @@ package org.mockserver.configuration;
 
 import com.google.common.collect.Sets;
 import com.google.common.net.InetAddresses;
+import org.mockserver.socket.Transport;
 import org.mockserver.socket.tls.ForwardProxyTLSX509CertificatesTrustManager;
+import org.mockserver.socket.tls.TLSProvider;
 import org.slf4j.event.Level;
 
 import java.net.InetSocketAddress;
@@ -29,6 +31,7 @@ public class Configuration {
     private Boolean disableSystemOut;
     private Boolean disableLogging;
     private Boolean detailedMatchFailures;
+    private Integer matchFailureSummaryCandidates;
     private Boolean launchUIForLogLevelDebug;
     private Boolean metricsEnabled;
 
@@ -42,15 +45,22 @@ public class Configuration {
     // scalability
     private Integer nioEventLoopThreadCount;
     private Integer actionHandlerThreadCount;
+    private Boolean actionHandlerVirtualThreads;
     private Integer clientNioEventLoopThreadCount;
     private Integer webSocketClientEventLoopThreadCount;
+    private Transport transport;
     private Long maxFutureTimeoutInMillis;
     private Boolean matchersFailFast;
+    private Boolean expectationIndexEnabled;
 
     // socket
     private Long maxSocketTimeoutInMillis;
     private Long socketConnectionTimeoutInMillis;
     private Boolean alwaysCloseSocketConnections;
+    private Integer forwardConnectionPoolSize;
+    private Long forwardConnectionPoolIdleTimeoutInMillis;
+    private Boolean streamProxiedResponses;
+    private Integer maxStreamedResponseBodyLogSize;
     private String localBoundIP;
 
     // http request parsing
@@ -58,6 +68,7 @@ public class Configuration {
     private Integer maxHeaderSize;
     private Integer maxChunkSize;
     private Boolean useSemicolonAsQueryParameterSeparator;
+    private Boolean http2Enabled;
 
     // CORS
     private Boolean enableCORSForAPI;
@@ -76,6 +87,9 @@ public class Configuration {
     // mock persistence
     private Boolean persistExpectations;
     private String persistedExpectationsPath;
+    private Long expectationNotificationDebounceInMillis;
+    private Boolean persistedExpectationsJournal;
+    private Integer persistedExpectationsJournalCompactionThreshold;
 
     // verification
     private Integer maximumNumberOfRequestToReturnInVerificationFailure;
@@ -107,6 +121,7 @@ public class Configuration {
 
     // TLS
     private Boolean proactivelyInitialiseTLS;
+    private TLSProvider tlsProvider;
     private boolean rebuildTLSContext;
     private boolean rebuildServerTLSContext;
 
@@ -116,6 +131,7 @@ public class Configuration {
 
     // inbound - dynamic private key & x509
     private Boolean preventCertificateDynamicUpdate;
+    private Integer perHostnameCertificateCacheSize;
     private String sslCertificateDomainName;
     private Set<String> sslSubjectAlternativeNameDomains;
     private Set<String> sslSubjectAlternativeNameIps;
@@ -224,6 +240,27 @@ public class Configuration {
         return this;
     }
 
+    public Integer matchFailureSummaryCandidates() {
+        if (matchFailureSummaryCandidates == null) {
+            return ConfigurationProperties.matchFailureSummaryCandidates();
+        }
+        return matchFailureSummaryCandidates;
+    }
+
+    /**
+     * If greater than zero a request that doesn't match any expectation is recorded as a single log event summarising
+     * the closest matching expectations, instead of a log event for each expectation that didn't match. The reason
+     * each of the closest expectations didn't match is only calculated when the log event is displayed.
+     * <p>
+     * The default is 0 (a log event for each expectation that didn't match)
+     *
+     * @param matchFailureSummaryCandidates number of closest matching expectations included in the summary, 0 to disable
+     */
+    public Configuration matchFailureSummaryCandidates(Integer matchFailureSummaryCandidates) {
+        this.matchFailureSummaryCandidates = matchFailureSummaryCandidates;
+        return this;
+    }
+
     public Boolean launchUIForLogLevelDebug() {
         if (launchUIForLogLevelDebug == null) {
             return ConfigurationProperties.launchUIForLogLevelDebug();
@@ -401,6 +438,29 @@ public class Configuration {
         return this;
     }
 
+    public Boolean actionHandlerVirtualThreads() {
+        if (actionHandlerVirtualThreads == null) {
+            return ConfigurationProperties.actionHandlerVirtualThreads();
+        }
+        return actionHandlerVirtualThreads;
+    }
+
+    /**
+     * If true actions are executed on a new virtual thread per task instead of the action handler thread pool, so blocking
+     * waits (i.e. for forwarded responses or class callbacks) don't exhaust a fixed number of threads, response delays are
+     * scheduled on a separate single timer thread.
+     * <p>
+     * Virtual threads require Java 21 or later, on earlier versions the action handler thread pool is used.
+     * <p>
+     * Default is false
+     *
+     * @param actionHandlerVirtualThreads execute actions on virtual threads
+     */
+    public Configuration actionHandlerVirtualThreads(Boolean actionHandlerVirtualThreads) {
+        this.actionHandlerVirtualThreads = actionHandlerVirtualThreads;
+        return this;
+    }
+
     public Integer clientNioEventLoopThreadCount() {
         if (clientNioEventLoopThreadCount == null) {
             return ConfigurationProperties.clientNioEventLoopThreadCount();
@@ -439,6 +499,26 @@ public class Configuration {
         return this;
     }
 
+    public Transport transport() {
+        if (transport == null) {
+            return ConfigurationProperties.transport();
+        }
+        return transport;
+    }
+
+    /**
+     * <p>Netty transport used for server and client event loops, allowed values: NIO, EPOLL, IO_URING.</p>
+     * <p>EPOLL is only available on Linux and IO_URING also requires the netty-incubator-transport-native-io_uring artifact on the classpath, if the transport is not available NIO is used.</p>
+     * <p>
+     * Default is NIO
+     *
+     * @param transport Netty transport, allowed values: NIO, EPOLL, IO_URING
+     */
+    public Configuration transport(Transport transport) {
+        this.transport = transport;
+        return this;
+    }
+
     public Long maxFutureTimeoutInMillis() {
         if (maxFutureTimeoutInMillis == null) {
             return ConfigurationProperties.maxFutureTimeout();
@@ -476,6 +556,27 @@ public class Configuration {
         return this;
     }
 
+    public Boolean expectationIndexEnabled() {
+        if (expectationIndexEnabled == null) {
+            return ConfigurationProperties.expectationIndexEnabled();
+        }
+        return expectationIndexEnabled;
+    }
+
+    /**
+     * If true expectations are pre-filtered using an index of method and literal path (or literal path prefix) so only
+     * expectations that could match a request are evaluated, this significantly reduces matching cost for large numbers of expectations.
+     * Expectations skipped by the index are not recorded in the log as not matching the request.
+     * <p>
+     * Default is false
+     *
+     * @param expectationIndexEnabled enable pre-filtering of expectations using an index
+     */
+    public Configuration expectationIndexEnabled(Boolean expectationIndexEnabled) {
+        this.expectationIndexEnabled = expectationIndexEnabled;
+        return this;
+    }
+
     public Long maxSocketTimeoutInMillis() {
         if (maxSocketTimeoutInMillis == null) {
             return ConfigurationProperties.maxSocketTimeout();
@@ -533,6 +634,89 @@ public class Configuration {
         return this;
     }
 
+    public Integer forwardConnectionPoolSize() {
+        if (forwardConnectionPoolSize == null) {
+            return ConfigurationProperties.forwardConnectionPoolSize();
+        }
+        return forwardConnectionPoolSize;
+    }
+
+    /**
+     * Maximum number of keep-alive connections pooled for each remote host and port when forwarding or proxying requests,
+     * connections are reused for subsequent requests instead of opening a new connection (and TLS session) per request.
+     * <p>
+     * Default is 0, which disables pooling so a new connection is opened and closed for each forwarded request
+     *
+     * @param forwardConnectionPoolSize maximum number of pooled connections per remote host and port
+     */
+    public Configuration forwardConnectionPoolSize(Integer forwardConnectionPoolSize) {
+        this.forwardConnectionPoolSize = forwardConnectionPoolSize;
+        return this;
+    }
+
+    public Long forwardConnectionPoolIdleTimeoutInMillis() {
+        if (forwardConnectionPoolIdleTimeoutInMillis == null) {
+            return ConfigurationProperties.forwardConnectionPoolIdleTimeout();
+        }
+        return forwardConnectionPoolIdleTimeoutInMillis;
+    }
+
+    /**
+     * Time in milliseconds after which an unused pooled forwarding connection is closed
+     * <p>
+     * Default is 30,000 ms
+     *
+     * @param forwardConnectionPoolIdleTimeoutInMillis idle time in milliseconds before a pooled connection is closed
+     */
+    public Configuration forwardConnectionPoolIdleTimeoutInMillis(Long forwardConnectionPoolIdleTimeoutInMillis) {
+        this.forwardConnectionPoolIdleTimeoutInMillis = forwardConnectionPoolIdleTimeoutInMillis;
+        return this;
+    }
+
+    public Boolean streamProxiedResponses() {
+        if (streamProxiedResponses == null) {
+            return ConfigurationProperties.streamProxiedResponses();
+        }
+        return streamProxiedResponses;
+    }
+
+    /**
+     * If true responses to proxied requests that do not match an expectation, and to forward actions (i.e.
+     * HttpForward), are streamed to the client as each chunk is received, instead of being aggregated in memory, only
+     * the first maxStreamedResponseBodyLogSize bytes of the body are retained for the log
+     * <p>
+     * Request bodies are always aggregated, because expectations can match on the body and requests are recorded for
+     * verification, and forward actions that template, override or call back to change the forwarded request or
+     * response also aggregate the response
+     * <p>
+     * Default is false
+     *
+     * @param streamProxiedResponses true to stream proxied responses
+     */
+    public Configuration streamProxiedResponses(Boolean streamProxiedResponses) {
+        this.streamProxiedResponses = streamProxiedResponses;
+        return this;
+    }
+
+    public Integer maxStreamedResponseBodyLogSize() {
+        if (maxStreamedResponseBodyLogSize == null) {
+            return ConfigurationProperties.maxStreamedResponseBodyLogSize();
+        }
+        return maxStreamedResponseBodyLogSize;
+    }
+
+    /**
+     * Maximum number of bytes of a streamed proxied response body retained for the log
+     * <p>
+     * Default is 65,536 bytes
+     *
+     * @param maxStreamedResponseBodyLogSize maximum number of body bytes to retain for the log
+     */
+    public Configuration maxStreamedResponseBodyLogSize(Integer maxStreamedResponseBodyLogSize) {
+        this.maxStreamedResponseBodyLogSize = maxStreamedResponseBodyLogSize;
+        return this;
+    }
+
     public String localBoundIP() {
         if (localBoundIP == null) {
             return ConfigurationProperties.localBoundIP();
@@ -628,6 +812,27 @@ public class Configuration {
         return this;
     }
 
+    public Boolean http2Enabled() {
+        if (http2Enabled == null) {
+            return ConfigurationProperties.http2Enabled();
+        }
+        return http2Enabled;
+    }
+
+    /**
+     * If true HTTP/2 is supported, negotiated using ALPN for TLS connections and using either prior knowledge (i.e. the HTTP/2 connection preface) or an HTTP/1.1 "Upgrade: h2c" request for plaintext connections, each HTTP/2 stream is handled as a separate request so requests on the same connection are processed concurrently.
+     * <p>
+     * When enabled, requests forwarded or proxied over TLS also offer HTTP/2 using ALPN and use it if the remote server selects it.
+     * <p>
+     * The default is false
+     *
+     * @param http2Enabled true to support HTTP/2
+     */
+    public Configuration http2Enabled(Boolean http2Enabled) {
+        this.http2Enabled = http2Enabled;
+        return this;
+    }
+
     public Boolean enableCORSForAPI() {
         if (enableCORSForAPI == null) {
             return ConfigurationProperties.enableCORSForAPI();
@@ -855,6 +1060,68 @@ public class Configuration {
         return this;
     }
 
+    public Boolean persistedExpectationsJournal() {
+        if (persistedExpectationsJournal == null) {
+            return ConfigurationProperties.persistedExpectationsJournal();
+        }
+        return persistedExpectationsJournal;
+    }
+
+    /**
+     * Persist expectation changes by appending them to a journal file (persistedExpectationsPath with a .journal suffix) instead of
+     * rewriting all expectations for every change, the journal is compacted into persistedExpectationsPath periodically
+     * <p>
+     * If persistedExpectationsPath is also the initializationJsonPath the journal is replayed when the expectations are loaded
+     * <p>
+     * The default is false
+     *
+     * @param persistedExpectationsJournal appending changes to a journal when persisting expectations
+     */
+    public Configuration persistedExpectationsJournal(Boolean persistedExpectationsJournal) {
+        this.persistedExpectationsJournal = persistedExpectationsJournal;
+        return this;
+    }
+
+    public Integer persistedExpectationsJournalCompactionThreshold() {
+        if (persistedExpectationsJournalCompactionThreshold == null) {
+            return ConfigurationProperties.persistedExpectationsJournalCompactionThreshold();
+        }
+        return persistedExpectationsJournalCompactionThreshold;
+    }
+
+    /**
+     * Minimum number of records in the expectations journal before it is compacted into persistedExpectationsPath, the journal
+     * is compacted once it has more records than both this threshold and the number of active expectations
+     * <p>
+     * The default is 1000
+     *
+     * @param persistedExpectationsJournalCompactionThreshold minimum number of journal records before compaction
+     */
+    public Configuration persistedExpectationsJournalCompactionThreshold(Integer persistedExpectationsJournalCompactionThreshold) {
+        this.persistedExpectationsJournalCompactionThreshold = persistedExpectationsJournalCompactionThreshold;
+        return this;
+    }
+
+    public Long expectationNotificationDebounceInMillis() {
+        if (expectationNotificationDebounceInMillis == null) {
+            return ConfigurationProperties.expectationNotificationDebounceInMillis();
+        }
+        return expectationNotificationDebounceInMillis;
+    }
+
+    /**
+     * Time window in milliseconds during which expectation changes (i.e. add, clear, expires, etc.) are coalesced into a single
+     * notification to listeners such as expectation persistence and the dashboard, if set to 0 listeners are notified of every change
+     * <p>
+     * The default is 0
+     *
+     * @param expectationNotificationDebounceInMillis time window in milliseconds used to coalesce expectation change notifications
+     */
+    public Configuration expectationNotificationDebounceInMillis(Long expectationNotificationDebounceInMillis) {
+        this.expectationNotificationDebounceInMillis = expectationNotificationDebounceInMillis;
+        return this;
+    }
+
     public Integer maximumNumberOfRequestToReturnInVerificationFailure() {
         if (maximumNumberOfRequestToReturnInVerificationFailure == null) {
             return ConfigurationProperties.maximumNumberOfRequestToReturnInVerificationFailure();
@@ -1279,6 +1546,25 @@ public class Configuration {
         return this;
     }
 
+    public TLSProvider tlsProvider() {
+        if (tlsProvider == null) {
+            return ConfigurationProperties.tlsProvider();
+        }
+        return tlsProvider;
+    }
+
+    /**
+     * <p>The TLS implementation used for inbound TLS connections and for outbound TLS connections when forwarding or proxying requests, allowed values: JDK, OPENSSL.</p>
+     * <p>OPENSSL uses the native BoringSSL library (netty-tcnative) which reduces the CPU cost of TLS handshakes and encryption, if the native library isn't available for the current platform JDK is used instead.</p>
+     * <p>For both providers TLS sessions are cached so clients can resume sessions without a full handshake, with OPENSSL session tickets are also enabled for inbound connections and outbound sessions are reused per upstream host and port.</p>
+     *
+     * @param tlsProvider the TLS implementation, allowed values: JDK, OPENSSL
+     */
+    public Configuration tlsProvider(TLSProvider tlsProvider) {
+        this.tlsProvider = tlsProvider;
+        return this;
+    }
+
     public boolean rebuildTLSContext() {
         return rebuildTLSContext;
     }
@@ -1352,6 +1638,31 @@ public class Configuration {
         return this;
     }
 
+    public Integer perHostnameCertificateCacheSize() {
+        if (perHostnameCertificateCacheSize == null) {
+            return ConfigurationProperties.perHostnameCertificateCacheSize();
+        }
+        return perHostnameCertificateCacheSize;
+    }
+
+    /**
+     * Maximum number of leaf certificates, one per hostname, that are cached for TLS connections that specify a hostname
+     * using SNI (Server Name Indication), each certificate is generated asynchronously the first time a hostname is seen
+     * and is signed by the MockServer Certificate Authority, so new hostnames don't require the shared certificate or its
+     * Subject Alternative Name (SAN) list to be rebuilt.
+     * <p>
+     * If dynamicallyCreateCertificateAuthorityCertificate is enabled the certificates are also saved to, and re-loaded from,
+     * the directory specified by directoryToSaveDynamicSSLCertificate.
+     * <p>
+     * The default is 0, which disables per hostname certificates
+     *
+     * @param perHostnameCertificateCacheSize maximum number of cached per hostname certificates
+     */
+    public Configuration perHostnameCertificateCacheSize(Integer perHostnameCertificateCacheSize) {
+        this.perHostnameCertificateCacheSize = perHostnameCertificateCacheSize;
+        return this;
+    }
+
     public String sslCertificateDomainName() {
         if (sslCertificateDomainName == null) {
             return ConfigurationProperties.sslCertificateDomainName();
@@ -1648,7 +1959,8 @@ public class Configuration {
             if (isNotBlank(hostWithoutPort)) {
                 if (InetAddresses.isInetAddress(hostWithoutPort)) {
                     addSslSubjectAlternativeNameIps(hostWithoutPort);
-                } else {
+                } else if (perHostnameCertificateCacheSize() <= 0) {
+                    // when enabled, per hostname certificates selected using SNI are used for domain names instead
                     addSslSubjectAlternativeNameDomains(hostWithoutPort);
                 }
             }
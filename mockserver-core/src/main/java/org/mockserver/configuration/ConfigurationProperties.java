@@ -12,8 +12,10 @@ import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
 import org.mockserver.memory.MemoryMonitoring;
 import org.mockserver.memory.Summary;
+import org.mockserver.socket.Transport;
 import org.mockserver.socket.tls.ForwardProxyTLSX509CertificatesTrustManager;
 import org.mockserver.socket.tls.KeyAndCertificateFactory;
+import org.mockserver.socket.tls.TLSProvider;
 import org.slf4j.event.Level;
 
 import java.io.*;
@@ -47,6 +49,7 @@ public class ConfigurationProperties {
     private static final String MOCKSERVER_DISABLE_SYSTEM_OUT = "mockserver.disableSystemOut";
     private static final String MOCKSERVER_DISABLE_LOGGING = "mockserver.disableLogging";
     private static final String MOCKSERVER_DETAILED_MATCH_FAILURES = "mockserver.detailedMatchFailures";
+    private static final String MOCKSERVER_MATCH_FAILURE_SUMMARY_CANDIDATES = "mockserver.matchFailureSummaryCandidates";
     private static final String MOCKSERVER_LAUNCH_UI_FOR_LOG_LEVEL_DEBUG = "mockserver.launchUIForLogLevelDebug";
     private static final String MOCKSERVER_METRICS_ENABLED = "mockserver.metricsEnabled";
 
@@ -60,15 +63,22 @@ public class ConfigurationProperties {
     // scalability
     private static final String MOCKSERVER_NIO_EVENT_LOOP_THREAD_COUNT = "mockserver.nioEventLoopThreadCount";
     private static final String MOCKSERVER_ACTION_HANDLER_THREAD_COUNT = "mockserver.actionHandlerThreadCount";
+    private static final String MOCKSERVER_ACTION_HANDLER_VIRTUAL_THREADS = "mockserver.actionHandlerVirtualThreads";
     private static final String MOCKSERVER_CLIENT_NIO_EVENT_LOOP_THREAD_COUNT = "mockserver.clientNioEventLoopThreadCount";
     private static final String MOCKSERVER_WEB_SOCKET_CLIENT_EVENT_LOOP_THREAD_COUNT = "mockserver.webSocketClientEventLoopThreadCount";
+    private static final String MOCKSERVER_TRANSPORT = "mockserver.transport";
     private static final String MOCKSERVER_MAX_FUTURE_TIMEOUT = "mockserver.maxFutureTimeout";
     private static final String MOCKSERVER_MATCHERS_FAIL_FAST = "mockserver.matchersFailFast";
+    private static final String MOCKSERVER_EXPECTATION_INDEX_ENABLED = "mockserver.expectationIndexEnabled";
 
     // socket
     private static final String MOCKSERVER_MAX_SOCKET_TIMEOUT = "mockserver.maxSocketTimeout";
     private static final String MOCKSERVER_SOCKET_CONNECTION_TIMEOUT = "mockserver.socketConnectionTimeout";
     private static final String MOCKSERVER_ALWAYS_CLOSE_SOCKET_CONNECTIONS = "mockserver.alwaysCloseSocketConnections";
+    private static final String MOCKSERVER_FORWARD_CONNECTION_POOL_SIZE = "mockserver.forwardConnectionPoolSize";
+    private static final String MOCKSERVER_FORWARD_CONNECTION_POOL_IDLE_TIMEOUT = "mockserver.forwardConnectionPoolIdleTimeout";
+    private static final String MOCKSERVER_STREAM_PROXIED_RESPONSES = "mockserver.streamProxiedResponses";
+    private static final String MOCKSERVER_MAX_STREAMED_RESPONSE_BODY_LOG_SIZE = "mockserver.maxStreamedResponseBodyLogSize";
     private static final String MOCKSERVER_LOCAL_BOUND_IP = "mockserver.localBoundIP";
 
     // http request parsing
@@ -76,6 +86,7 @@ public class ConfigurationProperties {
     private static final String MOCKSERVER_MAX_HEADER_SIZE = "mockserver.maxHeaderSize";
     private static final String MOCKSERVER_MAX_CHUNK_SIZE = "mockserver.maxChunkSize";
     private static final String MOCKSERVER_USE_SEMICOLON_AS_QUERY_PARAMETER_SEPARATOR = "mockserver.useSemicolonAsQueryParameterSeparator";
+    private static final String MOCKSERVER_HTTP2_ENABLED = "mockserver.http2Enabled";
 
     // CORS
     private static final String MOCKSERVER_ENABLE_CORS_FOR_API = "mockserver.enableCORSForAPI";
@@ -94,6 +105,9 @@ public class ConfigurationProperties {
     // mock persistence
     private static final String MOCKSERVER_PERSIST_EXPECTATIONS = "mockserver.persistExpectations";
     private static final String MOCKSERVER_PERSISTED_EXPECTATIONS_PATH = "mockserver.persistedExpectationsPath";
+    private static final String MOCKSERVER_EXPECTATION_NOTIFICATION_DEBOUNCE_IN_MILLIS = "mockserver.expectationNotificationDebounceInMillis";
+    private static final String MOCKSERVER_PERSISTED_EXPECTATIONS_JOURNAL = "mockserver.persistedExpectationsJournal";
+    private static final String MOCKSERVER_PERSISTED_EXPECTATIONS_JOURNAL_COMPACTION_THRESHOLD = "mockserver.persistedExpectationsJournalCompactionThreshold";
 
     // verification
     private static final String MOCKSERVER_MAXIMUM_NUMBER_OF_REQUESTS_TO_RETURN_IN_VERIFICATION_FAILURE = "mockserver.maximumNumberOfRequestToReturnInVerificationFailure";
@@ -125,6 +139,7 @@ public class ConfigurationProperties {
 
     // TLS
     private static final String MOCKSERVER_PROACTIVELY_INITIALISE_TLS = "mockserver.proactivelyInitialiseTLS";
+    private static final String MOCKSERVER_TLS_PROVIDER = "mockserver.tlsProvider";
 
     // inbound - dynamic CA
     private static final String MOCKSERVER_DYNAMICALLY_CREATE_CERTIFICATE_AUTHORITY_CERTIFICATE = "mockserver.dynamicallyCreateCertificateAuthorityCertificate";
@@ -132,6 +147,7 @@ public class ConfigurationProperties {
 
     // inbound - dynamic private key & x509
     private static final String MOCKSERVER_PREVENT_CERTIFICATE_DYNAMIC_UPDATE = "mockserver.preventCertificateDynamicUpdate";
+    private static final String MOCKSERVER_PER_HOSTNAME_CERTIFICATE_CACHE_SIZE = "mockserver.perHostnameCertificateCacheSize";
     private static final String MOCKSERVER_SSL_CERTIFICATE_DOMAIN_NAME = "mockserver.sslCertificateDomainName";
     private static final String MOCKSERVER_SSL_SUBJECT_ALTERNATIVE_NAME_DOMAINS = "mockserver.sslSubjectAlternativeNameDomains";
     private static final String MOCKSERVER_SSL_SUBJECT_ALTERNATIVE_NAME_IPS = "mockserver.sslSubjectAlternativeNameIps";
@@ -312,6 +328,23 @@ public class ConfigurationProperties {
         setProperty(MOCKSERVER_DETAILED_MATCH_FAILURES, "" + enable);
     }
 
+    public static int matchFailureSummaryCandidates() {
+        return readIntegerProperty(MOCKSERVER_MATCH_FAILURE_SUMMARY_CANDIDATES, "MOCKSERVER_MATCH_FAILURE_SUMMARY_CANDIDATES", 0);
+    }
+
+    /**
+     * If greater than zero a request that doesn't match any expectation is recorded as a single log event summarising
+     * the closest matching expectations, instead of a log event for each expectation that didn't match. The reason
+     * each of the closest expectations didn't match is only calculated when the log event is displayed.
+     * <p>
+     * The default is 0 (a log event for each expectation that didn't match)
+     *
+     * @param candidates number of closest matching expectations included in the summary, 0 to disable
+     */
+    public static void matchFailureSummaryCandidates(int candidates) {
+        setProperty(MOCKSERVER_MATCH_FAILURE_SUMMARY_CANDIDATES, "" + candidates);
+    }
+
     public static boolean launchUIForLogLevelDebug() {
         return Boolean.parseBoolean(readPropertyHierarchically(PROPERTIES, MOCKSERVER_LAUNCH_UI_FOR_LOG_LEVEL_DEBUG, "MOCKSERVER_LAUNCH_UI_FOR_LOG_LEVEL_DEBUG", "" + false));
     }
@@ -464,6 +497,25 @@ public class ConfigurationProperties {
         setProperty(MOCKSERVER_ACTION_HANDLER_THREAD_COUNT, "" + count);
     }
 
+    public static boolean actionHandlerVirtualThreads() {
+        return Boolean.parseBoolean(readPropertyHierarchically(PROPERTIES, MOCKSERVER_ACTION_HANDLER_VIRTUAL_THREADS, "MOCKSERVER_ACTION_HANDLER_VIRTUAL_THREADS", "" + false));
+    }
+
+    /**
+     * If true actions are executed on a new virtual thread per task instead of the action handler thread pool, so blocking
+     * waits (i.e. for forwarded responses or class callbacks) don't exhaust a fixed number of threads, response delays are
+     * scheduled on a separate single timer thread.
+     * <p>
+     * Virtual threads require Java 21 or later, on earlier versions the action handler thread pool is used.
+     * <p>
+     * Default is false
+     *
+     * @param enable execute actions on virtual threads
+     */
+    public static void actionHandlerVirtualThreads(boolean enable) {
+        setProperty(MOCKSERVER_ACTION_HANDLER_VIRTUAL_THREADS, "" + enable);
+    }
+
     public static int clientNioEventLoopThreadCount() {
         return readIntegerProperty(MOCKSERVER_CLIENT_NIO_EVENT_LOOP_THREAD_COUNT, "MOCKSERVER_CLIENT_NIO_EVENT_LOOP_THREAD_COUNT", 5);
     }
@@ -494,6 +546,27 @@ public class ConfigurationProperties {
         setProperty(MOCKSERVER_WEB_SOCKET_CLIENT_EVENT_LOOP_THREAD_COUNT, "" + count);
     }
 
+    public static Transport transport() {
+        String transport = readPropertyHierarchically(PROPERTIES, MOCKSERVER_TRANSPORT, "MOCKSERVER_TRANSPORT", "NIO");
+        try {
+            return Transport.valueOf(transport.trim().toUpperCase(Locale.ENGLISH));
+        } catch (Throwable ignore) {
+            throw new IllegalArgumentException("Invalid value for Transport \"" + transport + "\" the only supported values are: " + Arrays.stream(Transport.values()).map(Enum::name).collect(Collectors.toList()));
+        }
+    }
+
+    /**
+     * <p>Netty transport used for server and client event loops, allowed values: NIO, EPOLL, IO_URING.</p>
+     * <p>EPOLL is only available on Linux and IO_URING also requires the netty-incubator-transport-native-io_uring artifact on the classpath, if the transport is not available NIO is used.</p>
+     * <p>
+     * Default is NIO
+     *
+     * @param transport Netty transport, allowed values: NIO, EPOLL, IO_URING
+     */
+    public static void transport(Transport transport) {
+        setProperty(MOCKSERVER_TRANSPORT, transport.name());
+    }
+
     public static long maxFutureTimeout() {
         return readLongProperty(MOCKSERVER_MAX_FUTURE_TIMEOUT, "MOCKSERVER_MAX_FUTURE_TIMEOUT", TimeUnit.SECONDS.toMillis(90));
     }
@@ -523,6 +596,23 @@ public class ConfigurationProperties {
         setProperty(MOCKSERVER_MATCHERS_FAIL_FAST, "" + enable);
     }
 
+    public static boolean expectationIndexEnabled() {
+        return Boolean.parseBoolean(readPropertyHierarchically(PROPERTIES, MOCKSERVER_EXPECTATION_INDEX_ENABLED, "MOCKSERVER_EXPECTATION_INDEX_ENABLED", "" + false));
+    }
+
+    /**
+     * If true expectations are pre-filtered using an index of method and literal path (or literal path prefix) so only
+     * expectations that could match a request are evaluated, this significantly reduces matching cost for large numbers of expectations.
+     * Expectations skipped by the index are not recorded in the log as not matching the request.
+     * <p>
+     * Default is false
+     *
+     * @param enable enable pre-filtering of expectations using an index
+     */
+    public static void expectationIndexEnabled(boolean enable) {
+        setProperty(MOCKSERVER_EXPECTATION_INDEX_ENABLED, "" + enable);
+    }
+
     // socket
 
     public static long maxSocketTimeout() {
@@ -570,6 +660,73 @@ public class ConfigurationProperties {
         return Boolean.parseBoolean(readPropertyHierarchically(PROPERTIES, MOCKSERVER_ALWAYS_CLOSE_SOCKET_CONNECTIONS, "MOCKSERVER_ALWAYS_CLOSE_SOCKET_CONNECTIONS", "false"));
     }
 
+    public static int forwardConnectionPoolSize() {
+        return readIntegerProperty(MOCKSERVER_FORWARD_CONNECTION_POOL_SIZE, "MOCKSERVER_FORWARD_CONNECTION_POOL_SIZE", 0);
+    }
+
+    /**
+     * Maximum number of keep-alive connections pooled for each remote host and port when forwarding or proxying requests,
+     * connections are reused for subsequent requests instead of opening a new connection (and TLS session) per request.
+     * <p>
+     * Default is 0, which disables pooling so a new connection is opened and closed for each forwarded request
+     *
+     * @param size maximum number of pooled connections per remote host and port
+     */
+    public static void forwardConnectionPoolSize(int size) {
+        setProperty(MOCKSERVER_FORWARD_CONNECTION_POOL_SIZE, "" + size);
+    }
+
+    public static long forwardConnectionPoolIdleTimeout() {
+        return readLongProperty(MOCKSERVER_FORWARD_CONNECTION_POOL_IDLE_TIMEOUT, "MOCKSERVER_FORWARD_CONNECTION_POOL_IDLE_TIMEOUT", TimeUnit.SECONDS.toMillis(30));
+    }
+
+    /**
+     * Time in milliseconds after which an unused pooled forwarding connection is closed
+     * <p>
+     * Default is 30,000 ms
+     *
+     * @param milliseconds idle time in milliseconds before a pooled connection is closed
+     */
+    public static void forwardConnectionPoolIdleTimeout(long milliseconds) {
+        setProperty(MOCKSERVER_FORWARD_CONNECTION_POOL_IDLE_TIMEOUT, "" + milliseconds);
+    }
+
+    public static boolean streamProxiedResponses() {
+        return Boolean.parseBoolean(readPropertyHierarchically(PROPERTIES, MOCKSERVER_STREAM_PROXIED_RESPONSES, "MOCKSERVER_STREAM_PROXIED_RESPONSES", "false"));
+    }
+
+    /**
+     * If true responses to proxied requests that do not match an expectation, and to forward actions (i.e.
+     * HttpForward), are streamed to the client as each chunk is received, instead of being aggregated in memory, only
+     * the first maxStreamedResponseBodyLogSize bytes of the body are retained for the log
+     * <p>
+     * Request bodies are always aggregated, because expectations can match on the body and requests are recorded for
+     * verification, and forward actions that template, override or call back to change the forwarded request or
+     * response also aggregate the response
+     * <p>
+     * Default is false
+     *
+     * @param enable true to stream proxied responses
+     */
+    public static void streamProxiedResponses(boolean enable) {
+        setProperty(MOCKSERVER_STREAM_PROXIED_RESPONSES, "" + enable);
+    }
+
+    public static int maxStreamedResponseBodyLogSize() {
+        return readIntegerProperty(MOCKSERVER_MAX_STREAMED_RESPONSE_BODY_LOG_SIZE, "MOCKSERVER_MAX_STREAMED_RESPONSE_BODY_LOG_SIZE", 65536);
+    }
+
+    /**
+     * Maximum number of bytes of a streamed proxied response body retained for the log
+     * <p>
+     * Default is 65,536 bytes
+     *
+     * @param size maximum number of body bytes to retain for the log
+     */
+    public static void maxStreamedResponseBodyLogSize(int size) {
+        setProperty(MOCKSERVER_MAX_STREAMED_RESPONSE_BODY_LOG_SIZE, "" + size);
+    }
+
     public static String localBoundIP() {
         return readPropertyHierarchically(PROPERTIES, MOCKSERVER_LOCAL_BOUND_IP, "MOCKSERVER_LOCAL_BOUND_IP", "");
     }
@@ -649,6 +806,23 @@ public class ConfigurationProperties {
         return Boolean.parseBoolean(readPropertyHierarchically(PROPERTIES, MOCKSERVER_USE_SEMICOLON_AS_QUERY_PARAMETER_SEPARATOR, "MOCKSERVER_USE_SEMICOLON_AS_QUERY_PARAMETER_SEPARATOR", "true"));
     }
 
+    /**
+     * If true HTTP/2 is supported, negotiated using ALPN for TLS connections and using either prior knowledge (i.e. the HTTP/2 connection preface) or an HTTP/1.1 "Upgrade: h2c" request for plaintext connections, each HTTP/2 stream is handled as a separate request so requests on the same connection are processed concurrently.
+     * <p>
+     * When enabled, requests forwarded or proxied over TLS also offer HTTP/2 using ALPN and use it if the remote server selects it.
+     * <p>
+     * The default is false
+     *
+     * @param enable true to support HTTP/2
+     */
+    public static void http2Enabled(boolean enable) {
+        setProperty(MOCKSERVER_HTTP2_ENABLED, "" + enable);
+    }
+
+    public static boolean http2Enabled() {
+        return Boolean.parseBoolean(readPropertyHierarchically(PROPERTIES, MOCKSERVER_HTTP2_ENABLED, "MOCKSERVER_HTTP2_ENABLED", "false"));
+    }
+
     // CORS
 
     public static boolean enableCORSForAPI() {
@@ -834,6 +1008,56 @@ public class ConfigurationProperties {
         setProperty(MOCKSERVER_PERSISTED_EXPECTATIONS_PATH, persistedExpectationsPath);
     }
 
+    public static boolean persistedExpectationsJournal() {
+        return Boolean.parseBoolean(readPropertyHierarchically(PROPERTIES, MOCKSERVER_PERSISTED_EXPECTATIONS_JOURNAL, "MOCKSERVER_PERSISTED_EXPECTATIONS_JOURNAL", "false"));
+    }
+
+    /**
+     * Persist expectation changes by appending them to a journal file (persistedExpectationsPath with a .journal suffix) instead of
+     * rewriting all expectations for every change, the journal is compacted into persistedExpectationsPath periodically
+     * <p>
+     * If persistedExpectationsPath is also the initializationJsonPath the journal is replayed when the expectations are loaded
+     * <p>
+     * The default is false
+     *
+     * @param enable appending changes to a journal when persisting expectations
+     */
+    public static void persistedExpectationsJournal(boolean enable) {
+        setProperty(MOCKSERVER_PERSISTED_EXPECTATIONS_JOURNAL, "" + enable);
+    }
+
+    public static int persistedExpectationsJournalCompactionThreshold() {
+        return readIntegerProperty(MOCKSERVER_PERSISTED_EXPECTATIONS_JOURNAL_COMPACTION_THRESHOLD, "MOCKSERVER_PERSISTED_EXPECTATIONS_JOURNAL_COMPACTION_THRESHOLD", 1000);
+    }
+
+    /**
+     * Minimum number of records in the expectations journal before it is compacted into persistedExpectationsPath, the journal
+     * is compacted once it has more records than both this threshold and the number of active expectations
+     * <p>
+     * The default is 1000
+     *
+     * @param threshold minimum number of journal records before compaction
+     */
+    public static void persistedExpectationsJournalCompactionThreshold(int threshold) {
+        setProperty(MOCKSERVER_PERSISTED_EXPECTATIONS_JOURNAL_COMPACTION_THRESHOLD, "" + threshold);
+    }
+
+    public static long expectationNotificationDebounceInMillis() {
+        return readLongProperty(MOCKSERVER_EXPECTATION_NOTIFICATION_DEBOUNCE_IN_MILLIS, "MOCKSERVER_EXPECTATION_NOTIFICATION_DEBOUNCE_IN_MILLIS", 0L);
+    }
+
+    /**
+     * Time window in milliseconds during which expectation changes (i.e. add, clear, expires, etc) are coalesced into a single
+     * notification to listeners such as expectation persistence and the dashboard, if set to 0 listeners are notified of every change
+     * <p>
+     * The default is 0
+     *
+     * @param milliseconds time window in milliseconds used to coalesce expectation change notifications
+     */
+    public static void expectationNotificationDebounceInMillis(long milliseconds) {
+        setProperty(MOCKSERVER_EXPECTATION_NOTIFICATION_DEBOUNCE_IN_MILLIS, "" + milliseconds);
+    }
+
     // verification
 
     public static Integer maximumNumberOfRequestToReturnInVerificationFailure() {
@@ -1236,6 +1460,26 @@ public class ConfigurationProperties {
         return Boolean.parseBoolean(readPropertyHierarchically(PROPERTIES, MOCKSERVER_PROACTIVELY_INITIALISE_TLS, "MOCKSERVER_PROACTIVELY_INITIALISE_TLS", "false"));
     }
 
+    public static TLSProvider tlsProvider() {
+        String tlsProvider = readPropertyHierarchically(PROPERTIES, MOCKSERVER_TLS_PROVIDER, "MOCKSERVER_TLS_PROVIDER", "JDK");
+        try {
+            return TLSProvider.valueOf(tlsProvider);
+        } catch (Throwable ignore) {
+            throw new IllegalArgumentException("Invalid value for TLSProvider \"" + tlsProvider + "\" the only supported values are: " + Arrays.stream(TLSProvider.values()).map(Enum::name).collect(Collectors.toList()));
+        }
+    }
+
+    /**
+     * <p>The TLS implementation used for inbound TLS connections and for outbound TLS connections when forwarding or proxying requests, allowed values: JDK, OPENSSL.</p>
+     * <p>OPENSSL uses the native BoringSSL library (netty-tcnative) which reduces the CPU cost of TLS handshakes and encryption, if the native library isn't available for the current platform JDK is used instead.</p>
+     * <p>For both providers TLS sessions are cached so clients can resume sessions without a full handshake, with OPENSSL session tickets are also enabled for inbound connections and outbound sessions are reused per upstream host and port.</p>
+     *
+     * @param tlsProvider the TLS implementation, allowed values: JDK, OPENSSL
+     */
+    public static void tlsProvider(TLSProvider tlsProvider) {
+        setProperty(MOCKSERVER_TLS_PROVIDER, tlsProvider.name());
+    }
+
     public static boolean dynamicallyCreateCertificateAuthorityCertificate() {
         return Boolean.parseBoolean(readPropertyHierarchically(PROPERTIES, MOCKSERVER_DYNAMICALLY_CREATE_CERTIFICATE_AUTHORITY_CERTIFICATE, "MOCKSERVER_DYNAMICALLY_CREATE_CERTIFICATE_AUTHORITY_CERTIFICATE", "false"));
     }
@@ -1280,6 +1524,27 @@ public class ConfigurationProperties {
         return Boolean.parseBoolean(readPropertyHierarchically(PROPERTIES, MOCKSERVER_PREVENT_CERTIFICATE_DYNAMIC_UPDATE, "MOCKSERVER_PREVENT_CERTIFICATE_DYNAMIC_UPDATE", "false"));
     }
 
+    /**
+     * Maximum number of leaf certificates, one per hostname, that are cached for TLS connections that specify a hostname
+     * using SNI (Server Name Indication), each certificate is generated asynchronously the first time a hostname is seen
+     * and is signed by the MockServer Certificate Authority, so new hostnames don't require the shared certificate or its
+     * Subject Alternative Name (SAN) list to be rebuilt.
+     * <p>
+     * If dynamicallyCreateCertificateAuthorityCertificate is enabled the certificates are also saved to, and re-loaded from,
+     * the directory specified by directoryToSaveDynamicSSLCertificate.
+     * <p>
+     * The default is 0, which disables per hostname certificates
+     *
+     * @param size maximum number of cached per hostname certificates
+     */
+    public static void perHostnameCertificateCacheSize(int size) {
+        setProperty(MOCKSERVER_PER_HOSTNAME_CERTIFICATE_CACHE_SIZE, "" + size);
+    }
+
+    public static int perHostnameCertificateCacheSize() {
+        return readIntegerProperty(MOCKSERVER_PER_HOSTNAME_CERTIFICATE_CACHE_SIZE, "MOCKSERVER_PER_HOSTNAME_CERTIFICATE_CACHE_SIZE", 0);
+    }
+
     public static String sslCertificateDomainName() {
         return readPropertyHierarchically(PROPERTIES, MOCKSERVER_SSL_CERTIFICATE_DOMAIN_NAME, "MOCKSERVER_SSL_CERTIFICATE_DOMAIN_NAME", KeyAndCertificateFactory.CERTIFICATE_DOMAIN);
     }
@@ -0,0 +1,151 @@
+package org.mockserver.httpclient;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.WriteBufferWaterMark;
+import io.netty.channel.pool.AbstractChannelPoolHandler;
+import io.netty.channel.pool.AbstractChannelPoolMap;
+import io.netty.channel.pool.ChannelHealthChecker;
+import io.netty.channel.pool.ChannelPool;
+import io.netty.channel.pool.FixedChannelPool;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.util.AttributeKey;
+import io.netty.util.concurrent.Future;
+import org.mockserver.configuration.Configuration;
+import org.mockserver.socket.Transport;
+
+import java.net.InetSocketAddress;
+import java.util.Objects;
+
+import static org.mockserver.httpclient.HttpClientKeepAliveHandler.KEEP_ALIVE;
+import static org.mockserver.httpclient.NettyHttpClient.REMOTE_SOCKET;
+import static org.mockserver.httpclient.NettyHttpClient.RESPONSE_FUTURE;
+import static org.mockserver.httpclient.NettyHttpClient.SECURE;
+
+/**
+ * Pools keep-alive HTTP connections per remote address, whether TLS is used and connection timeout, each pool is
+ * limited to the configured number of connections and requests wait (up to maxSocketTimeout) for a connection when
+ * all connections are in use
+ */
+public class HttpClientConnectionPool {
+
+    static final AttributeKey<ChannelPool> CHANNEL_POOL = AttributeKey.valueOf("CHANNEL_POOL");
+    static final AttributeKey<Integer> REQUEST_COUNT = AttributeKey.valueOf("REQUEST_COUNT");
+    private final Configuration configuration;
+    private final EventLoopGroup eventLoopGroup;
+    private final HttpClientInitializer httpClientInitializer;
+    private final AbstractChannelPoolMap<PoolKey, FixedChannelPool> channelPools;
+
+    HttpClientConnectionPool(Configuration configuration, EventLoopGroup eventLoopGroup, HttpClientInitializer httpClientInitializer) {
+        this.configuration = configuration;
+        this.eventLoopGroup = eventLoopGroup;
+        this.httpClientInitializer = httpClientInitializer;
+        this.channelPools = new AbstractChannelPoolMap<PoolKey, FixedChannelPool>() {
+            @Override
+            protected FixedChannelPool newPool(PoolKey key) {
+                return createPool(key);
+            }
+        };
+    }
+
+    private FixedChannelPool createPool(PoolKey key) {
+        Bootstrap bootstrap = new Bootstrap()
+            .group(eventLoopGroup)
+            .channel(Transport.socketChannelClass(eventLoopGroup))
+            .option(ChannelOption.AUTO_READ, true)
+            .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+            .option(ChannelOption.WRITE_BUFFER_WATER_MARK, new WriteBufferWaterMark(8 * 1024, 32 * 1024))
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, key.connectionTimeoutMillis)
+            .attr(SECURE, key.secure)
+            .attr(REMOTE_SOCKET, key.remoteAddress)
+            .remoteAddress(key.remoteAddress);
+        return new FixedChannelPool(
+            bootstrap,
+            new AbstractChannelPoolHandler() {
+                @Override
+                public void channelCreated(Channel channel) {
+                    httpClientInitializer.initChannel((SocketChannel) channel);
+                }
+            },
+            ChannelHealthChecker.ACTIVE,
+            FixedChannelPool.AcquireTimeoutAction.FAIL,
+            configuration.maxSocketTimeoutInMillis(),
+            configuration.forwardConnectionPoolSize(),
+            Integer.MAX_VALUE,
+            true,
+            // most recently used first, so surplus connections become idle and are closed
+            true
+        );
+    }
+
+    Future<Channel> acquire(InetSocketAddress remoteAddress, boolean secure, Integer connectionTimeoutMillis) {
+        FixedChannelPool channelPool = channelPools.get(new PoolKey(remoteAddress, secure, connectionTimeoutMillis));
+        return channelPool.acquire().addListener(future -> {
+            if (future.isSuccess()) {
+                Channel channel = (Channel) future.getNow();
+                channel.attr(CHANNEL_POOL).set(channelPool);
+                Integer requestCount = channel.attr(REQUEST_COUNT).get();
+                channel.attr(REQUEST_COUNT).set(requestCount != null ? requestCount + 1 : 1);
+            }
+        });
+    }
+
+    /**
+     * @return true if the channel has previously been used for another request
+     */
+    static boolean isReused(Channel channel) {
+        Integer requestCount = channel.attr(REQUEST_COUNT).get();
+        return requestCount != null && requestCount > 1;
+    }
+
+    /**
+     * returns the channel to its pool, the channel is closed first if the request failed or either the request
+     * or response indicated the connection should not be kept alive
+     */
+    static void release(Channel channel, boolean successful) {
+        channel.attr(RESPONSE_FUTURE).set(null);
+        if (!successful || !Boolean.TRUE.equals(channel.attr(KEEP_ALIVE).get())) {
+            channel.close();
+        }
+        ChannelPool channelPool = channel.attr(CHANNEL_POOL).getAndSet(null);
+        if (channelPool != null) {
+            channelPool.release(channel);
+        }
+    }
+
+    private static class PoolKey {
+        private final InetSocketAddress remoteAddress;
+        private final boolean secure;
+        private final Integer connectionTimeoutMillis;
+
+        private PoolKey(InetSocketAddress remoteAddress, boolean secure, Integer connectionTimeoutMillis) {
+            this.remoteAddress = remoteAddress;
+            this.secure = secure;
+            this.connectionTimeoutMillis = connectionTimeoutMillis;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            PoolKey poolKey = (PoolKey) o;
+            // compare host string as well as address so TLS connections are only shared for the same SNI host name
+            return secure == poolKey.secure &&
+                remoteAddress.equals(poolKey.remoteAddress) &&
+                remoteAddress.getHostString().equals(poolKey.remoteAddress.getHostString()) &&
+                Objects.equals(connectionTimeoutMillis, poolKey.connectionTimeoutMillis);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(remoteAddress, secure, connectionTimeoutMillis);
+        }
+    }
+}
@@ -10,8 +10,10 @@ import org.mockserver.model.Message;
 import javax.net.ssl.SSLException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
+import static org.mockserver.httpclient.HttpClientConnectionPool.CHANNEL_POOL;
 import static org.mockserver.httpclient.NettyHttpClient.RESPONSE_FUTURE;
 
 @ChannelHandler.Sharable
@@ -29,8 +31,12 @@ public class HttpClientHandler extends SimpleChannelInboundHandler<Message> {
 
     @Override
     public void channelRead0(ChannelHandlerContext ctx, Message response) {
+        // pooled connections are released, or closed, by the connection pool once the response future completes
+        boolean pooled = ctx.channel().attr(CHANNEL_POOL).get() != null;
         ctx.channel().attr(RESPONSE_FUTURE).get().complete(response);
-        ctx.close();
+        if (!pooled) {
+            ctx.close();
+        }
     }
 
     @Override
@@ -38,7 +44,10 @@ public class HttpClientHandler extends SimpleChannelInboundHandler<Message> {
         if (isNotSslException(cause) && isNotConnectionReset(cause)) {
             cause.printStackTrace();
         }
-        ctx.channel().attr(RESPONSE_FUTURE).get().completeExceptionally(cause);
+        CompletableFuture<Message> responseFuture = ctx.channel().attr(RESPONSE_FUTURE).get();
+        if (responseFuture != null) {
+            responseFuture.completeExceptionally(cause);
+        }
         ctx.close();
     }
 
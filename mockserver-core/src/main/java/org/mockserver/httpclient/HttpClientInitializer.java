@@ -9,6 +9,7 @@ import io.netty.handler.codec.http.HttpContentDecompressor;
 import io.netty.handler.codec.http.HttpObjectAggregator;
 import io.netty.handler.proxy.HttpProxyHandler;
 import io.netty.handler.proxy.Socks5ProxyHandler;
+import io.netty.handler.timeout.IdleStateHandler;
 import org.mockserver.codec.MockServerBinaryClientCodec;
 import org.mockserver.codec.MockServerHttpClientCodec;
 import org.mockserver.logging.LoggingHandler;
@@ -18,6 +19,7 @@ import org.mockserver.socket.tls.NettySslContextFactory;
 
 import java.net.InetSocketAddress;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.mockserver.httpclient.NettyHttpClient.REMOTE_SOCKET;
@@ -34,8 +36,23 @@ public class HttpClientInitializer extends ChannelInitializer<SocketChannel> {
     private final HttpClientHandler httpClientHandler;
     private final Map<ProxyConfiguration.Type, ProxyConfiguration> proxyConfigurations;
     private final NettySslContextFactory nettySslContextFactory;
+    private final Long pooledConnectionIdleTimeoutInMillis;
+    private final ChannelHandler streamingResponseHandler;
+    private final boolean http2Enabled;
 
     HttpClientInitializer(Map<ProxyConfiguration.Type, ProxyConfiguration> proxyConfigurations, MockServerLogger mockServerLogger, boolean forwardProxyClient, NettySslContextFactory nettySslContextFactory, boolean isHttp) {
+        this(proxyConfigurations, mockServerLogger, forwardProxyClient, nettySslContextFactory, isHttp, null);
+    }
+
+    HttpClientInitializer(Map<ProxyConfiguration.Type, ProxyConfiguration> proxyConfigurations, MockServerLogger mockServerLogger, boolean forwardProxyClient, NettySslContextFactory nettySslContextFactory, boolean isHttp, Long pooledConnectionIdleTimeoutInMillis) {
+        this(proxyConfigurations, mockServerLogger, forwardProxyClient, nettySslContextFactory, isHttp, pooledConnectionIdleTimeoutInMillis, null);
+    }
+
+    HttpClientInitializer(Map<ProxyConfiguration.Type, ProxyConfiguration> proxyConfigurations, MockServerLogger mockServerLogger, boolean forwardProxyClient, NettySslContextFactory nettySslContextFactory, boolean isHttp, Long pooledConnectionIdleTimeoutInMillis, ChannelHandler streamingResponseHandler) {
+        this(proxyConfigurations, mockServerLogger, forwardProxyClient, nettySslContextFactory, isHttp, pooledConnectionIdleTimeoutInMillis, streamingResponseHandler, false);
+    }
+
+    HttpClientInitializer(Map<ProxyConfiguration.Type, ProxyConfiguration> proxyConfigurations, MockServerLogger mockServerLogger, boolean forwardProxyClient, NettySslContextFactory nettySslContextFactory, boolean isHttp, Long pooledConnectionIdleTimeoutInMillis, ChannelHandler streamingResponseHandler, boolean http2Enabled) {
         this.proxyConfigurations = proxyConfigurations;
         this.mockServerLogger = mockServerLogger;
         this.forwardProxyClient = forwardProxyClient;
@@ -43,12 +60,21 @@ public class HttpClientInitializer extends ChannelInitializer<SocketChannel> {
         this.httpClientHandler = new HttpClientHandler();
         this.httpClientConnectionHandler = new HttpClientConnectionErrorHandler();
         this.nettySslContextFactory = nettySslContextFactory;
+        this.pooledConnectionIdleTimeoutInMillis = pooledConnectionIdleTimeoutInMillis;
+        this.streamingResponseHandler = streamingResponseHandler;
+        this.http2Enabled = http2Enabled;
     }
 
     @Override
     public void initChannel(SocketChannel channel) {
         ChannelPipeline pipeline = channel.pipeline();
         boolean secure = channel.attr(SECURE) != null && channel.attr(SECURE).get() != null && channel.attr(SECURE).get();
+        // HTTP/2 is only negotiated using ALPN and streamed responses are always received over HTTP/1.1
+        boolean http2 = http2Enabled && secure && isHttp && streamingResponseHandler == null;
+
+        if (pooledConnectionIdleTimeoutInMillis != null) {
+            pipeline.addLast(new IdleStateHandler(0, 0, pooledConnectionIdleTimeoutInMillis, TimeUnit.MILLISECONDS));
+        }
 
         if (proxyConfigurations != null) {
             if (secure && proxyConfigurations.containsKey(ProxyConfiguration.Type.HTTPS)) {
@@ -71,7 +97,7 @@ public class HttpClientInitializer extends ChannelInitializer<SocketChannel> {
 
         if (secure) {
             InetSocketAddress remoteAddress = channel.attr(REMOTE_SOCKET).get();
-            pipeline.addLast(nettySslContextFactory.createClientSslContext(forwardProxyClient).newHandler(channel.alloc(), remoteAddress.getHostName(), remoteAddress.getPort()));
+            pipeline.addLast(nettySslContextFactory.createClientSslContext(forwardProxyClient, http2).newHandler(channel.alloc(), remoteAddress.getHostName(), remoteAddress.getPort()));
         }
 
         // add logging
@@ -80,17 +106,32 @@ public class HttpClientInitializer extends ChannelInitializer<SocketChannel> {
         }
 
         if (isHttp) {
-            pipeline.addLast(new HttpClientCodec());
+            if (http2) {
+                pipeline.addLast(new HttpClientProtocolNegotiationHandler());
+            } else {
+                pipeline.addLast(new HttpClientCodec());
+            }
 
             pipeline.addLast(new HttpContentDecompressor());
 
-            pipeline.addLast(new HttpObjectAggregator(Integer.MAX_VALUE));
+            if (streamingResponseHandler == null) {
+                pipeline.addLast(new HttpObjectAggregator(Integer.MAX_VALUE));
+            }
+
+            if (pooledConnectionIdleTimeoutInMillis != null) {
+                pipeline.addLast(HttpClientKeepAliveHandler.INSTANCE);
+            }
 
             pipeline.addLast(new MockServerHttpClientCodec(mockServerLogger, proxyConfigurations));
         } else {
             pipeline.addLast(new MockServerBinaryClientCodec());
         }
 
-        pipeline.addLast(httpClientHandler);
+        if (streamingResponseHandler != null) {
+            // response parts are passed through the codec (which only encodes requests) to be written as they arrive
+            pipeline.addLast(streamingResponseHandler);
+        } else {
+            pipeline.addLast(httpClientHandler);
+        }
     }
 }
@@ -0,0 +1,59 @@
+package org.mockserver.httpclient;
+
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.util.AttributeKey;
+import org.mockserver.model.Message;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockserver.httpclient.NettyHttpClient.RESPONSE_FUTURE;
+
+/**
+ * Tracks whether a pooled connection can be reused after the current request and response, and closes
+ * pooled connections that have been idle for longer than the pool's idle timeout
+ */
+@ChannelHandler.Sharable
+public class HttpClientKeepAliveHandler extends ChannelDuplexHandler {
+
+    static final AttributeKey<Boolean> KEEP_ALIVE = AttributeKey.valueOf("KEEP_ALIVE");
+    static final HttpClientKeepAliveHandler INSTANCE = new HttpClientKeepAliveHandler();
+
+    private HttpClientKeepAliveHandler() {
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        if (msg instanceof HttpRequest) {
+            ctx.channel().attr(KEEP_ALIVE).set(HttpUtil.isKeepAlive((HttpRequest) msg));
+        }
+        super.write(ctx, msg, promise);
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        if (msg instanceof HttpResponse && !HttpUtil.isKeepAlive((HttpResponse) msg)) {
+            ctx.channel().attr(KEEP_ALIVE).set(false);
+        }
+        super.channelRead(ctx, msg);
+    }
+
+    @Override
+    public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+        if (evt instanceof IdleStateEvent) {
+            CompletableFuture<Message> responseFuture = ctx.channel().attr(RESPONSE_FUTURE).get();
+            // only close connections waiting in the pool, connections waiting for a response are failed and closed after maxSocketTimeout
+            if (responseFuture == null || responseFuture.isDone()) {
+                ctx.close();
+            }
+        } else {
+            super.userEventTriggered(ctx, evt);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package org.mockserver.httpclient;
+
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.PendingWriteQueue;
+import io.netty.handler.codec.http.HttpClientCodec;
+import io.netty.handler.codec.http.HttpMessage;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http2.DefaultHttp2Connection;
+import io.netty.handler.codec.http2.Http2Connection;
+import io.netty.handler.codec.http2.HttpConversionUtil;
+import io.netty.handler.codec.http2.HttpToHttp2ConnectionHandlerBuilder;
+import io.netty.handler.codec.http2.InboundHttp2ToHttpAdapterBuilder;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.ssl.SslHandshakeCompletionEvent;
+
+import java.nio.channels.ClosedChannelException;
+
+import static org.mockserver.codec.Http2ExtensionHeadersRemover.removeExtensionHeaders;
+
+/**
+ * Adds the HTTP codec once the TLS handshake has completed, HTTP/2 is used if it was selected by the server using ALPN
+ * otherwise HTTP/1.1 is used, requests written before the handshake completes are queued until the codec is added
+ * <p>
+ * Each HTTP/2 connection sends a single request at a time (the same as HTTP/1.1) so responses are converted back into
+ * complete HTTP/1.1 responses for the rest of the pipeline
+ */
+class HttpClientProtocolNegotiationHandler extends ChannelDuplexHandler {
+
+    private PendingWriteQueue pendingWrites;
+    private boolean negotiated;
+    private boolean http2;
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+        pendingWrites = new PendingWriteQueue(ctx);
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+        if (negotiated) {
+            ctx.write(addSchemeIfHttp2(msg), promise);
+        } else {
+            pendingWrites.add(msg, promise);
+        }
+    }
+
+    @Override
+    public void flush(ChannelHandlerContext ctx) {
+        if (negotiated) {
+            ctx.flush();
+        }
+    }
+
+    @Override
+    public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+        if (evt instanceof SslHandshakeCompletionEvent && !negotiated) {
+            SslHandshakeCompletionEvent handshakeCompletionEvent = (SslHandshakeCompletionEvent) evt;
+            if (handshakeCompletionEvent.isSuccess()) {
+                SslHandler sslHandler = ctx.pipeline().get(SslHandler.class);
+                http2 = sslHandler != null && ApplicationProtocolNames.HTTP_2.equals(sslHandler.applicationProtocol());
+                if (http2) {
+                    Http2Connection connection = new DefaultHttp2Connection(false);
+                    ctx.pipeline().addBefore(ctx.name(), null, new HttpToHttp2ConnectionHandlerBuilder()
+                        .connection(connection)
+                        .frameListener(new InboundHttp2ToHttpAdapterBuilder(connection)
+                            .maxContentLength(Integer.MAX_VALUE)
+                            .propagateSettings(false)
+                            .build())
+                        .build());
+                } else {
+                    ctx.pipeline().addBefore(ctx.name(), null, new HttpClientCodec());
+                }
+                negotiated = true;
+                Object msg;
+                while ((msg = pendingWrites.current()) != null) {
+                    addSchemeIfHttp2(msg);
+                    pendingWrites.removeAndWrite();
+                }
+                ctx.flush();
+            } else {
+                pendingWrites.removeAndFailAll(handshakeCompletionEvent.cause());
+            }
+        }
+        super.userEventTriggered(ctx, evt);
+    }
+
+    private Object addSchemeIfHttp2(Object msg) {
+        // requests use relative uris so the scheme is taken from the extension header
+        if (http2 && msg instanceof HttpRequest) {
+            ((HttpRequest) msg).headers().set(HttpConversionUtil.ExtensionHeaderNames.SCHEME.text(), "https");
+        }
+        return msg;
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        if (http2 && msg instanceof HttpMessage) {
+            removeExtensionHeaders(((HttpMessage) msg).headers());
+        }
+        super.channelRead(ctx, msg);
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        if (!pendingWrites.isEmpty()) {
+            pendingWrites.removeAndFailAll(new ClosedChannelException());
+        }
+        super.channelInactive(ctx);
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        if (!pendingWrites.isEmpty()) {
+            pendingWrites.removeAndFailAll(new ClosedChannelException());
+        }
+    }
+}
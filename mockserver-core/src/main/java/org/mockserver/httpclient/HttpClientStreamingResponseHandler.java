@@ -0,0 +1,267 @@
+package org.mockserver.httpclient;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.codec.DecoderResult;
+import io.netty.handler.codec.DecoderResultProvider;
+import io.netty.handler.codec.http.*;
+import io.netty.util.ReferenceCountUtil;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.mappers.FullHttpResponseToMockServerHttpResponse;
+import org.mockserver.model.Message;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import static io.netty.handler.codec.http.HttpHeaderNames.CONTENT_LENGTH;
+import static org.apache.commons.lang3.StringUtils.isEmpty;
+import static org.mockserver.httpclient.NettyHttpClient.RESPONSE_FUTURE;
+
+/**
+ * Writes a proxied response to the client channel as each part is received, instead of aggregating the whole response
+ * in memory, a bounded prefix of the body is retained so the response future can be completed with a response for the
+ * log once the last part has been written.
+ * <p>
+ * The head of the response is passed to a response head handler before it is written, so the same headers (i.e. CORS
+ * and connection headers) are added as for any other response, if the response head handler returns null the response
+ * is not written to the client channel and is only retained for the log.
+ * <p>
+ * Reading from the remote server is paused while the client channel is not writable, and resumed when the client
+ * channel becomes writable again, so a slow client does not cause the response to be buffered.
+ */
+public class HttpClientStreamingResponseHandler extends ChannelInboundHandlerAdapter {
+
+    private static final List<String> responseHeadersToRemove = Arrays.asList(
+        "proxy-connection",
+        "connection",
+        "keep-alive",
+        "transfer-encoding",
+        "te",
+        "trailer",
+        "upgrade"
+    );
+    private final FullHttpResponseToMockServerHttpResponse fullHttpResponseToMockServerResponse;
+    private final Channel clientChannel;
+    private final boolean keepAlive;
+    private final boolean headRequest;
+    private final int maxLoggedBodySize;
+    private final Function<org.mockserver.model.HttpResponse, org.mockserver.model.HttpResponse> responseHeadHandler;
+    private ClientWritabilityHandler clientWritabilityHandler;
+    private HttpResponse responseHead;
+    private ByteBuf loggedBody;
+    private volatile boolean responseStarted;
+
+    /**
+     * @param clientChannel             channel the response is written to
+     * @param keepAlive                 if false the client channel is closed once the response has been written
+     * @param headRequest               true if the request method was HEAD, so the response has no body
+     * @param maxLoggedBodySize         maximum number of body bytes retained for the log
+     * @param responseHeadHandler       returns the response head to write to the client channel, for the response head
+     *                                  received without hop-by-hop headers, or null if the response should not be written
+     */
+    public HttpClientStreamingResponseHandler(MockServerLogger mockServerLogger, Channel clientChannel, boolean keepAlive, boolean headRequest, int maxLoggedBodySize, Function<org.mockserver.model.HttpResponse, org.mockserver.model.HttpResponse> responseHeadHandler) {
+        this.fullHttpResponseToMockServerResponse = new FullHttpResponseToMockServerHttpResponse(mockServerLogger);
+        this.clientChannel = clientChannel;
+        this.keepAlive = keepAlive;
+        this.headRequest = headRequest;
+        this.maxLoggedBodySize = Math.max(maxLoggedBodySize, 0);
+        this.responseHeadHandler = responseHeadHandler;
+    }
+
+    /**
+     * @return true once any part of the response has been written to the client channel, after which failures can
+     * only be reported by closing the client channel
+     */
+    public boolean isResponseStarted() {
+        return responseStarted;
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        try {
+            if (msg instanceof DecoderResultProvider) {
+                DecoderResult decoderResult = ((DecoderResultProvider) msg).decoderResult();
+                if (decoderResult.isFailure()) {
+                    failed(ctx, decoderResult.cause());
+                    return;
+                }
+            }
+            if (msg instanceof HttpResponse && ((HttpResponse) msg).status().code() >= 200) {
+                // informational (1xx) responses are ignored as the final response follows
+                writeResponseHead(ctx, (HttpResponse) msg);
+            }
+            if (msg instanceof HttpContent && responseHead != null) {
+                writeContent(ctx, (HttpContent) msg);
+            }
+        } finally {
+            ReferenceCountUtil.release(msg);
+        }
+    }
+
+    private void writeResponseHead(ChannelHandlerContext ctx, HttpResponse response) {
+        responseHead = new DefaultHttpResponse(response.protocolVersion(), response.status(), response.headers().copy());
+        loggedBody = ctx.alloc().heapBuffer(Math.min(maxLoggedBodySize, 1024), maxLoggedBodySize);
+
+        HttpHeaders headers = new DefaultHttpHeaders();
+        response.headers().forEach(header -> {
+            if (!responseHeadersToRemove.contains(header.getKey().toLowerCase(Locale.ENGLISH))) {
+                headers.add(header.getKey(), header.getValue());
+            }
+        });
+        org.mockserver.model.HttpResponse clientResponseHead = responseHeadHandler.apply(mapResponseHead(response, headers));
+        if (clientResponseHead != null) {
+            HttpResponse clientResponse = mapResponseHead(clientResponseHead);
+            if (!clientResponse.headers().contains(CONTENT_LENGTH) && hasBody(response)) {
+                HttpUtil.setTransferEncodingChunked(clientResponse, true);
+            }
+            clientWritabilityHandler = new ClientWritabilityHandler(ctx.channel());
+            clientChannel.pipeline().addFirst(clientWritabilityHandler);
+            responseStarted = true;
+            clientChannel.writeAndFlush(clientResponse);
+        }
+    }
+
+    private org.mockserver.model.HttpResponse mapResponseHead(HttpResponse response, HttpHeaders headers) {
+        return fullHttpResponseToMockServerResponse.mapFullHttpResponseToMockServerResponse(
+            new DefaultFullHttpResponse(response.protocolVersion(), response.status(), Unpooled.EMPTY_BUFFER, headers, EmptyHttpHeaders.INSTANCE)
+        );
+    }
+
+    private HttpResponse mapResponseHead(org.mockserver.model.HttpResponse response) {
+        int statusCode = response.getStatusCode() != null ? response.getStatusCode() : 200;
+        HttpResponse clientResponse = new DefaultHttpResponse(
+            HttpVersion.HTTP_1_1,
+            isEmpty(response.getReasonPhrase()) ? HttpResponseStatus.valueOf(statusCode) : new HttpResponseStatus(statusCode, response.getReasonPhrase())
+        );
+        if (response.getHeaderMultimap() != null) {
+            response
+                .getHeaderMultimap()
+                .entries()
+                .forEach(entry -> clientResponse.headers().add(entry.getKey().getValue(), entry.getValue().getValue()));
+        }
+        return clientResponse;
+    }
+
+    private boolean hasBody(HttpResponse response) {
+        int code = response.status().code();
+        return !headRequest && code >= 200 && code != 204 && code != 304;
+    }
+
+    private void writeContent(ChannelHandlerContext ctx, HttpContent content) {
+        ByteBuf bytes = content.content();
+        int retained = Math.min(maxLoggedBodySize - loggedBody.readableBytes(), bytes.readableBytes());
+        if (retained > 0) {
+            loggedBody.writeBytes(bytes, bytes.readerIndex(), retained);
+        }
+        if (content instanceof LastHttpContent) {
+            if (responseStarted) {
+                LastHttpContent lastContent = new DefaultLastHttpContent(bytes.retain());
+                lastContent.trailingHeaders().set(((LastHttpContent) content).trailingHeaders());
+                ChannelFuture writeFuture = clientChannel.writeAndFlush(lastContent);
+                if (!keepAlive) {
+                    writeFuture.addListener(ChannelFutureListener.CLOSE);
+                }
+            }
+            completed(ctx, ((LastHttpContent) content).trailingHeaders());
+        } else if (responseStarted && bytes.isReadable()) {
+            clientChannel.writeAndFlush(new DefaultHttpContent(bytes.retain()));
+            if (!clientChannel.isWritable()) {
+                // stop reading from the remote server until the client channel becomes writable again
+                ctx.channel().config().setAutoRead(false);
+                if (clientChannel.isWritable()) {
+                    // client channel became writable before reading was stopped
+                    ctx.channel().config().setAutoRead(true);
+                }
+            }
+        }
+    }
+
+    private void completed(ChannelHandlerContext ctx, HttpHeaders trailingHeaders) {
+        FullHttpResponse loggedResponse = new DefaultFullHttpResponse(responseHead.protocolVersion(), responseHead.status(), loggedBody, responseHead.headers(), trailingHeaders);
+        loggedBody = null;
+        try {
+            CompletableFuture<Message> responseFuture = ctx.channel().attr(RESPONSE_FUTURE).get();
+            if (responseFuture != null) {
+                responseFuture.complete(fullHttpResponseToMockServerResponse.mapFullHttpResponseToMockServerResponse(loggedResponse));
+            }
+        } finally {
+            loggedResponse.release();
+            removeClientWritabilityHandler();
+            ctx.close();
+        }
+    }
+
+    private void failed(ChannelHandlerContext ctx, Throwable cause) {
+        CompletableFuture<Message> responseFuture = ctx.channel().attr(RESPONSE_FUTURE).get();
+        if (responseFuture != null && !responseFuture.isDone()) {
+            responseFuture.completeExceptionally(cause);
+        }
+        if (responseStarted) {
+            // the response status has already been sent so the only way to signal the failure is to close the connection
+            clientChannel.close();
+        }
+        removeClientWritabilityHandler();
+        ctx.close();
+    }
+
+    private void removeClientWritabilityHandler() {
+        if (clientWritabilityHandler != null) {
+            if (clientChannel.pipeline().context(clientWritabilityHandler) != null) {
+                clientChannel.pipeline().remove(clientWritabilityHandler);
+            }
+            clientWritabilityHandler = null;
+        }
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        CompletableFuture<Message> responseFuture = ctx.channel().attr(RESPONSE_FUTURE).get();
+        if (responseFuture != null && !responseFuture.isDone()) {
+            failed(ctx, new SocketConnectionException("Connection closed before streamed response completed"));
+        }
+        super.channelInactive(ctx);
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        removeClientWritabilityHandler();
+        if (loggedBody != null) {
+            loggedBody.release();
+            loggedBody = null;
+        }
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+        failed(ctx, cause);
+    }
+
+    /**
+     * added to the client channel while the response is written to resume reading from the remote server once the
+     * client channel is writable again
+     */
+    private static class ClientWritabilityHandler extends ChannelInboundHandlerAdapter {
+
+        private final Channel remoteChannel;
+
+        private ClientWritabilityHandler(Channel remoteChannel) {
+            this.remoteChannel = remoteChannel;
+        }
+
+        @Override
+        public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+            if (ctx.channel().isWritable()) {
+                remoteChannel.config().setAutoRead(true);
+            }
+            super.channelWritabilityChanged(ctx);
+        }
+    }
+}
@@ -1,25 +1,30 @@
 package org.mockserver.httpclient;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.WriteBufferWaterMark;
-import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.util.AttributeKey;
+import io.netty.util.concurrent.FutureListener;
+import io.netty.util.concurrent.ScheduledFuture;
 import org.mockserver.configuration.Configuration;
 import org.mockserver.filters.HopByHopHeaderFilter;
 import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
+import org.mockserver.metrics.Metrics;
 import org.mockserver.model.BinaryMessage;
 import org.mockserver.model.HttpRequest;
 import org.mockserver.model.HttpResponse;
 import org.mockserver.model.Message;
 import org.mockserver.proxyconfiguration.ProxyConfiguration;
+import org.mockserver.socket.Transport;
 import org.mockserver.socket.tls.NettySslContextFactory;
 import org.slf4j.event.Level;
 
@@ -30,12 +35,16 @@ import java.net.InetSocketAddress;
 import java.net.UnknownHostException;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.mockserver.metrics.Metrics.Timer.FORWARD_ROUND_TRIP;
 import static org.mockserver.model.HttpResponse.response;
 
 public class NettyHttpClient {
@@ -44,12 +53,15 @@ public class NettyHttpClient {
     static final AttributeKey<InetSocketAddress> REMOTE_SOCKET = AttributeKey.valueOf("REMOTE_SOCKET");
     static final AttributeKey<CompletableFuture<Message>> RESPONSE_FUTURE = AttributeKey.valueOf("RESPONSE_FUTURE");
     private static final HopByHopHeaderFilter hopByHopHeaderFilter = new HopByHopHeaderFilter();
+    private static final Set<String> IDEMPOTENT_METHODS = ImmutableSet.of("GET", "HEAD", "PUT", "DELETE", "OPTIONS", "TRACE");
     private final Configuration configuration;
     private final MockServerLogger mockServerLogger;
     private final EventLoopGroup eventLoopGroup;
     private final Map<ProxyConfiguration.Type, ProxyConfiguration> proxyConfigurations;
     private final boolean forwardProxyClient;
     private final NettySslContextFactory nettySslContextFactory;
+    private final Metrics metrics;
+    private final HttpClientConnectionPool connectionPool;
 
     public NettyHttpClient(Configuration configuration, MockServerLogger mockServerLogger, EventLoopGroup eventLoopGroup, List<ProxyConfiguration> proxyConfigurations, boolean forwardProxyClient) {
         this(configuration, mockServerLogger, eventLoopGroup, proxyConfigurations, forwardProxyClient, new NettySslContextFactory(configuration, mockServerLogger));
@@ -62,6 +74,12 @@ public class NettyHttpClient {
         this.proxyConfigurations = proxyConfigurations != null ? proxyConfigurations.stream().collect(Collectors.toMap(ProxyConfiguration::getType, proxyConfiguration -> proxyConfiguration)) : ImmutableMap.of();
         this.forwardProxyClient = forwardProxyClient;
         this.nettySslContextFactory = nettySslContextFactory;
+        this.metrics = new Metrics(configuration);
+        if (forwardProxyClient && configuration.forwardConnectionPoolSize() > 0) {
+            this.connectionPool = new HttpClientConnectionPool(configuration, eventLoopGroup, new HttpClientInitializer(this.proxyConfigurations, mockServerLogger, true, nettySslContextFactory, true, configuration.forwardConnectionPoolIdleTimeoutInMillis(), null, configuration.http2Enabled()));
+        } else {
+            this.connectionPool = null;
+        }
     }
 
     public CompletableFuture<HttpResponse> sendRequest(final HttpRequest httpRequest) throws SocketConnectionException {
@@ -73,6 +91,23 @@ public class NettyHttpClient {
     }
 
     public CompletableFuture<HttpResponse> sendRequest(final HttpRequest httpRequest, @Nullable InetSocketAddress remoteAddress, Long connectionTimeoutMillis) throws SocketConnectionException {
+        return sendRequest(httpRequest, remoteAddress, connectionTimeoutMillis, null);
+    }
+
+    public CompletableFuture<HttpResponse> sendStreamingRequest(final HttpRequest httpRequest, @Nullable InetSocketAddress remoteAddress, HttpClientStreamingResponseHandler streamingResponseHandler) throws SocketConnectionException {
+        return sendStreamingRequest(httpRequest, remoteAddress, configuration.socketConnectionTimeoutInMillis(), streamingResponseHandler);
+    }
+
+    /**
+     * sends the request without aggregating the response, instead each part of the response is passed to the streaming
+     * response handler as it is received, the returned future completes with the response retained for the log once
+     * the whole response has been received, streamed requests always use a new connection
+     */
+    public CompletableFuture<HttpResponse> sendStreamingRequest(final HttpRequest httpRequest, @Nullable InetSocketAddress remoteAddress, Long connectionTimeoutMillis, HttpClientStreamingResponseHandler streamingResponseHandler) throws SocketConnectionException {
+        return sendRequest(httpRequest, remoteAddress, connectionTimeoutMillis, streamingResponseHandler);
+    }
+
+    private CompletableFuture<HttpResponse> sendRequest(final HttpRequest httpRequest, @Nullable InetSocketAddress remoteAddress, Long connectionTimeoutMillis, HttpClientStreamingResponseHandler streamingResponseHandler) throws SocketConnectionException {
         if (!eventLoopGroup.isShuttingDown()) {
             if (proxyConfigurations != null && !Boolean.TRUE.equals(httpRequest.isSecure()) && proxyConfigurations.containsKey(ProxyConfiguration.Type.HTTP)) {
                 ProxyConfiguration proxyConfiguration = proxyConfigurations.get(ProxyConfiguration.Type.HTTP);
@@ -82,31 +117,37 @@ public class NettyHttpClient {
                 remoteAddress = httpRequest.socketAddressFromHostHeader();
             }
 
+            final long forwardStartTime = forwardProxyClient ? metrics.startTimer() : -1;
             final CompletableFuture<HttpResponse> httpResponseFuture = new CompletableFuture<>();
             final CompletableFuture<Message> responseFuture = new CompletableFuture<>();
-            new Bootstrap()
-                .group(eventLoopGroup)
-                .channel(NioSocketChannel.class)
-                .option(ChannelOption.AUTO_READ, true)
-                .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
-                .option(ChannelOption.WRITE_BUFFER_WATER_MARK, new WriteBufferWaterMark(8 * 1024, 32 * 1024))
-                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectionTimeoutMillis != null ? connectionTimeoutMillis.intValue() : null)
-                .attr(SECURE, httpRequest.isSecure() != null && httpRequest.isSecure())
-                .attr(REMOTE_SOCKET, remoteAddress)
-                .attr(RESPONSE_FUTURE, responseFuture)
-                .handler(new HttpClientInitializer(proxyConfigurations, mockServerLogger, forwardProxyClient, nettySslContextFactory, true))
-                .connect(remoteAddress)
-                .addListener((ChannelFutureListener) future -> {
-                    if (future.isSuccess()) {
-                        // send the HTTP request
-                        future.channel().writeAndFlush(httpRequest);
-                    } else {
-                        httpResponseFuture.completeExceptionally(future.cause());
-                    }
-                });
+            if (connectionPool != null && streamingResponseHandler == null) {
+                sendPooledRequest(httpRequest, remoteAddress, connectionTimeoutMillis, responseFuture, true);
+            } else {
+                new Bootstrap()
+                    .group(eventLoopGroup)
+                    .channel(Transport.socketChannelClass(eventLoopGroup))
+                    .option(ChannelOption.AUTO_READ, true)
+                    .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+                    .option(ChannelOption.WRITE_BUFFER_WATER_MARK, new WriteBufferWaterMark(8 * 1024, 32 * 1024))
+                    .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectionTimeoutMillis != null ? connectionTimeoutMillis.intValue() : null)
+                    .attr(SECURE, httpRequest.isSecure() != null && httpRequest.isSecure())
+                    .attr(REMOTE_SOCKET, remoteAddress)
+                    .attr(RESPONSE_FUTURE, responseFuture)
+                    .handler(new HttpClientInitializer(proxyConfigurations, mockServerLogger, forwardProxyClient, nettySslContextFactory, true, null, streamingResponseHandler, configuration.http2Enabled()))
+                    .connect(remoteAddress)
+                    .addListener((ChannelFutureListener) future -> {
+                        if (future.isSuccess()) {
+                            // send the HTTP request
+                            future.channel().writeAndFlush(httpRequest);
+                        } else {
+                            httpResponseFuture.completeExceptionally(future.cause());
+                        }
+                    });
+            }
 
             responseFuture
                 .whenComplete((message, throwable) -> {
+                    metrics.record(FORWARD_ROUND_TRIP, forwardStartTime);
                     if (throwable == null) {
                         if (message != null) {
                             if (forwardProxyClient) {
@@ -128,6 +169,53 @@ public class NettyHttpClient {
         }
     }
 
+    private void sendPooledRequest(final HttpRequest httpRequest, final InetSocketAddress remoteAddress, final Long connectionTimeoutMillis, final CompletableFuture<Message> responseFuture, final boolean retryIfConnectionClosed) {
+        connectionPool
+            .acquire(remoteAddress, httpRequest.isSecure() != null && httpRequest.isSecure(), connectionTimeoutMillis != null ? connectionTimeoutMillis.intValue() : null)
+            .addListener((FutureListener<Channel>) future -> {
+                if (future.isSuccess()) {
+                    Channel channel = future.getNow();
+                    boolean reused = HttpClientConnectionPool.isReused(channel);
+                    CompletableFuture<Message> channelResponseFuture = new CompletableFuture<>();
+                    AtomicBoolean requestWritten = new AtomicBoolean(false);
+                    channel.attr(RESPONSE_FUTURE).set(channelResponseFuture);
+                    // fail and close, instead of returning to the pool, connections whose response doesn't arrive in time
+                    ScheduledFuture<?> responseTimeout = channel.eventLoop().schedule(
+                        () -> channelResponseFuture.completeExceptionally(new SocketCommunicationException("Response was not received after " + configuration.maxSocketTimeoutInMillis() + " milliseconds, to make the proxy wait longer please use \"mockserver.maxSocketTimeout\" system property or ConfigurationProperties.maxSocketTimeout(long milliseconds)", null)),
+                        configuration.maxSocketTimeoutInMillis(),
+                        MILLISECONDS
+                    );
+                    channelResponseFuture.whenComplete((message, throwable) -> {
+                        responseTimeout.cancel(false);
+                        HttpClientConnectionPool.release(channel, throwable == null);
+                        if (throwable == null) {
+                            responseFuture.complete(message);
+                        } else if (reused && retryIfConnectionClosed && (throwable instanceof SocketConnectionException || throwable instanceof IOException) && (!requestWritten.get() || isIdempotent(httpRequest))) {
+                            // the remote server may have closed an idle keep-alive connection as the request was sent, only
+                            // resend if the request never left this client or repeating it on the server can't change the outcome
+                            sendPooledRequest(httpRequest, remoteAddress, connectionTimeoutMillis, responseFuture, false);
+                        } else {
+                            responseFuture.completeExceptionally(throwable);
+                        }
+                    });
+                    // send the HTTP request
+                    channel.writeAndFlush(httpRequest).addListener((ChannelFutureListener) writeFuture -> {
+                        if (writeFuture.isSuccess()) {
+                            requestWritten.set(true);
+                        } else {
+                            channelResponseFuture.completeExceptionally(writeFuture.cause());
+                        }
+                    });
+                } else {
+                    responseFuture.completeExceptionally(future.cause());
+                }
+            });
+    }
+
+    private static boolean isIdempotent(HttpRequest httpRequest) {
+        return IDEMPOTENT_METHODS.contains(httpRequest.getMethod("GET").toUpperCase());
+    }
+
     public CompletableFuture<BinaryMessage> sendRequest(final BinaryMessage binaryRequest, final boolean isSecure, InetSocketAddress remoteAddress, Integer connectionTimeoutMillis) throws SocketConnectionException {
         if (!eventLoopGroup.isShuttingDown()) {
             if (proxyConfigurations != null && !isSecure && proxyConfigurations.containsKey(ProxyConfiguration.Type.HTTP)) {
@@ -140,7 +228,7 @@ public class NettyHttpClient {
             final CompletableFuture<Message> responseFuture = new CompletableFuture<>();
             new Bootstrap()
                 .group(eventLoopGroup)
-                .channel(NioSocketChannel.class)
+                .channel(Transport.socketChannelClass(eventLoopGroup))
                 .option(ChannelOption.AUTO_READ, true)
                 .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
                 .option(ChannelOption.WRITE_BUFFER_WATER_MARK, new WriteBufferWaterMark(8 * 1024, 32 * 1024))
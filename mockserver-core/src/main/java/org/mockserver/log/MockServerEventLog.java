@@ -2,7 +2,7 @@ package org.mockserver.log;
 
 import com.lmax.disruptor.ExceptionHandler;
 import com.lmax.disruptor.dsl.Disruptor;
-import org.mockserver.collections.CircularConcurrentLinkedDeque;
+import org.mockserver.collections.CircularArrayBuffer;
 import org.mockserver.configuration.Configuration;
 import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
@@ -22,13 +22,13 @@ import org.slf4j.LoggerFactory;
 import org.slf4j.event.Level;
 
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Future;
-import java.util.concurrent.TimeoutException;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -72,14 +72,21 @@ public class MockServerEventLog extends MockServerEventLogNotifier {
             .withHttpRequest(logEntry.getHttpRequest())
             .withHttpResponse(logEntry.getHttpResponse())
             .withTimestamp(logEntry.getTimestamp());
-    private static final String[] EXCLUDED_FIELDS = {"id", "disruptor"};
+    private static final String[] EXCLUDED_FIELDS = {"id", "disruptor", "queryExecutor", "queriesInProgress", "evictedLogEntries"};
+    private static final int MAX_QUEUED_QUERIES = 1024;
     private final Configuration configuration;
     private MockServerLogger mockServerLogger;
-    private CircularConcurrentLinkedDeque<LogEntry> eventLog;
+    private CircularArrayBuffer<LogEntry> eventLog;
+    private MockServerEventLogIndex eventLogIndex;
     private MatcherBuilder matcherBuilder;
     private RequestDefinitionSerializer requestDefinitionSerializer;
     private final boolean asynchronousEventProcessing;
     private Disruptor<LogEntry> disruptor;
+    private ExecutorService queryExecutor;
+    private final AtomicInteger queriesInProgress = new AtomicInteger();
+    // only read or modified on the ring buffer thread
+    private final Queue<LogEntry> evictedLogEntries = new ArrayDeque<>();
+    private volatile long clearCount;
 
     public MockServerEventLog(Configuration configuration, MockServerLogger mockServerLogger, Scheduler scheduler, boolean asynchronousEventProcessing) {
         super(scheduler);
@@ -88,10 +95,52 @@ public class MockServerEventLog extends MockServerEventLogNotifier {
         this.matcherBuilder = new MatcherBuilder(configuration, mockServerLogger);
         this.requestDefinitionSerializer = new RequestDefinitionSerializer(mockServerLogger);
         this.asynchronousEventProcessing = asynchronousEventProcessing;
-        this.eventLog = new CircularConcurrentLinkedDeque<>(configuration.maxLogEntries(), LogEntry::clear);
+        this.eventLogIndex = new MockServerEventLogIndex(configuration.maxLogEntries());
+        this.eventLog = new CircularArrayBuffer<>(configuration.maxLogEntries(), this::evicted);
+        this.queryExecutor = newQueryExecutor();
         startRingBuffer();
     }
 
+    private static ExecutorService newQueryExecutor() {
+        int threads = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+        ThreadPoolExecutor queryExecutor = new ThreadPoolExecutor(
+            threads,
+            threads,
+            60,
+            SECONDS,
+            new ArrayBlockingQueue<>(MAX_QUEUED_QUERIES),
+            new Scheduler.SchedulerThreadFactory("EventLogQuery"),
+            // when too many queries are queued, or once stopped, queries are rejected and their future completed exceptionally
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+        // threads are only kept while queries are being run
+        queryExecutor.allowCoreThreadTimeOut(true);
+        return queryExecutor;
+    }
+
+    /**
+     * evicted entries are cleared to release their requests and responses, unless a query is in progress which may still
+     * be reading them from an earlier snapshot, then they are cleared once no queries are in progress (beyond maxLogEntries
+     * pending entries are left to the garbage collector); entries are only evicted, and queries only started, on the ring
+     * buffer thread so no query can start while evicted entries are being cleared
+     */
+    private void evicted(LogEntry logEntry) {
+        eventLogIndex.evicted(logEntry);
+        if (queriesInProgress.get() == 0) {
+            clearEvictedLogEntries();
+            logEntry.clear();
+        } else if (evictedLogEntries.size() < configuration.maxLogEntries()) {
+            evictedLogEntries.add(logEntry);
+        }
+    }
+
+    private void clearEvictedLogEntries() {
+        LogEntry logEntry;
+        while ((logEntry = evictedLogEntries.poll()) != null) {
+            logEntry.clear();
+        }
+    }
+
     public void add(LogEntry logEntry) {
         logEntry.setPort(getPort());
         if (asynchronousEventProcessing) {
@@ -145,7 +194,9 @@ public class MockServerEventLog extends MockServerEventLogNotifier {
 
     private void processLogEntry(LogEntry logEntry) {
         logEntry = logEntry.cloneAndClear();
-        eventLog.add(logEntry);
+        if (eventLog.add(logEntry)) {
+            eventLogIndex.add(logEntry);
+        }
         notifyListeners(this, false);
         writeToSystemOut(logger, logEntry);
     }
@@ -153,8 +204,16 @@ public class MockServerEventLog extends MockServerEventLogNotifier {
     public void stop() {
         try {
             notifyListeners(this, true);
-            eventLog.clear();
+            // cleared on the ring buffer thread as clearing evicts every entry
+            disruptor.publishEvent(new LogEntry()
+                .setType(RUNNABLE)
+                .setConsumer(() -> {
+                    eventLogIndex.clear();
+                    eventLog.clear();
+                })
+            );
             disruptor.shutdown(2, SECONDS);
+            queryExecutor.shutdown();
         } catch (Throwable throwable) {
             if (!(throwable instanceof com.lmax.disruptor.TimeoutException)) {
                 if (MockServerLogger.isEnabled(Level.WARN)) {
@@ -168,98 +227,112 @@ public class MockServerEventLog extends MockServerEventLogNotifier {
         }
     }
 
-    public void reset() {
-        CompletableFuture<String> future = new CompletableFuture<>();
-        disruptor.publishEvent(new LogEntry()
-            .setType(RUNNABLE)
-            .setConsumer(() -> {
-                eventLog.clear();
-                future.complete("done");
-                notifyListeners(this, false);
-            })
-        );
-        try {
-            future.get(2, SECONDS);
-        } catch (ExecutionException | InterruptedException | TimeoutException ignore) {
-        }
+    /**
+     * the returned future is completed once the log has been reset, there is no need to wait for it before adding or
+     * retrieving log entries as they are processed on the ring buffer thread after the reset
+     */
+    public CompletableFuture<Void> reset() {
+        return update(() -> {
+            eventLogIndex.clear();
+            eventLog.clear();
+            clearCount++;
+        });
     }
 
-    public void clear(RequestDefinition requestDefinition) {
-        CompletableFuture<String> future = new CompletableFuture<>();
+    /**
+     * the returned future is completed once the matching entries have been cleared, there is no need to wait for it
+     * before adding or retrieving log entries as they are processed on the ring buffer thread after the clear
+     */
+    public CompletableFuture<Void> clear(RequestDefinition requestDefinition) {
         final boolean markAsDeletedOnly = MockServerLogger.isEnabled(Level.INFO);
-        disruptor.publishEvent(new LogEntry()
-            .setType(RUNNABLE)
-            .setConsumer(() -> {
-                String logCorrelationId = UUIDService.getUUID();
-                RequestDefinition matcher = requestDefinition != null ? requestDefinition : request().withLogCorrelationId(logCorrelationId);
-                HttpRequestMatcher requestMatcher = matcherBuilder.transformsToMatcher(matcher);
-                for (LogEntry logEntry : new LinkedList<>(eventLog)) {
-                    RequestDefinition[] requests = logEntry.getHttpRequests();
-                    boolean matches = false;
-                    if (requests != null) {
-                        for (RequestDefinition request : requests) {
-                            if (requestMatcher.matches(request.cloneWithLogCorrelationId())) {
-                                matches = true;
-                            }
+        final Integer port = getPort();
+        return update(() -> {
+            String logCorrelationId = UUIDService.getUUID();
+            RequestDefinition matcher = requestDefinition != null ? requestDefinition : request().withLogCorrelationId(logCorrelationId);
+            HttpRequestMatcher requestMatcher = matcherBuilder.transformsToMatcher(matcher);
+            Predicate<LogEntry> matches = logEntry -> {
+                RequestDefinition[] requests = logEntry.getHttpRequests();
+                if (requests != null) {
+                    for (RequestDefinition request : requests) {
+                        if (requestMatcher.matches(request.cloneWithLogCorrelationId())) {
+                            return true;
                         }
-                    } else {
-                        matches = true;
                     }
-                    if (matches) {
-                        if (markAsDeletedOnly) {
-                            logEntry.setDeleted(true);
-                        } else {
-                            eventLog.removeItem(logEntry);
-                        }
+                    return false;
+                } else {
+                    return true;
+                }
+            };
+            if (markAsDeletedOnly) {
+                for (LogEntry logEntry : eventLog) {
+                    if (matches.test(logEntry)) {
+                        logEntry.setDeleted(true);
                     }
                 }
-                if (MockServerLogger.isEnabled(Level.INFO)) {
-                    mockServerLogger.logEvent(
-                        new LogEntry()
-                            .setType(CLEARED)
-                            .setLogLevel(Level.INFO)
-                            .setCorrelationId(logCorrelationId)
-                            .setHttpRequest(requestDefinition)
-                            .setMessageFormat("cleared logs that match:{}")
-                            .setArguments((requestDefinition == null ? "{}" : requestDefinition))
-                    );
+            } else {
+                eventLogIndex.removeIf(matches);
+                eventLog.removeIf(matches);
+            }
+            clearCount++;
+            if (MockServerLogger.isEnabled(Level.INFO)) {
+                // added directly, as this is the ring buffer thread, so it is before any entry added after calling clear
+                processLogEntry(
+                    new LogEntry()
+                        .setType(CLEARED)
+                        .setLogLevel(Level.INFO)
+                        .setPort(port)
+                        .setCorrelationId(logCorrelationId)
+                        .setHttpRequest(requestDefinition)
+                        .setMessageFormat("cleared logs that match:{}")
+                        .setArguments((requestDefinition == null ? "{}" : requestDefinition))
+                );
+            }
+        });
+    }
+
+    private CompletableFuture<Void> update(Runnable update) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        disruptor.publishEvent(new LogEntry()
+            .setType(RUNNABLE)
+            .setConsumer(() -> {
+                try {
+                    update.run();
+                    result.complete(null);
+                } catch (Throwable throwable) {
+                    result.completeExceptionally(throwable);
                 }
-                future.complete("done");
                 notifyListeners(this, false);
             })
         );
-        try {
-            future.get(2, SECONDS);
-        } catch (ExecutionException | InterruptedException | TimeoutException ignore) {
-        }
+        return result;
     }
 
-    public void retrieveMessageLogEntries(RequestDefinition requestDefinition, Consumer<List<LogEntry>> listConsumer) {
-        retrieveLogEntries(
+    public CompletableFuture<Void> retrieveMessageLogEntries(RequestDefinition requestDefinition, Consumer<List<LogEntry>> listConsumer) {
+        return retrieveLogEntries(
             requestDefinition,
             notDeletedPredicate,
             (Stream<LogEntry> logEventStream) -> listConsumer.accept(logEventStream.filter(Objects::nonNull).collect(Collectors.toList()))
         );
     }
 
-    public void retrieveMessageLogEntriesIncludingDeleted(RequestDefinition requestDefinition, Consumer<List<LogEntry>> listConsumer) {
-        retrieveLogEntries(
+    public CompletableFuture<Void> retrieveMessageLogEntriesIncludingDeleted(RequestDefinition requestDefinition, Consumer<List<LogEntry>> listConsumer) {
+        return retrieveLogEntries(
             requestDefinition,
             allPredicate,
             (Stream<LogEntry> logEventStream) -> listConsumer.accept(logEventStream.filter(Objects::nonNull).collect(Collectors.toList()))
         );
     }
 
-    public void retrieveRequestLogEntries(RequestDefinition requestDefinition, Consumer<List<LogEntry>> listConsumer) {
-        retrieveLogEntries(
+    public CompletableFuture<Void> retrieveRequestLogEntries(RequestDefinition requestDefinition, Consumer<List<LogEntry>> listConsumer) {
+        return retrieveLogEntries(
             requestDefinition,
             requestLogPredicate,
             (Stream<LogEntry> logEventStream) -> listConsumer.accept(logEventStream.filter(Objects::nonNull).collect(Collectors.toList()))
         );
     }
 
-    public void retrieveRequests(RequestDefinition requestDefinition, Consumer<List<RequestDefinition>> listConsumer) {
-        retrieveLogEntries(
+    public CompletableFuture<Void> retrieveRequests(RequestDefinition requestDefinition, Consumer<List<RequestDefinition>> listConsumer) {
+        return retrieveLogEntries(
             requestDefinition,
             requestLogPredicate,
             logEntryToRequest,
@@ -272,16 +345,16 @@ public class MockServerEventLog extends MockServerEventLogNotifier {
         );
     }
 
-    public void retrieveRequestResponseMessageLogEntries(RequestDefinition requestDefinition, Consumer<List<LogEntry>> listConsumer) {
-        retrieveLogEntries(
+    public CompletableFuture<Void> retrieveRequestResponseMessageLogEntries(RequestDefinition requestDefinition, Consumer<List<LogEntry>> listConsumer) {
+        return retrieveLogEntries(
             requestDefinition,
             requestResponseLogPredicate,
             (Stream<LogEntry> logEventStream) -> listConsumer.accept(logEventStream.filter(Objects::nonNull).collect(Collectors.toList()))
         );
     }
 
-    public void retrieveRequestResponses(RequestDefinition requestDefinition, Consumer<List<LogEventRequestAndResponse>> listConsumer) {
-        retrieveLogEntries(
+    public CompletableFuture<Void> retrieveRequestResponses(RequestDefinition requestDefinition, Consumer<List<LogEventRequestAndResponse>> listConsumer) {
+        return retrieveLogEntries(
             requestDefinition,
             requestResponseLogPredicate,
             logEntryToHttpRequestAndHttpResponse,
@@ -289,16 +362,16 @@ public class MockServerEventLog extends MockServerEventLogNotifier {
         );
     }
 
-    public void retrieveRecordedExpectationLogEntries(RequestDefinition requestDefinition, Consumer<List<LogEntry>> listConsumer) {
-        retrieveLogEntries(
+    public CompletableFuture<Void> retrieveRecordedExpectationLogEntries(RequestDefinition requestDefinition, Consumer<List<LogEntry>> listConsumer) {
+        return retrieveLogEntries(
             requestDefinition,
             recordedExpectationLogPredicate,
             (Stream<LogEntry> logEventStream) -> listConsumer.accept(logEventStream.filter(Objects::nonNull).collect(Collectors.toList()))
         );
     }
 
-    public void retrieveRecordedExpectations(RequestDefinition requestDefinition, Consumer<List<Expectation>> listConsumer) {
-        retrieveLogEntries(
+    public CompletableFuture<Void> retrieveRecordedExpectations(RequestDefinition requestDefinition, Consumer<List<Expectation>> listConsumer) {
+        return retrieveLogEntries(
             requestDefinition,
             recordedExpectationLogPredicate,
             logEntryToExpectation,
@@ -306,50 +379,106 @@ public class MockServerEventLog extends MockServerEventLogNotifier {
         );
     }
 
-    private void retrieveLogEntries(RequestDefinition requestDefinition, Predicate<LogEntry> logEntryPredicate, Consumer<Stream<LogEntry>> consumer) {
+    private CompletableFuture<Void> retrieveLogEntries(RequestDefinition requestDefinition, Predicate<LogEntry> logEntryPredicate, Consumer<Stream<LogEntry>> consumer) {
+        return query(() -> logEntries(requestDefinition, logEntryPredicate), logEntries -> {
+            HttpRequestMatcher httpRequestMatcher = matcherBuilder.transformsToMatcher(requestDefinition);
+            consumer.accept(logEntries
+                .filter(logEntryPredicate)
+                .filter(logItem -> logItem.matches(httpRequestMatcher))
+            );
+        });
+    }
+
+    private <T> CompletableFuture<Void> retrieveLogEntries(RequestDefinition requestDefinition, Predicate<LogEntry> logEntryPredicate, Function<LogEntry, T> logEntryMapper, Consumer<Stream<T>> consumer) {
+        RequestDefinition requestDefinitionMatcher = requestDefinition != null ? requestDefinition : request().withLogCorrelationId(UUIDService.getUUID());
+        return query(() -> logEntries(requestDefinitionMatcher, logEntryPredicate), logEntries -> {
+            HttpRequestMatcher httpRequestMatcher = matcherBuilder.transformsToMatcher(requestDefinitionMatcher);
+            consumer.accept(logEntries
+                .filter(logEntryPredicate)
+                .filter(logItem -> logItem.matches(httpRequestMatcher))
+                .map(logEntryMapper)
+            );
+        });
+    }
+
+    /**
+     * the snapshot is taken on the ring buffer thread, so a query includes every log entry added before it and none
+     * added after it, but the query itself runs on a separate executor so slow queries don't delay log entries being
+     * added (or cause them to be dropped when the ring buffer is full); the snapshot must be cheap to take and lazily
+     * read, i.e. a stream over the log or an index, and not evaluate the query; the returned future is completed once
+     * the query has run, or exceptionally if taking the snapshot or running the query fails
+     */
+    private <T> CompletableFuture<Void> query(Supplier<T> snapshot, Consumer<T> query) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
         disruptor.publishEvent(new LogEntry()
             .setType(RUNNABLE)
             .setConsumer(() -> {
-                HttpRequestMatcher httpRequestMatcher = matcherBuilder.transformsToMatcher(requestDefinition);
-                consumer.accept(this.eventLog
-                    .stream()
-                    .filter(logItem -> logItem.matches(httpRequestMatcher))
-                    .filter(logEntryPredicate)
-                );
+                queriesInProgress.incrementAndGet();
+                try {
+                    T logEntries = snapshot.get();
+                    queryExecutor.execute(() -> {
+                        try {
+                            query.accept(logEntries);
+                        } catch (Throwable throwable) {
+                            result.completeExceptionally(throwable);
+                        } finally {
+                            queriesInProgress.decrementAndGet();
+                            result.complete(null);
+                        }
+                    });
+                } catch (Throwable throwable) {
+                    queriesInProgress.decrementAndGet();
+                    result.completeExceptionally(throwable);
+                }
             })
         );
+        return result;
     }
 
-    private <T> void retrieveLogEntries(RequestDefinition requestDefinition, Predicate<LogEntry> logEntryPredicate, Function<LogEntry, T> logEntryMapper, Consumer<Stream<T>> consumer) {
-        disruptor.publishEvent(new LogEntry()
-            .setType(RUNNABLE)
-            .setConsumer(() -> {
-                RequestDefinition requestDefinitionMatcher = requestDefinition != null ? requestDefinition : request().withLogCorrelationId(UUIDService.getUUID());
-                HttpRequestMatcher httpRequestMatcher = matcherBuilder.transformsToMatcher(requestDefinitionMatcher);
-                consumer.accept(this.eventLog
-                    .stream()
+    /**
+     * uses the secondary indexes, if the predicate is for one of the indexed log message types, to reduce the log entries
+     * the request matcher is evaluated against, the predicate must still be applied to the returned entries
+     */
+    private Stream<LogEntry> logEntries(RequestDefinition requestDefinition, Predicate<LogEntry> logEntryPredicate) {
+        if (logEntryPredicate == requestLogPredicate) {
+            return eventLogIndex.requestLog(requestDefinition);
+        } else if (logEntryPredicate == requestResponseLogPredicate) {
+            return eventLogIndex.requestResponseLog();
+        } else if (logEntryPredicate == recordedExpectationLogPredicate) {
+            return eventLogIndex.recordedExpectationLog();
+        } else {
+            return eventLog.stream();
+        }
+    }
+
+    /**
+     * the number of times entries have been removed, or marked as deleted, by reset or clear, so readers of incremental
+     * updates can tell when entries they have already read are no longer valid
+     */
+    public long clearCount() {
+        return clearCount;
+    }
+
+    /**
+     * retrieves only the entries added since fromSequence (newest first), the consumer is also passed the sequence to
+     * use for the next incremental retrieval, use zero to retrieve all entries
+     */
+    public <T> CompletableFuture<Void> retrieveLogEntriesInReverseForUI(RequestDefinition requestDefinition, long fromSequence, Predicate<LogEntry> logEntryPredicate, Function<LogEntry, T> logEntryMapper, BiConsumer<Stream<T>, Long> consumer) {
+        return query(() -> this.eventLog.snapshot(fromSequence), snapshot -> {
+            HttpRequestMatcher httpRequestMatcher = matcherBuilder.transformsToMatcher(requestDefinition);
+            consumer.accept(
+                StreamSupport
+                    .stream(Spliterators.spliteratorUnknownSize(snapshot.descendingIterator(), 0), false)
                     .filter(logItem -> logItem.matches(httpRequestMatcher))
                     .filter(logEntryPredicate)
-                    .map(logEntryMapper)
-                );
-            })
-        );
+                    .map(logEntryMapper),
+                snapshot.toSequence()
+            );
+        });
     }
 
-    public <T> void retrieveLogEntriesInReverseForUI(RequestDefinition requestDefinition, Predicate<LogEntry> logEntryPredicate, Function<LogEntry, T> logEntryMapper, Consumer<Stream<T>> consumer) {
-        disruptor.publishEvent(new LogEntry()
-            .setType(RUNNABLE)
-            .setConsumer(() -> {
-                HttpRequestMatcher httpRequestMatcher = matcherBuilder.transformsToMatcher(requestDefinition);
-                consumer.accept(
-                    StreamSupport
-                        .stream(Spliterators.spliteratorUnknownSize(this.eventLog.descendingIterator(), 0), false)
-                        .filter(logItem -> logItem.matches(httpRequestMatcher))
-                        .filter(logEntryPredicate)
-                        .map(logEntryMapper)
-                );
-            })
-        );
+    public <T> CompletableFuture<Void> retrieveLogEntriesInReverseForUI(RequestDefinition requestDefinition, Predicate<LogEntry> logEntryPredicate, Function<LogEntry, T> logEntryMapper, Consumer<Stream<T>> consumer) {
+        return retrieveLogEntriesInReverseForUI(requestDefinition, 0, logEntryPredicate, logEntryMapper, (logEntries, nextSequence) -> consumer.accept(logEntries));
     }
 
     public Future<String> verify(Verification verification) {
@@ -398,6 +527,10 @@ public class MockServerEventLog extends MockServerEventLogNotifier {
                                 );
                             }
                             resultConsumer.accept(failureMessage);
+                        }).whenComplete((ignore, throwable) -> {
+                            if (throwable != null) {
+                                verificationException(logCorrelationId, "verification", verification, throwable, resultConsumer);
+                            }
                         });
                     } else {
                         if (MockServerLogger.isEnabled(Level.INFO)) {
@@ -414,15 +547,11 @@ public class MockServerEventLog extends MockServerEventLogNotifier {
                         resultConsumer.accept("");
                     }
                 } catch (Throwable throwable) {
-                    mockServerLogger.logEvent(
-                        new LogEntry()
-                            .setType(EXCEPTION)
-                            .setCorrelationId(logCorrelationId)
-                            .setMessageFormat("exception:{} while processing verification:{}")
-                            .setArguments(throwable.getMessage(), verification)
-                            .setThrowable(throwable)
-                    );
-                    resultConsumer.accept("exception while processing verification" + (isNotBlank(throwable.getMessage()) ? " " + throwable.getMessage() : ""));
+                    verificationException(logCorrelationId, "verification", verification, throwable, resultConsumer);
+                }
+            }).whenComplete((ignore, throwable) -> {
+                if (throwable != null) {
+                    verificationException(logCorrelationId, "verification", verification, throwable, resultConsumer);
                 }
             });
         } else {
@@ -505,19 +634,27 @@ public class MockServerEventLog extends MockServerEventLogNotifier {
                     resultConsumer.accept("");
                 }
             } catch (Throwable throwable) {
-                mockServerLogger.logEvent(
-                    new LogEntry()
-                        .setType(EXCEPTION)
-                        .setCorrelationId(logCorrelationId)
-                        .setMessageFormat("exception:{} while processing verification sequence:{}")
-                        .setArguments(throwable.getMessage(), verificationSequence)
-                        .setThrowable(throwable)
-                );
-                resultConsumer.accept("exception while processing verification sequence" + (isNotBlank(throwable.getMessage()) ? " " + throwable.getMessage() : ""));
+                verificationException(logCorrelationId, "verification sequence", verificationSequence, throwable, resultConsumer);
+            }
+        }).whenComplete((ignore, throwable) -> {
+            if (throwable != null) {
+                verificationException(logCorrelationId, "verification sequence", verificationSequence, throwable, resultConsumer);
             }
         });
     }
 
+    private void verificationException(String logCorrelationId, String verificationType, Object verification, Throwable throwable, Consumer<String> resultConsumer) {
+        mockServerLogger.logEvent(
+            new LogEntry()
+                .setType(EXCEPTION)
+                .setCorrelationId(logCorrelationId)
+                .setMessageFormat("exception:{} while processing " + verificationType + ":{}")
+                .setArguments(throwable.getMessage(), verification)
+                .setThrowable(throwable)
+        );
+        resultConsumer.accept("exception while processing " + verificationType + (isNotBlank(throwable.getMessage()) ? " " + throwable.getMessage() : ""));
+    }
+
     protected String[] fieldsExcludedFromEqualsAndHashCode() {
         return EXCLUDED_FIELDS;
     }
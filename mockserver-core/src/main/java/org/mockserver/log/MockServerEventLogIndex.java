@@ -0,0 +1,203 @@
+package org.mockserver.log;
+
+import org.mockserver.collections.CircularArrayBuffer;
+import org.mockserver.log.model.LogEntry;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.model.NottableSchemaString;
+import org.mockserver.model.NottableString;
+import org.mockserver.model.RequestDefinition;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static org.mockserver.log.model.LogEntry.LogMessageType.*;
+import static org.mockserver.mock.HttpRequestMatcherIndex.isLiteral;
+
+/**
+ * Secondary indexes over the event log, used so request, request and response, and recorded expectation queries only
+ * evaluate request matchers against log entries of the relevant types.
+ * <p>
+ * Received requests are also indexed by path, so a query for a literal path only evaluates the received requests with
+ * the same path (ignoring case) plus any received requests whose path can't be indexed (i.e. blank, regex, notted
+ * or with path parameters) because control plane matching also treats the logged path as a regex.
+ * <p>
+ * Entries must be added, removed and evicted in the same order as the event log and writes must be serialised,
+ * reads are lock free and only return entries present when the read started, so can run concurrently with writes.
+ */
+class MockServerEventLogIndex {
+
+    private static final int PATH_INITIAL_CAPACITY = 8;
+    private final int maxSize;
+    private final CircularArrayBuffer<LogEntry> requestLog;
+    private final CircularArrayBuffer<LogEntry> requestResponseLog;
+    private final CircularArrayBuffer<LogEntry> recordedExpectationLog;
+    private final CircularArrayBuffer<IndexedLogEntry> unindexedRequestLog;
+    private final ConcurrentMap<String, CircularArrayBuffer<IndexedLogEntry>> requestLogByPath = new ConcurrentHashMap<>();
+    private long sequence;
+
+    MockServerEventLogIndex(int maxSize) {
+        this.maxSize = maxSize;
+        this.requestLog = new CircularArrayBuffer<>(maxSize, null);
+        this.requestResponseLog = new CircularArrayBuffer<>(maxSize, null);
+        this.recordedExpectationLog = new CircularArrayBuffer<>(maxSize, null);
+        this.unindexedRequestLog = new CircularArrayBuffer<>(maxSize, PATH_INITIAL_CAPACITY, null);
+    }
+
+    void add(LogEntry logEntry) {
+        if (logEntry.getType() == RECEIVED_REQUEST) {
+            requestLog.add(logEntry);
+            IndexedLogEntry indexedLogEntry = new IndexedLogEntry(sequence++, logEntry);
+            String pathKey = pathKey(logEntry);
+            if (pathKey != null) {
+                requestLogByPath
+                    .computeIfAbsent(pathKey, path -> new CircularArrayBuffer<>(maxSize, PATH_INITIAL_CAPACITY, null))
+                    .add(indexedLogEntry);
+            } else {
+                unindexedRequestLog.add(indexedLogEntry);
+            }
+        } else if (logEntry.getType() == EXPECTATION_RESPONSE || logEntry.getType() == NO_MATCH_RESPONSE) {
+            requestResponseLog.add(logEntry);
+        } else if (logEntry.getType() == FORWARDED_REQUEST) {
+            requestResponseLog.add(logEntry);
+            recordedExpectationLog.add(logEntry);
+        }
+    }
+
+    /**
+     * must be called for each entry evicted from the event log, in eviction order, before the entry is cleared
+     */
+    void evicted(LogEntry logEntry) {
+        Predicate<LogEntry> evicted = entry -> entry == logEntry;
+        if (logEntry.getType() == RECEIVED_REQUEST) {
+            requestLog.removeOldestIf(evicted);
+            String pathKey = pathKey(logEntry);
+            if (pathKey != null) {
+                requestLogByPath.computeIfPresent(pathKey, (path, indexedLogEntries) -> {
+                    indexedLogEntries.removeOldestIf(indexedLogEntry -> indexedLogEntry.logEntry == logEntry);
+                    return indexedLogEntries.isEmpty() ? null : indexedLogEntries;
+                });
+            } else {
+                unindexedRequestLog.removeOldestIf(indexedLogEntry -> indexedLogEntry.logEntry == logEntry);
+            }
+        } else if (logEntry.getType() == EXPECTATION_RESPONSE || logEntry.getType() == NO_MATCH_RESPONSE) {
+            requestResponseLog.removeOldestIf(evicted);
+        } else if (logEntry.getType() == FORWARDED_REQUEST) {
+            requestResponseLog.removeOldestIf(evicted);
+            recordedExpectationLog.removeOldestIf(evicted);
+        }
+    }
+
+    /**
+     * must be called before the matching entries are removed from the event log
+     */
+    void removeIf(Predicate<LogEntry> predicate) {
+        requestLog.removeIf(predicate);
+        requestResponseLog.removeIf(predicate);
+        recordedExpectationLog.removeIf(predicate);
+        unindexedRequestLog.removeIf(indexedLogEntry -> predicate.test(indexedLogEntry.logEntry));
+        for (String pathKey : requestLogByPath.keySet()) {
+            requestLogByPath.computeIfPresent(pathKey, (path, indexedLogEntries) -> {
+                indexedLogEntries.removeIf(indexedLogEntry -> predicate.test(indexedLogEntry.logEntry));
+                return indexedLogEntries.isEmpty() ? null : indexedLogEntries;
+            });
+        }
+    }
+
+    void clear() {
+        requestLog.clear();
+        requestResponseLog.clear();
+        recordedExpectationLog.clear();
+        unindexedRequestLog.clear();
+        requestLogByPath.clear();
+    }
+
+    /**
+     * received requests, in the order they were logged, that could match the request definition, the entries returned
+     * are fixed when this is called but are only merged when the stream is read
+     */
+    Stream<LogEntry> requestLog(RequestDefinition requestDefinition) {
+        String pathKey = pathKey(requestDefinition);
+        if (pathKey != null) {
+            CircularArrayBuffer<IndexedLogEntry> indexedLogEntries = requestLogByPath.get(pathKey);
+            Iterator<IndexedLogEntry> indexedIterator = indexedLogEntries != null ? indexedLogEntries.iterator() : Collections.emptyIterator();
+            Iterator<IndexedLogEntry> unindexedIterator = unindexedRequestLog.iterator();
+            return StreamSupport.stream(() -> merge(indexedIterator, unindexedIterator).spliterator(), Spliterator.ORDERED | Spliterator.NONNULL, false);
+        } else {
+            return requestLog.stream();
+        }
+    }
+
+    Stream<LogEntry> requestResponseLog() {
+        return requestResponseLog.stream();
+    }
+
+    Stream<LogEntry> recordedExpectationLog() {
+        return recordedExpectationLog.stream();
+    }
+
+    int pathCount() {
+        return requestLogByPath.size();
+    }
+
+    private static List<LogEntry> merge(Iterator<IndexedLogEntry> first, Iterator<IndexedLogEntry> second) {
+        List<LogEntry> merged = new ArrayList<>();
+        IndexedLogEntry nextFirst = first.hasNext() ? first.next() : null;
+        IndexedLogEntry nextSecond = second.hasNext() ? second.next() : null;
+        while (nextFirst != null || nextSecond != null) {
+            if (nextSecond == null || (nextFirst != null && nextFirst.sequence < nextSecond.sequence)) {
+                merged.add(nextFirst.logEntry);
+                nextFirst = first.hasNext() ? first.next() : null;
+            } else {
+                merged.add(nextSecond.logEntry);
+                nextSecond = second.hasNext() ? second.next() : null;
+            }
+        }
+        return merged;
+    }
+
+    private static String pathKey(LogEntry logEntry) {
+        RequestDefinition[] httpRequests = logEntry.getHttpRequests();
+        if (httpRequests != null && httpRequests.length == 1 && httpRequests[0] instanceof HttpRequest) {
+            HttpRequest httpRequest = (HttpRequest) httpRequests[0];
+            if (httpRequest.getPathParameters() == null || httpRequest.getPathParameters().isEmpty()) {
+                return pathKey(httpRequest);
+            }
+        }
+        return null;
+    }
+
+    private static String pathKey(RequestDefinition requestDefinition) {
+        if (requestDefinition instanceof HttpRequest && !requestDefinition.isNot()) {
+            NottableString path = ((HttpRequest) requestDefinition).getPath();
+            if (path != null
+                && !(path instanceof NottableSchemaString)
+                && !path.isNot()
+                && !path.isOptional()
+                && !path.isBlank()
+                && isLiteral(path.getValue())) {
+                // literal paths are ASCII so lower case is locale independent
+                return path.getValue().toLowerCase(Locale.ROOT);
+            }
+        }
+        return null;
+    }
+
+    private static class IndexedLogEntry {
+        private final long sequence;
+        private final LogEntry logEntry;
+
+        private IndexedLogEntry(long sequence, LogEntry logEntry) {
+            this.sequence = sequence;
+            this.logEntry = logEntry;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import org.mockserver.configuration.Configuration;
 import org.mockserver.logging.MockServerLogger;
 import org.mockserver.mock.Expectation;
 import org.mockserver.mock.listeners.MockServerMatcherNotifier;
+import org.mockserver.model.HttpRequest;
 import org.mockserver.model.RequestDefinition;
 
 import java.util.Objects;
@@ -75,6 +76,11 @@ public abstract class AbstractHttpRequestMatcher extends NotMatcher<RequestDefin
 
     abstract boolean apply(RequestDefinition requestDefinition);
 
+    /**
+     * the reason the request doesn't match, only calculated when a summary of the expectations that didn't match is displayed
+     */
+    abstract String didNotMatchBecause(HttpRequest request);
+
     @Override
     public boolean matches(RequestDefinition requestDefinition) {
         return matches(null, requestDefinition);
@@ -1,8 +1,18 @@
 package org.mockserver.matchers;
 
+import org.mockserver.model.ParsedBody;
+
 /**
  * @author jamesdbloom
  */
 public abstract class BodyMatcher<MatchedType> extends NotMatcher<MatchedType> {
 
+    /**
+     * matches using the representations of the request body that have already been parsed for other body matchers,
+     * by default the matched value is parsed by the matcher
+     */
+    public boolean matches(MatchDifference context, MatchedType matched, ParsedBody parsedBody) {
+        return matches(context, matched);
+    }
+
 }
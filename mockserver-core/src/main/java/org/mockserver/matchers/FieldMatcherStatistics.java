@@ -0,0 +1,64 @@
+package org.mockserver.matchers;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Static cost estimate and observed selectivity of the matcher for a single request field, fields are evaluated in
+ * order of the expected cost of rejecting a request (i.e. cost divided by the observed failure rate) so that cheap and
+ * selective fields fail fast before expensive body matchers are evaluated
+ */
+class FieldMatcherStatistics {
+
+    static final int TRIVIAL = 1;
+    static final int CHEAP = 2;
+    static final int MODERATE = 4;
+    static final int EXPENSIVE = 20;
+    static final int VERY_EXPENSIVE = 50;
+
+    private final MatchDifference.Field field;
+    private final int cost;
+    private final LongAdder evaluations = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    FieldMatcherStatistics(MatchDifference.Field field, int cost) {
+        this.field = field;
+        this.cost = cost;
+    }
+
+    MatchDifference.Field getField() {
+        return field;
+    }
+
+    int getCost() {
+        return cost;
+    }
+
+    void record(boolean fieldMatches) {
+        evaluations.increment();
+        if (!fieldMatches) {
+            failures.increment();
+        }
+    }
+
+    long getEvaluations() {
+        return evaluations.sum();
+    }
+
+    long getFailures() {
+        return failures.sum();
+    }
+
+    /**
+     * expected cost of rejecting a request by evaluating this field, the failure rate is smoothed so fields that have
+     * not been evaluated yet are ranked on cost alone and a field that has never failed still has a finite rank
+     */
+    double rank() {
+        double failureRate = (getFailures() + 1.0) / (getEvaluations() + 2.0);
+        return cost / failureRate;
+    }
+
+    @Override
+    public String toString() {
+        return field.getName() + "{cost=" + cost + ", evaluations=" + getEvaluations() + ", failures=" + getFailures() + "}";
+    }
+}
@@ -17,14 +17,14 @@ import org.mockserver.serialization.deserializers.body.StrictBodyDTODeserializer
 import org.mockserver.serialization.model.BodyDTO;
 import org.slf4j.event.Level;
 
-import java.util.Collections;
-import java.util.List;
-import java.util.Objects;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.mockserver.character.Character.NEW_LINE;
 import static org.mockserver.log.model.LogEntry.LogMessageType.EXPECTATION_MATCHED;
 import static org.mockserver.log.model.LogEntry.LogMessageType.EXPECTATION_NOT_MATCHED;
+import static org.mockserver.matchers.FieldMatcherStatistics.*;
 import static org.mockserver.matchers.MatchDifference.Field.*;
 import static org.mockserver.model.NottableString.string;
 
@@ -34,13 +34,14 @@ import static org.mockserver.model.NottableString.string;
 @SuppressWarnings("rawtypes")
 public class HttpRequestPropertiesMatcher extends AbstractHttpRequestMatcher {
 
-    private static final String[] excludedFields = {"mockServerLogger", "methodMatcher", "pathMatcher", "pathParameterMatcher", "queryStringParameterMatcher", "bodyMatcher", "headerMatcher", "cookieMatcher", "keepAliveMatcher", "bodyDTOMatcher", "sslMatcher", "controlPlaneMatcher", "responseInProgress", "objectMapper"};
+    private static final String[] excludedFields = {"mockServerLogger", "methodMatcher", "pathMatcher", "pathParameterMatcher", "queryStringParameterMatcher", "bodyMatcher", "headerMatcher", "cookieMatcher", "keepAliveMatcher", "bodyDTOMatcher", "sslMatcher", "controlPlaneMatcher", "responseInProgress", "objectMapper", "fieldMatcherStatistics", "fieldEvaluationOrder", "adaptiveMatchCount"};
     private static final String COMMA = ",";
     private static final String REQUEST_NOT_OPERATOR_IS_ENABLED = COMMA + NEW_LINE + "request 'not' operator is enabled";
     private static final String EXPECTATION_REQUEST_NOT_OPERATOR_IS_ENABLED = COMMA + NEW_LINE + "expectation's request 'not' operator is enabled";
     private static final String EXPECTATION_REQUEST_MATCHER_NOT_OPERATOR_IS_ENABLED = COMMA + NEW_LINE + "expectation's request matcher 'not' operator is enabled";
     private static final PathParametersDecoder pathParametersParser = new PathParametersDecoder();
     private static final ObjectWriter TO_STRING_OBJECT_WRITER = ObjectMapperFactory.createObjectMapper(true, false);
+    private static final int REORDER_FIELDS_INTERVAL = 64;
     private final ExpandedParameterDecoder expandedParameterDecoder;
     private int hashCode;
     private HttpRequest httpRequest;
@@ -57,6 +58,9 @@ public class HttpRequestPropertiesMatcher extends AbstractHttpRequestMatcher {
     private ObjectMapper objectMapperWithStrictBodyDTODeserializer;
     private JsonSchemaBodyDecoder jsonSchemaBodyParser;
     private MatcherBuilder matcherBuilder;
+    private FieldMatcherStatistics[] fieldMatcherStatistics;
+    private volatile FieldMatcherStatistics[] fieldEvaluationOrder;
+    private final AtomicLong adaptiveMatchCount = new AtomicLong();
 
     public HttpRequestPropertiesMatcher(Configuration configuration, MockServerLogger mockServerLogger) {
         super(configuration, mockServerLogger);
@@ -90,6 +94,19 @@ public class HttpRequestPropertiesMatcher extends AbstractHttpRequestMatcher {
                 withKeepAlive(httpRequest.isKeepAlive());
                 withSsl(httpRequest.isSecure());
                 this.jsonSchemaBodyParser = new JsonSchemaBodyDecoder(configuration, mockServerLogger, expectation, httpRequest);
+                // canonical order, used whenever match differences are reported
+                this.fieldMatcherStatistics = new FieldMatcherStatistics[]{
+                    new FieldMatcherStatistics(METHOD, CHEAP),
+                    new FieldMatcherStatistics(PATH, CHEAP),
+                    new FieldMatcherStatistics(BODY, bodyMatcherCost(bodyMatcher)),
+                    new FieldMatcherStatistics(HEADERS, MODERATE),
+                    new FieldMatcherStatistics(COOKIES, MODERATE),
+                    new FieldMatcherStatistics(PATH_PARAMETERS, MODERATE),
+                    new FieldMatcherStatistics(QUERY_PARAMETERS, MODERATE),
+                    new FieldMatcherStatistics(KEEP_ALIVE, TRIVIAL),
+                    new FieldMatcherStatistics(SSL_MATCHES, TRIVIAL)
+                };
+                this.fieldEvaluationOrder = sortByRank(fieldMatcherStatistics);
             }
             return true;
         } else {
@@ -198,7 +215,9 @@ public class HttpRequestPropertiesMatcher extends AbstractHttpRequestMatcher {
     public boolean matches(final MatchDifference context, final RequestDefinition requestDefinition) {
         if (requestDefinition instanceof HttpRequest) {
             HttpRequest request = (HttpRequest) requestDefinition;
-            StringBuilder becauseBuilder = new StringBuilder();
+            // when match failures are summarised the reason is only calculated if the summary is displayed
+            boolean summariseMatchFailures = !controlPlaneMatcher && configuration.matchFailureSummaryCandidates() > 0;
+            StringBuilder becauseBuilder = summariseMatchFailures ? null : new StringBuilder();
             boolean overallMatch = matches(context, request, becauseBuilder);
             if (!controlPlaneMatcher) {
                 if (overallMatch) {
@@ -214,7 +233,7 @@ public class HttpRequestPropertiesMatcher extends AbstractHttpRequestMatcher {
                                 .setArguments(request, (this.expectation == null ? this : this.expectation.clone()))
                         );
                     }
-                } else {
+                } else if (becauseBuilder != null) {
                     becauseBuilder.replace(0, 1, "");
                     String because = becauseBuilder.toString();
                     if (MockServerLogger.isEnabled(Level.INFO)) {
@@ -259,85 +278,202 @@ public class HttpRequestPropertiesMatcher extends AbstractHttpRequestMatcher {
             } else {
                 MatchDifferenceCount matchDifferenceCount = new MatchDifferenceCount(request);
                 if (request != null) {
-                    boolean methodMatches = StringUtils.isBlank(request.getMethod().getValue()) || matches(METHOD, context, methodMatcher, request.getMethod());
-                    if (failFast(methodMatcher, context, matchDifferenceCount, becauseBuilder, methodMatches, METHOD)) {
-                        return false;
-                    }
-
-                    boolean pathMatches = StringUtils.isBlank(request.getPath().getValue()) || matches(PATH, context, pathMatcher, controlPlaneMatcher ? pathParametersParser.normalisePathWithParametersForMatching(request) : request.getPath());
-                    Parameters pathParameters = null;
+                    // fields are only reordered when the result doesn't depend on which field fails first and no match differences are being reported
+                    boolean adaptiveFieldOrder = context == null && !controlPlaneMatcher && configuration.matchersFailFast() && !request.isNot() && !this.httpRequest.isNot() && !not;
+                    FieldMatcherStatistics[] evaluationOrder = adaptiveFieldOrder ? fieldEvaluationOrder() : fieldMatcherStatistics;
+                    Map<MatchDifference.Field, StringBuilder> becauseByField = adaptiveFieldOrder && becauseBuilder != null ? new EnumMap<>(MatchDifference.Field.class) : null;
+                    PathParametersExtraction pathParametersExtraction = new PathParametersExtraction(request);
                     try {
-                        pathParameters = controlPlaneMatcher ? pathParametersParser.extractPathParameters(request, httpRequest) : pathParametersParser.extractPathParameters(httpRequest, request);
-                    } catch (IllegalArgumentException iae) {
-                        if (!httpRequest.getPath().isBlank()) {
-                            if (context != null) {
-                                context.currentField(PATH);
-                                context.addDifference(mockServerLogger, iae.getMessage());
+                        for (FieldMatcherStatistics statistics : evaluationOrder) {
+                            MatchDifference.Field field = statistics.getField();
+                            boolean fieldMatches = fieldMatches(field, context, request, pathParametersExtraction);
+                            statistics.record(fieldMatches);
+                            StringBuilder fieldBecauseBuilder = becauseBuilder;
+                            if (becauseByField != null) {
+                                fieldBecauseBuilder = new StringBuilder();
+                                becauseByField.put(field, fieldBecauseBuilder);
+                            }
+                            if (failFast(fieldMatcher(field), context, matchDifferenceCount, fieldBecauseBuilder, fieldMatches, field)) {
+                                return false;
+                            }
+                        }
+                    } finally {
+                        if (becauseByField != null) {
+                            // report fields in canonical order irrespective of the order they were evaluated
+                            for (FieldMatcherStatistics statistics : fieldMatcherStatistics) {
+                                StringBuilder fieldBecauseBuilder = becauseByField.get(statistics.getField());
+                                if (fieldBecauseBuilder != null) {
+                                    becauseBuilder.append(fieldBecauseBuilder);
+                                }
                             }
-                            pathMatches = false;
                         }
-                    }
-                    if (failFast(pathMatcher, context, matchDifferenceCount, becauseBuilder, pathMatches, PATH)) {
-                        return false;
-                    }
-
-                    boolean bodyMatches = bodyMatches(context, request);
-                    if (failFast(bodyMatcher, context, matchDifferenceCount, becauseBuilder, bodyMatches, BODY)) {
-                        return false;
                     }
 
-                    boolean headersMatch = matches(HEADERS, context, headerMatcher, request.getHeaders());
-                    if (failFast(headerMatcher, context, matchDifferenceCount, becauseBuilder, headersMatch, HEADERS)) {
-                        return false;
-                    }
+                    return combinedResultAreTrue(matchDifferenceCount.getFailures() == 0, request.isNot(), this.httpRequest.isNot(), not);
+                } else {
+                    return combinedResultAreTrue(true, this.httpRequest.isNot(), not);
+                }
+            }
+        }
+        return false;
+    }
 
-                    boolean cookiesMatch = matches(COOKIES, context, cookieMatcher, request.getCookies());
-                    if (failFast(cookieMatcher, context, matchDifferenceCount, becauseBuilder, cookiesMatch, COOKIES)) {
-                        return false;
-                    }
+    @Override
+    String didNotMatchBecause(HttpRequest request) {
+        StringBuilder becauseBuilder = new StringBuilder();
+        matches(new MatchDifference(configuration.detailedMatchFailures(), request), request, becauseBuilder);
+        return becauseBuilder.length() > 0 ? becauseBuilder.substring(1) : "";
+    }
 
-                    boolean pathParametersMatches = true;
-                    if (!httpRequest.getPath().isBlank()) {
-                        if (!controlPlaneMatcher) {
-                            expandedParameterDecoder.splitParameters(httpRequest.getPathParameters(), request.getPathParameters());
-                        }
-                        MultiValueMapMatcher pathParameterMatcher = controlPlaneMatcher ? new MultiValueMapMatcher(mockServerLogger, request.getPathParameters(), controlPlaneMatcher) : this.pathParameterMatcher;
-                        pathParametersMatches = matches(PATH_PARAMETERS, context, pathParameterMatcher, pathParameters);
-                    }
-                    if (failFast(pathParameterMatcher, context, matchDifferenceCount, becauseBuilder, pathParametersMatches, PATH_PARAMETERS)) {
-                        return false;
+    private boolean fieldMatches(MatchDifference.Field field, MatchDifference context, HttpRequest request, PathParametersExtraction pathParametersExtraction) {
+        switch (field) {
+            case METHOD:
+                return StringUtils.isBlank(request.getMethod().getValue()) || matches(METHOD, context, methodMatcher, request.getMethod());
+            case PATH:
+                boolean pathMatches = StringUtils.isBlank(request.getPath().getValue()) || matches(PATH, context, pathMatcher, controlPlaneMatcher ? pathParametersParser.normalisePathWithParametersForMatching(request) : request.getPath());
+                IllegalArgumentException pathParametersException = pathParametersExtraction.getException();
+                if (pathParametersException != null && !httpRequest.getPath().isBlank()) {
+                    if (context != null) {
+                        context.currentField(PATH);
+                        context.addDifference(mockServerLogger, pathParametersException.getMessage());
                     }
-
+                    pathMatches = false;
+                }
+                return pathMatches;
+            case BODY:
+                return bodyMatches(context, request);
+            case HEADERS:
+                return matches(HEADERS, context, headerMatcher, request.getHeaders());
+            case COOKIES:
+                return matches(COOKIES, context, cookieMatcher, request.getCookies());
+            case PATH_PARAMETERS:
+                boolean pathParametersMatches = true;
+                if (!httpRequest.getPath().isBlank()) {
+                    Parameters pathParameters = pathParametersExtraction.getPathParameters();
                     if (!controlPlaneMatcher) {
-                        expandedParameterDecoder.splitParameters(httpRequest.getQueryStringParameters(), request.getQueryStringParameters());
-                    }
-                    boolean queryStringParametersMatches = matches(QUERY_PARAMETERS, context, queryStringParameterMatcher, request.getQueryStringParameters());
-                    if (failFast(queryStringParameterMatcher, context, matchDifferenceCount, becauseBuilder, queryStringParametersMatches, QUERY_PARAMETERS)) {
-                        return false;
+                        expandedParameterDecoder.splitParameters(httpRequest.getPathParameters(), request.getPathParameters());
                     }
+                    MultiValueMapMatcher pathParameterMatcher = controlPlaneMatcher ? new MultiValueMapMatcher(mockServerLogger, request.getPathParameters(), controlPlaneMatcher) : this.pathParameterMatcher;
+                    pathParametersMatches = matches(PATH_PARAMETERS, context, pathParameterMatcher, pathParameters);
+                }
+                return pathParametersMatches;
+            case QUERY_PARAMETERS:
+                if (!controlPlaneMatcher) {
+                    expandedParameterDecoder.splitParameters(httpRequest.getQueryStringParameters(), request.getQueryStringParameters());
+                }
+                return matches(QUERY_PARAMETERS, context, queryStringParameterMatcher, request.getQueryStringParameters());
+            case KEEP_ALIVE:
+                return matches(KEEP_ALIVE, context, keepAliveMatcher, request.isKeepAlive());
+            case SSL_MATCHES:
+                return matches(SSL_MATCHES, context, sslMatcher, request.isSecure());
+            default:
+                return true;
+        }
+    }
 
-                    boolean keepAliveMatches = matches(KEEP_ALIVE, context, keepAliveMatcher, request.isKeepAlive());
-                    if (failFast(keepAliveMatcher, context, matchDifferenceCount, becauseBuilder, keepAliveMatches, KEEP_ALIVE)) {
-                        return false;
-                    }
+    private Matcher<?> fieldMatcher(MatchDifference.Field field) {
+        switch (field) {
+            case METHOD:
+                return methodMatcher;
+            case PATH:
+                return pathMatcher;
+            case BODY:
+                return bodyMatcher;
+            case HEADERS:
+                return headerMatcher;
+            case COOKIES:
+                return cookieMatcher;
+            case PATH_PARAMETERS:
+                return pathParameterMatcher;
+            case QUERY_PARAMETERS:
+                return queryStringParameterMatcher;
+            case KEEP_ALIVE:
+                return keepAliveMatcher;
+            case SSL_MATCHES:
+                return sslMatcher;
+            default:
+                return null;
+        }
+    }
 
-                    boolean sslMatches = matches(SSL_MATCHES, context, sslMatcher, request.isSecure());
-                    if (failFast(sslMatcher, context, matchDifferenceCount, becauseBuilder, sslMatches, SSL_MATCHES)) {
-                        return false;
-                    }
+    /**
+     * the fields ordered by expected cost of rejecting a request, the order is periodically recalculated from the
+     * observed failure rate of each field
+     */
+    private FieldMatcherStatistics[] fieldEvaluationOrder() {
+        FieldMatcherStatistics[] evaluationOrder = this.fieldEvaluationOrder;
+        if (adaptiveMatchCount.incrementAndGet() % REORDER_FIELDS_INTERVAL == 0) {
+            evaluationOrder = sortByRank(fieldMatcherStatistics);
+            this.fieldEvaluationOrder = evaluationOrder;
+        }
+        return evaluationOrder;
+    }
 
-                    return combinedResultAreTrue(matchDifferenceCount.getFailures() == 0, request.isNot(), this.httpRequest.isNot(), not);
-                } else {
-                    return combinedResultAreTrue(true, this.httpRequest.isNot(), not);
+    private static FieldMatcherStatistics[] sortByRank(FieldMatcherStatistics[] fieldMatcherStatistics) {
+        // rank is snapshot before sorting as statistics are updated concurrently
+        Map<FieldMatcherStatistics, Double> ranks = new IdentityHashMap<>();
+        for (FieldMatcherStatistics statistics : fieldMatcherStatistics) {
+            ranks.put(statistics, statistics.rank());
+        }
+        FieldMatcherStatistics[] evaluationOrder = fieldMatcherStatistics.clone();
+        Arrays.sort(evaluationOrder, Comparator.comparingDouble(ranks::get));
+        return evaluationOrder;
+    }
+
+    private static int bodyMatcherCost(BodyMatcher<?> bodyMatcher) {
+        if (bodyMatcher == null) {
+            return TRIVIAL;
+        } else if (bodyMatcher instanceof BinaryMatcher || bodyMatcher instanceof ExactStringMatcher || bodyMatcher instanceof SubStringMatcher) {
+            return MODERATE;
+        } else if (bodyMatcher instanceof RegexStringMatcher || bodyMatcher instanceof ParameterStringMatcher) {
+            return EXPENSIVE;
+        } else {
+            // json, json path, json schema, xml, xpath and xml schema all parse the body
+            return VERY_EXPENSIVE;
+        }
+    }
+
+    /**
+     * path parameters are extracted once and used when matching both the path and the path parameters
+     */
+    private class PathParametersExtraction {
+        private final HttpRequest request;
+        private boolean extracted;
+        private Parameters pathParameters;
+        private IllegalArgumentException exception;
+
+        private PathParametersExtraction(HttpRequest request) {
+            this.request = request;
+        }
+
+        private void extract() {
+            if (!extracted) {
+                extracted = true;
+                try {
+                    pathParameters = controlPlaneMatcher ? pathParametersParser.extractPathParameters(request, httpRequest) : pathParametersParser.extractPathParameters(httpRequest, request);
+                } catch (IllegalArgumentException iae) {
+                    exception = iae;
                 }
             }
         }
-        return false;
+
+        private Parameters getPathParameters() {
+            extract();
+            return pathParameters;
+        }
+
+        private IllegalArgumentException getException() {
+            extract();
+            return exception;
+        }
     }
 
     private boolean failFast(Matcher<?> matcher, MatchDifference context, MatchDifferenceCount matchDifferenceCount, StringBuilder becauseBuilder, boolean fieldMatches, MatchDifference.Field fieldName) {
+        if (context != null) {
+            context.fieldMatched(fieldName, fieldMatches);
+        }
         // update because builder
-        if (!controlPlaneMatcher) {
+        if (!controlPlaneMatcher && becauseBuilder != null) {
             becauseBuilder
                 .append(NEW_LINE)
                 .append(fieldName.getName()).append(fieldMatches ? MATCHED : DID_NOT_MATCH);
@@ -348,7 +484,7 @@ public class HttpRequestPropertiesMatcher extends AbstractHttpRequestMatcher {
             }
         }
         if (!fieldMatches) {
-            if (!controlPlaneMatcher) {
+            if (!controlPlaneMatcher && becauseBuilder != null) {
                 if (matchDifferenceCount.getHttpRequest().isNot()) {
                     becauseBuilder
                         .append(REQUEST_NOT_OPERATOR_IS_ENABLED);
@@ -431,36 +567,53 @@ public class HttpRequestPropertiesMatcher extends AbstractHttpRequestMatcher {
         } else if (bodyMatcher instanceof BinaryMatcher) {
             bodyMatches = matches(BODY, context, bodyMatcher, request.getBodyAsRawBytes());
         } else {
+            // the body is parsed once per request and shared by the body matchers of every expectation
+            ParsedBody parsedBody = request.getParsedBody();
             if (bodyMatcher instanceof ExactStringMatcher ||
                 bodyMatcher instanceof SubStringMatcher ||
                 bodyMatcher instanceof RegexStringMatcher) {
                 // string body matcher
-                bodyMatches = matches(BODY, context, bodyMatcher, string(request.getBodyAsString()));
+                bodyMatches = matches(BODY, context, bodyMatcher, string(parsedBody.getBodyAsString()));
             } else if (bodyMatcher instanceof XmlStringMatcher ||
                 bodyMatcher instanceof XmlSchemaMatcher
             ) {
                 // xml body matcher
-                bodyMatches = matches(BODY, context, bodyMatcher, request.getBodyAsString());
+                bodyMatches = matches(BODY, context, bodyMatcher, parsedBody.getBodyAsString());
             } else if (bodyMatcher instanceof JsonStringMatcher ||
                 bodyMatcher instanceof JsonSchemaMatcher ||
                 bodyMatcher instanceof JsonPathMatcher
             ) {
                 // json body matcher
                 try {
-                    bodyMatches = matches(BODY, context, bodyMatcher, jsonSchemaBodyParser.convertToJson(request, bodyMatcher));
+                    String bodyAsJson;
+                    if (bodyMatcher instanceof JsonSchemaMatcher && ((JsonSchemaMatcher) bodyMatcher).getParameterStyle() != null) {
+                        // conversion of form parameters depends on the parameter styles of this matcher
+                        bodyAsJson = jsonSchemaBodyParser.convertToJson(request, bodyMatcher);
+                    } else {
+                        bodyAsJson = parsedBody.getBodyAsJson(() -> jsonSchemaBodyParser.convertToJson(request, bodyMatcher));
+                    }
+                    bodyMatches = bodyMatches(context, bodyMatcher, bodyAsJson, parsedBody);
                 } catch (IllegalArgumentException iae) {
                     if (context != null) {
                         context.addDifference(mockServerLogger, iae, iae.getMessage());
                     }
-                    bodyMatches = matches(BODY, context, bodyMatcher, request.getBodyAsString());
+                    bodyMatches = bodyMatches(context, bodyMatcher, parsedBody.getBodyAsString(), parsedBody);
                 }
             } else {
-                bodyMatches = matches(BODY, context, bodyMatcher, request.getBodyAsString());
+                bodyMatches = bodyMatches(context, bodyMatcher, parsedBody.getBodyAsString(), parsedBody);
             }
         }
         return bodyMatches;
     }
 
+    @SuppressWarnings("unchecked")
+    private boolean bodyMatches(MatchDifference context, BodyMatcher bodyMatcher, Object matched, ParsedBody parsedBody) {
+        if (context != null) {
+            context.currentField(BODY);
+        }
+        return bodyMatcher.matches(context, matched, parsedBody);
+    }
+
     private <T> boolean matches(MatchDifference.Field field, MatchDifference context, Matcher<T> matcher, T t) {
         if (context != null) {
             context.currentField(field);
@@ -30,6 +30,7 @@ import java.util.stream.Collectors;
 import static io.netty.handler.codec.http.HttpHeaderNames.AUTHORIZATION;
 import static io.netty.handler.codec.http.HttpHeaderNames.CONTENT_TYPE;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
+import static org.mockserver.character.Character.NEW_LINE;
 import static org.mockserver.model.JsonSchemaBody.jsonSchema;
 import static org.mockserver.model.NottableOptionalString.optional;
 import static org.mockserver.model.NottableSchemaString.schemaString;
@@ -508,6 +509,7 @@ public class HttpRequestsPropertiesMatcher extends AbstractHttpRequestMatcher {
                     MatchDifference singleMatchDifference = new MatchDifference(configuration.detailedMatchFailures(), context.getHttpRequest());
                     result = httpRequestPropertiesMatcher.matches(singleMatchDifference, requestDefinition);
                     context.addDifferences(singleMatchDifference.getAllDifferences());
+                    context.addFieldsMatched(singleMatchDifference);
                 }
                 if (result) {
                     break;
@@ -519,6 +521,17 @@ public class HttpRequestsPropertiesMatcher extends AbstractHttpRequestMatcher {
         return result;
     }
 
+    @Override
+    String didNotMatchBecause(HttpRequest request) {
+        List<String> becauses = new ArrayList<>();
+        if (httpRequestPropertiesMatchers != null) {
+            for (HttpRequestPropertiesMatcher httpRequestPropertiesMatcher : httpRequestPropertiesMatchers) {
+                becauses.add(httpRequestPropertiesMatcher.didNotMatchBecause(request));
+            }
+        }
+        return Joiner.on(NEW_LINE + NEW_LINE).join(becauses);
+    }
+
     @Override
     public String toString() {
         try {
@@ -1,11 +1,13 @@
 package org.mockserver.matchers;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.JsonPath;
 import net.minidev.json.JSONArray;
 import org.apache.commons.lang3.StringUtils;
 import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
+import org.mockserver.model.ParsedBody;
 
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.slf4j.event.Level.DEBUG;
@@ -17,6 +19,8 @@ import static org.slf4j.event.Level.DEBUG;
  */
 public class JsonPathMatcher extends BodyMatcher<String> {
     private static final String[] EXCLUDED_FIELDS = {"mockServerLogger", "jsonPath"};
+    private static final String JSON_PATH_REPRESENTATION = "jsonPath";
+    private static final ParsedBody.Parser<Object> JSON_PATH_PARSER = json -> Configuration.defaultConfiguration().jsonProvider().parse(json);
     private final MockServerLogger mockServerLogger;
     private final String matcher;
     private JsonPath jsonPath;
@@ -41,6 +45,11 @@ public class JsonPathMatcher extends BodyMatcher<String> {
     }
 
     public boolean matches(final MatchDifference context, final String matched) {
+        return matches(context, matched, null);
+    }
+
+    @Override
+    public boolean matches(final MatchDifference context, final String matched, final ParsedBody parsedBody) {
         boolean result = false;
         boolean alreadyLoggedMatchFailure = false;
 
@@ -53,7 +62,11 @@ public class JsonPathMatcher extends BodyMatcher<String> {
             result = true;
         } else if (matched != null) {
             try {
-                result = !jsonPath.<JSONArray>read(matched).isEmpty();
+                if (parsedBody != null) {
+                    result = !jsonPath.<JSONArray>read(parsedBody.<Object>parse(JSON_PATH_REPRESENTATION, matched, JSON_PATH_PARSER)).isEmpty();
+                } else {
+                    result = !jsonPath.<JSONArray>read(matched).isEmpty();
+                }
             } catch (Throwable throwable) {
                 if (context != null) {
                     context.addDifference(mockServerLogger, throwable, "json path match failed expected:{}found:{}failed because:{}", matcher, matched, throwable.getMessage());
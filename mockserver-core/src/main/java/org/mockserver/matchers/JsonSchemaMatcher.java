@@ -1,9 +1,11 @@
 package org.mockserver.matchers;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.JsonNode;
 import org.apache.commons.lang3.StringUtils;
 import org.mockserver.logging.MockServerLogger;
 import org.mockserver.model.ParameterStyle;
+import org.mockserver.model.ParsedBody;
 import org.mockserver.validator.jsonschema.JsonSchemaValidator;
 
 import java.util.Map;
@@ -37,13 +39,18 @@ public class JsonSchemaMatcher extends BodyMatcher<String> {
     }
 
     public boolean matches(final MatchDifference context, String matched) {
+        return matches(context, matched, null);
+    }
+
+    @Override
+    public boolean matches(final MatchDifference context, String matched, ParsedBody parsedBody) {
         boolean result = false;
 
         if (matcher.equalsIgnoreCase(matched)) {
             result = true;
         } else if (!StringUtils.isBlank(matched)) {
             try {
-                String validation = jsonSchemaValidator.isValid(matched, false);
+                String validation = validate(matched, parsedBody);
 
                 result = validation.isEmpty();
 
@@ -60,6 +67,21 @@ public class JsonSchemaMatcher extends BodyMatcher<String> {
         return not != result;
     }
 
+    private String validate(String matched, ParsedBody parsedBody) {
+        if (parsedBody != null) {
+            JsonNode matchedJsonNode = null;
+            try {
+                matchedJsonNode = JsonStringMatcher.parseJson(matched, parsedBody);
+            } catch (Exception ignore) {
+                // invalid json is reported by validating the string
+            }
+            if (matchedJsonNode != null) {
+                return jsonSchemaValidator.isValid(matchedJsonNode, false);
+            }
+        }
+        return jsonSchemaValidator.isValid(matched, false);
+    }
+
     public boolean isBlank() {
         return StringUtils.isBlank(matcher);
     }
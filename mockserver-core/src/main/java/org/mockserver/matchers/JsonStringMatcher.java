@@ -3,6 +3,7 @@ package org.mockserver.matchers;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
 import com.google.common.base.Joiner;
 import net.javacrumbs.jsonunit.core.Configuration;
@@ -12,6 +13,7 @@ import net.javacrumbs.jsonunit.core.listener.DifferenceContext;
 import net.javacrumbs.jsonunit.core.listener.DifferenceListener;
 import org.apache.commons.lang3.StringUtils;
 import org.mockserver.logging.MockServerLogger;
+import org.mockserver.model.ParsedBody;
 import org.mockserver.serialization.ObjectMapperFactory;
 
 import java.util.ArrayList;
@@ -24,8 +26,10 @@ import static org.mockserver.character.Character.NEW_LINE;
  * @author jamesdbloom
  */
 public class JsonStringMatcher extends BodyMatcher<String> {
-    private static final String[] EXCLUDED_FIELDS = {"mockServerLogger"};
+    private static final String[] EXCLUDED_FIELDS = {"mockServerLogger", "matcherJsonNode"};
     private static final ObjectWriter PRETTY_PRINTER = ObjectMapperFactory.createObjectMapper(true, false);
+    private static final ObjectMapper OBJECT_MAPPER = ObjectMapperFactory.createObjectMapper();
+    static final String JSON_REPRESENTATION = "json";
     private final MockServerLogger mockServerLogger;
     private final String matcher;
     private JsonNode matcherJsonNode;
@@ -34,11 +38,22 @@ public class JsonStringMatcher extends BodyMatcher<String> {
     JsonStringMatcher(MockServerLogger mockServerLogger, String matcher, MatchType matchType) {
         this.mockServerLogger = mockServerLogger;
         this.matcher = matcher;
-
+        if (StringUtils.isNotBlank(matcher)) {
+            try {
+                matcherJsonNode = OBJECT_MAPPER.readTree(matcher);
+            } catch (Throwable ignore) {
+                // invalid matcher json is reported when matching
+            }
+        }
         this.matchType = matchType;
     }
 
     public boolean matches(final MatchDifference context, String matched) {
+        return matches(context, matched, null);
+    }
+
+    @Override
+    public boolean matches(final MatchDifference context, String matched, ParsedBody parsedBody) {
         boolean result = false;
 
         try {
@@ -62,12 +77,12 @@ public class JsonStringMatcher extends BodyMatcher<String> {
 
                 try {
                     if (matcherJsonNode == null) {
-                        matcherJsonNode = ObjectMapperFactory.createObjectMapper().readTree(matcher);
+                        matcherJsonNode = OBJECT_MAPPER.readTree(matcher);
                     }
                     result = Diff
                         .create(
                             matcherJsonNode,
-                            ObjectMapperFactory.createObjectMapper().readTree(matched),
+                            parseJson(matched, parsedBody),
                             "",
                             "",
                             diffConfig
@@ -98,6 +113,14 @@ public class JsonStringMatcher extends BodyMatcher<String> {
         return not != result;
     }
 
+    static JsonNode parseJson(String json, ParsedBody parsedBody) throws Exception {
+        if (parsedBody != null) {
+            return parsedBody.parse(JSON_REPRESENTATION, json, OBJECT_MAPPER::readTree);
+        } else {
+            return OBJECT_MAPPER.readTree(json);
+        }
+    }
+
     private static class Difference implements DifferenceListener {
 
         public List<String> differences = new ArrayList<>();
@@ -5,6 +5,7 @@ import org.mockserver.logging.MockServerLogger;
 import org.mockserver.model.RequestDefinition;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -43,6 +44,8 @@ public class MatchDifference {
     private final RequestDefinition httpRequest;
     private final Map<Field, List<String>> differences = new ConcurrentHashMap<>();
     private Field fieldName;
+    private int fieldsMatched;
+    private List<Field> fieldsNotMatched;
 
     public MatchDifference(boolean detailedMatchFailures, RequestDefinition httpRequest) {
         this.detailedMatchFailures = detailedMatchFailures;
@@ -115,4 +118,38 @@ public class MatchDifference {
                 .addAll(differences.get(field));
         }
     }
+
+    /**
+     * records the result of each field evaluated, which is recorded irrespective of detailedMatchFailures
+     */
+    @SuppressWarnings("UnusedReturnValue")
+    public MatchDifference fieldMatched(Field fieldName, boolean matched) {
+        if (matched) {
+            fieldsMatched++;
+        } else {
+            if (fieldsNotMatched == null) {
+                fieldsNotMatched = new ArrayList<>();
+            }
+            fieldsNotMatched.add(fieldName);
+        }
+        return this;
+    }
+
+    public int getFieldsMatched() {
+        return fieldsMatched;
+    }
+
+    public List<Field> getFieldsNotMatched() {
+        return fieldsNotMatched != null ? fieldsNotMatched : Collections.emptyList();
+    }
+
+    /**
+     * retains the field results of the closest match, i.e. when only one of multiple request matchers needs to match
+     */
+    public void addFieldsMatched(MatchDifference matchDifference) {
+        if (fieldsNotMatched == null && fieldsMatched == 0 || matchDifference.fieldsMatched > fieldsMatched) {
+            fieldsMatched = matchDifference.fieldsMatched;
+            fieldsNotMatched = matchDifference.fieldsNotMatched;
+        }
+    }
 }
@@ -0,0 +1,99 @@
+package org.mockserver.matchers;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.google.common.base.Joiner;
+import org.mockserver.mock.Expectation;
+import org.mockserver.model.HttpRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.mockserver.character.Character.NEW_LINE;
+import static org.mockserver.formatting.StringFormatter.formatLogMessage;
+
+/**
+ * Summary of the expectations that didn't match a request, only the closest expectations are retained (i.e. those
+ * that matched the most fields before failing) and the reason each of them didn't match is only calculated the first
+ * time the summary is displayed
+ * <p>
+ * the expectation is captured when each candidate is added, because matchers are updated in place when an expectation
+ * is upserted, and the reason is calculated from a new matcher for the captured expectation
+ */
+public class MatchFailureSummary {
+
+    private final HttpRequest request;
+    private final int maximumCandidates;
+    private final Function<Expectation, HttpRequestMatcher> matcherFactory;
+    private final List<Candidate> candidates = new ArrayList<>();
+    private int expectationsNotMatched;
+    private String summary;
+
+    public MatchFailureSummary(HttpRequest request, int maximumCandidates, Function<Expectation, HttpRequestMatcher> matcherFactory) {
+        this.request = request;
+        this.maximumCandidates = maximumCandidates;
+        this.matcherFactory = matcherFactory;
+    }
+
+    public synchronized MatchFailureSummary add(HttpRequestMatcher httpRequestMatcher, MatchDifference context) {
+        expectationsNotMatched++;
+        Candidate candidate = new Candidate(httpRequestMatcher.getExpectation(), context.getFieldsMatched(), context.getFieldsNotMatched());
+        // closest first, for the same number of matched fields the expectation evaluated first is retained
+        int index = candidates.size();
+        while (index > 0 && candidate.fieldsMatched > candidates.get(index - 1).fieldsMatched) {
+            index--;
+        }
+        if (index < maximumCandidates) {
+            candidates.add(index, candidate);
+            if (candidates.size() > maximumCandidates) {
+                candidates.remove(candidates.size() - 1);
+            }
+        }
+        return this;
+    }
+
+    public synchronized int getExpectationsNotMatched() {
+        return expectationsNotMatched;
+    }
+
+    public synchronized List<Expectation> getClosestExpectations() {
+        return candidates
+            .stream()
+            .map(candidate -> candidate.expectation)
+            .collect(Collectors.toList());
+    }
+
+    @JsonValue
+    @Override
+    public synchronized String toString() {
+        if (summary == null) {
+            List<String> descriptions = new ArrayList<>();
+            for (Candidate candidate : candidates) {
+                Expectation expectation = candidate.expectation;
+                HttpRequestMatcher httpRequestMatcher = expectation != null ? matcherFactory.apply(expectation) : null;
+                String because = httpRequestMatcher instanceof AbstractHttpRequestMatcher ? ((AbstractHttpRequestMatcher) httpRequestMatcher).didNotMatchBecause(request) : "";
+                descriptions.add(formatLogMessage(
+                    "expectation:{}didn't match:{}because:{}",
+                    expectation != null ? expectation.getId() : "",
+                    candidate.fieldsNotMatched.stream().map(MatchDifference.Field::getName).collect(Collectors.joining(", ")),
+                    because
+                ));
+            }
+            summary = Joiner.on(NEW_LINE).join(descriptions);
+        }
+        return summary;
+    }
+
+    private static class Candidate {
+        private final Expectation expectation;
+        private final int fieldsMatched;
+        private final List<MatchDifference.Field> fieldsNotMatched;
+
+        private Candidate(Expectation expectation, int fieldsMatched, List<MatchDifference.Field> fieldsNotMatched) {
+            this.expectation = expectation;
+            this.fieldsMatched = fieldsMatched;
+            this.fieldsNotMatched = fieldsNotMatched;
+        }
+    }
+}
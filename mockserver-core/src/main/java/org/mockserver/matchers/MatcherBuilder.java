@@ -21,7 +21,7 @@ public class MatcherBuilder {
     public MatcherBuilder(Configuration configuration, MockServerLogger mockServerLogger) {
         this.configuration = configuration;
         this.mockServerLogger = mockServerLogger;
-        this.requestMatcherLRUCache = new LRUCache<>(mockServerLogger, 250, MINUTES.toMillis(10));
+        this.requestMatcherLRUCache = new LRUCache<>(mockServerLogger, "requestMatcher", 250, MINUTES.toMillis(10));
     }
 
     public HttpRequestMatcher transformsToMatcher(RequestDefinition requestDefinition) {
@@ -5,12 +5,14 @@ import org.mockserver.codec.ExpandedParameterDecoder;
 import org.mockserver.configuration.Configuration;
 import org.mockserver.logging.MockServerLogger;
 import org.mockserver.model.Parameters;
+import org.mockserver.model.ParsedBody;
 
 /**
  * @author jamesdbloom
  */
 public class ParameterStringMatcher extends BodyMatcher<String> {
     private static final String[] EXCLUDED_FIELDS = {"mockServerLogger"};
+    private static final String FORM_PARAMETERS_REPRESENTATION = "formParameters";
     private final MultiValueMapMatcher matcher;
     private final ExpandedParameterDecoder formParameterParser;
     private final Parameters matcherParameters;
@@ -24,9 +26,14 @@ public class ParameterStringMatcher extends BodyMatcher<String> {
     }
 
     public boolean matches(final MatchDifference context, String matched) {
+        return matches(context, matched, null);
+    }
+
+    @Override
+    public boolean matches(final MatchDifference context, String matched, ParsedBody parsedBody) {
         boolean result = false;
 
-        Parameters matchedParameters = formParameterParser.retrieveFormParameters(matched, matched != null && matched.contains("?"));
+        Parameters matchedParameters = retrieveFormParameters(matched, parsedBody);
         expandedParameterDecoder.splitParameters(matcherParameters, matchedParameters);
         if (matcher.matches(context, matchedParameters)) {
             result = true;
@@ -35,6 +42,19 @@ public class ParameterStringMatcher extends BodyMatcher<String> {
         return not != result;
     }
 
+    private Parameters retrieveFormParameters(String matched, ParsedBody parsedBody) {
+        if (parsedBody != null) {
+            try {
+                Parameters parameters = parsedBody.parse(FORM_PARAMETERS_REPRESENTATION, matched, body -> formParameterParser.retrieveFormParameters(body, body != null && body.contains("?")));
+                // cloned because the parameters are split in place for exploded parameter styles
+                return parameters != null ? parameters.clone() : null;
+            } catch (Exception ignore) {
+                // fall through and report the exception when parsing again
+            }
+        }
+        return formParameterParser.retrieveFormParameters(matched, matched != null && matched.contains("?"));
+    }
+
     public boolean isBlank() {
         return matcher.isBlank();
     }
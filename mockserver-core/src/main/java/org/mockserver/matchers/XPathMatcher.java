@@ -4,12 +4,16 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import org.apache.commons.lang3.StringUtils;
 import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
+import org.mockserver.model.ParsedBody;
 import org.mockserver.xml.StringToXmlDocumentParser;
 import org.mockserver.xml.XPathEvaluator;
+import org.w3c.dom.Document;
 import org.xml.sax.SAXException;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import javax.xml.XMLConstants;
 import javax.xml.namespace.NamespaceContext;
@@ -30,6 +34,9 @@ import static org.slf4j.event.Level.DEBUG;
  */
 public class XPathMatcher extends BodyMatcher<String> {
     private static final String[] EXCLUDED_FIELDS = {"mockServerLogger", "xPathEvaluator"};
+    private static final String XML_REPRESENTATION = "xml";
+    private static final String NAMESPACE_AWARE_XML_REPRESENTATION = "namespaceAwareXml";
+    private static final StringToXmlDocumentParser STRING_TO_XML_DOCUMENT_PARSER = new StringToXmlDocumentParser();
     private final MockServerLogger mockServerLogger;
     private final String matcher;
     private XPathEvaluator xPathEvaluator = null;
@@ -58,6 +65,11 @@ public class XPathMatcher extends BodyMatcher<String> {
     }
 
     public boolean matches(final MatchDifference context, final String matched) {
+        return matches(context, matched, null);
+    }
+
+    @Override
+    public boolean matches(final MatchDifference context, final String matched, final ParsedBody parsedBody) {
         boolean result = false;
         boolean alreadyLoggedMatchFailure = false;
 
@@ -70,11 +82,17 @@ public class XPathMatcher extends BodyMatcher<String> {
             result = true;
         } else if (matched != null) {
             try {
-                result = (Boolean) xPathEvaluator.evaluateXPathExpression(matched, (matchedInException, throwable, level) -> {
+                StringToXmlDocumentParser.ErrorLogger errorLogger = (matchedInException, throwable, level) -> {
                     if (context != null) {
                         context.addDifference(mockServerLogger, throwable, "xpath match failed expected:{}found:{}failed because " + prettyPrint(level) + ":{}", matcher, matched, throwable.getMessage());
                     }
-                }, XPathConstants.BOOLEAN);
+                };
+                if (parsedBody != null) {
+                    ParsedXml parsedXml = parsedBody.parse(xPathEvaluator.isNamespaceAware() ? NAMESPACE_AWARE_XML_REPRESENTATION : XML_REPRESENTATION, matched, xml -> new ParsedXml(xml, xPathEvaluator.isNamespaceAware()));
+                    result = (Boolean) parsedXml.evaluate(xPathEvaluator, errorLogger);
+                } else {
+                    result = (Boolean) xPathEvaluator.evaluateXPathExpression(matched, errorLogger, XPathConstants.BOOLEAN);
+                }
             } catch (Throwable throwable) {
                 if (context != null) {
                     context.addDifference(mockServerLogger, throwable, "xpath match failed expected:{}found:{}failed because:{}", matcher, matched, throwable.getMessage());
@@ -99,4 +117,45 @@ public class XPathMatcher extends BodyMatcher<String> {
     protected String[] fieldsExcludedFromEqualsAndHashCode() {
         return EXCLUDED_FIELDS;
     }
+
+    /**
+     * document parsed once for all xpath matchers, the errors reported while parsing are retained so they are
+     * reported to every matcher using the document
+     */
+    private static class ParsedXml {
+        private final List<ParseError> parseErrors = new ArrayList<>();
+        private Document document;
+        private Exception exception;
+
+        private ParsedXml(String xml, boolean namespaceAware) {
+            try {
+                document = STRING_TO_XML_DOCUMENT_PARSER.buildDocument(xml, (matchedInException, throwable, level) -> parseErrors.add(new ParseError(matchedInException, throwable, level)), namespaceAware);
+            } catch (Exception exception) {
+                this.exception = exception;
+            }
+        }
+
+        // synchronized as a DOM isn't thread safe even for reads
+        private synchronized Object evaluate(XPathEvaluator xPathEvaluator, StringToXmlDocumentParser.ErrorLogger errorLogger) {
+            for (ParseError parseError : parseErrors) {
+                errorLogger.logError(parseError.xmlAsString, parseError.exception, parseError.level);
+            }
+            if (exception != null) {
+                throw new RuntimeException(exception.getMessage(), exception);
+            }
+            return xPathEvaluator.evaluateXPathExpression(document, XPathConstants.BOOLEAN);
+        }
+    }
+
+    private static class ParseError {
+        private final String xmlAsString;
+        private final Exception exception;
+        private final StringToXmlDocumentParser.ErrorLevel level;
+
+        private ParseError(String xmlAsString, Exception exception, StringToXmlDocumentParser.ErrorLevel level) {
+            this.xmlAsString = xmlAsString;
+            this.exception = exception;
+            this.level = level;
+        }
+    }
 }
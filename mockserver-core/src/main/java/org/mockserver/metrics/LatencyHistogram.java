@@ -0,0 +1,80 @@
+package org.mockserver.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock free latency histogram with fixed exponential (1, 2.5, 5 per decade) buckets from 100 microseconds to 10 seconds,
+ * recording is a bucket lookup and two LongAdder increments so is safe to use on the request hot path.
+ */
+public class LatencyHistogram {
+
+    static final long[] BUCKET_UPPER_BOUNDS_IN_NANOS = {
+        TimeUnit.MICROSECONDS.toNanos(100),
+        TimeUnit.MICROSECONDS.toNanos(250),
+        TimeUnit.MICROSECONDS.toNanos(500),
+        TimeUnit.MILLISECONDS.toNanos(1),
+        TimeUnit.MICROSECONDS.toNanos(2500),
+        TimeUnit.MILLISECONDS.toNanos(5),
+        TimeUnit.MILLISECONDS.toNanos(10),
+        TimeUnit.MILLISECONDS.toNanos(25),
+        TimeUnit.MILLISECONDS.toNanos(50),
+        TimeUnit.MILLISECONDS.toNanos(100),
+        TimeUnit.MILLISECONDS.toNanos(250),
+        TimeUnit.MILLISECONDS.toNanos(500),
+        TimeUnit.SECONDS.toNanos(1),
+        TimeUnit.MILLISECONDS.toNanos(2500),
+        TimeUnit.SECONDS.toNanos(5),
+        TimeUnit.SECONDS.toNanos(10)
+    };
+    // last bucket counts values greater than the largest upper bound
+    private final LongAdder[] buckets = new LongAdder[BUCKET_UPPER_BOUNDS_IN_NANOS.length + 1];
+    private final LongAdder sumInNanos = new LongAdder();
+
+    public LatencyHistogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long durationInNanos) {
+        int bucket = 0;
+        while (bucket < BUCKET_UPPER_BOUNDS_IN_NANOS.length && durationInNanos > BUCKET_UPPER_BOUNDS_IN_NANOS[bucket]) {
+            bucket++;
+        }
+        buckets[bucket].increment();
+        sumInNanos.add(Math.max(durationInNanos, 0));
+    }
+
+    /**
+     * cumulative count of recorded values less than or equal to each bucket upper bound, the last element is the total count
+     */
+    public long[] cumulativeCounts() {
+        long[] cumulativeCounts = new long[buckets.length];
+        long count = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            count += buckets[i].sum();
+            cumulativeCounts[i] = count;
+        }
+        return cumulativeCounts;
+    }
+
+    public long getCount() {
+        long count = 0;
+        for (LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    public long getSumInNanos() {
+        return sumInNanos.sum();
+    }
+
+    public void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        sumInNanos.reset();
+    }
+}
@@ -1,116 +1,207 @@
 package org.mockserver.metrics;
 
+import org.apache.commons.lang3.StringUtils;
+import org.mockserver.cache.CacheStatistics;
+import org.mockserver.cache.LRUCache;
 import org.mockserver.configuration.Configuration;
 import org.mockserver.model.Action;
 
+import java.util.EnumMap;
+import java.util.Locale;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.mockserver.metrics.Metrics.Name.Type.COUNTER;
+import static org.mockserver.metrics.Metrics.Name.Type.GAUGE;
 
 /**
  * @author jamesdbloom
  */
-@SuppressWarnings({"SynchronizationOnLocalVariableOrMethodParameter", "FieldMayBeFinal"})
 public class Metrics {
 
-    private static Map<Name, Integer> metrics = new ConcurrentHashMap<>();
+    private static final String PROMETHEUS_PREFIX = "mockserver_";
+    private static final Map<Name, LongAdder> metrics = new EnumMap<>(Name.class);
+    private static final Map<Action.Type, Name> actionNames = new EnumMap<>(Action.Type.class);
+    private static final Map<Timer, LatencyHistogram> timers = new EnumMap<>(Timer.class);
     private final Configuration configuration;
 
+    static {
+        for (Name name : Name.values()) {
+            metrics.put(name, new LongAdder());
+        }
+        for (Action.Type type : Action.Type.values()) {
+            actionNames.put(type, Name.valueOf("ACTION_" + type.name() + "_COUNT"));
+        }
+        for (Timer timer : Timer.values()) {
+            timers.put(timer, new LatencyHistogram());
+        }
+    }
+
     public Metrics(Configuration configuration) {
         this.configuration = configuration;
     }
 
     public static void clear() {
-        metrics.clear();
+        metrics.values().forEach(LongAdder::reset);
+        timers.values().forEach(LatencyHistogram::reset);
     }
 
     public void set(Name name, Integer value) {
-        metrics.put(name, value);
+        LongAdder metric = metrics.get(name);
+        metric.reset();
+        metric.add(value);
     }
 
     public static Integer get(Name name) {
-        Integer value = metrics.get(name);
-        return value != null ? value : 0;
+        return (int) metrics.get(name).sum();
+    }
+
+    public static LatencyHistogram get(Timer timer) {
+        return timers.get(timer);
     }
 
     public void increment(Name name) {
         if (configuration.metricsEnabled()) {
-            synchronized (name) {
-                metrics.merge(name, 1, Integer::sum);
-            }
+            metrics.get(name).increment();
         }
     }
 
     public void decrement(Name name) {
         if (configuration.metricsEnabled()) {
-            synchronized (name) {
-                final Integer currentValue = metrics.get(name);
-                if (currentValue != null) {
-                    metrics.put(name, currentValue - 1);
-                } else {
-                    throw new IllegalArgumentException("Can not decrement metric \"" + name + "\" because it not exist");
-                }
-            }
+            metrics.get(name).decrement();
         }
     }
 
     public void increment(Action.Type type) {
         if (configuration.metricsEnabled()) {
-            Name name = Name.valueOf("ACTION_" + type.name() + "_COUNT");
-            synchronized (name) {
-                metrics.merge(name, 1, Integer::sum);
-            }
+            metrics.get(actionNames.get(type)).increment();
         }
     }
 
     public void decrement(Action.Type type) {
         if (configuration.metricsEnabled()) {
-            Name name = Name.valueOf("ACTION_" + type.name() + "_COUNT");
-            synchronized (name) {
-                final Integer currentValue = metrics.get(name);
-                if (currentValue != null) {
-                    metrics.put(name, currentValue - 1);
-                } else {
-                    throw new IllegalArgumentException("Can not decrement metric \"" + name + "\" because it not exist");
-                }
-            }
+            metrics.get(actionNames.get(type)).decrement();
+        }
+    }
+
+    /**
+     * @return System.nanoTime() if metrics are enabled, otherwise -1 so the matching record call is skipped
+     */
+    public long startTimer() {
+        return configuration.metricsEnabled() ? System.nanoTime() : -1;
+    }
+
+    public void record(Timer timer, long startTimeInNanos) {
+        if (startTimeInNanos >= 0 && configuration.metricsEnabled()) {
+            timers.get(timer).record(System.nanoTime() - startTimeInNanos);
         }
     }
 
     public static void clearActionMetrics() {
-        metrics.remove(Name.ACTION_FORWARD_COUNT);
-        metrics.remove(Name.ACTION_FORWARD_TEMPLATE_COUNT);
-        metrics.remove(Name.ACTION_FORWARD_CLASS_CALLBACK_COUNT);
-        metrics.remove(Name.ACTION_FORWARD_OBJECT_CALLBACK_COUNT);
-        metrics.remove(Name.ACTION_FORWARD_REPLACE_COUNT);
-        metrics.remove(Name.ACTION_RESPONSE_COUNT);
-        metrics.remove(Name.ACTION_RESPONSE_TEMPLATE_COUNT);
-        metrics.remove(Name.ACTION_RESPONSE_CLASS_CALLBACK_COUNT);
-        metrics.remove(Name.ACTION_RESPONSE_OBJECT_CALLBACK_COUNT);
-        metrics.remove(Name.ACTION_ERROR_COUNT);
+        actionNames.values().forEach(name -> metrics.get(name).reset());
     }
 
     public static void clearWebSocketMetrics() {
-        metrics.remove(Name.WEBSOCKET_CALLBACK_CLIENT_COUNT);
-        metrics.remove(Name.WEBSOCKET_CALLBACK_RESPONSE_HANDLER_COUNT);
-        metrics.remove(Name.WEBSOCKET_CALLBACK_FORWARD_HANDLER_COUNT);
+        metrics.get(Name.WEBSOCKET_CALLBACK_CLIENT_COUNT).reset();
+        metrics.get(Name.WEBSOCKET_CALLBACK_RESPONSE_HANDLER_COUNT).reset();
+        metrics.get(Name.WEBSOCKET_CALLBACK_FORWARD_HANDLER_COUNT).reset();
+    }
+
+    /**
+     * all metrics in the Prometheus text exposition format (version 0.0.4), counters are suffixed with "_total", timers are exposed as
+     * histograms in seconds and cache statistics as counters labelled by cache name
+     */
+    public static String toPrometheusTextFormat() {
+        StringBuilder builder = new StringBuilder();
+        for (Name name : Name.values()) {
+            String metricName = prometheusName(name);
+            builder
+                .append("# TYPE ").append(metricName).append(' ').append(name.type.name().toLowerCase(Locale.ROOT)).append('\n')
+                .append(metricName).append(' ').append(metrics.get(name).sum()).append('\n');
+        }
+        for (Timer timer : Timer.values()) {
+            String metricName = PROMETHEUS_PREFIX + timer.name().toLowerCase(Locale.ROOT) + "_seconds";
+            LatencyHistogram histogram = timers.get(timer);
+            long[] cumulativeCounts = histogram.cumulativeCounts();
+            builder.append("# TYPE ").append(metricName).append(" histogram\n");
+            for (int i = 0; i < LatencyHistogram.BUCKET_UPPER_BOUNDS_IN_NANOS.length; i++) {
+                builder
+                    .append(metricName).append("_bucket{le=\"").append(toSeconds(LatencyHistogram.BUCKET_UPPER_BOUNDS_IN_NANOS[i])).append("\"} ")
+                    .append(cumulativeCounts[i]).append('\n');
+            }
+            long count = cumulativeCounts[cumulativeCounts.length - 1];
+            builder
+                .append(metricName).append("_bucket{le=\"+Inf\"} ").append(count).append('\n')
+                .append(metricName).append("_sum ").append(toSeconds(histogram.getSumInNanos())).append('\n')
+                .append(metricName).append("_count ").append(count).append('\n');
+        }
+        Map<String, CacheStatistics> cacheStatistics = LRUCache.allStatistics();
+        appendCacheStatistic(builder, "cache_hits_total", cacheStatistics, CacheStatistics::getHitCount);
+        appendCacheStatistic(builder, "cache_misses_total", cacheStatistics, CacheStatistics::getMissCount);
+        appendCacheStatistic(builder, "cache_evictions_total", cacheStatistics, CacheStatistics::getEvictionCount);
+        return builder.toString();
+    }
+
+    /**
+     * counters use the Prometheus "_total" suffix in place of "_count", which is reserved for histogram and summary counts
+     */
+    private static String prometheusName(Name name) {
+        String metricName = PROMETHEUS_PREFIX + name.name().toLowerCase(Locale.ROOT);
+        if (name.type == COUNTER) {
+            metricName = StringUtils.removeEnd(metricName, "_count") + "_total";
+        }
+        return metricName;
+    }
+
+    private static void appendCacheStatistic(StringBuilder builder, String name, Map<String, CacheStatistics> cacheStatistics, ToLongFunction<CacheStatistics> statistic) {
+        String metricName = PROMETHEUS_PREFIX + name;
+        builder.append("# TYPE ").append(metricName).append(" counter\n");
+        for (Map.Entry<String, CacheStatistics> entry : cacheStatistics.entrySet()) {
+            builder
+                .append(metricName).append("{cache=\"").append(entry.getKey()).append("\"} ")
+                .append(statistic.applyAsLong(entry.getValue())).append('\n');
+        }
+    }
+
+    private static String toSeconds(long nanos) {
+        return Double.toString((double) nanos / TimeUnit.SECONDS.toNanos(1));
     }
 
     public enum Name {
-        EXPECTATION_NOT_MATCHED_COUNT,
-        RESPONSE_EXPECTATION_MATCHED_COUNT,
-        FORWARD_EXPECTATION_MATCHED_COUNT,
-        ACTION_FORWARD_COUNT,
-        ACTION_FORWARD_TEMPLATE_COUNT,
-        ACTION_FORWARD_CLASS_CALLBACK_COUNT,
-        ACTION_FORWARD_OBJECT_CALLBACK_COUNT,
-        ACTION_FORWARD_REPLACE_COUNT,
-        ACTION_RESPONSE_COUNT,
-        ACTION_RESPONSE_TEMPLATE_COUNT,
-        ACTION_RESPONSE_CLASS_CALLBACK_COUNT,
-        ACTION_RESPONSE_OBJECT_CALLBACK_COUNT,
-        ACTION_ERROR_COUNT,
-        WEBSOCKET_CALLBACK_CLIENT_COUNT,
-        WEBSOCKET_CALLBACK_RESPONSE_HANDLER_COUNT,
-        WEBSOCKET_CALLBACK_FORWARD_HANDLER_COUNT
+        EXPECTATION_NOT_MATCHED_COUNT(COUNTER),
+        RESPONSE_EXPECTATION_MATCHED_COUNT(COUNTER),
+        FORWARD_EXPECTATION_MATCHED_COUNT(COUNTER),
+        ACTION_FORWARD_COUNT(GAUGE),
+        ACTION_FORWARD_TEMPLATE_COUNT(GAUGE),
+        ACTION_FORWARD_CLASS_CALLBACK_COUNT(GAUGE),
+        ACTION_FORWARD_OBJECT_CALLBACK_COUNT(GAUGE),
+        ACTION_FORWARD_REPLACE_COUNT(GAUGE),
+        ACTION_RESPONSE_COUNT(GAUGE),
+        ACTION_RESPONSE_TEMPLATE_COUNT(GAUGE),
+        ACTION_RESPONSE_CLASS_CALLBACK_COUNT(GAUGE),
+        ACTION_RESPONSE_OBJECT_CALLBACK_COUNT(GAUGE),
+        ACTION_ERROR_COUNT(GAUGE),
+        WEBSOCKET_CALLBACK_CLIENT_COUNT(GAUGE),
+        WEBSOCKET_CALLBACK_RESPONSE_HANDLER_COUNT(GAUGE),
+        WEBSOCKET_CALLBACK_FORWARD_HANDLER_COUNT(GAUGE);
+
+        public final Type type;
+
+        Name(Type type) {
+            this.type = type;
+        }
+
+        public enum Type {
+            COUNTER,
+            GAUGE
+        }
+    }
+
+    public enum Timer {
+        EXPECTATION_MATCHING,
+        ACTION_EXECUTION,
+        FORWARD_ROUND_TRIP
     }
 }
@@ -0,0 +1,252 @@
+package org.mockserver.mock;
+
+import org.mockserver.matchers.HttpRequestMatcher;
+import org.mockserver.matchers.HttpRequestPropertiesMatcher;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.model.NottableSchemaString;
+import org.mockserver.model.NottableString;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Pre-filter index of expectation request matchers keyed by method and by literal path (or literal path prefix),
+ * used to narrow the matchers that need to be fully evaluated for a request.
+ * <p>
+ * The index is conservative, any matcher that may match a request is always returned as a candidate, matchers that
+ * can't be indexed (i.e. regex, schema or notted method or path, OpenAPI request definitions) are indexed against
+ * any method and an empty path prefix so are returned for every request.
+ */
+public class HttpRequestMatcherIndex {
+
+    private static final String ANY_METHOD = "";
+    private static final String REGEX_SPECIAL_CHARACTERS = "\\^$.|?*+()[]{}";
+    private static final IndexKey ANY = new IndexKey(ANY_METHOD, "", false);
+    private final ConcurrentMap<String, IndexKey> indexKeys = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, MethodIndex> byMethod = new ConcurrentHashMap<>();
+
+    public void add(String id, HttpRequestMatcher httpRequestMatcher) {
+        if (id != null && httpRequestMatcher != null) {
+            remove(id);
+            IndexKey indexKey = indexKey(httpRequestMatcher);
+            byMethod
+                .computeIfAbsent(indexKey.method, method -> new MethodIndex())
+                .add(indexKey, id, httpRequestMatcher);
+            indexKeys.put(id, indexKey);
+        }
+    }
+
+    public void remove(String id) {
+        if (id != null) {
+            IndexKey indexKey = indexKeys.remove(id);
+            if (indexKey != null) {
+                MethodIndex methodIndex = byMethod.get(indexKey.method);
+                if (methodIndex != null) {
+                    methodIndex.remove(indexKey, id);
+                }
+            }
+        }
+    }
+
+    public int size() {
+        return indexKeys.size();
+    }
+
+    /**
+     * Returns every indexed matcher that could match the request, in no particular order, or null if the request
+     * can't be used to narrow the candidates (i.e. blank, notted or non-ASCII method or path) in which case every
+     * matcher must be evaluated.
+     */
+    public List<HttpRequestMatcher> candidates(HttpRequest httpRequest) {
+        if (httpRequest == null || httpRequest.isNot() || !isIndexable(httpRequest.getMethod()) || !isIndexable(httpRequest.getPath())) {
+            return null;
+        }
+        String method = httpRequest.getMethod().getValue();
+        String path = httpRequest.getPath().getValue();
+        if (!isAscii(method) || !isAscii(path)) {
+            return null;
+        }
+        String pathKey = toLowerCaseAscii(path);
+        List<HttpRequestMatcher> candidates = new ArrayList<>();
+        addCandidates(byMethod.get(toUpperCaseAscii(method)), pathKey, candidates);
+        addCandidates(byMethod.get(ANY_METHOD), pathKey, candidates);
+        return candidates;
+    }
+
+    private void addCandidates(MethodIndex methodIndex, String path, List<HttpRequestMatcher> candidates) {
+        if (methodIndex != null) {
+            addAll(methodIndex.exactPaths.get(path), candidates);
+            addAll(methodIndex.pathPrefixes.get(""), candidates);
+            for (int i = 0; i < path.length(); i++) {
+                if (path.charAt(i) == '/') {
+                    addAll(methodIndex.pathPrefixes.get(path.substring(0, i + 1)), candidates);
+                }
+            }
+        }
+    }
+
+    private void addAll(Map<String, HttpRequestMatcher> httpRequestMatchers, List<HttpRequestMatcher> candidates) {
+        if (httpRequestMatchers != null) {
+            candidates.addAll(httpRequestMatchers.values());
+        }
+    }
+
+    static IndexKey indexKey(HttpRequestMatcher httpRequestMatcher) {
+        if (httpRequestMatcher instanceof HttpRequestPropertiesMatcher && httpRequestMatcher.getExpectation() != null && httpRequestMatcher.getExpectation().getHttpRequest() instanceof HttpRequest) {
+            HttpRequest httpRequest = (HttpRequest) httpRequestMatcher.getExpectation().getHttpRequest();
+            if (!httpRequest.isNot()) {
+                String method = ANY_METHOD;
+                if (isIndexable(httpRequest.getMethod()) && isLiteral(httpRequest.getMethod().getValue())) {
+                    method = toUpperCaseAscii(httpRequest.getMethod().getValue());
+                }
+                if (isIndexable(httpRequest.getPath())) {
+                    String path = httpRequest.getPath().getValue();
+                    if (isLiteral(path)) {
+                        return new IndexKey(method, toLowerCaseAscii(path), true);
+                    } else {
+                        return new IndexKey(method, toLowerCaseAscii(literalPathPrefix(path)), false);
+                    }
+                } else {
+                    return new IndexKey(method, "", false);
+                }
+            }
+        }
+        return ANY;
+    }
+
+    /**
+     * longest prefix, ending in a '/', that every string matched by the regex must start with
+     */
+    static String literalPathPrefix(String regex) {
+        if (regex.indexOf('|') != -1) {
+            return "";
+        }
+        int end = 0;
+        while (end < regex.length()) {
+            char character = regex.charAt(end);
+            if (character > 127) {
+                break;
+            } else if (REGEX_SPECIAL_CHARACTERS.indexOf(character) != -1) {
+                // quantifiers make the preceding character optional
+                if (character == '?' || character == '*' || (character == '{' && end + 1 < regex.length() && Character.isDigit(regex.charAt(end + 1)))) {
+                    end = Math.max(0, end - 1);
+                }
+                break;
+            }
+            end++;
+        }
+        return regex.substring(0, regex.lastIndexOf('/', end - 1) + 1);
+    }
+
+    private static boolean isIndexable(NottableString nottableString) {
+        return nottableString != null
+            && !(nottableString instanceof NottableSchemaString)
+            && !nottableString.isNot()
+            && !nottableString.isOptional()
+            && !nottableString.isBlank();
+    }
+
+    /**
+     * true if the value contains only ASCII characters that have no special meaning in a regex
+     */
+    public static boolean isLiteral(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char character = value.charAt(i);
+            if (character > 127 || REGEX_SPECIAL_CHARACTERS.indexOf(character) != -1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 127) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String toLowerCaseAscii(String value) {
+        char[] characters = value.toCharArray();
+        for (int i = 0; i < characters.length; i++) {
+            if (characters[i] >= 'A' && characters[i] <= 'Z') {
+                characters[i] = (char) (characters[i] + ('a' - 'A'));
+            }
+        }
+        return new String(characters);
+    }
+
+    private static String toUpperCaseAscii(String value) {
+        char[] characters = value.toCharArray();
+        for (int i = 0; i < characters.length; i++) {
+            if (characters[i] >= 'a' && characters[i] <= 'z') {
+                characters[i] = (char) (characters[i] - ('a' - 'A'));
+            }
+        }
+        return new String(characters);
+    }
+
+    static class IndexKey {
+        final String method;
+        final String path;
+        final boolean exact;
+
+        IndexKey(String method, String path, boolean exact) {
+            this.method = method;
+            this.path = path;
+            this.exact = exact;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            IndexKey indexKey = (IndexKey) o;
+            return exact == indexKey.exact &&
+                Objects.equals(method, indexKey.method) &&
+                Objects.equals(path, indexKey.path);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(method, path, exact);
+        }
+
+        @Override
+        public String toString() {
+            return method + (exact ? " = " : " ^ ") + path;
+        }
+    }
+
+    private static class MethodIndex {
+        private final ConcurrentMap<String, ConcurrentMap<String, HttpRequestMatcher>> exactPaths = new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, ConcurrentMap<String, HttpRequestMatcher>> pathPrefixes = new ConcurrentHashMap<>();
+
+        private void add(IndexKey indexKey, String id, HttpRequestMatcher httpRequestMatcher) {
+            (indexKey.exact ? exactPaths : pathPrefixes).compute(indexKey.path, (path, httpRequestMatchers) -> {
+                if (httpRequestMatchers == null) {
+                    httpRequestMatchers = new ConcurrentHashMap<>();
+                }
+                httpRequestMatchers.put(id, httpRequestMatcher);
+                return httpRequestMatchers;
+            });
+        }
+
+        private void remove(IndexKey indexKey, String id) {
+            (indexKey.exact ? exactPaths : pathPrefixes).computeIfPresent(indexKey.path, (path, httpRequestMatchers) -> {
+                httpRequestMatchers.remove(id);
+                return httpRequestMatchers.isEmpty() ? null : httpRequestMatchers;
+            });
+        }
+    }
+}
@@ -10,6 +10,7 @@ import org.mockserver.log.MockServerEventLog;
 import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
 import org.mockserver.memory.MemoryMonitoring;
+import org.mockserver.metrics.Metrics;
 import org.mockserver.mock.listeners.MockServerMatcherNotifier.Cause;
 import org.mockserver.model.*;
 import org.mockserver.openapi.OpenAPIConverter;
@@ -30,6 +31,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeoutException;
@@ -58,6 +60,7 @@ public class HttpState {
 
     public static final String LOG_SEPARATOR = NEW_LINE + "------------------------------------" + NEW_LINE;
     public static final String PATH_PREFIX = "/mockserver";
+    private static final String PROMETHEUS_TEXT_FORMAT = "text/plain; version=0.0.4";
     private static final ThreadLocal<Integer> LOCAL_PORT = new ThreadLocal<>();
     private final String uniqueLoopPreventionHeaderValue = "MockServer_" + UUIDService.getUUID();
     private final MockServerEventLog mockServerLog;
@@ -146,7 +149,10 @@ public class HttpState {
         return mockServerLogger;
     }
 
-    public void clear(HttpRequest request) {
+    /**
+     * @return future completed once the matching log entries have been cleared, expectations are cleared before returning
+     */
+    public CompletableFuture<Void> clear(HttpRequest request) {
         final String logCorrelationId = UUIDService.getUUID();
         RequestDefinition requestDefinition = null;
         ExpectationId expectationId = null;
@@ -165,11 +171,12 @@ public class HttpState {
         if (requestDefinition != null) {
             requestDefinition.withLogCorrelationId(logCorrelationId);
         }
+        CompletableFuture<Void> logCleared = CompletableFuture.completedFuture(null);
         try {
             ClearType type = ClearType.valueOf(defaultIfEmpty(request.getFirstQueryStringParameter("type").toUpperCase(), "ALL"));
             switch (type) {
                 case LOG:
-                    mockServerLog.clear(requestDefinition);
+                    logCleared = mockServerLog.clear(requestDefinition);
                     break;
                 case EXPECTATIONS:
                     if (expectationId != null) {
@@ -179,7 +186,7 @@ public class HttpState {
                     }
                     break;
                 case ALL:
-                    mockServerLog.clear(requestDefinition);
+                    logCleared = mockServerLog.clear(requestDefinition);
                     if (expectationId != null) {
                         requestMatchers.clear(expectationId, logCorrelationId);
                     } else {
@@ -198,6 +205,7 @@ public class HttpState {
             );
             throw new IllegalArgumentException("\"" + request.getFirstQueryStringParameter("type") + "\" is not a valid value for \"type\" parameter, only the following values are supported " + Arrays.stream(ClearType.values()).map(input -> input.name().toLowerCase()).collect(Collectors.toList()));
         }
+        return logCleared;
     }
 
     private RequestDefinition resolveExpectationId(ExpectationId expectationId) {
@@ -213,9 +221,12 @@ public class HttpState {
             .collect(Collectors.toList());
     }
 
-    public void reset() {
+    /**
+     * @return future completed once the log has been reset, expectations are reset before returning
+     */
+    public CompletableFuture<Void> reset() {
         requestMatchers.reset();
-        mockServerLog.reset();
+        CompletableFuture<Void> logReset = mockServerLog.reset();
         webSocketClientRegistry.reset();
         if (MockServerLogger.isEnabled(Level.INFO)) {
             mockServerLogger.logEvent(
@@ -241,6 +252,7 @@ public class HttpState {
                 ie.printStackTrace();
             }
         });
+        return logReset;
     }
 
     public List<Expectation> add(OpenAPIExpectation openAPIExpectation) {
@@ -248,7 +260,6 @@ public class HttpState {
     }
 
     public List<Expectation> add(Expectation... expectations) {
-        List<Expectation> upsertedExpectations = new ArrayList<>();
         for (Expectation expectation : expectations) {
             RequestDefinition requestDefinition = expectation.getHttpRequest();
             if (requestDefinition instanceof HttpRequest) {
@@ -257,9 +268,8 @@ public class HttpState {
                     scheduler.submit(() -> configuration.addSubjectAlternativeName(hostHeader));
                 }
             }
-            upsertedExpectations.add(requestMatchers.add(expectation, Cause.API));
         }
-        return upsertedExpectations;
+        return requestMatchers.add(Arrays.asList(expectations), Cause.API);
     }
 
     public Expectation firstMatchingExpectation(HttpRequest request) {
@@ -290,18 +300,42 @@ public class HttpState {
     }
 
     public HttpResponse retrieve(HttpRequest request) {
+        try {
+            return retrieveAsync(request).get(configuration.maxFutureTimeoutInMillis(), MILLISECONDS);
+        } catch (ExecutionException | InterruptedException | TimeoutException ex) {
+            if (ex.getCause() instanceof IllegalArgumentException) {
+                throw (IllegalArgumentException) ex.getCause();
+            }
+            mockServerLogger.logEvent(
+                new LogEntry()
+                    .setLogLevel(Level.ERROR)
+                    .setMessageFormat("exception handling request:{}error:{}")
+                    .setArguments(request, ex.getMessage())
+                    .setThrowable(ex)
+            );
+            throw new RuntimeException("Exception retrieving state for " + request, ex);
+        }
+    }
+
+    /**
+     * Retrieves state without blocking, the returned future is completed by the event log once the matching log entries
+     * have been read, or exceptionally if the retrieve request is invalid (with an IllegalArgumentException), if the
+     * retrieve fails or if it doesn't complete within maxFutureTimeout
+     */
+    public CompletableFuture<HttpResponse> retrieveAsync(HttpRequest request) {
         final String logCorrelationId = UUIDService.getUUID();
         CompletableFuture<HttpResponse> httpResponseFuture = new CompletableFuture<>();
         HttpResponse response = response().withStatusCode(OK.code());
         if (request != null) {
             try {
+                CompletableFuture<Void> query = CompletableFuture.completedFuture(null);
                 final RequestDefinition requestDefinition = isNotBlank(request.getBodyAsString()) ? getRequestDefinitionSerializer().deserialize(request.getBodyAsJsonOrXmlString()) : request();
                 requestDefinition.withLogCorrelationId(logCorrelationId);
                 Format format = Format.valueOf(defaultIfEmpty(request.getFirstQueryStringParameter("format").toUpperCase(), "JSON"));
                 RetrieveType type = RetrieveType.valueOf(defaultIfEmpty(request.getFirstQueryStringParameter("type").toUpperCase(), "REQUESTS"));
                 switch (type) {
                     case LOGS: {
-                        mockServerLog.retrieveMessageLogEntries(requestDefinition, (List<LogEntry> logEntries) -> {
+                        query = mockServerLog.retrieveMessageLogEntries(requestDefinition, (List<LogEntry> logEntries) -> {
                             StringBuilder stringBuffer = new StringBuilder();
                             for (int i = 0; i < logEntries.size(); i++) {
                                 LogEntry messageLogEntry = logEntries.get(i);
@@ -340,7 +374,7 @@ public class HttpState {
                             .setArguments(requestDefinition);
                         switch (format) {
                             case JAVA:
-                                mockServerLog
+                                query = mockServerLog
                                     .retrieveRequests(
                                         requestDefinition,
                                         requests -> {
@@ -354,7 +388,7 @@ public class HttpState {
                                     );
                                 break;
                             case JSON:
-                                mockServerLog
+                                query = mockServerLog
                                     .retrieveRequests(
                                         requestDefinition,
                                         requests -> {
@@ -368,7 +402,7 @@ public class HttpState {
                                     );
                                 break;
                             case LOG_ENTRIES:
-                                mockServerLog
+                                query = mockServerLog
                                     .retrieveRequestLogEntries(
                                         requestDefinition,
                                         logEntries -> {
@@ -399,7 +433,7 @@ public class HttpState {
                                 httpResponseFuture.complete(response);
                                 break;
                             case JSON:
-                                mockServerLog
+                                query = mockServerLog
                                     .retrieveRequestResponses(
                                         requestDefinition,
                                         httpRequestAndHttpResponses -> {
@@ -413,7 +447,7 @@ public class HttpState {
                                     );
                                 break;
                             case LOG_ENTRIES:
-                                mockServerLog
+                                query = mockServerLog
                                     .retrieveRequestResponseMessageLogEntries(
                                         requestDefinition,
                                         logEntries -> {
@@ -439,7 +473,7 @@ public class HttpState {
                             .setArguments(requestDefinition);
                         switch (format) {
                             case JAVA:
-                                mockServerLog
+                                query = mockServerLog
                                     .retrieveRecordedExpectations(
                                         requestDefinition,
                                         requests -> {
@@ -453,7 +487,7 @@ public class HttpState {
                                     );
                                 break;
                             case JSON:
-                                mockServerLog
+                                query = mockServerLog
                                     .retrieveRecordedExpectations(
                                         requestDefinition,
                                         requests -> {
@@ -467,7 +501,7 @@ public class HttpState {
                                     );
                                 break;
                             case LOG_ENTRIES:
-                                mockServerLog
+                                query = mockServerLog
                                     .retrieveRecordedExpectationLogEntries(
                                         requestDefinition,
                                         logEntries -> {
@@ -511,20 +545,12 @@ public class HttpState {
                         break;
                     }
                 }
-
-                try {
-                    return httpResponseFuture.get(configuration.maxFutureTimeoutInMillis(), MILLISECONDS);
-                } catch (ExecutionException | InterruptedException | TimeoutException ex) {
-                    mockServerLogger.logEvent(
-                        new LogEntry()
-                            .setLogLevel(Level.ERROR)
-                            .setCorrelationId(logCorrelationId)
-                            .setMessageFormat("exception handling request:{}error:{}")
-                            .setArguments(request, ex.getMessage())
-                            .setThrowable(ex)
-                    );
-                    throw new RuntimeException("Exception retrieving state for " + request, ex);
-                }
+                query.whenComplete((ignore, throwable) -> {
+                    if (throwable != null) {
+                        httpResponseFuture.completeExceptionally(throwable);
+                    }
+                });
+                scheduler.completeExceptionallyAfterFutureTimeout(httpResponseFuture);
             } catch (IllegalArgumentException iae) {
                 mockServerLogger.logEvent(
                     new LogEntry()
@@ -534,23 +560,33 @@ public class HttpState {
                         .setArguments(request, iae.getMessage())
                         .setThrowable(iae)
                 );
-                if (iae.getMessage().contains(RetrieveType.class.getSimpleName())) {
-                    throw new IllegalArgumentException("\"" + request.getFirstQueryStringParameter("type") + "\" is not a valid value for \"type\" parameter, only the following values are supported " + Arrays.stream(RetrieveType.values()).map(input -> input.name().toLowerCase()).collect(Collectors.toList()));
-                }
-                if (iae.getMessage().contains(Format.class.getSimpleName())) {
-                    throw new IllegalArgumentException("\"" + request.getFirstQueryStringParameter("format") + "\" is not a valid value for \"format\" parameter, only the following values are supported " + Arrays.stream(Format.values()).map(input -> input.name().toLowerCase()).collect(Collectors.toList()));
+                if (iae.getMessage() != null && iae.getMessage().contains(RetrieveType.class.getSimpleName())) {
+                    httpResponseFuture.completeExceptionally(new IllegalArgumentException("\"" + request.getFirstQueryStringParameter("type") + "\" is not a valid value for \"type\" parameter, only the following values are supported " + Arrays.stream(RetrieveType.values()).map(input -> input.name().toLowerCase()).collect(Collectors.toList())));
+                } else if (iae.getMessage() != null && iae.getMessage().contains(Format.class.getSimpleName())) {
+                    httpResponseFuture.completeExceptionally(new IllegalArgumentException("\"" + request.getFirstQueryStringParameter("format") + "\" is not a valid value for \"format\" parameter, only the following values are supported " + Arrays.stream(Format.values()).map(input -> input.name().toLowerCase()).collect(Collectors.toList())));
+                } else {
+                    httpResponseFuture.completeExceptionally(iae);
                 }
-                throw iae;
+            } catch (Throwable throwable) {
+                httpResponseFuture.completeExceptionally(throwable);
             }
+            return httpResponseFuture;
         } else {
-            return response().withStatusCode(200);
+            return CompletableFuture.completedFuture(response().withStatusCode(200));
         }
     }
 
     public Future<String> verify(Verification verification) {
-        CompletableFuture<String> result = new CompletableFuture<>();
-        verify(verification, result::complete);
-        return result;
+        return verifyAsync(verification);
+    }
+
+    /**
+     * Verifies without blocking, the returned future is completed by the event log with an empty string if the
+     * verification passed, or the failure message, or exceptionally if the verification couldn't be run or doesn't
+     * complete within maxFutureTimeout
+     */
+    public CompletableFuture<String> verifyAsync(Verification verification) {
+        return verifyAsync(resultConsumer -> verify(verification, resultConsumer));
     }
 
     public void verify(Verification verification, Consumer<String> resultConsumer) {
@@ -561,8 +597,24 @@ public class HttpState {
     }
 
     public Future<String> verify(VerificationSequence verification) {
+        return verifyAsync(verification);
+    }
+
+    /**
+     * Verifies without blocking, see {@link #verifyAsync(Verification)}
+     */
+    public CompletableFuture<String> verifyAsync(VerificationSequence verificationSequence) {
+        return verifyAsync(resultConsumer -> verify(verificationSequence, resultConsumer));
+    }
+
+    private CompletableFuture<String> verifyAsync(Consumer<Consumer<String>> verify) {
         CompletableFuture<String> result = new CompletableFuture<>();
-        verify(verification, result::complete);
+        try {
+            verify.accept(result::complete);
+            scheduler.completeExceptionallyAfterFutureTimeout(result);
+        } catch (Throwable throwable) {
+            result.completeExceptionally(throwable);
+        }
         return result;
     }
 
@@ -590,23 +642,22 @@ public class HttpState {
 
         if (request.matches("PUT")) {
 
-            CompletableFuture<Boolean> canHandle = new CompletableFuture<>();
-
             if (request.matches("PUT", PATH_PREFIX + "/expectation", "/expectation")) {
 
                 if (controlPlaneRequestAuthenticated(request, responseWriter)) {
-                    List<Expectation> upsertedExpectations = new ArrayList<>();
+                    List<Expectation> expectations = new ArrayList<>();
                     for (Expectation expectation : getExpectationSerializer().deserializeArray(request.getBodyAsJsonOrXmlString(), false)) {
                         if (!warDeployment || validateSupportedFeatures(expectation, request, responseWriter)) {
-                            upsertedExpectations.addAll(add(expectation));
+                            expectations.add(expectation);
                         }
                     }
+                    List<Expectation> upsertedExpectations = add(expectations.toArray(new Expectation[0]));
 
                     responseWriter.writeResponse(request, response()
                         .withStatusCode(CREATED.code())
                         .withBody(getExpectationSerializer().serialize(upsertedExpectations), MediaType.JSON_UTF_8), true);
                 }
-                canHandle.complete(true);
+                return true;
 
             } else if (request.matches("PUT", PATH_PREFIX + "/openapi", "/openapi")) {
 
@@ -635,69 +686,133 @@ public class HttpState {
                         );
                     }
                 }
-                canHandle.complete(true);
+                return true;
 
             } else if (request.matches("PUT", PATH_PREFIX + "/clear", "/clear")) {
 
                 if (controlPlaneRequestAuthenticated(request, responseWriter)) {
-                    clear(request);
-                    responseWriter.writeResponse(request, OK);
+                    CompletableFuture<Void> responseWritten = clear(request).handle((ignore, throwable) -> {
+                        if (throwable == null) {
+                            responseWriter.writeResponse(request, OK);
+                        } else {
+                            writeExceptionResponse(request, responseWriter, throwable);
+                        }
+                        return null;
+                    });
+                    waitForResponseIfWarDeployment(request, responseWritten, warDeployment);
                 }
-                canHandle.complete(true);
+                return true;
 
             } else if (request.matches("PUT", PATH_PREFIX + "/reset", "/reset")) {
 
                 if (controlPlaneRequestAuthenticated(request, responseWriter)) {
-                    reset();
-                    responseWriter.writeResponse(request, OK);
+                    CompletableFuture<Void> responseWritten = reset().handle((ignore, throwable) -> {
+                        if (throwable == null) {
+                            responseWriter.writeResponse(request, OK);
+                        } else {
+                            writeExceptionResponse(request, responseWriter, throwable);
+                        }
+                        return null;
+                    });
+                    waitForResponseIfWarDeployment(request, responseWritten, warDeployment);
                 }
-                canHandle.complete(true);
+                return true;
 
             } else if (request.matches("PUT", PATH_PREFIX + "/retrieve", "/retrieve")) {
 
                 if (controlPlaneRequestAuthenticated(request, responseWriter)) {
-                    responseWriter.writeResponse(request, retrieve(request), true);
+                    CompletableFuture<Void> responseWritten = retrieveAsync(request).handle((response, throwable) -> {
+                        if (throwable == null) {
+                            responseWriter.writeResponse(request, response, true);
+                        } else {
+                            writeExceptionResponse(request, responseWriter, throwable);
+                        }
+                        return null;
+                    });
+                    waitForResponseIfWarDeployment(request, responseWritten, warDeployment);
                 }
-                canHandle.complete(true);
+                return true;
 
             } else if (request.matches("PUT", PATH_PREFIX + "/verify", "/verify")) {
 
                 if (controlPlaneRequestAuthenticated(request, responseWriter)) {
-                    verify(getVerificationSerializer().deserialize(request.getBodyAsJsonOrXmlString()), result -> {
-                        if (isEmpty(result)) {
+                    CompletableFuture<Void> responseWritten = verifyAsync(getVerificationSerializer().deserialize(request.getBodyAsJsonOrXmlString())).handle((result, throwable) -> {
+                        if (throwable != null) {
+                            writeExceptionResponse(request, responseWriter, throwable);
+                        } else if (isEmpty(result)) {
                             responseWriter.writeResponse(request, ACCEPTED);
                         } else {
                             responseWriter.writeResponse(request, NOT_ACCEPTABLE, result, MediaType.create("text", "plain").toString());
                         }
-                        canHandle.complete(true);
+                        return null;
                     });
-                } else {
-                    canHandle.complete(true);
+                    waitForResponseIfWarDeployment(request, responseWritten, warDeployment);
                 }
+                return true;
 
             } else if (request.matches("PUT", PATH_PREFIX + "/verifySequence", "/verifySequence")) {
 
                 if (controlPlaneRequestAuthenticated(request, responseWriter)) {
-                    verify(getVerificationSequenceSerializer().deserialize(request.getBodyAsJsonOrXmlString()), result -> {
-                        if (isEmpty(result)) {
+                    CompletableFuture<Void> responseWritten = verifyAsync(getVerificationSequenceSerializer().deserialize(request.getBodyAsJsonOrXmlString())).handle((result, throwable) -> {
+                        if (throwable != null) {
+                            writeExceptionResponse(request, responseWriter, throwable);
+                        } else if (isEmpty(result)) {
                             responseWriter.writeResponse(request, ACCEPTED);
                         } else {
                             responseWriter.writeResponse(request, NOT_ACCEPTABLE, result, MediaType.create("text", "plain").toString());
                         }
-                        canHandle.complete(true);
+                        return null;
                     });
-                } else {
-                    canHandle.complete(true);
+                    waitForResponseIfWarDeployment(request, responseWritten, warDeployment);
                 }
+                return true;
 
             } else {
 
-                canHandle.complete(false);
+                return false;
+
+            }
+
+        } else if (configuration.metricsEnabled() && request.matches("GET", PATH_PREFIX + "/metrics")) {
 
+            if (controlPlaneRequestAuthenticated(request, responseWriter)) {
+                responseWriter.writeResponse(request, OK, Metrics.toPrometheusTextFormat(), PROMETHEUS_TEXT_FORMAT);
             }
+            return true;
 
+        } else {
+
+            return false;
+
+        }
+
+    }
+
+    /**
+     * any failure (including not completing within maxFutureTimeout) is returned as a plain text bad request, as it was
+     * when failures were thrown to the request handler
+     */
+    private void writeExceptionResponse(HttpRequest request, ResponseWriter responseWriter, Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+        mockServerLogger.logEvent(
+            new LogEntry()
+                .setLogLevel(Level.ERROR)
+                .setHttpRequest(request)
+                .setMessageFormat("exception handling request:{}error:{}")
+                .setArguments(request, cause.getMessage())
+                .setThrowable(cause)
+        );
+        responseWriter.writeResponse(request, BAD_REQUEST, cause.getMessage(), MediaType.create("text", "plain").toString());
+    }
+
+    /**
+     * retrieve and verify responses are written by the event log thread, servlet containers require the response
+     * to be written before the servlet returns so only war deployments wait, netty threads never block
+     */
+    private void waitForResponseIfWarDeployment(HttpRequest request, CompletableFuture<Void> responseWritten, boolean warDeployment) {
+        if (warDeployment) {
             try {
-                return canHandle.get(configuration.maxFutureTimeoutInMillis(), MILLISECONDS);
+                responseWritten.get(configuration.maxFutureTimeoutInMillis(), MILLISECONDS);
             } catch (InterruptedException | ExecutionException | TimeoutException ex) {
                 mockServerLogger.logEvent(
                     new LogEntry()
@@ -706,15 +821,8 @@ public class HttpState {
                         .setArguments(request, ex.getMessage())
                         .setThrowable(ex)
                 );
-                return false;
             }
-
-        } else {
-
-            return false;
-
         }
-
     }
 
     private boolean controlPlaneRequestAuthenticated(HttpRequest request, ResponseWriter responseWriter) {
@@ -805,7 +913,7 @@ public class HttpState {
 
     private ExpectationSerializer getExpectationSerializer() {
         if (this.expectationSerializer == null) {
-            this.expectationSerializer = new ExpectationSerializer(mockServerLogger);
+            this.expectationSerializer = new ExpectationSerializer(mockServerLogger, false, scheduler);
         }
         return expectationSerializer;
     }
@@ -8,8 +8,10 @@ import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
 import org.mockserver.matchers.HttpRequestMatcher;
 import org.mockserver.matchers.MatchDifference;
+import org.mockserver.matchers.MatchFailureSummary;
 import org.mockserver.matchers.MatcherBuilder;
 import org.mockserver.metrics.Metrics;
+import org.mockserver.mock.listeners.ExpectationChanges;
 import org.mockserver.mock.listeners.MockServerMatcherNotifier;
 import org.mockserver.model.*;
 import org.mockserver.scheduler.Scheduler;
@@ -17,7 +19,8 @@ import org.mockserver.uuid.UUIDService;
 import org.slf4j.event.Level;
 
 import java.util.*;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -26,6 +29,7 @@ import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.mockserver.log.model.LogEntry.LogMessageType.*;
 import static org.mockserver.log.model.LogEntryMessages.*;
 import static org.mockserver.metrics.Metrics.Name.*;
+import static org.mockserver.metrics.Metrics.Timer.EXPECTATION_MATCHING;
 import static org.mockserver.mock.SortableExpectationId.EXPECTATION_SORTABLE_PRIORITY_COMPARATOR;
 import static org.mockserver.mock.SortableExpectationId.NULL;
 import static org.slf4j.event.Level.DEBUG;
@@ -39,6 +43,9 @@ public class RequestMatchers extends MockServerMatcherNotifier {
 
     final CircularPriorityQueue<String, HttpRequestMatcher, SortableExpectationId> httpRequestMatchers;
     final CircularHashMap<String, RequestDefinition> expectationRequestDefinitions;
+    final HttpRequestMatcherIndex httpRequestMatcherIndex = new HttpRequestMatcherIndex();
+    // batches are applied while holding the write lock so matching never sees a partially applied batch
+    private final ReadWriteLock batchLock = new ReentrantReadWriteLock();
     private final MockServerLogger mockServerLogger;
     private final Configuration configuration;
     private final Scheduler scheduler;
@@ -47,7 +54,7 @@ public class RequestMatchers extends MockServerMatcherNotifier {
     private Metrics metrics;
 
     public RequestMatchers(Configuration configuration, MockServerLogger mockServerLogger, Scheduler scheduler, WebSocketClientRegistry webSocketClientRegistry) {
-        super(scheduler);
+        super(configuration, scheduler);
         this.configuration = configuration;
         this.scheduler = scheduler;
         this.matcherBuilder = new MatcherBuilder(configuration, mockServerLogger);
@@ -58,7 +65,8 @@ public class RequestMatchers extends MockServerMatcherNotifier {
             configuration.maxExpectations(),
             EXPECTATION_SORTABLE_PRIORITY_COMPARATOR,
             httpRequestMatcher -> httpRequestMatcher.getExpectation() != null ? httpRequestMatcher.getExpectation().getSortableId() : NULL,
-            httpRequestMatcher -> httpRequestMatcher.getExpectation() != null ? httpRequestMatcher.getExpectation().getId() : ""
+            httpRequestMatcher -> httpRequestMatcher.getExpectation() != null ? httpRequestMatcher.getExpectation().getId() : "",
+            httpRequestMatcher -> httpRequestMatcherIndex.remove(getId(httpRequestMatcher))
         );
         expectationRequestDefinitions = new CircularHashMap<>(configuration.maxExpectations());
         if (MockServerLogger.isEnabled(TRACE)) {
@@ -71,6 +79,43 @@ public class RequestMatchers extends MockServerMatcherNotifier {
     }
 
     public Expectation add(Expectation expectation, Cause cause) {
+        Expectation upsertedExpectation = upsert(expectation, cause, null);
+        if (upsertedExpectation != null) {
+            notifyListeners(this, new ExpectationChanges(cause).upserted(upsertedExpectation));
+        }
+        return upsertedExpectation;
+    }
+
+    /**
+     * adds or updates all expectations atomically with a single notification, matchers for new expectations are created
+     * in parallel as creating matchers (i.e. compiling regex or json schema) is the most expensive part of adding expectations
+     */
+    public List<Expectation> add(List<Expectation> expectations, Cause cause) {
+        Set<String> existingKeys = httpRequestMatchers.keyMap().keySet();
+        List<HttpRequestMatcher> newHttpRequestMatchers = scheduler.parallelTransform(expectations, expectation ->
+            expectation != null && !existingKeys.contains(expectation.getId()) ? matcherBuilder.transformsToMatcher(expectation) : null
+        );
+        ExpectationChanges changes = new ExpectationChanges(cause);
+        List<Expectation> upsertedExpectations = new ArrayList<>();
+        batchLock.writeLock().lock();
+        try {
+            for (int i = 0; i < expectations.size(); i++) {
+                Expectation upsertedExpectation = upsert(expectations.get(i), cause, newHttpRequestMatchers.get(i));
+                if (upsertedExpectation != null) {
+                    changes.upserted(upsertedExpectation);
+                    upsertedExpectations.add(upsertedExpectation);
+                }
+            }
+        } finally {
+            batchLock.writeLock().unlock();
+        }
+        if (changes.getNumberOfChanges() > 0) {
+            notifyListeners(this, changes);
+        }
+        return upsertedExpectations;
+    }
+
+    private Expectation upsert(Expectation expectation, Cause cause, HttpRequestMatcher newHttpRequestMatcher) {
         Expectation upsertedExpectation = null;
         if (expectation != null) {
             expectationRequestDefinitions.put(expectation.getId(), expectation.getHttpRequest());
@@ -87,6 +132,7 @@ public class RequestMatchers extends MockServerMatcherNotifier {
                     httpRequestMatchers.removePriorityKey(httpRequestMatcher);
                     if (httpRequestMatcher.update(expectation)) {
                         httpRequestMatchers.addPriorityKey(httpRequestMatcher);
+                        httpRequestMatcherIndex.add(expectation.getId(), httpRequestMatcher);
                         if (MockServerLogger.isEnabled(Level.INFO)) {
                             mockServerLogger.logEvent(
                                 new LogEntry()
@@ -105,87 +151,96 @@ public class RequestMatchers extends MockServerMatcherNotifier {
                     }
                     return httpRequestMatcher;
                 })
-                .orElseGet(() -> addPrioritisedExpectation(expectation, cause))
+                .orElseGet(() -> addPrioritisedExpectation(expectation, cause, newHttpRequestMatcher))
                 .getExpectation();
-            notifyListeners(this, cause);
         }
         return upsertedExpectation;
     }
 
     public void update(Expectation[] expectations, Cause cause) {
-        AtomicInteger numberOfChanges = new AtomicInteger(0);
+        ExpectationChanges changes = new ExpectationChanges(cause);
         if (expectations != null) {
-            Map<String, HttpRequestMatcher> httpRequestMatchersByKey = httpRequestMatchers.keyMap();
-            Set<String> existingKeysForCause = httpRequestMatchersByKey
-                .entrySet()
-                .stream()
-                .filter(entry -> entry.getValue().getSource().equals(cause))
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toSet());
-            Set<String> addedIds = new HashSet<>();
-            Arrays
-                .stream(expectations)
-                .forEach(expectation -> {
-                    // ensure duplicate ids are skipped in input array
-                    if (!addedIds.contains(expectation.getId())) {
-                        addedIds.add(expectation.getId());
-                        expectationRequestDefinitions.put(expectation.getId(), expectation.getHttpRequest());
-                        existingKeysForCause.remove(expectation.getId());
-                        if (httpRequestMatchersByKey.containsKey(expectation.getId())) {
-                            HttpRequestMatcher httpRequestMatcher = httpRequestMatchersByKey.get(expectation.getId());
-                            // update source to new cause
-                            httpRequestMatcher.withSource(cause);
-                            if (httpRequestMatcher.getExpectation() != null && httpRequestMatcher.getExpectation().getAction() != null) {
-                                metrics.decrement(httpRequestMatcher.getExpectation().getAction().getType());
-                            }
-                            if (httpRequestMatcher.getExpectation() != null) {
-                                // propagate created time from previous entry to avoid re-ordering on update
-                                expectation.withCreated(httpRequestMatcher.getExpectation().getCreated());
+            batchLock.writeLock().lock();
+            try {
+                applyUpdate(expectations, cause, changes);
+            } finally {
+                batchLock.writeLock().unlock();
+            }
+            if (changes.getNumberOfChanges() > 0) {
+                notifyListeners(this, changes);
+            }
+        }
+    }
+
+    private void applyUpdate(Expectation[] expectations, Cause cause, ExpectationChanges changes) {
+        Map<String, HttpRequestMatcher> httpRequestMatchersByKey = httpRequestMatchers.keyMap();
+        Set<String> existingKeysForCause = httpRequestMatchersByKey
+            .entrySet()
+            .stream()
+            .filter(entry -> entry.getValue().getSource().equals(cause))
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toSet());
+        Set<String> addedIds = new HashSet<>();
+        Arrays
+            .stream(expectations)
+            .forEach(expectation -> {
+                // ensure duplicate ids are skipped in input array
+                if (!addedIds.contains(expectation.getId())) {
+                    addedIds.add(expectation.getId());
+                    expectationRequestDefinitions.put(expectation.getId(), expectation.getHttpRequest());
+                    existingKeysForCause.remove(expectation.getId());
+                    if (httpRequestMatchersByKey.containsKey(expectation.getId())) {
+                        HttpRequestMatcher httpRequestMatcher = httpRequestMatchersByKey.get(expectation.getId());
+                        // update source to new cause
+                        httpRequestMatcher.withSource(cause);
+                        if (httpRequestMatcher.getExpectation() != null && httpRequestMatcher.getExpectation().getAction() != null) {
+                            metrics.decrement(httpRequestMatcher.getExpectation().getAction().getType());
+                        }
+                        if (httpRequestMatcher.getExpectation() != null) {
+                            // propagate created time from previous entry to avoid re-ordering on update
+                            expectation.withCreated(httpRequestMatcher.getExpectation().getCreated());
+                        }
+                        httpRequestMatchers.removePriorityKey(httpRequestMatcher);
+                        if (httpRequestMatcher.update(expectation)) {
+                            httpRequestMatchers.addPriorityKey(httpRequestMatcher);
+                            httpRequestMatcherIndex.add(expectation.getId(), httpRequestMatcher);
+                            changes.upserted(httpRequestMatcher.getExpectation());
+                            if (MockServerLogger.isEnabled(Level.INFO)) {
+                                mockServerLogger.logEvent(
+                                    new LogEntry()
+                                        .setType(UPDATED_EXPECTATION)
+                                        .setLogLevel(Level.INFO)
+                                        .setHttpRequest(expectation.getHttpRequest())
+                                        .setMessageFormat(UPDATED_EXPECTATION_MESSAGE_FORMAT)
+                                        .setArguments(expectation.clone(), expectation.getId())
+                                );
                             }
-                            httpRequestMatchers.removePriorityKey(httpRequestMatcher);
-                            if (httpRequestMatcher.update(expectation)) {
-                                httpRequestMatchers.addPriorityKey(httpRequestMatcher);
-                                numberOfChanges.getAndIncrement();
-                                if (MockServerLogger.isEnabled(Level.INFO)) {
-                                    mockServerLogger.logEvent(
-                                        new LogEntry()
-                                            .setType(UPDATED_EXPECTATION)
-                                            .setLogLevel(Level.INFO)
-                                            .setHttpRequest(expectation.getHttpRequest())
-                                            .setMessageFormat(UPDATED_EXPECTATION_MESSAGE_FORMAT)
-                                            .setArguments(expectation.clone(), expectation.getId())
-                                    );
-                                }
-                                if (expectation.getAction() != null) {
-                                    metrics.increment(expectation.getAction().getType());
-                                }
-                            } else {
-                                httpRequestMatchers.addPriorityKey(httpRequestMatcher);
+                            if (expectation.getAction() != null) {
+                                metrics.increment(expectation.getAction().getType());
                             }
                         } else {
-                            addPrioritisedExpectation(expectation, cause);
-                            numberOfChanges.getAndIncrement();
+                            httpRequestMatchers.addPriorityKey(httpRequestMatcher);
                         }
+                    } else {
+                        changes.upserted(addPrioritisedExpectation(expectation, cause, null).getExpectation());
                     }
-                });
-            existingKeysForCause
-                .forEach(key -> {
-                    numberOfChanges.getAndIncrement();
-                    HttpRequestMatcher httpRequestMatcher = httpRequestMatchersByKey.get(key);
-                    removeHttpRequestMatcher(httpRequestMatcher, cause, false, UUIDService.getUUID());
-                    if (httpRequestMatcher.getExpectation() != null && httpRequestMatcher.getExpectation().getAction() != null) {
-                        metrics.decrement(httpRequestMatcher.getExpectation().getAction().getType());
-                    }
-                });
-            if (numberOfChanges.get() > 0) {
-                notifyListeners(this, cause);
-            }
-        }
+                }
+            });
+        existingKeysForCause
+            .forEach(key -> {
+                HttpRequestMatcher httpRequestMatcher = httpRequestMatchersByKey.get(key);
+                changes.removed(httpRequestMatcher.getExpectation());
+                removeHttpRequestMatcher(httpRequestMatcher, cause, false, UUIDService.getUUID());
+                if (httpRequestMatcher.getExpectation() != null && httpRequestMatcher.getExpectation().getAction() != null) {
+                    metrics.decrement(httpRequestMatcher.getExpectation().getAction().getType());
+                }
+            });
     }
 
-    private HttpRequestMatcher addPrioritisedExpectation(Expectation expectation, Cause cause) {
-        HttpRequestMatcher httpRequestMatcher = matcherBuilder.transformsToMatcher(expectation);
+    private HttpRequestMatcher addPrioritisedExpectation(Expectation expectation, Cause cause, HttpRequestMatcher newHttpRequestMatcher) {
+        HttpRequestMatcher httpRequestMatcher = newHttpRequestMatcher != null ? newHttpRequestMatcher : matcherBuilder.transformsToMatcher(expectation);
         httpRequestMatchers.add(httpRequestMatcher);
+        httpRequestMatcherIndex.add(expectation.getId(), httpRequestMatcher);
         httpRequestMatcher.withSource(cause);
         if (expectation.getAction() != null) {
             metrics.increment(expectation.getAction().getType());
@@ -211,7 +266,7 @@ public class RequestMatchers extends MockServerMatcherNotifier {
         httpRequestMatchers.stream().forEach(httpRequestMatcher -> removeHttpRequestMatcher(httpRequestMatcher, cause, false, UUIDService.getUUID()));
         expectationRequestDefinitions.clear();
         Metrics.clearActionMetrics();
-        notifyListeners(this, cause);
+        notifyListeners(this, new ExpectationChanges(cause).reset());
     }
 
     public void reset() {
@@ -219,36 +274,78 @@ public class RequestMatchers extends MockServerMatcherNotifier {
     }
 
     public Expectation firstMatchingExpectation(HttpRequest httpRequest) {
-        Optional<Expectation> first = getHttpRequestMatchersCopy()
+        long matchingStartTime = metrics.startTimer();
+        int matchFailureSummaryCandidates = configuration.matchFailureSummaryCandidates();
+        MatchFailureSummary matchFailureSummary = httpRequest != null && matchFailureSummaryCandidates > 0 && MockServerLogger.isEnabled(Level.INFO) ? new MatchFailureSummary(httpRequest, matchFailureSummaryCandidates, matcherBuilder::transformsToMatcher) : null;
+        // the body is parsed at most once while it is matched against every expectation
+        boolean parsedBodyCached = httpRequest != null && httpRequest.cacheParsedBody();
+        Optional<Expectation> first;
+        batchLock.readLock().lock();
+        try {
+            first = matchExpectations(httpRequest, matchFailureSummary);
+        } finally {
+            batchLock.readLock().unlock();
+            if (parsedBodyCached) {
+                httpRequest.clearParsedBody();
+            }
+        }
+        if (!first.isPresent() && matchFailureSummary != null && matchFailureSummary.getExpectationsNotMatched() > 0) {
+            mockServerLogger.logEvent(
+                new LogEntry()
+                    .setType(EXPECTATION_NOT_MATCHED)
+                    .setLogLevel(Level.INFO)
+                    .setCorrelationId(httpRequest.getLogCorrelationId())
+                    .setHttpRequest(httpRequest)
+                    .setMessageFormat("request:{}didn't match " + matchFailureSummary.getExpectationsNotMatched() + " expectations, closest expectations were:{}")
+                    .setArguments(httpRequest, matchFailureSummary)
+            );
+        }
+        if (configuration.metricsEnabled()) {
+            metrics.record(EXPECTATION_MATCHING, matchingStartTime);
+            if (!first.isPresent() || first.get().getAction() == null) {
+                metrics.increment(EXPECTATION_NOT_MATCHED_COUNT);
+            } else if (first.get().getAction().getType().direction == Action.Direction.FORWARD) {
+                metrics.increment(FORWARD_EXPECTATION_MATCHED_COUNT);
+            } else {
+                metrics.increment(RESPONSE_EXPECTATION_MATCHED_COUNT);
+            }
+        }
+        return first.orElse(null);
+    }
+
+    private Optional<Expectation> matchExpectations(HttpRequest httpRequest, MatchFailureSummary matchFailureSummary) {
+        return getHttpRequestMatchersCopy(httpRequest)
             .map(httpRequestMatcher -> {
                 Expectation matchingExpectation = null;
                 boolean remainingMatchesDecremented = false;
-                if (httpRequestMatcher.matches(MockServerLogger.isEnabled(DEBUG) ? new MatchDifference(configuration.detailedMatchFailures(), httpRequest) : null, httpRequest)) {
+                MatchDifference context = null;
+                if (MockServerLogger.isEnabled(DEBUG)) {
+                    context = new MatchDifference(configuration.detailedMatchFailures(), httpRequest);
+                } else if (matchFailureSummary != null) {
+                    // only the fields that matched are needed to find the closest expectations
+                    context = new MatchDifference(false, httpRequest);
+                }
+                if (httpRequestMatcher.matches(context, httpRequest)) {
                     matchingExpectation = httpRequestMatcher.getExpectation();
                     httpRequestMatcher.setResponseInProgress(true);
                     if (matchingExpectation.decrementRemainingMatches()) {
                         remainingMatchesDecremented = true;
                     }
-                } else if (!httpRequestMatcher.isResponseInProgress() && !httpRequestMatcher.isActive()) {
-                    scheduler.submit(() -> removeHttpRequestMatcher(httpRequestMatcher, UUIDService.getUUID()));
+                } else {
+                    if (matchFailureSummary != null && httpRequestMatcher.isActive()) {
+                        matchFailureSummary.add(httpRequestMatcher, context);
+                    }
+                    if (!httpRequestMatcher.isResponseInProgress() && !httpRequestMatcher.isActive()) {
+                        scheduler.submit(() -> removeHttpRequestMatcher(httpRequestMatcher, UUIDService.getUUID()));
+                    }
                 }
                 if (remainingMatchesDecremented) {
-                    notifyListeners(this, Cause.API);
+                    notifyListeners(this, new ExpectationChanges(Cause.API).upserted(matchingExpectation));
                 }
                 return matchingExpectation;
             })
             .filter(Objects::nonNull)
             .findFirst();
-        if (configuration.metricsEnabled()) {
-            if (!first.isPresent() || first.get().getAction() == null) {
-                metrics.increment(EXPECTATION_NOT_MATCHED_COUNT);
-            } else if (first.get().getAction().getType().direction == Action.Direction.FORWARD) {
-                metrics.increment(FORWARD_EXPECTATION_MATCHED_COUNT);
-            } else {
-                metrics.increment(RESPONSE_EXPECTATION_MATCHED_COUNT);
-            }
-        }
-        return first.orElse(null);
     }
 
     public void clear(RequestDefinition requestDefinition) {
@@ -325,6 +422,7 @@ public class RequestMatchers extends MockServerMatcherNotifier {
     @SuppressWarnings("rawtypes")
     private void removeHttpRequestMatcher(HttpRequestMatcher httpRequestMatcher, Cause cause, boolean notifyAndUpdateMetrics, String logCorrelationId) {
         if (httpRequestMatchers.remove(httpRequestMatcher)) {
+            httpRequestMatcherIndex.remove(getId(httpRequestMatcher));
             if (httpRequestMatcher.getExpectation() != null && MockServerLogger.isEnabled(Level.INFO)) {
                 Expectation expectation = httpRequestMatcher.getExpectation().clone();
                 mockServerLogger.logEvent(
@@ -347,7 +445,7 @@ public class RequestMatchers extends MockServerMatcherNotifier {
                 }
             }
             if (notifyAndUpdateMetrics) {
-                notifyListeners(this, cause);
+                notifyListeners(this, new ExpectationChanges(cause).removed(httpRequestMatcher.getExpectation()));
             }
         }
     }
@@ -402,11 +500,29 @@ public class RequestMatchers extends MockServerMatcherNotifier {
         return httpRequestMatchers.isEmpty();
     }
 
-    protected void notifyListeners(final RequestMatchers notifier, Cause cause) {
-        super.notifyListeners(notifier, cause);
+    protected void notifyListeners(final RequestMatchers notifier, ExpectationChanges changes) {
+        super.notifyListeners(notifier, changes);
     }
 
     private Stream<HttpRequestMatcher> getHttpRequestMatchersCopy() {
         return httpRequestMatchers.stream();
     }
+
+    private Stream<HttpRequestMatcher> getHttpRequestMatchersCopy(HttpRequest httpRequest) {
+        if (configuration.expectationIndexEnabled()) {
+            List<HttpRequestMatcher> candidates = httpRequestMatcherIndex.candidates(httpRequest);
+            if (candidates != null) {
+                // ignore any stale index entries and keep the same priority and creation order as the full queue
+                return candidates
+                    .stream()
+                    .filter(httpRequestMatcher -> httpRequestMatchers.getByKey(getId(httpRequestMatcher)).orElse(null) == httpRequestMatcher)
+                    .sorted(Comparator.comparing(httpRequestMatcher -> httpRequestMatcher.getExpectation().getSortableId(), EXPECTATION_SORTABLE_PRIORITY_COMPARATOR));
+            }
+        }
+        return getHttpRequestMatchersCopy();
+    }
+
+    private static String getId(HttpRequestMatcher httpRequestMatcher) {
+        return httpRequestMatcher.getExpectation() != null ? httpRequestMatcher.getExpectation().getId() : "";
+    }
 }
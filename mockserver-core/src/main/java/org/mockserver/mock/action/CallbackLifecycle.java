@@ -0,0 +1,32 @@
+package org.mockserver.mock.action;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Controls how often a class callback (i.e. an {@link ExpectationCallback} specified by class name) is instantiated,
+ * by default a new instance is created for every request.
+ * <p>
+ * A stateless callback that is expensive to construct can be annotated with {@code @CallbackLifecycle(SINGLETON)}
+ * so a single instance is created the first time it is required and then used for every request, concurrently,
+ * until MockServer is stopped.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface CallbackLifecycle {
+
+    Lifecycle value() default Lifecycle.PER_REQUEST;
+
+    enum Lifecycle {
+        /**
+         * a new instance is created for every request
+         */
+        PER_REQUEST,
+        /**
+         * a single instance is created and shared by every request, the callback must be thread safe
+         */
+        SINGLETON
+    }
+}
@@ -0,0 +1,33 @@
+package org.mockserver.mock.action;
+
+import org.mockserver.model.HttpRequest;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Forward callback that doesn't block a MockServer thread while the request to proxy is produced, i.e. while waiting
+ * on I/O, the request is forwarded when the returned future completes.
+ * <p>
+ * If the future completes exceptionally a 404 response is returned.
+ */
+public interface ExpectationForwardAsyncCallback extends ExpectationForwardCallback {
+
+    /**
+     * Called for every request when expectation condition has been satisfied.
+     * The request that satisfied the expectation condition is passed as the
+     * parameter and the returned future completes with the request that will be proxied.
+     *
+     * @param httpRequest the request that satisfied the expectation condition
+     * @return future of the request that will be proxied
+     */
+    CompletableFuture<HttpRequest> handleAsync(HttpRequest httpRequest) throws Exception;
+
+    /**
+     * blocks until the request is available, only used by callers that can't compose the future
+     */
+    @Override
+    default HttpRequest handle(HttpRequest httpRequest) throws Exception {
+        return handleAsync(httpRequest).get();
+    }
+
+}
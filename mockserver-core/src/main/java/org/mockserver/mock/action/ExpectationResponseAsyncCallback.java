@@ -0,0 +1,34 @@
+package org.mockserver.mock.action;
+
+import org.mockserver.model.HttpRequest;
+import org.mockserver.model.HttpResponse;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Response callback that doesn't block a MockServer thread while the response is produced, i.e. while waiting on I/O,
+ * the response is written when the returned future completes.
+ * <p>
+ * If the future doesn't complete within "mockserver.maxFutureTimeout" it is completed exceptionally and a 404 response is returned.
+ */
+public interface ExpectationResponseAsyncCallback extends ExpectationResponseCallback {
+
+    /**
+     * Called for every request when expectation condition has been satisfied.
+     * The request that satisfied the expectation condition is passed as the
+     * parameter and the returned future completes with the response that will be returned.
+     *
+     * @param httpRequest the request that satisfied the expectation condition
+     * @return future of the response that will be returned
+     */
+    CompletableFuture<HttpResponse> handleAsync(HttpRequest httpRequest) throws Exception;
+
+    /**
+     * blocks until the response is available, only used by callers that can't compose the future
+     */
+    @Override
+    default HttpResponse handle(HttpRequest httpRequest) throws Exception {
+        return handleAsync(httpRequest).get();
+    }
+
+}
@@ -0,0 +1,89 @@
+package org.mockserver.mock.action.http;
+
+import org.mockserver.mock.action.CallbackLifecycle;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Caches the loaded class and default constructor for each class callback so they are only resolved once (instead of
+ * for every request) and retains the single instance of callbacks annotated with {@link CallbackLifecycle} SINGLETON
+ */
+class ClassCallbackCache {
+
+    private final ConcurrentMap<String, CallbackClass> callbackClasses = new ConcurrentHashMap<>();
+
+    CallbackClass callbackClass(String className, ClassLoader classLoader) throws ClassNotFoundException {
+        CallbackClass callbackClass = callbackClasses.get(className);
+        // the context class loader can be replaced, i.e. when a new class path is specified
+        if (callbackClass == null || callbackClass.classLoader != classLoader) {
+            callbackClass = new CallbackClass(Class.forName(className, false, classLoader), classLoader);
+            callbackClasses.put(className, callbackClass);
+        }
+        return callbackClass;
+    }
+
+    static class CallbackClass {
+
+        private final Class<?> type;
+        private final ClassLoader classLoader;
+        private final boolean singleton;
+        private volatile MethodHandle constructor;
+        private volatile Object instance;
+
+        private CallbackClass(Class<?> type, ClassLoader classLoader) {
+            this.type = type;
+            this.classLoader = classLoader;
+            CallbackLifecycle callbackLifecycle = type.getAnnotation(CallbackLifecycle.class);
+            this.singleton = callbackLifecycle != null && callbackLifecycle.value() == CallbackLifecycle.Lifecycle.SINGLETON;
+        }
+
+        Class<?> getType() {
+            return type;
+        }
+
+        boolean isSingleton() {
+            return singleton;
+        }
+
+        /**
+         * returns the single instance for singleton callbacks, otherwise a new instance
+         *
+         * @throws InvocationTargetException if the constructor throws an exception
+         */
+        Object instance() throws NoSuchMethodException, IllegalAccessException, InvocationTargetException {
+            if (singleton) {
+                Object existing = instance;
+                if (existing == null) {
+                    synchronized (this) {
+                        existing = instance;
+                        if (existing == null) {
+                            instance = existing = newInstance();
+                        }
+                    }
+                }
+                return existing;
+            } else {
+                return newInstance();
+            }
+        }
+
+        private Object newInstance() throws NoSuchMethodException, IllegalAccessException, InvocationTargetException {
+            MethodHandle constructor = this.constructor;
+            if (constructor == null) {
+                constructor = MethodHandles.publicLookup().findConstructor(type, methodType(void.class)).asType(methodType(Object.class));
+                this.constructor = constructor;
+            }
+            try {
+                return constructor.invokeExact();
+            } catch (Throwable throwable) {
+                throw new InvocationTargetException(throwable);
+            }
+        }
+    }
+}
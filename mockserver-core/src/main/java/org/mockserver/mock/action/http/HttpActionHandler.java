@@ -9,10 +9,12 @@ import org.apache.commons.text.StringEscapeUtils;
 import org.mockserver.configuration.Configuration;
 import org.mockserver.cors.CORSHeaders;
 import org.mockserver.filters.HopByHopHeaderFilter;
+import org.mockserver.httpclient.HttpClientStreamingResponseHandler;
 import org.mockserver.httpclient.NettyHttpClient;
 import org.mockserver.httpclient.SocketCommunicationException;
 import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
+import org.mockserver.metrics.Metrics;
 import org.mockserver.mock.Expectation;
 import org.mockserver.mock.HttpState;
 import org.mockserver.model.*;
@@ -27,7 +29,9 @@ import java.net.InetSocketAddress;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 import static io.netty.handler.codec.http.HttpHeaderNames.*;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
@@ -39,6 +43,7 @@ import static org.mockserver.character.Character.NEW_LINE;
 import static org.mockserver.exception.ExceptionHandling.*;
 import static org.mockserver.log.model.LogEntry.LogMessageType.*;
 import static org.mockserver.log.model.LogEntryMessages.*;
+import static org.mockserver.metrics.Metrics.Timer.ACTION_EXECUTION;
 import static org.mockserver.model.HttpResponse.notFoundResponse;
 import static org.mockserver.model.HttpResponse.response;
 import static org.slf4j.event.Level.TRACE;
@@ -54,6 +59,7 @@ public class HttpActionHandler {
     private final Configuration configuration;
     private final HttpState httpStateHandler;
     private final Scheduler scheduler;
+    private final Metrics metrics;
     private MockServerLogger mockServerLogger;
     private HttpResponseActionHandler httpResponseActionHandler;
     private HttpResponseTemplateActionHandler httpResponseTemplateActionHandler;
@@ -75,6 +81,7 @@ public class HttpActionHandler {
         this.configuration = configuration;
         this.httpStateHandler = httpStateHandler;
         this.scheduler = httpStateHandler.getScheduler();
+        this.metrics = new Metrics(configuration);
         this.mockServerLogger = httpStateHandler.getMockServerLogger();
         this.httpRequestToCurlSerializer = new HttpRequestToCurlSerializer(mockServerLogger);
         this.httpClient = new NettyHttpClient(configuration, mockServerLogger, eventLoopGroup, proxyConfigurations, true, nettySslContextFactory);
@@ -99,6 +106,9 @@ public class HttpActionHandler {
         if (expectation != null && expectation.getAction() != null) {
 
             final Action action = expectation.getAction();
+            // recorded when the response is written so delays, forwarded requests and asynchronous callbacks are included
+            long actionStartTime = metrics.startTimer();
+            responseWriter.whenResponseWritten(() -> metrics.record(ACTION_EXECUTION, actionStartTime));
             switch (action.getType()) {
                 case RESPONSE: {
                     scheduler.schedule(() -> handleAnyException(request, responseWriter, synchronous, action, () -> {
@@ -118,9 +128,8 @@ public class HttpActionHandler {
                 }
                 case RESPONSE_CLASS_CALLBACK: {
                     scheduler.schedule(() -> handleAnyException(request, responseWriter, synchronous, action, () -> {
-                        final HttpResponse response = getHttpResponseClassCallbackActionHandler().handle((HttpClassCallback) action, request);
-                        writeResponseActionResponse(response, responseWriter, request, action, synchronous);
-                        expectationPostProcessor.run();
+                        final CompletableFuture<HttpResponse> responseFuture = getHttpResponseClassCallbackActionHandler().handle((HttpClassCallback) action, request);
+                        writeResponseActionResponse(responseFuture, responseWriter, request, action, synchronous, expectationPostProcessor);
                     }), synchronous, action.getDelay());
                     break;
                 }
@@ -132,8 +141,12 @@ public class HttpActionHandler {
                 }
                 case FORWARD: {
                     scheduler.schedule(() -> handleAnyException(request, responseWriter, synchronous, action, () -> {
-                        final HttpForwardActionResult responseFuture = getHttpForwardActionHandler().handle((HttpForward) action, request);
-                        writeForwardActionResponse(responseFuture, responseWriter, request, action, synchronous);
+                        if (ctx != null && configuration.streamProxiedResponses()) {
+                            streamForwardActionResponse((HttpForward) action, responseWriter, request, ctx, synchronous);
+                        } else {
+                            final HttpForwardActionResult responseFuture = getHttpForwardActionHandler().handle((HttpForward) action, request);
+                            writeForwardActionResponse(responseFuture, responseWriter, request, action, synchronous);
+                        }
                         expectationPostProcessor.run();
                     }), synchronous, action.getDelay());
                     break;
@@ -171,6 +184,7 @@ public class HttpActionHandler {
                 case ERROR: {
                     scheduler.schedule(() -> handleAnyException(request, responseWriter, synchronous, action, () -> {
                         getHttpErrorActionHandler().handle((HttpError) action, ctx);
+                        metrics.record(ACTION_EXECUTION, actionStartTime);
                         if (MockServerLogger.isEnabled(Level.INFO)) {
                             mockServerLogger.logEvent(
                                 new LogEntry()
@@ -241,6 +255,10 @@ public class HttpActionHandler {
                             .setArguments(response, request)
                     );
 
+                } else if (ctx != null && configuration.streamProxiedResponses()) {
+
+                    streamProxiedResponse(request, responseWriter, ctx, potentiallyHttpProxy, synchronous);
+
                 } else {
 
                     final InetSocketAddress remoteAddress = getRemoteAddress(ctx);
@@ -252,73 +270,12 @@ public class HttpActionHandler {
                                 if (response == null) {
                                     response = notFoundResponse();
                                 }
-                                if (response.containsHeader(httpStateHandler.getUniqueLoopPreventionHeaderName(), httpStateHandler.getUniqueLoopPreventionHeaderValue())) {
-                                    response.removeHeader(httpStateHandler.getUniqueLoopPreventionHeaderName());
-                                    if (MockServerLogger.isEnabled(Level.INFO)) {
-                                        mockServerLogger.logEvent(
-                                            new LogEntry()
-                                                .setType(NO_MATCH_RESPONSE)
-                                                .setLogLevel(Level.INFO)
-                                                .setCorrelationId(request.getLogCorrelationId())
-                                                .setHttpRequest(request)
-                                                .setHttpResponse(notFoundResponse())
-                                                .setMessageFormat(NO_MATCH_RESPONSE_NO_EXPECTATION_MESSAGE_FORMAT)
-                                                .setArguments(request, response)
-                                        );
-                                    }
-                                } else {
-                                    mockServerLogger.logEvent(
-                                        new LogEntry()
-                                            .setType(FORWARDED_REQUEST)
-                                            .setLogLevel(Level.INFO)
-                                            .setCorrelationId(request.getLogCorrelationId())
-                                            .setHttpRequest(request)
-                                            .setHttpResponse(response)
-                                            .setExpectation(request, response)
-                                            .setMessageFormat("returning response:{}for forwarded request" + NEW_LINE + NEW_LINE + " in json:{}" + NEW_LINE + NEW_LINE + " in curl:{}")
-                                            .setArguments(response, request, httpRequestToCurlSerializer.toCurl(request, remoteAddress))
-                                    );
-                                }
+                                logProxiedResponse(request, response, remoteAddress);
                                 responseWriter.writeResponse(request, response, false);
                             } catch (SocketCommunicationException sce) {
                                 returnNotFound(responseWriter, request, sce.getMessage());
                             } catch (Throwable throwable) {
-                                if (potentiallyHttpProxy && connectionException(throwable)) {
-                                    if (MockServerLogger.isEnabled(TRACE)) {
-                                        mockServerLogger.logEvent(
-                                            new LogEntry()
-                                                .setLogLevel(TRACE)
-                                                .setCorrelationId(request.getLogCorrelationId())
-                                                .setMessageFormat("failed to connect to proxied socket due to exploratory HTTP proxy for:{}due to:{}falling back to no proxy")
-                                                .setArguments(request, throwable.getCause())
-                                        );
-                                    }
-                                    returnNotFound(responseWriter, request, null);
-                                } else if (sslHandshakeException(throwable)) {
-                                    mockServerLogger.logEvent(
-                                        new LogEntry()
-                                            .setLogLevel(Level.ERROR)
-                                            .setCorrelationId(request.getLogCorrelationId())
-                                            .setHttpRequest(request)
-                                            .setMessageFormat("TLS handshake exception while proxying request{}to remote address{}with channel" + (ctx != null ? String.valueOf(ctx.channel()) : ""))
-                                            .setArguments(request, remoteAddress)
-                                            .setThrowable(throwable)
-                                    );
-                                    returnNotFound(responseWriter, request, "TLS handshake exception while proxying request to remote address" + remoteAddress);
-                                } else if (!connectionClosedException(throwable)) {
-                                    mockServerLogger.logEvent(
-                                        new LogEntry()
-                                            .setType(EXCEPTION)
-                                            .setLogLevel(Level.ERROR)
-                                            .setCorrelationId(request.getLogCorrelationId())
-                                            .setHttpRequest(request)
-                                            .setMessageFormat(throwable.getMessage())
-                                            .setThrowable(throwable)
-                                    );
-                                    returnNotFound(responseWriter, request, "connection closed while proxying request to remote address" + remoteAddress);
-                                } else {
-                                    returnNotFound(responseWriter, request, throwable.getMessage());
-                                }
+                                handleExceptionDuringProxyingRequest(request, responseWriter, ctx, potentiallyHttpProxy, remoteAddress, throwable);
                             }
                         },
                         synchronous,
@@ -373,6 +330,27 @@ public class HttpActionHandler {
         }, synchronous, response.getDelay());
     }
 
+    void writeResponseActionResponse(final CompletableFuture<HttpResponse> responseFuture, final ResponseWriter responseWriter, final HttpRequest request, final Action action, boolean synchronous, Runnable expectationPostProcessor) {
+        // the response is written when the (possibly asynchronous) callback completes, so no thread is blocked while waiting
+        scheduler.submit(responseFuture, (response, throwable) -> {
+            if (throwable != null && MockServerLogger.isEnabled(Level.INFO)) {
+                mockServerLogger.logEvent(
+                    new LogEntry()
+                        .setType(WARN)
+                        .setLogLevel(Level.INFO)
+                        .setCorrelationId(request.getLogCorrelationId())
+                        .setHttpRequest(request)
+                        .setMessageFormat(throwable.getMessage())
+                        .setThrowable(throwable)
+                );
+            }
+            writeResponseActionResponse(response != null ? response : notFoundResponse(), responseWriter, request, action, synchronous);
+            if (expectationPostProcessor != null) {
+                expectationPostProcessor.run();
+            }
+        }, synchronous);
+    }
+
     void executeAfterForwardActionResponse(final HttpForwardActionResult responseFuture, final BiConsumer<HttpResponse, Throwable> command, final boolean synchronous) {
         scheduler.submit(responseFuture, command, synchronous);
     }
@@ -399,6 +377,162 @@ public class HttpActionHandler {
         }, synchronous, throwable -> true);
     }
 
+    private void streamForwardActionResponse(final HttpForward httpForward, final ResponseWriter responseWriter, final HttpRequest request, final ChannelHandlerContext ctx, final boolean synchronous) {
+        final HttpClientStreamingResponseHandler streamingResponseHandler = streamingResponseHandler(request, ctx, responseHead -> responseWriter.streamedResponseHead(request, responseHead));
+        final HttpForwardActionResult responseFuture = getHttpForwardActionHandler().handle(httpForward, request, streamingResponseHandler);
+        // the response is written by the streaming response handler as it is received, so only logging or errors before the response started remain
+        scheduler.submit(responseFuture, (response, throwable) -> {
+            if (throwable == null) {
+                if (response == null) {
+                    response = notFoundResponse();
+                }
+                if (!streamingResponseHandler.isResponseStarted()) {
+                    responseWriter.writeResponse(request, response, false);
+                }
+                mockServerLogger.logEvent(
+                    new LogEntry()
+                        .setType(FORWARDED_REQUEST)
+                        .setLogLevel(Level.INFO)
+                        .setCorrelationId(request.getLogCorrelationId())
+                        .setHttpRequest(request)
+                        .setHttpResponse(response)
+                        .setExpectation(request, response)
+                        .setMessageFormat("returning response:{}for forwarded request" + NEW_LINE + NEW_LINE + " in json:{}" + NEW_LINE + NEW_LINE + " in curl:{}for action:{}from expectation:{}")
+                        .setArguments(response, responseFuture.getHttpRequest(), httpRequestToCurlSerializer.toCurl(responseFuture.getHttpRequest(), responseFuture.getRemoteAddress()), httpForward, httpForward.getExpectationId())
+                );
+            } else if (streamingResponseHandler.isResponseStarted()) {
+                closeStreamedResponse(request, ctx, responseFuture.getRemoteAddress(), throwable);
+            } else {
+                handleExceptionDuringForwardingRequest(httpForward, request, responseWriter, throwable);
+            }
+        }, synchronous);
+    }
+
+    private void streamProxiedResponse(final HttpRequest request, final ResponseWriter responseWriter, final ChannelHandlerContext ctx, final boolean potentiallyHttpProxy, final boolean synchronous) {
+        final InetSocketAddress remoteAddress = getRemoteAddress(ctx);
+        final HttpRequest clonedRequest = hopByHopHeaderFilter.onRequest(request).withHeader(httpStateHandler.getUniqueLoopPreventionHeaderName(), httpStateHandler.getUniqueLoopPreventionHeaderValue());
+        final HttpClientStreamingResponseHandler streamingResponseHandler = streamingResponseHandler(request, ctx, responseHead -> {
+            if (responseHead.containsHeader(httpStateHandler.getUniqueLoopPreventionHeaderName(), httpStateHandler.getUniqueLoopPreventionHeaderValue())) {
+                // proxy loop so not streamed, instead a not found response is returned once the response has been received
+                return null;
+            }
+            return responseWriter.streamedResponseHead(request, responseHead.removeHeader(httpStateHandler.getUniqueLoopPreventionHeaderName()));
+        });
+        final HttpForwardActionResult responseFuture = new HttpForwardActionResult(clonedRequest, httpClient.sendStreamingRequest(clonedRequest, remoteAddress, potentiallyHttpProxy ? 1000 : configuration.socketConnectionTimeoutInMillis(), streamingResponseHandler), null, remoteAddress);
+        // the response is written by the streaming response handler as it is received, so only logging, proxy loops or errors before the response started remain
+        scheduler.submit(responseFuture, (response, throwable) -> {
+            if (throwable == null) {
+                logProxiedResponse(request, response != null ? response : notFoundResponse(), remoteAddress);
+                if (!streamingResponseHandler.isResponseStarted()) {
+                    responseWriter.writeResponse(request, notFoundResponse(), false);
+                }
+            } else if (streamingResponseHandler.isResponseStarted()) {
+                closeStreamedResponse(request, ctx, remoteAddress, throwable);
+            } else if (throwable instanceof SocketCommunicationException) {
+                returnNotFound(responseWriter, request, throwable.getMessage());
+            } else {
+                handleExceptionDuringProxyingRequest(request, responseWriter, ctx, potentiallyHttpProxy, remoteAddress, throwable);
+            }
+        }, synchronous);
+    }
+
+    private HttpClientStreamingResponseHandler streamingResponseHandler(final HttpRequest request, final ChannelHandlerContext ctx, final Function<HttpResponse, HttpResponse> responseHeadHandler) {
+        return new HttpClientStreamingResponseHandler(
+            mockServerLogger,
+            ctx.channel(),
+            Boolean.TRUE.equals(request.isKeepAlive()) && !configuration.alwaysCloseSocketConnections(),
+            "HEAD".equalsIgnoreCase(request.getMethod("")),
+            configuration.maxStreamedResponseBodyLogSize(),
+            responseHeadHandler
+        );
+    }
+
+    private void closeStreamedResponse(final HttpRequest request, final ChannelHandlerContext ctx, final InetSocketAddress remoteAddress, final Throwable throwable) {
+        // part of the response has already been written so the failure can only be reported by closing the connection
+        if (!connectionClosedException(throwable)) {
+            mockServerLogger.logEvent(
+                new LogEntry()
+                    .setType(EXCEPTION)
+                    .setLogLevel(Level.ERROR)
+                    .setCorrelationId(request.getLogCorrelationId())
+                    .setHttpRequest(request)
+                    .setMessageFormat("exception while streaming response for request{}from remote address{}")
+                    .setArguments(request, remoteAddress)
+                    .setThrowable(throwable)
+            );
+        }
+        ctx.channel().close();
+    }
+
+    private void logProxiedResponse(final HttpRequest request, final HttpResponse response, final InetSocketAddress remoteAddress) {
+        if (response.containsHeader(httpStateHandler.getUniqueLoopPreventionHeaderName(), httpStateHandler.getUniqueLoopPreventionHeaderValue())) {
+            response.removeHeader(httpStateHandler.getUniqueLoopPreventionHeaderName());
+            if (MockServerLogger.isEnabled(Level.INFO)) {
+                mockServerLogger.logEvent(
+                    new LogEntry()
+                        .setType(NO_MATCH_RESPONSE)
+                        .setLogLevel(Level.INFO)
+                        .setCorrelationId(request.getLogCorrelationId())
+                        .setHttpRequest(request)
+                        .setHttpResponse(notFoundResponse())
+                        .setMessageFormat(NO_MATCH_RESPONSE_NO_EXPECTATION_MESSAGE_FORMAT)
+                        .setArguments(request, response)
+                );
+            }
+        } else {
+            mockServerLogger.logEvent(
+                new LogEntry()
+                    .setType(FORWARDED_REQUEST)
+                    .setLogLevel(Level.INFO)
+                    .setCorrelationId(request.getLogCorrelationId())
+                    .setHttpRequest(request)
+                    .setHttpResponse(response)
+                    .setExpectation(request, response)
+                    .setMessageFormat("returning response:{}for forwarded request" + NEW_LINE + NEW_LINE + " in json:{}" + NEW_LINE + NEW_LINE + " in curl:{}")
+                    .setArguments(response, request, httpRequestToCurlSerializer.toCurl(request, remoteAddress))
+            );
+        }
+    }
+
+    private void handleExceptionDuringProxyingRequest(final HttpRequest request, final ResponseWriter responseWriter, final ChannelHandlerContext ctx, final boolean potentiallyHttpProxy, final InetSocketAddress remoteAddress, final Throwable throwable) {
+        if (potentiallyHttpProxy && connectionException(throwable)) {
+            if (MockServerLogger.isEnabled(TRACE)) {
+                mockServerLogger.logEvent(
+                    new LogEntry()
+                        .setLogLevel(TRACE)
+                        .setCorrelationId(request.getLogCorrelationId())
+                        .setMessageFormat("failed to connect to proxied socket due to exploratory HTTP proxy for:{}due to:{}falling back to no proxy")
+                        .setArguments(request, throwable.getCause())
+                );
+            }
+            returnNotFound(responseWriter, request, null);
+        } else if (sslHandshakeException(throwable)) {
+            mockServerLogger.logEvent(
+                new LogEntry()
+                    .setLogLevel(Level.ERROR)
+                    .setCorrelationId(request.getLogCorrelationId())
+                    .setHttpRequest(request)
+                    .setMessageFormat("TLS handshake exception while proxying request{}to remote address{}with channel" + (ctx != null ? String.valueOf(ctx.channel()) : ""))
+                    .setArguments(request, remoteAddress)
+                    .setThrowable(throwable)
+            );
+            returnNotFound(responseWriter, request, "TLS handshake exception while proxying request to remote address" + remoteAddress);
+        } else if (!connectionClosedException(throwable)) {
+            mockServerLogger.logEvent(
+                new LogEntry()
+                    .setType(EXCEPTION)
+                    .setLogLevel(Level.ERROR)
+                    .setCorrelationId(request.getLogCorrelationId())
+                    .setHttpRequest(request)
+                    .setMessageFormat(throwable.getMessage())
+                    .setThrowable(throwable)
+            );
+            returnNotFound(responseWriter, request, "connection closed while proxying request to remote address" + remoteAddress);
+        } else {
+            returnNotFound(responseWriter, request, throwable.getMessage());
+        }
+    }
+
     void handleExceptionDuringForwardingRequest(Action action, HttpRequest request, ResponseWriter responseWriter, Throwable exception) {
         if (connectionException(exception)) {
             if (MockServerLogger.isEnabled(TRACE)) {
@@ -1,5 +1,6 @@
 package org.mockserver.mock.action.http;
 
+import org.mockserver.httpclient.HttpClientStreamingResponseHandler;
 import org.mockserver.httpclient.NettyHttpClient;
 import org.mockserver.filters.HopByHopHeaderFilter;
 import org.mockserver.log.model.LogEntry;
@@ -11,6 +12,9 @@ import org.slf4j.event.Level;
 import javax.annotation.Nullable;
 import java.net.InetSocketAddress;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import static org.mockserver.model.HttpResponse.notFoundResponse;
@@ -45,6 +49,53 @@ public abstract class HttpForwardAction {
         return notFoundFuture(request);
     }
 
+    /**
+     * forwards the request without aggregating the response, the response is written to the client by the streaming
+     * response handler and the result completes with the response retained for the log
+     */
+    protected HttpForwardActionResult sendStreamingRequest(HttpRequest request, InetSocketAddress remoteAddress, HttpClientStreamingResponseHandler streamingResponseHandler) {
+        try {
+            return new HttpForwardActionResult(request, httpClient.sendStreamingRequest(hopByHopHeaderFilter.onRequest(request), remoteAddress, streamingResponseHandler), null, remoteAddress);
+        } catch (Exception e) {
+            mockServerLogger.logEvent(
+                new LogEntry()
+                    .setLogLevel(Level.ERROR)
+                    .setHttpRequest(request)
+                    .setMessageFormat("exception forwarding request " + request)
+                    .setThrowable(e)
+            );
+        }
+        return notFoundFuture(request);
+    }
+
+    /**
+     * forwards the request produced by an asynchronous callback once it completes, so no thread is blocked while the
+     * callback is waiting, the forwarded request is only known (and set on the result) when the callback completes
+     *
+     * @param httpRequest          the request that matched the expectation
+     * @param requestFuture        the request returned by the callback
+     * @param overrideHttpResponse optionally applied to the response with the forwarded request
+     * @param callbackException    notified if the callback completes exceptionally
+     */
+    protected HttpForwardActionResult sendRequest(HttpRequest httpRequest, CompletableFuture<HttpRequest> requestFuture, @Nullable BiFunction<HttpRequest, HttpResponse, HttpResponse> overrideHttpResponse, Consumer<Throwable> callbackException) {
+        HttpForwardActionResult forwardActionResult = new HttpForwardActionResult(httpRequest, null, null);
+        CompletableFuture<HttpResponse> httpResponse = requestFuture
+            .handle((request, throwable) -> {
+                if (throwable != null) {
+                    callbackException.accept(throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable);
+                    return notFoundFuture(httpRequest).getHttpResponse();
+                } else {
+                    HttpForwardActionResult sentRequest = sendRequest(request, null, overrideHttpResponse != null ? response -> overrideHttpResponse.apply(request, response) : null);
+                    if (sentRequest.getHttpRequest() != null) {
+                        forwardActionResult.setHttpRequest(sentRequest.getHttpRequest());
+                    }
+                    return sentRequest.getHttpResponse();
+                }
+            })
+            .thenCompose(Function.identity());
+        return forwardActionResult.setHttpResponse(httpResponse);
+    }
+
     HttpForwardActionResult notFoundFuture(HttpRequest httpRequest) {
         CompletableFuture<HttpResponse> notFoundFuture = new CompletableFuture<>();
         notFoundFuture.complete(notFoundResponse());
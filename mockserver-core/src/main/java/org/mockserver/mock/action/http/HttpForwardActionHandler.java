@@ -1,5 +1,6 @@
 package org.mockserver.mock.action.http;
 
+import org.mockserver.httpclient.HttpClientStreamingResponseHandler;
 import org.mockserver.httpclient.NettyHttpClient;
 import org.mockserver.logging.MockServerLogger;
 import org.mockserver.model.HttpForward;
@@ -21,4 +22,9 @@ public class HttpForwardActionHandler extends HttpForwardAction {
         return sendRequest(httpRequest, new InetSocketAddress(httpForward.getHost(), httpForward.getPort()), null);
     }
 
+    public HttpForwardActionResult handle(HttpForward httpForward, HttpRequest httpRequest, HttpClientStreamingResponseHandler streamingResponseHandler) {
+        httpRequest.withSecure(HttpForward.Scheme.HTTPS.equals(httpForward.getScheme()));
+        return sendStreamingRequest(httpRequest, new InetSocketAddress(httpForward.getHost(), httpForward.getPort()), streamingResponseHandler);
+    }
+
 }
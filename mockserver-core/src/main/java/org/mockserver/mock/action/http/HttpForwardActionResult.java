@@ -9,7 +9,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 
 public class HttpForwardActionResult {
-    private final HttpRequest httpRequest;
+    private volatile HttpRequest httpRequest;
     private final InetSocketAddress remoteAddress;
     private CompletableFuture<HttpResponse> httpResponse;
     private final Function<HttpResponse, HttpResponse> overrideHttpResponse;
@@ -51,6 +51,11 @@ public class HttpForwardActionResult {
         return this;
     }
 
+    HttpForwardActionResult setHttpRequest(HttpRequest httpRequest) {
+        this.httpRequest = httpRequest;
+        return this;
+    }
+
     public InetSocketAddress getRemoteAddress() {
         return remoteAddress;
     }
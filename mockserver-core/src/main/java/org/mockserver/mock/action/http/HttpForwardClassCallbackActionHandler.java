@@ -5,19 +5,26 @@ import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
 import org.mockserver.mock.action.ExpectationCallback;
 import org.mockserver.mock.action.ExpectationForwardAndResponseCallback;
+import org.mockserver.mock.action.ExpectationForwardAsyncCallback;
 import org.mockserver.mock.action.ExpectationForwardCallback;
 import org.mockserver.model.HttpClassCallback;
 import org.mockserver.model.HttpRequest;
+import org.mockserver.model.HttpResponse;
 import org.slf4j.event.Level;
 
-import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
 
 /**
  * @author jamesdbloom
  */
 public class HttpForwardClassCallbackActionHandler extends HttpForwardAction {
 
+    private final ClassCallbackCache classCallbackCache = new ClassCallbackCache();
+
     public HttpForwardClassCallbackActionHandler(MockServerLogger mockServerLogger, NettyHttpClient httpClient) {
         super(mockServerLogger, httpClient);
     }
@@ -26,13 +33,12 @@ public class HttpForwardClassCallbackActionHandler extends HttpForwardAction {
         return invokeCallbackMethod(httpClassCallback, request);
     }
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
+    @SuppressWarnings("rawtypes")
     private <T extends ExpectationCallback> T instantiateCallback(HttpClassCallback httpClassCallback, Class<T> callbackClass) {
         try {
-            Class expectationCallbackClass = Class.forName(httpClassCallback.getCallbackClass());
-            if (callbackClass.isAssignableFrom(expectationCallbackClass)) {
-                Constructor<? extends T> constructor = expectationCallbackClass.getConstructor();
-                return constructor.newInstance();
+            ClassCallbackCache.CallbackClass expectationCallbackClass = classCallbackCache.callbackClass(httpClassCallback.getCallbackClass(), HttpForwardClassCallbackActionHandler.class.getClassLoader());
+            if (callbackClass.isAssignableFrom(expectationCallbackClass.getType())) {
+                return callbackClass.cast(expectationCallbackClass.instance());
             } else {
                 mockServerLogger.logEvent(
                     new LogEntry()
@@ -55,7 +61,7 @@ public class HttpForwardClassCallbackActionHandler extends HttpForwardAction {
                     .setMessageFormat("NoSuchMethodException - while trying to create default constructor on " + callbackClass.getSimpleName() + " class \"" + httpClassCallback.getCallbackClass() + "\"")
                     .setThrowable(e)
             );
-        } catch (InvocationTargetException | InstantiationException | IllegalAccessException e) {
+        } catch (InvocationTargetException | IllegalAccessException e) {
             mockServerLogger.logEvent(
                 new LogEntry()
                     .setLogLevel(Level.ERROR)
@@ -71,30 +77,24 @@ public class HttpForwardClassCallbackActionHandler extends HttpForwardAction {
             ExpectationForwardCallback expectationForwardCallback = instantiateCallback(httpClassCallback, ExpectationForwardCallback.class);
             ExpectationForwardAndResponseCallback expectationForwardResponseCallback = instantiateCallback(httpClassCallback, ExpectationForwardAndResponseCallback.class);
             if (expectationForwardCallback != null || expectationForwardResponseCallback != null) {
+                BiFunction<HttpRequest, HttpResponse, HttpResponse> overrideHttpResponse = (request, response) -> {
+                    try {
+                        return expectationForwardResponseCallback != null ? expectationForwardResponseCallback.handle(request, response) : response;
+                    } catch (Throwable throwable) {
+                        callbackException(httpClassCallback, httpRequest, throwable);
+                        return response;
+                    }
+                };
                 try {
-                    HttpRequest request = expectationForwardCallback != null ? expectationForwardCallback.handle(httpRequest) : httpRequest;
-                    return sendRequest(request, null, response -> {
-                        try {
-                            return expectationForwardResponseCallback != null ? expectationForwardResponseCallback.handle(request, response) : response;
-                        } catch (Throwable throwable) {
-                            mockServerLogger.logEvent(
-                                new LogEntry()
-                                    .setLogLevel(Level.ERROR)
-                                    .setHttpRequest(httpRequest)
-                                    .setMessageFormat(httpClassCallback.getCallbackClass() + " throw exception while executing handle callback method - " + throwable.getMessage())
-                                    .setThrowable(throwable)
-                            );
-                            return response;
-                        }
-                    });
+                    if (expectationForwardCallback instanceof ExpectationForwardAsyncCallback) {
+                        CompletableFuture<HttpRequest> requestFuture = ((ExpectationForwardAsyncCallback) expectationForwardCallback).handleAsync(httpRequest);
+                        return sendRequest(httpRequest, requestFuture != null ? requestFuture : completedFuture(null), overrideHttpResponse, throwable -> callbackException(httpClassCallback, httpRequest, throwable));
+                    } else {
+                        HttpRequest request = expectationForwardCallback != null ? expectationForwardCallback.handle(httpRequest) : httpRequest;
+                        return sendRequest(request, null, response -> overrideHttpResponse.apply(request, response));
+                    }
                 } catch (Throwable throwable) {
-                    mockServerLogger.logEvent(
-                        new LogEntry()
-                            .setLogLevel(Level.ERROR)
-                            .setHttpRequest(httpRequest)
-                            .setMessageFormat(httpClassCallback.getCallbackClass() + " throw exception while executing handle callback method - " + throwable.getMessage())
-                            .setThrowable(throwable)
-                    );
+                    callbackException(httpClassCallback, httpRequest, throwable);
                     return notFoundFuture(httpRequest);
                 }
             } else {
@@ -104,4 +104,14 @@ public class HttpForwardClassCallbackActionHandler extends HttpForwardAction {
             return notFoundFuture(null);
         }
     }
+
+    private void callbackException(HttpClassCallback httpClassCallback, HttpRequest httpRequest, Throwable throwable) {
+        mockServerLogger.logEvent(
+            new LogEntry()
+                .setLogLevel(Level.ERROR)
+                .setHttpRequest(httpRequest)
+                .setMessageFormat(httpClassCallback.getCallbackClass() + " throw exception while executing handle callback method - " + throwable.getMessage())
+                .setThrowable(throwable)
+        );
+    }
 }
@@ -8,6 +8,7 @@ import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
 import org.mockserver.mock.HttpState;
 import org.mockserver.mock.action.ExpectationForwardAndResponseCallback;
+import org.mockserver.mock.action.ExpectationForwardAsyncCallback;
 import org.mockserver.mock.action.ExpectationForwardCallback;
 import org.mockserver.model.HttpObjectCallback;
 import org.mockserver.model.HttpRequest;
@@ -17,6 +18,7 @@ import org.mockserver.responsewriter.ResponseWriter;
 import org.mockserver.uuid.UUIDService;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
 
 import static org.apache.commons.lang3.BooleanUtils.isFalse;
 import static org.apache.commons.lang3.BooleanUtils.isTrue;
@@ -57,6 +59,10 @@ public class HttpForwardObjectCallbackActionHandler extends HttpForwardAction {
             );
         }
         ExpectationForwardCallback expectationForwardCallback = LocalCallbackRegistry.retrieveForwardCallback(clientId);
+        if (expectationForwardCallback instanceof ExpectationForwardAsyncCallback) {
+            handleLocallyAsync(actionHandler, httpObjectCallback, request, responseWriter, synchronous, clientId, (ExpectationForwardAsyncCallback) expectationForwardCallback);
+            return;
+        }
         try {
             HttpRequest callbackRequest = expectationForwardCallback.handle(request);
             final HttpForwardActionResult responseFuture = sendRequest(
@@ -106,6 +112,44 @@ public class HttpForwardObjectCallbackActionHandler extends HttpForwardAction {
         }
     }
 
+    private void handleLocallyAsync(HttpActionHandler actionHandler, HttpObjectCallback httpObjectCallback, HttpRequest request, ResponseWriter responseWriter, boolean synchronous, String clientId, ExpectationForwardAsyncCallback expectationForwardCallback) {
+        ExpectationForwardAndResponseCallback expectationForwardAndResponseCallback = LocalCallbackRegistry.retrieveForwardAndResponseCallback(clientId);
+        BiFunction<HttpRequest, HttpResponse, HttpResponse> overrideHttpResponse = expectationForwardAndResponseCallback != null ? (callbackRequest, httpResponse) -> {
+            try {
+                return expectationForwardAndResponseCallback.handle(callbackRequest, httpResponse);
+            } catch (Throwable throwable) {
+                callbackException(request, clientId, "response", throwable);
+                return notFoundResponse();
+            }
+        } : null;
+        try {
+            CompletableFuture<HttpRequest> callbackRequest = expectationForwardCallback.handleAsync(request);
+            final HttpForwardActionResult responseFuture = sendRequest(
+                request,
+                callbackRequest != null ? callbackRequest : CompletableFuture.completedFuture(null),
+                overrideHttpResponse,
+                throwable -> callbackException(request, clientId, "request", throwable)
+            );
+            actionHandler.writeForwardActionResponse(responseFuture, responseWriter, request, httpObjectCallback, synchronous);
+        } catch (Throwable throwable) {
+            callbackException(request, clientId, "request", throwable);
+            actionHandler.writeForwardActionResponse(notFoundFuture(request), responseWriter, request, httpObjectCallback, synchronous);
+        }
+    }
+
+    private void callbackException(HttpRequest request, String clientId, String callback, Throwable throwable) {
+        if (MockServerLogger.isEnabled(WARN)) {
+            mockServerLogger.logEvent(
+                new LogEntry()
+                    .setLogLevel(WARN)
+                    .setHttpRequest(request)
+                    .setMessageFormat("returning{}because client " + clientId + " " + callback + " callback threw an exception")
+                    .setArguments(notFoundResponse())
+                    .setThrowable(throwable)
+            );
+        }
+    }
+
     private void handleViaWebSocket(HttpActionHandler actionHandler, HttpObjectCallback httpObjectCallback, HttpRequest request, ResponseWriter responseWriter, boolean synchronous, Runnable expectationPostProcessor, String clientId) {
         final String webSocketCorrelationId = UUIDService.getUUID();
         webSocketClientRegistry.registerForwardCallbackHandler(webSocketCorrelationId, new WebSocketRequestCallback() {
@@ -2,15 +2,18 @@ package org.mockserver.mock.action.http;
 
 import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
+import org.mockserver.mock.action.ExpectationResponseAsyncCallback;
 import org.mockserver.mock.action.ExpectationResponseCallback;
 import org.mockserver.model.HttpClassCallback;
 import org.mockserver.model.HttpRequest;
 import org.mockserver.model.HttpResponse;
 import org.slf4j.event.Level;
 
-import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.mockserver.model.HttpResponse.notFoundResponse;
 
 /**
@@ -25,22 +28,21 @@ public class HttpResponseClassCallbackActionHandler {
     }
 
     private final MockServerLogger mockServerLogger;
+    private final ClassCallbackCache classCallbackCache = new ClassCallbackCache();
 
     public HttpResponseClassCallbackActionHandler(MockServerLogger mockServerLogger) {
         this.mockServerLogger = mockServerLogger;
     }
 
-    public HttpResponse handle(HttpClassCallback httpClassCallback, HttpRequest request) {
+    public CompletableFuture<HttpResponse> handle(HttpClassCallback httpClassCallback, HttpRequest request) {
         return invokeCallbackMethod(httpClassCallback, request);
     }
 
-    @SuppressWarnings({"rawtypes", "unchecked"})
     private ExpectationResponseCallback instantiateCallback(HttpClassCallback httpClassCallback) {
         try {
-            Class expectationResponseCallbackClass = contextClassLoader.loadClass(httpClassCallback.getCallbackClass());
-            if (ExpectationResponseCallback.class.isAssignableFrom(expectationResponseCallbackClass)) {
-                Constructor<? extends ExpectationResponseCallback> constructor = expectationResponseCallbackClass.getConstructor();
-                return constructor.newInstance();
+            ClassCallbackCache.CallbackClass callbackClass = classCallbackCache.callbackClass(httpClassCallback.getCallbackClass(), contextClassLoader);
+            if (ExpectationResponseCallback.class.isAssignableFrom(callbackClass.getType())) {
+                return (ExpectationResponseCallback) callbackClass.instance();
             } else {
                 mockServerLogger.logEvent(
                     new LogEntry()
@@ -63,7 +65,7 @@ public class HttpResponseClassCallbackActionHandler {
                     .setMessageFormat("NoSuchMethodException - while trying to create default constructor on ExpectationResponseCallback class \"" + httpClassCallback.getCallbackClass() + "\"")
                     .setThrowable(e)
             );
-        } catch (InvocationTargetException | InstantiationException | IllegalAccessException e) {
+        } catch (InvocationTargetException | IllegalAccessException e) {
             mockServerLogger.logEvent(
                 new LogEntry()
                     .setLogLevel(Level.ERROR)
@@ -74,27 +76,40 @@ public class HttpResponseClassCallbackActionHandler {
         return null;
     }
 
-    private HttpResponse invokeCallbackMethod(HttpClassCallback httpClassCallback, HttpRequest httpRequest) {
+    private CompletableFuture<HttpResponse> invokeCallbackMethod(HttpClassCallback httpClassCallback, HttpRequest httpRequest) {
         if (httpRequest != null) {
             ExpectationResponseCallback expectationResponseCallback = instantiateCallback(httpClassCallback);
             if (expectationResponseCallback != null) {
                 try {
-                    return expectationResponseCallback.handle(httpRequest);
+                    if (expectationResponseCallback instanceof ExpectationResponseAsyncCallback) {
+                        CompletableFuture<HttpResponse> httpResponse = ((ExpectationResponseAsyncCallback) expectationResponseCallback).handleAsync(httpRequest);
+                        if (httpResponse != null) {
+                            return httpResponse.exceptionally(throwable -> callbackException(httpClassCallback, httpRequest, throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable));
+                        } else {
+                            return completedFuture(notFoundResponse());
+                        }
+                    } else {
+                        return completedFuture(expectationResponseCallback.handle(httpRequest));
+                    }
                 } catch (Throwable throwable) {
-                    mockServerLogger.logEvent(
-                        new LogEntry()
-                            .setLogLevel(Level.ERROR)
-                            .setHttpRequest(httpRequest)
-                            .setMessageFormat(httpClassCallback.getCallbackClass() + " throw exception while executing handle callback method - " + throwable.getMessage())
-                            .setThrowable(throwable)
-                    );
-                    return notFoundResponse();
+                    return completedFuture(callbackException(httpClassCallback, httpRequest, throwable));
                 }
             } else {
-                return notFoundResponse();
+                return completedFuture(notFoundResponse());
             }
         } else {
-            return notFoundResponse();
+            return completedFuture(notFoundResponse());
         }
     }
+
+    private HttpResponse callbackException(HttpClassCallback httpClassCallback, HttpRequest httpRequest, Throwable throwable) {
+        mockServerLogger.logEvent(
+            new LogEntry()
+                .setLogLevel(Level.ERROR)
+                .setHttpRequest(httpRequest)
+                .setMessageFormat(httpClassCallback.getCallbackClass() + " throw exception while executing handle callback method - " + throwable.getMessage())
+                .setThrowable(throwable)
+        );
+        return notFoundResponse();
+    }
 }
@@ -5,12 +5,18 @@ import org.mockserver.closurecallback.websocketregistry.WebSocketClientRegistry;
 import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
 import org.mockserver.mock.HttpState;
+import org.mockserver.mock.action.ExpectationResponseAsyncCallback;
+import org.mockserver.mock.action.ExpectationResponseCallback;
 import org.mockserver.model.HttpObjectCallback;
 import org.mockserver.model.HttpRequest;
 import org.mockserver.model.HttpResponse;
 import org.mockserver.responsewriter.ResponseWriter;
 import org.mockserver.uuid.UUIDService;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.mockserver.closurecallback.websocketregistry.WebSocketClientRegistry.WEB_SOCKET_CORRELATION_ID_HEADER_NAME;
 import static org.mockserver.model.HttpResponse.notFoundResponse;
 import static org.slf4j.event.Level.TRACE;
@@ -48,21 +54,34 @@ public class HttpResponseObjectCallbackActionHandler {
             );
         }
         try {
-            HttpResponse callbackResponse = LocalCallbackRegistry.retrieveResponseCallback(clientId).handle(request);
-            actionHandler.writeResponseActionResponse(callbackResponse, responseWriter, request, httpObjectCallback, synchronous);
-        } catch (Throwable throwable) {
-            if (MockServerLogger.isEnabled(WARN)) {
-                mockServerLogger.logEvent(
-                    new LogEntry()
-                        .setLogLevel(WARN)
-                        .setHttpRequest(request)
-                        .setMessageFormat("returning{}because client " + clientId + " response callback throw an exception")
-                        .setArguments(notFoundResponse())
-                        .setThrowable(throwable)
-                );
+            ExpectationResponseCallback expectationResponseCallback = LocalCallbackRegistry.retrieveResponseCallback(clientId);
+            if (expectationResponseCallback instanceof ExpectationResponseAsyncCallback) {
+                CompletableFuture<HttpResponse> callbackResponse = ((ExpectationResponseAsyncCallback) expectationResponseCallback).handleAsync(request);
+                if (callbackResponse == null) {
+                    callbackResponse = completedFuture(null);
+                }
+                actionHandler.writeResponseActionResponse(callbackResponse.exceptionally(throwable -> callbackException(request, clientId, throwable)), responseWriter, request, httpObjectCallback, synchronous, null);
+            } else {
+                HttpResponse callbackResponse = expectationResponseCallback.handle(request);
+                actionHandler.writeResponseActionResponse(callbackResponse, responseWriter, request, httpObjectCallback, synchronous);
             }
-            actionHandler.writeResponseActionResponse(notFoundResponse(), responseWriter, request, httpObjectCallback, synchronous);
+        } catch (Throwable throwable) {
+            actionHandler.writeResponseActionResponse(callbackException(request, clientId, throwable), responseWriter, request, httpObjectCallback, synchronous);
+        }
+    }
+
+    private HttpResponse callbackException(HttpRequest request, String clientId, Throwable throwable) {
+        if (MockServerLogger.isEnabled(WARN)) {
+            mockServerLogger.logEvent(
+                new LogEntry()
+                    .setLogLevel(WARN)
+                    .setHttpRequest(request)
+                    .setMessageFormat("returning{}because client " + clientId + " response callback throw an exception")
+                    .setArguments(notFoundResponse())
+                    .setThrowable(throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable)
+            );
         }
+        return notFoundResponse();
     }
 
     private void handleViaWebSocket(HttpActionHandler actionHandler, HttpObjectCallback httpObjectCallback, HttpRequest request, ResponseWriter responseWriter, boolean synchronous, Runnable expectationPostProcessor, String clientId) {
@@ -0,0 +1,95 @@
+package org.mockserver.mock.listeners;
+
+import org.mockserver.mock.Expectation;
+
+import java.util.*;
+
+/**
+ * Expectation changes from a single cause that have been coalesced into one listener notification, an expectation is
+ * either upserted or removed, never both, and a reset is applied before the upserted and removed expectations.
+ */
+public class ExpectationChanges {
+
+    private final MockServerMatcherNotifier.Cause cause;
+    private final Map<String, Expectation> upserted = new LinkedHashMap<>();
+    private final Set<String> removed = new LinkedHashSet<>();
+    private boolean reset;
+    private int numberOfChanges;
+
+    public ExpectationChanges(MockServerMatcherNotifier.Cause cause) {
+        this.cause = cause;
+    }
+
+    /**
+     * record an expectation that has been added or updated, including its remaining times being decremented
+     */
+    public ExpectationChanges upserted(Expectation expectation) {
+        if (expectation != null) {
+            removed.remove(expectation.getId());
+            upserted.put(expectation.getId(), expectation);
+            numberOfChanges++;
+        }
+        return this;
+    }
+
+    public ExpectationChanges removed(Expectation expectation) {
+        if (expectation != null) {
+            upserted.remove(expectation.getId());
+            removed.add(expectation.getId());
+            numberOfChanges++;
+        }
+        return this;
+    }
+
+    /**
+     * record all expectations being removed
+     */
+    public ExpectationChanges reset() {
+        upserted.clear();
+        removed.clear();
+        reset = true;
+        numberOfChanges++;
+        return this;
+    }
+
+    ExpectationChanges merge(ExpectationChanges changes) {
+        if (changes.reset) {
+            upserted.clear();
+            removed.clear();
+            reset = true;
+        }
+        for (String id : changes.removed) {
+            upserted.remove(id);
+            removed.add(id);
+        }
+        for (Map.Entry<String, Expectation> entry : changes.upserted.entrySet()) {
+            removed.remove(entry.getKey());
+            upserted.put(entry.getKey(), entry.getValue());
+        }
+        numberOfChanges += changes.numberOfChanges;
+        return this;
+    }
+
+    public MockServerMatcherNotifier.Cause getCause() {
+        return cause;
+    }
+
+    public Collection<Expectation> getUpserted() {
+        return upserted.values();
+    }
+
+    public Set<String> getRemoved() {
+        return removed;
+    }
+
+    public boolean isReset() {
+        return reset;
+    }
+
+    /**
+     * @return number of individual changes coalesced into this notification
+     */
+    public int getNumberOfChanges() {
+        return numberOfChanges;
+    }
+}
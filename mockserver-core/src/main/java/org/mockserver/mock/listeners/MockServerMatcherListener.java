@@ -9,4 +9,11 @@ public interface MockServerMatcherListener {
 
     void updated(RequestMatchers requestMatchers, MockServerMatcherNotifier.Cause cause);
 
+    /**
+     * called once for each batch of coalesced expectation changes, by default the changes are ignored and only the cause is passed on
+     */
+    default void changed(RequestMatchers requestMatchers, ExpectationChanges changes) {
+        updated(requestMatchers, changes.getCause());
+    }
+
 }
@@ -1,6 +1,8 @@
 package org.mockserver.mock.listeners;
 
+import org.mockserver.configuration.Configuration;
 import org.mockserver.mock.RequestMatchers;
+import org.mockserver.model.Delay;
 import org.mockserver.model.ObjectWithReflectiveEqualsHashCodeToString;
 import org.mockserver.scheduler.Scheduler;
 
@@ -9,6 +11,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
 /**
  * @author jamesdbloom
  */
@@ -16,20 +20,63 @@ public class MockServerMatcherNotifier extends ObjectWithReflectiveEqualsHashCod
 
     private boolean listenerAdded = false;
     private final List<MockServerMatcherListener> listeners = Collections.synchronizedList(new ArrayList<>());
+    private final Configuration configuration;
     private final Scheduler scheduler;
+    private final List<ExpectationChanges> pendingChanges = new ArrayList<>();
+    private boolean notificationScheduled;
 
-    public MockServerMatcherNotifier(Scheduler scheduler) {
+    public MockServerMatcherNotifier(Configuration configuration, Scheduler scheduler) {
+        this.configuration = configuration;
         this.scheduler = scheduler;
     }
 
-    protected void notifyListeners(final RequestMatchers notifier, Cause cause) {
+    /**
+     * changes are coalesced for the debounce window so a burst of changes (i.e. loading many expectations or repeatedly
+     * matching limited expectations) results in a single notification per cause instead of one per change
+     */
+    protected void notifyListeners(final RequestMatchers notifier, ExpectationChanges changes) {
         if (listenerAdded && !listeners.isEmpty()) {
-            for (MockServerMatcherListener listener : listeners.toArray(new MockServerMatcherListener[0])) {
-                scheduler.submit(() -> listener.updated(notifier, cause));
+            long debounceInMillis = configuration.expectationNotificationDebounceInMillis();
+            if (debounceInMillis <= 0 || scheduler.isSynchronous()) {
+                deliver(notifier, Collections.singletonList(changes));
+            } else {
+                synchronized (pendingChanges) {
+                    ExpectationChanges lastChanges = pendingChanges.isEmpty() ? null : pendingChanges.get(pendingChanges.size() - 1);
+                    // only merge with the most recent changes so the order of changes from different causes is retained
+                    if (lastChanges != null && lastChanges.getCause().equals(changes.getCause())) {
+                        lastChanges.merge(changes);
+                    } else {
+                        pendingChanges.add(changes);
+                    }
+                    if (!notificationScheduled) {
+                        notificationScheduled = true;
+                        scheduler.schedule(() -> deliverPendingChanges(notifier), false, new Delay(MILLISECONDS, debounceInMillis));
+                    }
+                }
             }
         }
     }
 
+    private void deliverPendingChanges(final RequestMatchers notifier) {
+        List<ExpectationChanges> changes;
+        synchronized (pendingChanges) {
+            changes = new ArrayList<>(pendingChanges);
+            pendingChanges.clear();
+            notificationScheduled = false;
+        }
+        deliver(notifier, changes);
+    }
+
+    private void deliver(final RequestMatchers notifier, List<ExpectationChanges> changes) {
+        for (MockServerMatcherListener listener : listeners.toArray(new MockServerMatcherListener[0])) {
+            scheduler.submit(() -> {
+                for (ExpectationChanges change : changes) {
+                    listener.changed(notifier, change);
+                }
+            });
+        }
+    }
+
     public void registerListener(MockServerMatcherListener listener) {
         listeners.add(listener);
         listenerAdded = true;
@@ -37,6 +37,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
     private List<X509Certificate> clientCertificateChain;
     private SocketAddress socketAddress;
     private String remoteAddress;
+    private transient volatile ParsedBody parsedBody;
 
     public static HttpRequest request() {
         return new HttpRequest();
@@ -645,6 +646,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
     public HttpRequest withBody(String body) {
         this.body = new StringBody(body);
         this.hashCode = 0;
+        this.parsedBody = null;
         return this;
     }
 
@@ -658,6 +660,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
         if (body != null) {
             this.body = new StringBody(body, charset);
             this.hashCode = 0;
+            this.parsedBody = null;
         }
         return this;
     }
@@ -670,6 +673,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
     public HttpRequest withBody(byte[] body) {
         this.body = new BinaryBody(body);
         this.hashCode = 0;
+        this.parsedBody = null;
         return this;
     }
 
@@ -749,6 +753,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
     public HttpRequest withBody(Body body) {
         this.body = body;
         this.hashCode = 0;
+        this.parsedBody = null;
         return this;
     }
 
@@ -770,6 +775,35 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
         }
     }
 
+    /**
+     * the body parsed into the representations required by body matchers, while the parsed body is cached (see
+     * {@link #cacheParsedBody()}) the same instance is shared by every body matcher, otherwise a new instance is returned
+     */
+    @JsonIgnore
+    public ParsedBody getParsedBody() {
+        ParsedBody parsedBody = this.parsedBody;
+        return parsedBody != null ? parsedBody : new ParsedBody(this);
+    }
+
+    /**
+     * shares one parsed body across all body matchers until {@link #clearParsedBody()} is called, this should only be
+     * for a single match pass (i.e. against every expectation) so logged requests don't retain the parsed body
+     *
+     * @return true if the parsed body is now cached, false if it was already cached so shouldn't be cleared by the caller
+     */
+    public synchronized boolean cacheParsedBody() {
+        if (parsedBody == null) {
+            parsedBody = new ParsedBody(this);
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    public synchronized void clearParsedBody() {
+        parsedBody = null;
+    }
+
     @JsonIgnore
     public String getBodyAsJsonOrXmlString() {
         if (body != null) {
@@ -0,0 +1,98 @@
+package org.mockserver.model;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import static io.netty.handler.codec.http.HttpHeaderNames.CONTENT_TYPE;
+
+/**
+ * Representations of a request body that are parsed at most once while the request is matched against every expectation,
+ * each representation is parsed lazily the first time a body matcher requires it.
+ * <p>
+ * A parsed body is discarded whenever the request body is changed, it is synchronized as the same (i.e. logged) request
+ * can be matched by more than one thread at the same time.
+ */
+public class ParsedBody {
+
+    private final HttpRequest request;
+    private String bodyAsString;
+    private boolean bodyAsStringDecoded;
+    private String bodyAsJson;
+    private String bodyAsJsonContentType;
+    private boolean bodyAsJsonConverted;
+    private final Map<String, ParsedRepresentation> representations = new HashMap<>();
+
+    ParsedBody(HttpRequest request) {
+        this.request = request;
+    }
+
+    public synchronized String getBodyAsString() {
+        if (!bodyAsStringDecoded) {
+            bodyAsString = request.getBodyAsString();
+            bodyAsStringDecoded = true;
+        }
+        return bodyAsString;
+    }
+
+    /**
+     * the body converted to json (i.e. from xml or form parameters) for json body matchers
+     */
+    public synchronized String getBodyAsJson(Supplier<String> converter) {
+        // conversion depends on the content type
+        String contentType = request.getFirstHeader(CONTENT_TYPE.toString());
+        if (!bodyAsJsonConverted || !Objects.equals(bodyAsJsonContentType, contentType)) {
+            bodyAsJson = converter.get();
+            bodyAsJsonContentType = contentType;
+            bodyAsJsonConverted = true;
+        }
+        return bodyAsJson;
+    }
+
+    /**
+     * returns the representation previously parsed from the same source, otherwise parses the source, an exception
+     * thrown by the parser is also retained so the same invalid body isn't parsed repeatedly
+     *
+     * @param representation name of the representation, such as "json" or "xml"
+     * @param source         the body in the form that is parsed
+     * @param parser         parses the source into the representation
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized <T> T parse(String representation, String source, Parser<T> parser) throws Exception {
+        ParsedRepresentation parsedRepresentation = representations.get(representation);
+        if (parsedRepresentation == null || !parsedRepresentation.isFrom(source)) {
+            parsedRepresentation = new ParsedRepresentation(source);
+            try {
+                parsedRepresentation.value = parser.parse(source);
+            } catch (Exception exception) {
+                parsedRepresentation.exception = exception;
+            }
+            representations.put(representation, parsedRepresentation);
+        }
+        if (parsedRepresentation.exception != null) {
+            throw parsedRepresentation.exception;
+        }
+        return (T) parsedRepresentation.value;
+    }
+
+    @FunctionalInterface
+    public interface Parser<T> {
+        T parse(String source) throws Exception;
+    }
+
+    private static class ParsedRepresentation {
+        private final String source;
+        private Object value;
+        private Exception exception;
+
+        private ParsedRepresentation(String source) {
+            this.source = source;
+        }
+
+        private boolean isFrom(String source) {
+            // identity check first as the source is usually the same (cached) string instance
+            return this.source == source || Objects.equals(this.source, source);
+        }
+    }
+}
@@ -7,12 +7,14 @@ import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
 import org.mockserver.mock.Expectation;
 import org.mockserver.mock.RequestMatchers;
+import org.mockserver.mock.listeners.ExpectationChanges;
 import org.mockserver.mock.listeners.MockServerMatcherListener;
 import org.mockserver.mock.listeners.MockServerMatcherNotifier;
 import org.mockserver.serialization.serializers.response.TimeToLiveSerializer;
 import org.slf4j.event.Level;
 
 import java.io.FileOutputStream;
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.channels.FileLock;
@@ -37,6 +39,9 @@ public class ExpectationFileSystemPersistence implements MockServerMatcherListen
     private final Path filePath;
     private final boolean initializationPathMatchesPersistencePath;
     private final ReentrantLock fileWriteLock = new ReentrantLock();
+    private final ExpectationJournal expectationJournal;
+    private int journalRecords;
+    private boolean compactionRequired;
 
     public ExpectationFileSystemPersistence(Configuration configuration, MockServerLogger mockServerLogger, RequestMatchers requestMatchers) {
         this.configuration = configuration;
@@ -57,6 +62,15 @@ public class ExpectationFileSystemPersistence implements MockServerMatcherListen
                 );
             }
             this.initializationPathMatchesPersistencePath = FilePath.expandFilePathGlobs(configuration.initializationJsonPath()).contains(configuration.persistedExpectationsPath());
+            if (configuration.persistedExpectationsJournal()) {
+                this.expectationJournal = new ExpectationJournal(configuration, mockServerLogger);
+                // records appended before a restart are still in the journal so count towards compaction
+                this.journalRecords = expectationJournal.countRecords();
+                // unless the snapshot and journal were loaded on startup they don't match the current state
+                this.compactionRequired = !initializationPathMatchesPersistencePath;
+            } else {
+                this.expectationJournal = null;
+            }
             requestMatchers.registerListener(this);
             if (MockServerLogger.isEnabled(INFO)) {
                 mockServerLogger.logEvent(
@@ -72,61 +86,117 @@ public class ExpectationFileSystemPersistence implements MockServerMatcherListen
             this.objectWriter = null;
             this.filePath = null;
             this.initializationPathMatchesPersistencePath = true;
+            this.expectationJournal = null;
         }
     }
 
     @Override
     public void updated(RequestMatchers requestMatchers, MockServerMatcherNotifier.Cause cause) {
-        // ignore non-API changes from the same file
-        if (cause == MockServerMatcherNotifier.Cause.API || cause.getType() == MockServerMatcherNotifier.Cause.Type.CLASS_INITIALISER || !initializationPathMatchesPersistencePath) {
+        if (shouldPersist(cause)) {
             fileWriteLock.lock();
             try {
-                try {
-                    try (
-                        FileOutputStream fileOutputStream = new FileOutputStream(filePath.toFile());
-                        FileChannel fileChannel = fileOutputStream.getChannel();
-                        FileLock fileLock = fileChannel.lock()
-                    ) {
-                        if (fileLock != null) {
-                            List<Expectation> expectations = requestMatchers.retrieveActiveExpectations(null);
-                            if (MockServerLogger.isEnabled(TRACE)) {
-                                mockServerLogger.logEvent(
-                                    new LogEntry()
-                                        .setLogLevel(TRACE)
-                                        .setMessageFormat("persisting expectations{}to{}")
-                                        .setArguments(expectations, configuration.persistedExpectationsPath())
-                                );
-                            } else if (MockServerLogger.isEnabled(DEBUG)) {
-                                mockServerLogger.logEvent(
-                                    new LogEntry()
-                                        .setLogLevel(DEBUG)
-                                        .setMessageFormat("persisting expectations to{}")
-                                        .setArguments(configuration.persistedExpectationsPath())
-                                );
-                            }
-                            byte[] data = serialize(expectations).getBytes(UTF_8);
-                            ByteBuffer buffer = ByteBuffer.wrap(data);
-                            buffer.put(data);
-                            buffer.rewind();
-                            while (buffer.hasRemaining()) {
-                                fileChannel.write(buffer);
-                            }
-                        }
+                writeSnapshot(requestMatchers);
+            } finally {
+                fileWriteLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * in journal mode only the changed expectations are appended to the journal, the snapshot is only rewritten
+     * (and the journal truncated) once the journal has more records than the number of active expectations
+     */
+    @Override
+    public void changed(RequestMatchers requestMatchers, ExpectationChanges changes) {
+        if (expectationJournal == null) {
+            updated(requestMatchers, changes.getCause());
+        } else if (shouldPersist(changes.getCause())) {
+            fileWriteLock.lock();
+            try {
+                if (compactionRequired || changes.isReset()) {
+                    compact(requestMatchers);
+                } else {
+                    journalRecords += expectationJournal.append(changes);
+                    if (journalRecords > Math.max(configuration.persistedExpectationsJournalCompactionThreshold(), requestMatchers.size())) {
+                        compact(requestMatchers);
                     }
-                } catch (Throwable throwable) {
-                    mockServerLogger.logEvent(
-                        new LogEntry()
-                            .setLogLevel(Level.ERROR)
-                            .setMessageFormat("exception while persisting expectations to " + filePath.toString())
-                            .setThrowable(throwable)
-                    );
                 }
+            } catch (Throwable throwable) {
+                // journal may no longer match snapshot so rewrite both on next change
+                compactionRequired = true;
+                mockServerLogger.logEvent(
+                    new LogEntry()
+                        .setLogLevel(Level.ERROR)
+                        .setMessageFormat("exception while persisting expectations to " + expectationJournal.getJournalPath().toString())
+                        .setThrowable(throwable)
+                );
             } finally {
                 fileWriteLock.unlock();
             }
         }
     }
 
+    private boolean shouldPersist(MockServerMatcherNotifier.Cause cause) {
+        // ignore non-API changes from the same file
+        return cause == MockServerMatcherNotifier.Cause.API || cause.getType() == MockServerMatcherNotifier.Cause.Type.CLASS_INITIALISER || !initializationPathMatchesPersistencePath;
+    }
+
+    private void compact(RequestMatchers requestMatchers) throws IOException {
+        if (writeSnapshot(requestMatchers)) {
+            // snapshot must be written before the journal is truncated so a failure never loses changes
+            expectationJournal.truncate();
+            journalRecords = 0;
+            compactionRequired = false;
+        } else {
+            compactionRequired = true;
+        }
+    }
+
+    private boolean writeSnapshot(RequestMatchers requestMatchers) {
+        try {
+            try (
+                FileOutputStream fileOutputStream = new FileOutputStream(filePath.toFile());
+                FileChannel fileChannel = fileOutputStream.getChannel();
+                FileLock fileLock = fileChannel.lock()
+            ) {
+                if (fileLock != null) {
+                    List<Expectation> expectations = requestMatchers.retrieveActiveExpectations(null);
+                    if (MockServerLogger.isEnabled(TRACE)) {
+                        mockServerLogger.logEvent(
+                            new LogEntry()
+                                .setLogLevel(TRACE)
+                                .setMessageFormat("persisting expectations{}to{}")
+                                .setArguments(expectations, configuration.persistedExpectationsPath())
+                        );
+                    } else if (MockServerLogger.isEnabled(DEBUG)) {
+                        mockServerLogger.logEvent(
+                            new LogEntry()
+                                .setLogLevel(DEBUG)
+                                .setMessageFormat("persisting expectations to{}")
+                                .setArguments(configuration.persistedExpectationsPath())
+                        );
+                    }
+                    byte[] data = serialize(expectations).getBytes(UTF_8);
+                    ByteBuffer buffer = ByteBuffer.wrap(data);
+                    buffer.put(data);
+                    buffer.rewind();
+                    while (buffer.hasRemaining()) {
+                        fileChannel.write(buffer);
+                    }
+                    return true;
+                }
+            }
+        } catch (Throwable throwable) {
+            mockServerLogger.logEvent(
+                new LogEntry()
+                    .setLogLevel(Level.ERROR)
+                    .setMessageFormat("exception while persisting expectations to " + filePath.toString())
+                    .setThrowable(throwable)
+            );
+        }
+        return false;
+    }
+
     public String serialize(List<Expectation> expectations) {
         return serialize(expectations.toArray(new Expectation[0]));
     }
@@ -46,10 +46,10 @@ public class ExpectationFileWatcher {
                                         new LogEntry()
                                             .setLogLevel(DEBUG)
                                             .setMessageFormat("expectation file watcher updating expectations as modification detected on file{}")
-                                            .setArguments(configuration.initializationJsonPath())
+                                            .setArguments(initializationJsonPath)
                                     );
                                 }
-                                addExpectationsFromInitializer();
+                                addExpectationsFromInitializer(initializationJsonPath);
                             }, throwable -> {
                                 if (MockServerLogger.isEnabled(WARN)) {
                                     mockServerLogger.logEvent(
@@ -98,8 +98,9 @@ public class ExpectationFileWatcher {
         }
     }
 
-    private synchronized void addExpectationsFromInitializer() {
-        expectationInitializerLoader.retrieveExpectationsFromFile("", "exception while loading JSON initialization file with file watcher, ignoring file:{}", "updating expectations:{}from file:{}", Cause.Type.FILE_INITIALISER);
+    private synchronized void addExpectationsFromInitializer(String initializationJsonPath) {
+        // only the expectations from the modified file are updated, expectations from other files are unaffected
+        expectationInitializerLoader.retrieveExpectationsFromFile(initializationJsonPath, "", "exception while loading JSON initialization file with file watcher, ignoring file:{}", "updating expectations:{}from file:{}", Cause.Type.FILE_INITIALISER);
     }
 
     public void stop() {
@@ -0,0 +1,176 @@
+package org.mockserver.persistence;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.mockserver.configuration.Configuration;
+import org.mockserver.log.model.LogEntry;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.mock.Expectation;
+import org.mockserver.mock.listeners.ExpectationChanges;
+import org.mockserver.serialization.ExpectationSerializer;
+import org.mockserver.serialization.serializers.response.TimeToLiveSerializer;
+
+import java.io.BufferedReader;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.mockserver.serialization.ObjectMapperFactory.createObjectMapper;
+import static org.slf4j.event.Level.WARN;
+
+/**
+ * Append-only journal of expectation changes stored next to the persisted expectations snapshot, each line is a
+ * single json record either {"upsert": expectation} or {"remove": "id"}, records are idempotent so the journal can
+ * always be replayed on top of the snapshot even if the snapshot was compacted after the records were appended
+ */
+public class ExpectationJournal {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    private static final String UPSERT = "upsert";
+    private static final String REMOVE = "remove";
+    private final MockServerLogger mockServerLogger;
+    private final Path journalPath;
+    private final ObjectWriter objectWriter;
+    private final ObjectMapper objectMapper;
+    private final ExpectationSerializer expectationSerializer;
+
+    public ExpectationJournal(Configuration configuration, MockServerLogger mockServerLogger) {
+        this.mockServerLogger = mockServerLogger;
+        this.journalPath = journalPath(configuration.persistedExpectationsPath());
+        this.objectWriter = createObjectMapper(false, false, new TimeToLiveSerializer());
+        this.objectMapper = createObjectMapper();
+        this.expectationSerializer = new ExpectationSerializer(mockServerLogger);
+    }
+
+    public static Path journalPath(String persistedExpectationsPath) {
+        return Paths.get(persistedExpectationsPath + JOURNAL_FILE_SUFFIX);
+    }
+
+    public Path getJournalPath() {
+        return journalPath;
+    }
+
+    /**
+     * @return number of records appended
+     */
+    public int append(ExpectationChanges changes) throws IOException {
+        StringBuilder records = new StringBuilder();
+        int numberOfRecords = 0;
+        for (String id : changes.getRemoved()) {
+            records.append("{\"").append(REMOVE).append("\":").append(objectWriter.writeValueAsString(id)).append("}\n");
+            numberOfRecords++;
+        }
+        for (Expectation expectation : changes.getUpserted()) {
+            records.append("{\"").append(UPSERT).append("\":").append(objectWriter.writeValueAsString(expectation)).append("}\n");
+            numberOfRecords++;
+        }
+        if (numberOfRecords > 0) {
+            try (
+                FileOutputStream fileOutputStream = new FileOutputStream(journalPath.toFile(), true);
+                FileChannel fileChannel = fileOutputStream.getChannel();
+                FileLock ignored = fileChannel.lock()
+            ) {
+                ByteBuffer buffer = ByteBuffer.wrap(records.toString().getBytes(UTF_8));
+                while (buffer.hasRemaining()) {
+                    fileChannel.write(buffer);
+                }
+            }
+        }
+        return numberOfRecords;
+    }
+
+    /**
+     * @return number of records in the journal, including a partially written record
+     */
+    public int countRecords() {
+        if (!Files.exists(journalPath)) {
+            return 0;
+        }
+        int numberOfRecords = 0;
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!isBlank(line)) {
+                    numberOfRecords++;
+                }
+            }
+        } catch (IOException ioe) {
+            mockServerLogger.logEvent(
+                new LogEntry()
+                    .setLogLevel(WARN)
+                    .setMessageFormat("exception while counting records in expectation journal " + journalPath)
+                    .setThrowable(ioe)
+            );
+        }
+        return numberOfRecords;
+    }
+
+    public void truncate() throws IOException {
+        try (
+            FileOutputStream fileOutputStream = new FileOutputStream(journalPath.toFile(), false);
+            FileChannel fileChannel = fileOutputStream.getChannel();
+            FileLock ignored = fileChannel.lock()
+        ) {
+            fileChannel.truncate(0);
+        }
+    }
+
+    /**
+     * applies the journal records to the expectations loaded from the snapshot, a record that can't be read (i.e. partially
+     * written when the process stopped) is logged and skipped
+     */
+    public Expectation[] replay(Expectation[] snapshot) {
+        if (!Files.exists(journalPath)) {
+            return snapshot;
+        }
+        Map<String, Expectation> expectations = new LinkedHashMap<>();
+        for (Expectation expectation : snapshot) {
+            expectations.put(expectation.getId(), expectation);
+        }
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (isBlank(line)) {
+                    continue;
+                }
+                try {
+                    JsonNode record = objectMapper.readTree(line);
+                    if (record.has(REMOVE)) {
+                        expectations.remove(record.get(REMOVE).asText());
+                    } else if (record.has(UPSERT)) {
+                        Expectation expectation = expectationSerializer.deserialize(record.get(UPSERT).toString());
+                        expectations.put(expectation.getId(), expectation);
+                    }
+                } catch (Throwable throwable) {
+                    mockServerLogger.logEvent(
+                        new LogEntry()
+                            .setLogLevel(WARN)
+                            .setMessageFormat("exception while replaying expectation journal record " + lineNumber + " from " + journalPath + ", ignoring record:{}")
+                            .setArguments(line)
+                            .setThrowable(throwable)
+                    );
+                }
+            }
+        } catch (IOException ioe) {
+            mockServerLogger.logEvent(
+                new LogEntry()
+                    .setLogLevel(WARN)
+                    .setMessageFormat("exception while reading expectation journal " + journalPath + ", ignoring journal")
+                    .setThrowable(ioe)
+            );
+            return snapshot;
+        }
+        return expectations.values().toArray(new Expectation[0]);
+    }
+}
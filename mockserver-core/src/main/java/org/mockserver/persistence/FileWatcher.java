@@ -1,24 +1,34 @@
 package org.mockserver.persistence;
 
+import com.google.common.annotations.VisibleForTesting;
 import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
 import org.mockserver.scheduler.Scheduler;
 
-import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.util.Arrays;
+import java.nio.file.*;
+import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
+import static java.nio.file.StandardWatchEventKinds.*;
 import static org.slf4j.event.Level.INFO;
+import static org.slf4j.event.Level.WARN;
 
+/**
+ * Watches a file for changes using the platform's {@link WatchService} (i.e. inotify on Linux), changes to the same file
+ * within the debounce period result in a single notification, if the file can't be registered with the WatchService, or
+ * the WatchService is itself implemented by polling (i.e. on macOS where it only polls every ~10 seconds), the file is
+ * polled every poll period instead
+ */
 public class FileWatcher {
 
     private static ScheduledExecutorService scheduler;
+    private static WatchService watchService;
+    private static boolean pollingWatchService;
+    private static final Map<Path, WatchKey> watchKeys = new HashMap<>();
+    private static final Map<Path, List<FileWatcher>> fileWatchersByDirectory = new HashMap<>();
 
     public synchronized static ScheduledExecutorService getScheduler() {
         if (scheduler == null) {
@@ -32,30 +42,180 @@ public class FileWatcher {
         return scheduler;
     }
 
-    private boolean running = true;
-    private final ScheduledFuture<?> scheduledFuture;
+    /**
+     * @return the shared WatchService, created with its event thread when first needed, or null if the platform
+     * WatchService is implemented by polling so files should be polled directly instead
+     */
+    private synchronized static WatchService getWatchService() throws IOException {
+        if (watchService == null && !pollingWatchService) {
+            WatchService newWatchService = FileSystems.getDefault().newWatchService();
+            if (newWatchService.getClass().getSimpleName().equals("PollingWatchService")) {
+                // polls for changes every ~10 seconds, which is slower than polling the file directly
+                newWatchService.close();
+                pollingWatchService = true;
+            } else {
+                watchService = newWatchService;
+                new Scheduler.SchedulerThreadFactory("FileWatcherEvents").newThread(() -> processWatchEvents(newWatchService)).start();
+            }
+        }
+        return watchService;
+    }
+
+    /**
+     * closes the shared WatchService, which stops its event thread, once no files are being watched
+     */
+    private synchronized static void closeWatchServiceIfUnused() {
+        if (watchService != null && fileWatchersByDirectory.isEmpty()) {
+            try {
+                watchService.close();
+            } catch (IOException ignore) {
+                // closing only releases the platform resources
+            }
+            watchService = null;
+        }
+    }
+
+    @VisibleForTesting
+    synchronized static boolean isWatchServiceOpen() {
+        return watchService != null;
+    }
+
+    private volatile boolean running = true;
+    private final Object checkLock = new Object();
+    private final Path path;
+    private final AtomicReference<Integer> fileHash;
+    private final Runnable updatedHandler;
+    private final Consumer<Throwable> errorHandler;
+    private final MockServerLogger mockServerLogger;
+    private ScheduledFuture<?> scheduledFuture;
+    private ScheduledFuture<?> pendingCheck;
     private static long pollPeriod = 5;
     private static TimeUnit pollPeriodUnits = TimeUnit.SECONDS;
+    private static long debouncePeriod = 100;
+    private static TimeUnit debouncePeriodUnits = TimeUnit.MILLISECONDS;
 
     public FileWatcher(Path filePath, Runnable updatedHandler, Consumer<Throwable> errorHandler, MockServerLogger mockServerLogger) {
-        final Path path = filePath.getParent() != null ? filePath : Paths.get(new File(".").getAbsolutePath(), filePath.toString());
-        final AtomicReference<Integer> fileHash = new AtomicReference<>(getFileHash(path));
+        this.path = filePath.toAbsolutePath().normalize();
+        this.fileHash = new AtomicReference<>(getFileHash(path));
+        this.updatedHandler = updatedHandler;
+        this.errorHandler = errorHandler;
+        this.mockServerLogger = mockServerLogger;
         mockServerLogger.logEvent(
             new LogEntry()
                 .setLogLevel(INFO)
                 .setMessageFormat("watching file:{}with file fingerprint:{}")
                 .setArguments(path, fileHash)
         );
-        scheduledFuture = getScheduler().scheduleAtFixedRate(() -> {
+        if (!register(this)) {
+            startPolling();
+        }
+    }
+
+    private static synchronized boolean register(FileWatcher fileWatcher) {
+        Path directory = fileWatcher.path.getParent();
+        try {
+            if (!watchKeys.containsKey(directory)) {
+                WatchService watchService = getWatchService();
+                if (watchService == null) {
+                    fileWatcher.mockServerLogger.logEvent(
+                        new LogEntry()
+                            .setLogLevel(INFO)
+                            .setMessageFormat("platform WatchService polls for changes, polling file:{}instead")
+                            .setArguments(fileWatcher.path)
+                    );
+                    return false;
+                }
+                watchKeys.put(directory, directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE));
+            }
+            fileWatchersByDirectory.computeIfAbsent(directory, key -> new ArrayList<>()).add(fileWatcher);
+            return true;
+        } catch (Throwable throwable) {
+            fileWatcher.mockServerLogger.logEvent(
+                new LogEntry()
+                    .setLogLevel(WARN)
+                    .setMessageFormat("unable to watch directory:{}for changes, polling file:{}instead")
+                    .setArguments(directory, fileWatcher.path)
+                    .setThrowable(throwable)
+            );
+            return false;
+        }
+    }
+
+    private static synchronized void unregister(FileWatcher fileWatcher) {
+        Path directory = fileWatcher.path.getParent();
+        List<FileWatcher> fileWatchers = fileWatchersByDirectory.get(directory);
+        if (fileWatchers != null) {
+            fileWatchers.remove(fileWatcher);
+            if (fileWatchers.isEmpty()) {
+                fileWatchersByDirectory.remove(directory);
+                WatchKey watchKey = watchKeys.remove(directory);
+                if (watchKey != null) {
+                    watchKey.cancel();
+                }
+                closeWatchServiceIfUnused();
+            }
+        }
+    }
+
+    private static synchronized List<FileWatcher> fileWatchers(Path directory) {
+        return new ArrayList<>(fileWatchersByDirectory.getOrDefault(directory, Collections.emptyList()));
+    }
+
+    private static void processWatchEvents(WatchService watchService) {
+        while (true) {
+            WatchKey watchKey;
             try {
-                if (!getFileHash(path).equals(fileHash.get())) {
+                watchKey = watchService.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+            Path directory = (Path) watchKey.watchable();
+            List<FileWatcher> fileWatchers = fileWatchers(directory);
+            for (WatchEvent<?> watchEvent : watchKey.pollEvents()) {
+                for (FileWatcher fileWatcher : fileWatchers) {
+                    // an overflow means events were lost so every file in the directory may have changed
+                    if (watchEvent.kind() == OVERFLOW || fileWatcher.path.equals(directory.resolve((Path) watchEvent.context()))) {
+                        fileWatcher.scheduleCheck();
+                    }
+                }
+            }
+            if (!watchKey.reset()) {
+                // directory is no longer accessible (i.e. deleted) so fall back to polling
+                for (FileWatcher fileWatcher : fileWatchers) {
+                    unregister(fileWatcher);
+                    if (fileWatcher.isRunning()) {
+                        fileWatcher.startPolling();
+                    }
+                }
+            }
+        }
+    }
+
+    private synchronized void startPolling() {
+        scheduledFuture = getScheduler().scheduleAtFixedRate(this::checkForChange, pollPeriod, pollPeriod, pollPeriodUnits);
+    }
+
+    private synchronized void scheduleCheck() {
+        if (running) {
+            if (pendingCheck != null) {
+                pendingCheck.cancel(false);
+            }
+            pendingCheck = getScheduler().schedule(this::checkForChange, debouncePeriod, debouncePeriodUnits);
+        }
+    }
+
+    private void checkForChange() {
+        // checks are triggered by both watch events and polling on a multi-threaded scheduler so only run one at a time
+        synchronized (checkLock) {
+            try {
+                if (running && !getFileHash(path).equals(fileHash.get())) {
                     updatedHandler.run();
                     fileHash.set(getFileHash(path));
                 }
             } catch (Throwable throwable) {
                 errorHandler.accept(throwable);
             }
-        }, pollPeriod, pollPeriod, pollPeriodUnits);
+        }
     }
 
     private Integer getFileHash(Path path) {
@@ -72,8 +232,16 @@ public class FileWatcher {
 
     public FileWatcher setRunning(boolean running) {
         this.running = running;
-        if (!running && this.scheduledFuture != null) {
-            this.scheduledFuture.cancel(true);
+        if (!running) {
+            unregister(this);
+            synchronized (this) {
+                if (this.scheduledFuture != null) {
+                    this.scheduledFuture.cancel(true);
+                }
+                if (this.pendingCheck != null) {
+                    this.pendingCheck.cancel(true);
+                }
+            }
         }
         return this;
     }
@@ -93,4 +261,20 @@ public class FileWatcher {
     public static void setPollPeriodUnits(TimeUnit pollPeriodUnits) {
         FileWatcher.pollPeriodUnits = pollPeriodUnits;
     }
+
+    public static long getDebouncePeriod() {
+        return FileWatcher.debouncePeriod;
+    }
+
+    public static void setDebouncePeriod(long debouncePeriod) {
+        FileWatcher.debouncePeriod = debouncePeriod;
+    }
+
+    public static TimeUnit getDebouncePeriodUnits() {
+        return FileWatcher.debouncePeriodUnits;
+    }
+
+    public static void setDebouncePeriodUnits(TimeUnit debouncePeriodUnits) {
+        FileWatcher.debouncePeriodUnits = debouncePeriodUnits;
+    }
 }
@@ -11,6 +11,8 @@ import org.mockserver.model.HttpResponse;
 import org.mockserver.version.Version;
 import org.slf4j.event.Level;
 
+import java.util.concurrent.atomic.AtomicReference;
+
 import static io.netty.handler.codec.http.HttpHeaderNames.*;
 import static io.netty.handler.codec.http.HttpHeaderValues.CLOSE;
 import static io.netty.handler.codec.http.HttpHeaderValues.KEEP_ALIVE;
@@ -29,6 +31,7 @@ public abstract class ResponseWriter {
     protected final Configuration configuration;
     protected final MockServerLogger mockServerLogger;
     private final CORSHeaders corsHeaders;
+    private final AtomicReference<Runnable> responseWrittenListener = new AtomicReference<>();
 
     protected ResponseWriter(Configuration configuration, MockServerLogger mockServerLogger) {
         this.configuration = configuration;
@@ -55,11 +58,7 @@ public abstract class ResponseWriter {
         if (response == null) {
             response = notFoundResponse();
         }
-        if (configuration.enableCORSForAllResponses()) {
-            corsHeaders.addCORSHeaders(request, response);
-        } else if (apiResponse && configuration.enableCORSForAPI()) {
-            corsHeaders.addCORSHeaders(request, response);
-        }
+        addCORSHeaders(request, response, apiResponse);
         String contentLengthHeader = response.getFirstHeader(CONTENT_LENGTH.toString());
         if (isNotBlank(contentLengthHeader)) {
             try {
@@ -89,10 +88,46 @@ public abstract class ResponseWriter {
         }
 
         sendResponse(request, addConnectionHeader(request, response));
+        responseWritten();
+    }
+
+    private void responseWritten() {
+        Runnable listener = responseWrittenListener.getAndSet(null);
+        if (listener != null) {
+            listener.run();
+        }
+    }
+
+    /**
+     * runs the listener once, after the next response is written, as a response may be written after a delay or once an
+     * asynchronous callback or forwarded request completes, for a streamed response once the response head is returned
+     */
+    public ResponseWriter whenResponseWritten(final Runnable listener) {
+        responseWrittenListener.set(listener);
+        return this;
+    }
+
+    /**
+     * returns the head of a response that is streamed to the client, instead of being written by writeResponse, with the
+     * same CORS and connection headers that writeResponse adds
+     */
+    public HttpResponse streamedResponseHead(final HttpRequest request, final HttpResponse responseHead) {
+        addCORSHeaders(request, responseHead, false);
+        HttpResponse responseHeadWithConnectionHeader = addConnectionHeader(request, responseHead);
+        responseWritten();
+        return responseHeadWithConnectionHeader;
     }
 
     public abstract void sendResponse(HttpRequest request, HttpResponse response);
 
+    private void addCORSHeaders(final HttpRequest request, final HttpResponse response, final boolean apiResponse) {
+        if (configuration.enableCORSForAllResponses()) {
+            corsHeaders.addCORSHeaders(request, response);
+        } else if (apiResponse && configuration.enableCORSForAPI()) {
+            corsHeaders.addCORSHeaders(request, response);
+        }
+    }
+
     protected HttpResponse addConnectionHeader(final HttpRequest request, final HttpResponse response) {
         ConnectionOptions connectionOptions = response.getConnectionOptions();
 
@@ -11,9 +11,12 @@ import org.mockserver.model.Delay;
 import org.mockserver.model.HttpResponse;
 import org.slf4j.event.Level;
 
+import java.util.List;
 import java.util.concurrent.*;
 import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.mockserver.log.model.LogEntry.LogMessageType.WARN;
@@ -27,6 +30,7 @@ public class Scheduler {
 
     private final Configuration configuration;
     private final ScheduledExecutorService scheduler;
+    private final ExecutorService executor;
 
     private final boolean synchronous;
 
@@ -55,6 +59,21 @@ public class Scheduler {
         }
     }
 
+    private static final int MINIMUM_PARALLEL_BATCH_SIZE = 16;
+    private final ForkJoinPool bulkProcessingPool;
+
+    /**
+     * applies the transformation to each item on a fork-join pool shared by all bulk operations and bounded by the number
+     * of processors, the results are returned in the same order as the items, small batches are transformed on the calling thread
+     */
+    public final <T, R> List<R> parallelTransform(List<T> items, Function<T, R> transformation) {
+        if (bulkProcessingPool == null || bulkProcessingPool.isShutdown() || items.size() < MINIMUM_PARALLEL_BATCH_SIZE) {
+            return items.stream().map(transformation).collect(Collectors.toList());
+        } else {
+            return bulkProcessingPool.submit(() -> items.parallelStream().map(transformation).collect(Collectors.toList())).join();
+        }
+    }
+
     private final MockServerLogger mockServerLogger;
 
     public Scheduler(Configuration configuration, MockServerLogger mockServerLogger) {
@@ -67,21 +86,79 @@ public class Scheduler {
         this.mockServerLogger = mockServerLogger;
         this.synchronous = synchronous;
         if (!this.synchronous) {
-            this.scheduler = new ScheduledThreadPoolExecutor(
-                configuration.actionHandlerThreadCount(),
-                new SchedulerThreadFactory("Scheduler"),
-                new ThreadPoolExecutor.CallerRunsPolicy()
+            this.bulkProcessingPool = new ForkJoinPool(
+                Runtime.getRuntime().availableProcessors(),
+                pool -> {
+                    ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                    thread.setName("MockServer-BulkProcessing" + thread.getPoolIndex());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                null,
+                false
             );
+            ExecutorService virtualThreadExecutor = configuration.actionHandlerVirtualThreads() ? virtualThreadExecutor() : null;
+            if (virtualThreadExecutor != null) {
+                // virtual threads are only used to execute actions, delays are scheduled on a single platform timer thread
+                this.scheduler = new ScheduledThreadPoolExecutor(
+                    1,
+                    new SchedulerThreadFactory("SchedulerTimer"),
+                    new ThreadPoolExecutor.CallerRunsPolicy()
+                );
+                this.executor = virtualThreadExecutor;
+            } else {
+                this.scheduler = new ScheduledThreadPoolExecutor(
+                    configuration.actionHandlerThreadCount(),
+                    new SchedulerThreadFactory("Scheduler"),
+                    new ThreadPoolExecutor.CallerRunsPolicy()
+                );
+                this.executor = this.scheduler;
+            }
         } else {
             this.scheduler = null;
+            this.executor = null;
+            this.bulkProcessingPool = null;
         }
     }
 
+    /**
+     * virtual threads require java 21 or later, so the executor is created reflectively to support earlier versions
+     */
+    private ExecutorService virtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (Throwable throwable) {
+            mockServerLogger.logEvent(
+                new LogEntry()
+                    .setType(WARN)
+                    .setLogLevel(Level.WARN)
+                    .setMessageFormat("virtual threads require Java 21 or later, using action handler thread pool with " + configuration.actionHandlerThreadCount() + " threads instead")
+            );
+            return null;
+        }
+    }
+
+    @VisibleForTesting
+    public boolean isUsingVirtualThreads() {
+        return executor != null && executor != scheduler;
+    }
+
+    public boolean isSynchronous() {
+        return synchronous;
+    }
+
     public synchronized void shutdown() {
         if (!scheduler.isShutdown()) {
             scheduler.shutdown();
+            if (executor != scheduler) {
+                executor.shutdown();
+            }
+            bulkProcessingPool.shutdown();
             try {
                 scheduler.awaitTermination(500, MILLISECONDS);
+                if (executor != scheduler) {
+                    executor.awaitTermination(500, MILLISECONDS);
+                }
             } catch (InterruptedException ignore) {
                 // ignore interrupted exception
             }
@@ -115,7 +192,11 @@ public class Scheduler {
             run(command, port);
         } else {
             if (delay != null) {
-                scheduler.schedule(() -> run(command, port), delay.getValue(), delay.getTimeUnit());
+                if (executor == scheduler) {
+                    scheduler.schedule(() -> run(command, port), delay.getValue(), delay.getTimeUnit());
+                } else {
+                    scheduler.schedule(() -> executor.execute(() -> run(command, port)), delay.getValue(), delay.getTimeUnit());
+                }
             } else {
                 run(command, port);
             }
@@ -149,7 +230,7 @@ public class Scheduler {
         if (this.synchronous || synchronous) {
             run(command, port);
         } else {
-            scheduler.submit(() -> run(command, port));
+            executor.submit(() -> run(command, port));
         }
     }
 
@@ -177,7 +258,7 @@ public class Scheduler {
                         );
                     }
                     run(command, port);
-                }, scheduler);
+                }, executor);
             }
         }
     }
@@ -195,11 +276,56 @@ public class Scheduler {
                 }
                 run(command, port);
             } else {
-                future.whenCompleteAsync((httpResponse, throwable) -> command.run(), scheduler);
+                future.whenCompleteAsync((httpResponse, throwable) -> command.run(), executor);
+            }
+        }
+    }
+
+    /**
+     * passes the result of the future to the consumer once it completes without blocking a scheduler thread while waiting,
+     * a future that doesn't complete within maxFutureTimeout is completed exceptionally with a {@link TimeoutException}
+     */
+    public <T> void submit(CompletableFuture<T> future, BiConsumer<T, Throwable> consumer, boolean synchronous) {
+        Integer port = getPort();
+        if (future != null) {
+            if (this.synchronous || synchronous) {
+                T result = null;
+                Throwable exception = null;
+                try {
+                    result = future.get(configuration.maxFutureTimeoutInMillis(), MILLISECONDS);
+                } catch (TimeoutException e) {
+                    exception = futureTimeoutException();
+                    future.completeExceptionally(exception);
+                } catch (ExecutionException e) {
+                    exception = e.getCause();
+                } catch (InterruptedException e) {
+                    exception = e;
+                }
+                T finalResult = result;
+                Throwable finalException = exception;
+                run(() -> consumer.accept(finalResult, finalException), port);
+            } else {
+                completeExceptionallyAfterFutureTimeout(future);
+                future.whenCompleteAsync((result, throwable) -> run(() -> consumer.accept(result, throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable), port), executor);
             }
         }
     }
 
+    /**
+     * completes the future exceptionally with a {@link TimeoutException} if it isn't completed within maxFutureTimeout,
+     * without blocking a thread while waiting
+     */
+    public void completeExceptionallyAfterFutureTimeout(CompletableFuture<?> future) {
+        if (scheduler != null && !future.isDone()) {
+            ScheduledFuture<?> timeout = scheduler.schedule(() -> future.completeExceptionally(futureTimeoutException()), configuration.maxFutureTimeoutInMillis(), MILLISECONDS);
+            future.whenComplete((result, throwable) -> timeout.cancel(false));
+        }
+    }
+
+    private TimeoutException futureTimeoutException() {
+        return new TimeoutException("Future was not completed after " + configuration.maxFutureTimeoutInMillis() + " milliseconds, to make MockServer wait longer please use \"mockserver.maxFutureTimeout\" system property or ConfigurationProperties.maxFutureTimeout(long milliseconds)");
+    }
+
     public void submit(HttpForwardActionResult future, BiConsumer<HttpResponse, Throwable> consumer, boolean synchronous) {
         if (future != null) {
             if (this.synchronous || synchronous) {
@@ -226,7 +352,7 @@ public class Scheduler {
                     }
                 }
             } else {
-                future.getHttpResponse().whenCompleteAsync(consumer, scheduler);
+                future.getHttpResponse().whenCompleteAsync(consumer, executor);
             }
         }
     }
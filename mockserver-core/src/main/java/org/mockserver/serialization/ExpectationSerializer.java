@@ -9,6 +9,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
 import org.mockserver.mock.Expectation;
+import org.mockserver.scheduler.Scheduler;
 import org.mockserver.serialization.model.ExpectationDTO;
 import org.mockserver.validator.jsonschema.JsonSchemaExpectationValidator;
 import org.slf4j.event.Level;
@@ -18,6 +19,9 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.mockserver.character.Character.NEW_LINE;
@@ -38,6 +42,7 @@ public class ExpectationSerializer implements Serializer<Expectation> {
     private JsonArraySerializer jsonArraySerializer = new JsonArraySerializer();
     private JsonSchemaExpectationValidator expectationValidator;
     private OpenAPIExpectationSerializer openAPIExpectationSerializer;
+    private final Scheduler scheduler;
     private static boolean printedECMA262Warning = false;
 
     public ExpectationSerializer(MockServerLogger mockServerLogger) {
@@ -45,7 +50,15 @@ public class ExpectationSerializer implements Serializer<Expectation> {
     }
 
     public ExpectationSerializer(MockServerLogger mockServerLogger, boolean serialiseDefaultValues) {
+        this(mockServerLogger, serialiseDefaultValues, null);
+    }
+
+    /**
+     * @param scheduler used to deserialize large expectation arrays in parallel, when null arrays are deserialized on the calling thread
+     */
+    public ExpectationSerializer(MockServerLogger mockServerLogger, boolean serialiseDefaultValues, Scheduler scheduler) {
         this.mockServerLogger = mockServerLogger;
+        this.scheduler = scheduler;
         this.openAPIExpectationSerializer = new OpenAPIExpectationSerializer(mockServerLogger);
         this.objectWriter = ObjectMapperFactory.createObjectMapper(true, serialiseDefaultValues);
         this.objectMapper = ObjectMapperFactory.createObjectMapper();
@@ -133,14 +146,7 @@ public class ExpectationSerializer implements Serializer<Expectation> {
                         expectation = expectationDTO.buildObject();
                     }
                 } catch (Throwable throwable) {
-                    mockServerLogger.logEvent(
-                        new LogEntry()
-                            .setLogLevel(Level.ERROR)
-                            .setMessageFormat("exception while parsing{}for Expectation " + throwable.getMessage())
-                            .setArguments(jsonExpectation)
-                            .setThrowable(throwable)
-                    );
-                    throw new IllegalArgumentException("exception while parsing [" + jsonExpectation + "] for Expectation", throwable);
+                    throw deserializationException(jsonExpectation, throwable);
                 }
                 return expectation;
             } else {
@@ -149,53 +155,72 @@ public class ExpectationSerializer implements Serializer<Expectation> {
         }
     }
 
+    /**
+     * deserializes an expectation that has already been parsed, the json is only printed if it is invalid
+     */
+    private Expectation deserialize(JsonNode jsonExpectation) {
+        String validationErrors = getValidator().isValid(jsonExpectation, true);
+        if (validationErrors.isEmpty()) {
+            Expectation expectation = null;
+            try {
+                ExpectationDTO expectationDTO = objectMapper.treeToValue(jsonExpectation, ExpectationDTO.class);
+                if (expectationDTO != null) {
+                    expectation = expectationDTO.buildObject();
+                }
+            } catch (Throwable throwable) {
+                throw deserializationException(JacksonUtils.prettyPrint(jsonExpectation), throwable);
+            }
+            return expectation;
+        } else {
+            throw new IllegalArgumentException(StringUtils.removeEndIgnoreCase(formatLogMessage("incorrect expectation json format for:{}schema validation errors:{}", JacksonUtils.prettyPrint(jsonExpectation), validationErrors), "\n"));
+        }
+    }
+
+    private IllegalArgumentException deserializationException(String jsonExpectation, Throwable throwable) {
+        mockServerLogger.logEvent(
+            new LogEntry()
+                .setLogLevel(Level.ERROR)
+                .setMessageFormat("exception while parsing{}for Expectation " + throwable.getMessage())
+                .setArguments(jsonExpectation)
+                .setThrowable(throwable)
+        );
+        return new IllegalArgumentException("exception while parsing [" + jsonExpectation + "] for Expectation", throwable);
+    }
+
     @Override
     public Class<Expectation> supportsType() {
         return Expectation.class;
     }
 
     public Expectation[] deserializeArray(String jsonExpectations, boolean allowEmpty) {
-        return deserializeArray(jsonExpectations, allowEmpty, (s, expectation) -> expectation);
+        return deserializeArray(jsonExpectations, allowEmpty, null);
     }
 
+    /**
+     * the json is parsed once, then each expectation is validated and deserialized in parallel, validation errors are
+     * reported in the same order as the expectations in the array
+     */
     public Expectation[] deserializeArray(String jsonExpectations, boolean allowEmpty, BiFunction<String, List<Expectation>, List<Expectation>> expectationModifier) {
         List<Expectation> expectations = new ArrayList<>();
         if (isBlank(jsonExpectations)) {
             throw new IllegalArgumentException("1 error:" + NEW_LINE + " - an expectation or expectation array is required but value was \"" + jsonExpectations + "\"");
         } else {
-            List<String> validationErrorsList = new ArrayList<>();
             List<JsonNode> jsonExpectationList = jsonArraySerializer.splitJSONArrayToJSONNodes(jsonExpectations);
             if (!jsonExpectationList.isEmpty()) {
-                for (int i = 0; i < jsonExpectationList.size(); i++) {
-                    String jsonExpectation = JacksonUtils.prettyPrint(jsonExpectationList.get(i));
-                    if (jsonExpectationList.size() > 100) {
-                        if (MockServerLogger.isEnabled(DEBUG)) {
-                            mockServerLogger.logEvent(
-                                new LogEntry()
-                                    .setLogLevel(DEBUG)
-                                    .setMessageFormat("processing JSON expectation " + (i + 1) + " of " + jsonExpectationList.size() + ":{}")
-                                    .setArguments(jsonExpectation)
-                            );
-                        } else if (MockServerLogger.isEnabled(INFO)) {
-                            mockServerLogger.logEvent(
-                                new LogEntry()
-                                    .setLogLevel(INFO)
-                                    .setMessageFormat("processing JSON expectation " + (i + 1) + " of " + jsonExpectationList.size())
-                            );
-                        }
-                    }
-                    if (jsonExpectationList.get(i).has("specUrlOrPayload")) {
-                        try {
-                            expectations.addAll(expectationModifier.apply(jsonExpectation, openAPIExpectationSerializer.deserializeToExpectations(jsonExpectation)));
-                        } catch (IllegalArgumentException iae) {
-                            validationErrorsList.add(iae.getMessage());
-                        }
+                List<Integer> indexes = IntStream.range(0, jsonExpectationList.size()).boxed().collect(Collectors.toList());
+                // open api specifications are loaded sequentially below
+                Function<Integer, DeserializationResult> deserializeItem = i -> jsonExpectationList.get(i).has("specUrlOrPayload") ? null : deserializeArrayItem(i, jsonExpectationList, expectationModifier != null);
+                List<DeserializationResult> results = scheduler != null ? scheduler.parallelTransform(indexes, deserializeItem) : indexes.stream().map(deserializeItem).collect(Collectors.toList());
+                List<String> validationErrorsList = new ArrayList<>();
+                for (int i = 0; i < results.size(); i++) {
+                    DeserializationResult result = results.get(i) != null ? results.get(i) : deserializeArrayItem(i, jsonExpectationList, expectationModifier != null);
+                    if (result.validationErrors != null) {
+                        validationErrorsList.add(result.validationErrors);
+                    } else if (expectationModifier != null) {
+                        // modifier is applied in array order as it may depend on previously modified expectations
+                        expectations.addAll(expectationModifier.apply(result.jsonExpectation, result.expectations));
                     } else {
-                        try {
-                            expectations.addAll(expectationModifier.apply(jsonExpectation, Collections.singletonList(deserialize(jsonExpectation))));
-                        } catch (IllegalArgumentException iae) {
-                            validationErrorsList.add(iae.getMessage());
-                        }
+                        expectations.addAll(result.expectations);
                     }
                 }
                 if (!validationErrorsList.isEmpty()) {
@@ -212,4 +237,46 @@ public class ExpectationSerializer implements Serializer<Expectation> {
         return expectations.toArray(new Expectation[0]);
     }
 
+    private DeserializationResult deserializeArrayItem(int index, List<JsonNode> jsonExpectationList, boolean printJson) {
+        JsonNode jsonNode = jsonExpectationList.get(index);
+        if (jsonExpectationList.size() > 100) {
+            if (MockServerLogger.isEnabled(DEBUG)) {
+                mockServerLogger.logEvent(
+                    new LogEntry()
+                        .setLogLevel(DEBUG)
+                        .setMessageFormat("processing JSON expectation " + (index + 1) + " of " + jsonExpectationList.size() + ":{}")
+                        .setArguments(JacksonUtils.prettyPrint(jsonNode))
+                );
+            } else if (MockServerLogger.isEnabled(INFO)) {
+                mockServerLogger.logEvent(
+                    new LogEntry()
+                        .setLogLevel(INFO)
+                        .setMessageFormat("processing JSON expectation " + (index + 1) + " of " + jsonExpectationList.size())
+                );
+            }
+        }
+        try {
+            if (jsonNode.has("specUrlOrPayload")) {
+                String jsonExpectation = JacksonUtils.prettyPrint(jsonNode);
+                return new DeserializationResult(openAPIExpectationSerializer.deserializeToExpectations(jsonExpectation), jsonExpectation, null);
+            } else {
+                return new DeserializationResult(Collections.singletonList(deserialize(jsonNode)), printJson ? JacksonUtils.prettyPrint(jsonNode) : null, null);
+            }
+        } catch (IllegalArgumentException iae) {
+            return new DeserializationResult(null, null, iae.getMessage());
+        }
+    }
+
+    private static class DeserializationResult {
+        private final List<Expectation> expectations;
+        private final String jsonExpectation;
+        private final String validationErrors;
+
+        private DeserializationResult(List<Expectation> expectations, String jsonExpectation, String validationErrors) {
+            this.expectations = expectations;
+            this.jsonExpectation = jsonExpectation;
+            this.validationErrors = validationErrors;
+        }
+    }
+
 }
@@ -1,8 +1,10 @@
 package org.mockserver.serialization;
 
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.github.fge.jackson.JacksonUtils;
 
 import java.io.IOException;
@@ -23,14 +25,20 @@ public class JsonArraySerializer {
 
     public List<JsonNode> splitJSONArrayToJSONNodes(String jsonArray) {
         List<JsonNode> arrayItems = new ArrayList<>();
-        try {
-            JsonNode jsonNode = objectMapper.readTree(jsonArray);
-            if (jsonNode instanceof ArrayNode) {
-                for (JsonNode arrayElement : jsonNode) {
-                    arrayItems.add(arrayElement);
+        try (JsonParser jsonParser = objectMapper.getFactory().createParser(jsonArray)) {
+            // stream array elements so the array itself is never built as a single tree
+            if (jsonParser.nextToken() == JsonToken.START_ARRAY) {
+                while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+                    if (jsonParser.currentToken() == null) {
+                        throw new JsonParseException(jsonParser, "Unexpected end-of-input: expected close marker for Array");
+                    }
+                    arrayItems.add(objectMapper.readTree(jsonParser));
                 }
             } else {
-                arrayItems.add(jsonNode);
+                JsonNode jsonNode = objectMapper.readTree(jsonParser);
+                if (jsonNode != null) {
+                    arrayItems.add(jsonNode);
+                }
             }
         } catch (IOException e) {
             throw new IllegalArgumentException(e);
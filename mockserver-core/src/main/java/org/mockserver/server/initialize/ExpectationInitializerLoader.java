@@ -12,6 +12,7 @@ import org.mockserver.mock.Expectation;
 import org.mockserver.mock.RequestMatchers;
 import org.mockserver.mock.listeners.MockServerMatcherNotifier;
 import org.mockserver.mock.listeners.MockServerMatcherNotifier.Cause;
+import org.mockserver.persistence.ExpectationJournal;
 import org.mockserver.serialization.ExpectationSerializer;
 
 import java.lang.reflect.Constructor;
@@ -29,17 +30,19 @@ import static org.slf4j.event.Level.*;
  */
 public class ExpectationInitializerLoader {
 
-    private static final LRUCache<String, List<String>> EXPANDED_INITIALIZATION_JSON_PATHS = new LRUCache<>(new MockServerLogger(LRUCache.class), 10, TimeUnit.HOURS.toMillis(1));
+    private static final LRUCache<String, List<String>> EXPANDED_INITIALIZATION_JSON_PATHS = new LRUCache<>(new MockServerLogger(LRUCache.class), "initializationJsonPaths", 10, TimeUnit.HOURS.toMillis(1));
     private final Configuration configuration;
     private final ExpectationSerializer expectationSerializer;
     private final MockServerLogger mockServerLogger;
     private final RequestMatchers requestMatchers;
+    private final ExpectationJournal expectationJournal;
 
     public ExpectationInitializerLoader(Configuration configuration, MockServerLogger mockServerLogger, RequestMatchers requestMatchers) {
         this.configuration = configuration;
         this.expectationSerializer = new ExpectationSerializer(mockServerLogger);
         this.mockServerLogger = mockServerLogger;
         this.requestMatchers = requestMatchers;
+        this.expectationJournal = configuration.persistExpectations() && configuration.persistedExpectationsJournal() ? new ExpectationJournal(configuration, mockServerLogger) : null;
         addExpectationsFromInitializer();
     }
 
@@ -120,60 +123,69 @@ public class ExpectationInitializerLoader {
         List<String> initializationJsonPaths = ExpectationInitializerLoader.expandedInitializationJsonPaths(configuration.initializationJsonPath());
         return initializationJsonPaths
             .stream()
-            .flatMap(initializationJsonPath -> {
-                Expectation[] expectations = new Expectation[0];
-                if (isNotBlank(initializationJsonPath)) {
-                    if (isNotBlank(initialLogMessage) && MockServerLogger.isEnabled(INFO)) {
-                        mockServerLogger.logEvent(
-                            new LogEntry()
-                                .setType(SERVER_CONFIGURATION)
-                                .setLogLevel(INFO)
-                                .setMessageFormat(initialLogMessage)
-                                .setArguments(initializationJsonPath)
-                        );
-                    }
-                    List<String> expectationIds = new ArrayList<>();
-                    try {
-                        String jsonExpectations = FileReader.readFileFromClassPathOrPath(initializationJsonPath);
-                        if (isNotBlank(jsonExpectations)) {
-                            expectations = expectationSerializer.deserializeArray(jsonExpectations, true, (expectationString, deserialisedExpectations) -> {
-                                for (int i = 0; i < deserialisedExpectations.size(); i++) {
-                                    int counter = 0;
-                                    String expectationId;
-                                    do {
-                                        expectationId = UUID.nameUUIDFromBytes(String.valueOf(Objects.hash(initializationJsonPath, expectationString, i, counter++)).getBytes(StandardCharsets.UTF_8)).toString();
-                                    } while (expectationIds.contains(expectationId) && counter < 50);
-                                    expectationIds.add(expectationId);
-                                    deserialisedExpectations.get(i).withIdIfNull(expectationId);
-                                }
-                                return deserialisedExpectations;
-                            });
-                        }
-                    } catch (Throwable throwable) {
-                        if (MockServerLogger.isEnabled(WARN)) {
-                            mockServerLogger.logEvent(
-                                new LogEntry()
-                                    .setType(SERVER_CONFIGURATION)
-                                    .setLogLevel(WARN)
-                                    .setMessageFormat(expectationLogMessage)
-                                    .setArguments(initializationJsonPath)
-                                    .setThrowable(throwable)
-                            );
+            .flatMap(initializationJsonPath -> Arrays.stream(retrieveExpectationsFromFile(initializationJsonPath, initialLogMessage, expectationLogMessage, completedLogMessage, causeType)))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * loads the expectations from a single initialization json file and updates only the expectations previously loaded from that file
+     */
+    public Expectation[] retrieveExpectationsFromFile(String initializationJsonPath, String initialLogMessage, String expectationLogMessage, String completedLogMessage, Cause.Type causeType) {
+        Expectation[] expectations = new Expectation[0];
+        if (isNotBlank(initializationJsonPath)) {
+            if (isNotBlank(initialLogMessage) && MockServerLogger.isEnabled(INFO)) {
+                mockServerLogger.logEvent(
+                    new LogEntry()
+                        .setType(SERVER_CONFIGURATION)
+                        .setLogLevel(INFO)
+                        .setMessageFormat(initialLogMessage)
+                        .setArguments(initializationJsonPath)
+                );
+            }
+            List<String> expectationIds = new ArrayList<>();
+            try {
+                String jsonExpectations = FileReader.readFileFromClassPathOrPath(initializationJsonPath);
+                if (isNotBlank(jsonExpectations)) {
+                    expectations = expectationSerializer.deserializeArray(jsonExpectations, true, (expectationString, deserialisedExpectations) -> {
+                        for (int i = 0; i < deserialisedExpectations.size(); i++) {
+                            int counter = 0;
+                            String expectationId;
+                            do {
+                                expectationId = UUID.nameUUIDFromBytes(String.valueOf(Objects.hash(initializationJsonPath, expectationString, i, counter++)).getBytes(StandardCharsets.UTF_8)).toString();
+                            } while (expectationIds.contains(expectationId) && counter < 50);
+                            expectationIds.add(expectationId);
+                            deserialisedExpectations.get(i).withIdIfNull(expectationId);
                         }
-                    }
+                        return deserialisedExpectations;
+                    });
                 }
-                if (MockServerLogger.isEnabled(TRACE)) {
+            } catch (Throwable throwable) {
+                if (MockServerLogger.isEnabled(WARN)) {
                     mockServerLogger.logEvent(
                         new LogEntry()
-                            .setLogLevel(TRACE)
-                            .setMessageFormat(completedLogMessage)
-                            .setArguments(Arrays.asList(expectations), initializationJsonPath)
+                            .setType(SERVER_CONFIGURATION)
+                            .setLogLevel(WARN)
+                            .setMessageFormat(expectationLogMessage)
+                            .setArguments(initializationJsonPath)
+                            .setThrowable(throwable)
                     );
                 }
-                requestMatchers.update(expectations, new Cause(initializationJsonPath, causeType));
-                return Arrays.stream(expectations);
-            })
-            .collect(Collectors.toList());
+            }
+            if (expectationJournal != null && initializationJsonPath.equals(configuration.persistedExpectationsPath())) {
+                // persisted expectations are the snapshot plus any changes appended to the journal since the last compaction
+                expectations = expectationJournal.replay(expectations);
+            }
+        }
+        if (MockServerLogger.isEnabled(TRACE)) {
+            mockServerLogger.logEvent(
+                new LogEntry()
+                    .setLogLevel(TRACE)
+                    .setMessageFormat(completedLogMessage)
+                    .setArguments(Arrays.asList(expectations), initializationJsonPath)
+            );
+        }
+        requestMatchers.update(expectations, new Cause(initializationJsonPath, causeType));
+        return expectations;
     }
 
     @VisibleForTesting
@@ -0,0 +1,125 @@
+package org.mockserver.socket;
+
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.ServerSocketChannel;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import org.mockserver.log.model.LogEntry;
+import org.mockserver.logging.MockServerLogger;
+import org.slf4j.event.Level;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Netty transport used for server and client event loops, native transports are only used when available on the
+ * current platform otherwise NIO is used.
+ * <p>
+ * io_uring requires the netty-incubator-transport-native-io_uring artifact on the classpath, so it is loaded reflectively.
+ */
+public enum Transport {
+    NIO,
+    EPOLL,
+    IO_URING;
+
+    private static final String IO_URING_PACKAGE = "io.netty.incubator.channel.uring.";
+
+    public boolean isAvailable() {
+        switch (this) {
+            case EPOLL:
+                return Epoll.isAvailable();
+            case IO_URING:
+                try {
+                    return (Boolean) Class.forName(IO_URING_PACKAGE + "IOUring").getMethod("isAvailable").invoke(null);
+                } catch (Throwable throwable) {
+                    return false;
+                }
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * creates an event loop group for this transport, or for NIO if this transport is not available on the current platform
+     */
+    public EventLoopGroup createEventLoopGroup(int threadCount, ThreadFactory threadFactory, MockServerLogger mockServerLogger) {
+        if (isAvailable()) {
+            switch (this) {
+                case EPOLL:
+                    return new EpollEventLoopGroup(threadCount, threadFactory);
+                case IO_URING:
+                    try {
+                        return (EventLoopGroup) Class.forName(IO_URING_PACKAGE + "IOUringEventLoopGroup").getConstructor(int.class, ThreadFactory.class).newInstance(threadCount, threadFactory);
+                    } catch (Throwable throwable) {
+                        logFallback(mockServerLogger, throwable);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        } else if (this != NIO) {
+            logFallback(mockServerLogger, null);
+        }
+        return new NioEventLoopGroup(threadCount, threadFactory);
+    }
+
+    private void logFallback(MockServerLogger mockServerLogger, Throwable throwable) {
+        if (mockServerLogger != null && MockServerLogger.isEnabled(Level.WARN)) {
+            mockServerLogger.logEvent(
+                new LogEntry()
+                    .setLogLevel(Level.WARN)
+                    .setMessageFormat("transport{}is not available on this platform, falling back to NIO")
+                    .setArguments(name())
+                    .setThrowable(throwable)
+            );
+        }
+    }
+
+    /**
+     * @return the socket channel class matching the transport of the event loop group (or event loop)
+     */
+    @SuppressWarnings("unchecked")
+    public static Class<? extends SocketChannel> socketChannelClass(EventLoopGroup eventLoopGroup) {
+        EventLoopGroup group = eventLoopGroup instanceof EventLoop ? ((EventLoop) eventLoopGroup).parent() : eventLoopGroup;
+        if (group instanceof EpollEventLoopGroup) {
+            return EpollSocketChannel.class;
+        } else if (isIOUring(group)) {
+            try {
+                return (Class<? extends SocketChannel>) Class.forName(IO_URING_PACKAGE + "IOUringSocketChannel");
+            } catch (ClassNotFoundException cnfe) {
+                throw new IllegalStateException("io_uring event loop group used without io_uring socket channel", cnfe);
+            }
+        } else {
+            return NioSocketChannel.class;
+        }
+    }
+
+    /**
+     * @return the server socket channel class matching the transport of the event loop group
+     */
+    @SuppressWarnings("unchecked")
+    public static Class<? extends ServerSocketChannel> serverSocketChannelClass(EventLoopGroup eventLoopGroup) {
+        EventLoopGroup group = eventLoopGroup instanceof EventLoop ? ((EventLoop) eventLoopGroup).parent() : eventLoopGroup;
+        if (group instanceof EpollEventLoopGroup) {
+            return EpollServerSocketChannel.class;
+        } else if (isIOUring(group)) {
+            try {
+                return (Class<? extends ServerSocketChannel>) Class.forName(IO_URING_PACKAGE + "IOUringServerSocketChannel");
+            } catch (ClassNotFoundException cnfe) {
+                throw new IllegalStateException("io_uring event loop group used without io_uring server socket channel", cnfe);
+            }
+        } else {
+            return NioServerSocketChannel.class;
+        }
+    }
+
+    private static boolean isIOUring(EventLoopGroup group) {
+        return group != null && group.getClass().getName().startsWith(IO_URING_PACKAGE);
+    }
+}
@@ -65,4 +65,14 @@ public interface KeyAndCertificateFactory {
 
     X509Certificate certificateAuthorityX509Certificate();
 
+    /**
+     * build a private key and X509 certificate, signed by the certificate authority, for a single hostname or IP address
+     *
+     * @param hostname the hostname (or IP address) used as the CN and only Subject Alternative Name
+     * @return the private key and certificate or null if per hostname certificates are not supported (i.e. a fixed leaf certificate is configured)
+     */
+    default PrivateKeyAndCertificate buildPrivateKeyAndX509Certificate(String hostname) {
+        return null;
+    }
+
 }
@@ -1,13 +1,22 @@
 package org.mockserver.socket.tls;
 
 import com.google.common.base.Joiner;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ApplicationProtocolNames;
 import io.netty.handler.ssl.ClientAuth;
+import io.netty.handler.ssl.OpenSsl;
+import io.netty.handler.ssl.OpenSslSessionContext;
+import io.netty.handler.ssl.OpenSslSessionTicketKey;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslProvider;
 import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
 import org.mockserver.configuration.Configuration;
 import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
+import org.mockserver.scheduler.Scheduler;
 import org.slf4j.event.Level;
 
 import javax.net.ssl.SSLException;
@@ -17,13 +26,20 @@ import java.security.KeyStore;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
+import java.security.SecureRandom;
 import java.security.cert.X509Certificate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
+import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.mockserver.configuration.Configuration.configuration;
 import static org.mockserver.socket.tls.KeyAndCertificateFactoryFactory.createKeyAndCertificateFactory;
@@ -36,6 +52,8 @@ import static org.mockserver.socket.tls.PEMToFile.x509ChainFromPEMFile;
 public class NettySslContextFactory {
 
     private static final String[] TLS_PROTOCOLS = "TLSv1,TLSv1.1,TLSv1.2".split(",");
+    private static final long TLS_SESSION_CACHE_SIZE = 20480;
+    private static final long TLS_SESSION_TIMEOUT_SECONDS = TimeUnit.HOURS.toSeconds(24);
     public static Function<SslContextBuilder, SslContext> clientSslContextBuilderFunction =
         sslContextBuilder -> {
             try {
@@ -49,7 +67,13 @@ public class NettySslContextFactory {
     private final MockServerLogger mockServerLogger;
     private final KeyAndCertificateFactory keyAndCertificateFactory;
     private SslContext clientSslContext = null;
+    private SslContext http2ClientSslContext = null;
     private SslContext serverSslContext = null;
+    private SslContext http2ServerSslContext = null;
+    private Cache<String, CompletableFuture<SslContext>> hostnameServerSslContexts = null;
+    private ExecutorService hostnameCertificateExecutor = null;
+    private OpenSslSessionTicketKey sessionTicketKey = null;
+    private volatile boolean openSslUnavailableLogged = false;
     private Function<SslContextBuilder, SslContext> instanceClientSslContextBuilderFunction = clientSslContextBuilderFunction;
 
     /**
@@ -82,7 +106,20 @@ public class NettySslContextFactory {
     }
 
     public synchronized SslContext createClientSslContext(boolean forwardProxyClient) {
-        if (clientSslContext == null || configuration.rebuildTLSContext()) {
+        return createClientSslContext(forwardProxyClient, false);
+    }
+
+    /**
+     * @param forwardProxyClient true if the context is used to forward or proxy requests
+     * @param http2              true if HTTP/2 is offered using ALPN as well as HTTP/1.1, this is a separate context so
+     *                           connections that only support HTTP/1.1 (i.e. relayed connections) never negotiate HTTP/2
+     */
+    public synchronized SslContext createClientSslContext(boolean forwardProxyClient, boolean http2) {
+        if (configuration.rebuildTLSContext()) {
+            clientSslContext = null;
+            http2ClientSslContext = null;
+        }
+        if ((http2 ? http2ClientSslContext : clientSslContext) == null) {
             try {
                 // create x509 and private key if none exist yet
                 if (keyAndCertificateFactory.certificateNotYetCreated()) {
@@ -92,7 +129,9 @@ public class NettySslContextFactory {
                     SslContextBuilder
                         .forClient()
                         .protocols(TLS_PROTOCOLS)
-//                        .sslProvider(SslProvider.JDK)
+                        .sslProvider(sslProvider())
+                        .sessionCacheSize(TLS_SESSION_CACHE_SIZE)
+                        .sessionTimeout(TLS_SESSION_TIMEOUT_SECONDS)
                         .keyManager(
                             forwardProxyPrivateKey(),
                             forwardProxyCertificateChain()
@@ -122,13 +161,18 @@ public class NettySslContextFactory {
                     }
                     sslContextBuilder.trustManager(jvmCAX509TrustCertificates(mockServerX509Certificates));
                 }
-                clientSslContext = instanceClientSslContextBuilderFunction.apply(sslContextBuilder);
+                if (http2) {
+                    sslContextBuilder.applicationProtocolConfig(http2ApplicationProtocolConfig());
+                    http2ClientSslContext = instanceClientSslContextBuilderFunction.apply(sslContextBuilder);
+                } else {
+                    clientSslContext = instanceClientSslContextBuilderFunction.apply(sslContextBuilder);
+                }
                 configuration.rebuildTLSContext(false);
             } catch (Throwable throwable) {
                 throw new RuntimeException("Exception creating SSL context for client", throwable);
             }
         }
-        return clientSslContext;
+        return http2 ? http2ClientSslContext : clientSslContext;
     }
 
     private PrivateKey forwardProxyPrivateKey() {
@@ -170,6 +214,14 @@ public class NettySslContextFactory {
     }
 
     public synchronized SslContext createServerSslContext() {
+        return createServerSslContext(false);
+    }
+
+    /**
+     * @param http2 true if HTTP/2 is offered using ALPN as well as HTTP/1.1 when HTTP/2 is enabled, this is a separate
+     *              context so connections that only support HTTP/1.1 (i.e. relayed connections) never negotiate HTTP/2
+     */
+    public synchronized SslContext createServerSslContext(boolean http2) {
         if (serverSslContext == null
             // create x509 and private key if none exist yet
             || keyAndCertificateFactory.certificateNotYetCreated()
@@ -190,21 +242,8 @@ public class NettySslContextFactory {
                             keyAndCertificateFactory.x509Certificate().getSubjectDN()
                         )
                 );
-                SslContextBuilder sslContextBuilder = SslContextBuilder
-                    .forServer(
-                        keyAndCertificateFactory.privateKey(),
-                        keyAndCertificateFactory.x509Certificate(),
-                        keyAndCertificateFactory.certificateAuthorityX509Certificate()
-                    )
-                    .protocols(TLS_PROTOCOLS)
-//                    .sslProvider(SslProvider.JDK)
-                    .clientAuth(configuration.tlsMutualAuthenticationRequired() ? ClientAuth.REQUIRE : ClientAuth.OPTIONAL);
-                if (configuration.tlsMutualAuthenticationRequired()) {
-                    sslContextBuilder.trustManager(trustCertificateChain());
-                } else {
-                    sslContextBuilder.trustManager(InsecureTrustManagerFactory.INSTANCE);
-                }
-                serverSslContext = sslContextBuilder.build();
+                serverSslContext = buildServerSslContext(keyAndCertificateFactory.privateKey(), keyAndCertificateFactory.x509Certificate(), false);
+                http2ServerSslContext = configuration.http2Enabled() ? buildServerSslContext(keyAndCertificateFactory.privateKey(), keyAndCertificateFactory.x509Certificate(), true) : serverSslContext;
                 configuration.rebuildServerTLSContext(false);
             } catch (Throwable throwable) {
                 mockServerLogger.logEvent(
@@ -215,7 +254,157 @@ public class NettySslContextFactory {
                 );
             }
         }
-        return serverSslContext;
+        return http2 ? http2ServerSslContext : serverSslContext;
+    }
+
+    /**
+     * returns the server SSL context for the hostname requested via SNI, when per hostname certificates are enabled
+     * a certificate for only that hostname is generated asynchronously the first time the hostname is requested
+     * and then cached, otherwise the single shared server SSL context is returned
+     */
+    public CompletableFuture<SslContext> createServerSslContext(String hostname) {
+        return createServerSslContext(hostname, false);
+    }
+
+    /**
+     * @param hostname the hostname requested via SNI
+     * @param http2    true if HTTP/2 is offered using ALPN as well as HTTP/1.1 when HTTP/2 is enabled
+     */
+    public CompletableFuture<SslContext> createServerSslContext(String hostname, boolean http2) {
+        if (configuration.perHostnameCertificateCacheSize() <= 0 || isBlank(hostname)) {
+            return CompletableFuture.completedFuture(createServerSslContext(http2));
+        }
+        boolean offerHttp2 = http2 && configuration.http2Enabled();
+        String cacheKey = hostname.toLowerCase() + (offerHttp2 ? "#h2" : "");
+        try {
+            CompletableFuture<SslContext> hostnameSslContext = hostnameServerSslContexts().get(cacheKey, () -> CompletableFuture.supplyAsync(() -> {
+                PrivateKeyAndCertificate privateKeyAndCertificate = keyAndCertificateFactory.buildPrivateKeyAndX509Certificate(hostname);
+                if (privateKeyAndCertificate != null) {
+                    try {
+                        return buildServerSslContext(privateKeyAndCertificate.getPrivateKey(), privateKeyAndCertificate.getX509Certificate(), offerHttp2);
+                    } catch (Throwable throwable) {
+                        mockServerLogger.logEvent(
+                            new LogEntry()
+                                .setLogLevel(Level.ERROR)
+                                .setMessageFormat("exception creating SSL context for server for hostname{}" + throwable.getMessage())
+                                .setArguments(hostname)
+                                .setThrowable(throwable)
+                        );
+                    }
+                }
+                return null;
+            }, hostnameCertificateExecutor()));
+            // removed once complete (rather than from the loader) as the loader may complete before the cache stores it
+            hostnameSslContext.whenComplete((sslContext, throwable) -> {
+                if (sslContext == null) {
+                    hostnameServerSslContexts().asMap().remove(cacheKey, hostnameSslContext);
+                }
+            });
+            // not cached so the next handshake retries, instead uses the shared certificate
+            return hostnameSslContext.handle((sslContext, throwable) -> sslContext != null ? sslContext : createServerSslContext(http2));
+        } catch (ExecutionException executionException) {
+            return CompletableFuture.completedFuture(createServerSslContext(http2));
+        }
+    }
+
+    private synchronized Cache<String, CompletableFuture<SslContext>> hostnameServerSslContexts() {
+        if (hostnameServerSslContexts == null) {
+            hostnameServerSslContexts = CacheBuilder
+                .newBuilder()
+                .maximumSize(configuration.perHostnameCertificateCacheSize())
+                .build();
+        }
+        return hostnameServerSslContexts;
+    }
+
+    private synchronized ExecutorService hostnameCertificateExecutor() {
+        if (hostnameCertificateExecutor == null) {
+            // key generation is cpu bound so a small pool avoids blocking event loop threads without starving them
+            hostnameCertificateExecutor = Executors.newFixedThreadPool(
+                Math.max(1, Runtime.getRuntime().availableProcessors() / 2),
+                new Scheduler.SchedulerThreadFactory("HostnameCertificate", true)
+            );
+        }
+        return hostnameCertificateExecutor;
+    }
+
+    private SslContext buildServerSslContext(PrivateKey privateKey, X509Certificate x509Certificate, boolean http2) throws SSLException {
+        SslContextBuilder sslContextBuilder = SslContextBuilder
+            .forServer(
+                privateKey,
+                x509Certificate,
+                keyAndCertificateFactory.certificateAuthorityX509Certificate()
+            )
+            .protocols(TLS_PROTOCOLS)
+            .sslProvider(sslProvider())
+            .sessionCacheSize(TLS_SESSION_CACHE_SIZE)
+            .sessionTimeout(TLS_SESSION_TIMEOUT_SECONDS)
+            .clientAuth(configuration.tlsMutualAuthenticationRequired() ? ClientAuth.REQUIRE : ClientAuth.OPTIONAL);
+        if (configuration.tlsMutualAuthenticationRequired()) {
+            sslContextBuilder.trustManager(trustCertificateChain());
+        } else {
+            sslContextBuilder.trustManager(InsecureTrustManagerFactory.INSTANCE);
+        }
+        if (http2) {
+            sslContextBuilder.applicationProtocolConfig(http2ApplicationProtocolConfig());
+        }
+        SslContext sslContext = sslContextBuilder.build();
+        if (sslContext.sessionContext() instanceof OpenSslSessionContext) {
+            // the same ticket keys are used for every server context so tickets remain valid when the context is rebuilt or selected per hostname
+            OpenSslSessionContext sessionContext = (OpenSslSessionContext) sslContext.sessionContext();
+            sessionContext.setSessionCacheEnabled(true);
+            sessionContext.setTicketKeys(sessionTicketKey());
+        }
+        return sslContext;
+    }
+
+    SslProvider sslProvider() {
+        if (configuration.tlsProvider() == TLSProvider.OPENSSL) {
+            if (OpenSsl.isAvailable()) {
+                return SslProvider.OPENSSL;
+            } else if (!openSslUnavailableLogged) {
+                openSslUnavailableLogged = true;
+                mockServerLogger.logEvent(
+                    new LogEntry()
+                        .setLogLevel(Level.WARN)
+                        .setMessageFormat("OPENSSL TLS provider is not available for this platform, using JDK TLS provider instead")
+                        .setThrowable(OpenSsl.unavailabilityCause())
+                );
+            }
+        }
+        return SslProvider.JDK;
+    }
+
+    /**
+     * offers (or selects) HTTP/2 in preference to HTTP/1.1, if ALPN isn't supported by the TLS provider (i.e. an old
+     * JDK 8 release) nothing is negotiated so HTTP/1.1 is used
+     */
+    private ApplicationProtocolConfig http2ApplicationProtocolConfig() {
+        if (SslProvider.isAlpnSupported(sslProvider())) {
+            return new ApplicationProtocolConfig(
+                ApplicationProtocolConfig.Protocol.ALPN,
+                ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+                ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+                ApplicationProtocolNames.HTTP_2,
+                ApplicationProtocolNames.HTTP_1_1
+            );
+        } else {
+            return ApplicationProtocolConfig.DISABLED;
+        }
+    }
+
+    private synchronized OpenSslSessionTicketKey sessionTicketKey() {
+        if (sessionTicketKey == null) {
+            SecureRandom secureRandom = new SecureRandom();
+            byte[] name = new byte[OpenSslSessionTicketKey.NAME_SIZE];
+            byte[] hmacKey = new byte[OpenSslSessionTicketKey.HMAC_KEY_SIZE];
+            byte[] aesKey = new byte[OpenSslSessionTicketKey.AES_KEY_SIZE];
+            secureRandom.nextBytes(name);
+            secureRandom.nextBytes(hmacKey);
+            secureRandom.nextBytes(aesKey);
+            sessionTicketKey = new OpenSslSessionTicketKey(name, hmacKey, aesKey);
+        }
+        return sessionTicketKey;
     }
 
     private X509Certificate[] trustCertificateChain() {
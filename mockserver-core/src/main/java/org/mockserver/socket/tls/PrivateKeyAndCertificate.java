@@ -0,0 +1,26 @@
+package org.mockserver.socket.tls;
+
+import java.security.PrivateKey;
+import java.security.cert.X509Certificate;
+
+/**
+ * A leaf private key and the X509 certificate, signed by the certificate authority, for that private key
+ */
+public class PrivateKeyAndCertificate {
+
+    private final PrivateKey privateKey;
+    private final X509Certificate x509Certificate;
+
+    public PrivateKeyAndCertificate(PrivateKey privateKey, X509Certificate x509Certificate) {
+        this.privateKey = privateKey;
+        this.x509Certificate = x509Certificate;
+    }
+
+    public PrivateKey getPrivateKey() {
+        return privateKey;
+    }
+
+    public X509Certificate getX509Certificate() {
+        return x509Certificate;
+    }
+}
@@ -8,6 +8,7 @@ import io.netty.handler.ssl.SslHandler;
 import io.netty.util.AttributeKey;
 import io.netty.util.ReferenceCountUtil;
 import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.Promise;
 import io.netty.util.internal.PlatformDependent;
 import org.mockserver.configuration.Configuration;
 import org.mockserver.log.model.LogEntry;
@@ -32,10 +33,16 @@ public class SniHandler extends AbstractSniHandler<SslContext> {
 
     private final Configuration configuration;
     private final NettySslContextFactory nettySslContextFactory;
+    private final boolean http2;
 
     public SniHandler(Configuration configuration, NettySslContextFactory nettySslContextFactory) {
+        this(configuration, nettySslContextFactory, false);
+    }
+
+    public SniHandler(Configuration configuration, NettySslContextFactory nettySslContextFactory, boolean http2) {
         this.configuration = configuration;
         this.nettySslContextFactory = nettySslContextFactory;
+        this.http2 = http2;
     }
 
     @Override
@@ -43,7 +50,15 @@ public class SniHandler extends AbstractSniHandler<SslContext> {
         if (isNotBlank(hostname)) {
             configuration.addSubjectAlternativeName(hostname);
         }
-        return ctx.executor().newSucceededFuture(nettySslContextFactory.createServerSslContext());
+        Promise<SslContext> promise = ctx.executor().newPromise();
+        nettySslContextFactory.createServerSslContext(hostname, http2).whenComplete((sslContext, throwable) -> {
+            if (throwable != null) {
+                promise.tryFailure(throwable);
+            } else {
+                promise.trySuccess(sslContext);
+            }
+        });
+        return promise;
     }
 
     @Override
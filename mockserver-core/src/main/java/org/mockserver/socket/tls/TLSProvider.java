@@ -0,0 +1,6 @@
+package org.mockserver.socket.tls;
+
+public enum TLSProvider {
+    JDK,
+    OPENSSL
+}
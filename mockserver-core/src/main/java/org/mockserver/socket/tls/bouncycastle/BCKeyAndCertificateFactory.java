@@ -1,5 +1,6 @@
 package org.mockserver.socket.tls.bouncycastle;
 
+import com.google.common.net.InetAddresses;
 import org.bouncycastle.asn1.*;
 import org.bouncycastle.asn1.x500.X500Name;
 import org.bouncycastle.asn1.x509.*;
@@ -23,6 +24,7 @@ import org.mockserver.keys.AsymmetricKeyPairAlgorithm;
 import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
 import org.mockserver.socket.tls.KeyAndCertificateFactory;
+import org.mockserver.socket.tls.PrivateKeyAndCertificate;
 import org.slf4j.event.Level;
 
 import java.io.ByteArrayInputStream;
@@ -37,6 +39,7 @@ import java.security.interfaces.RSAPrivateKey;
 import java.util.*;
 
 import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.mockserver.socket.tls.PEMToFile.*;
 import static org.slf4j.event.Level.*;
 
@@ -242,6 +245,105 @@ public class BCKeyAndCertificateFactory implements KeyAndCertificateFactory {
         }
     }
 
+    /**
+     * build, or load previously saved, private key and certificate for a single hostname
+     */
+    @Override
+    public PrivateKeyAndCertificate buildPrivateKeyAndX509Certificate(String hostname) {
+        if (customPrivateKeyAndCertificateProvided() && isNotBlank(hostname)) {
+            try {
+                X509Certificate certificateAuthorityX509Certificate;
+                PrivateKey certificateAuthorityPrivateKey;
+                // certificate authority is loaded (or created) once, even when certificates are built concurrently
+                synchronized (this) {
+                    certificateAuthorityX509Certificate = certificateAuthorityX509Certificate();
+                    certificateAuthorityPrivateKey = certificateAuthorityPrivateKey();
+                }
+                PrivateKeyAndCertificate savedPrivateKeyAndCertificate = loadHostnamePrivateKeyAndX509Certificate(hostname, certificateAuthorityX509Certificate);
+                if (savedPrivateKeyAndCertificate != null) {
+                    return savedPrivateKeyAndCertificate;
+                }
+                AsymmetricKeyPairAlgorithm keyGenerationAndSigningAlgorithm = KeyAndCertificateFactory.DEFAULT_KEY_GENERATION_AND_SIGNING_ALGORITHM;
+                KeyPair keyPair = AsymmetricKeyGenerator.createKeyPair(keyGenerationAndSigningAlgorithm);
+                boolean ipAddress = InetAddresses.isInetAddress(hostname);
+                X509Certificate hostnameX509Certificate = generateLeafCert(
+                    keyGenerationAndSigningAlgorithm,
+                    keyPair.getPublic(),
+                    certificateAuthorityX509Certificate,
+                    certificateAuthorityPrivateKey,
+                    certificateAuthorityX509Certificate.getPublicKey(),
+                    hostname,
+                    ipAddress ? null : Collections.emptySet(),
+                    ipAddress ? Collections.singleton(hostname) : null
+                );
+                if (MockServerLogger.isEnabled(TRACE)) {
+                    mockServerLogger.logEvent(
+                        new LogEntry()
+                            .setLogLevel(TRACE)
+                            .setMessageFormat("created new X509{}for hostname{}")
+                            .setArguments(hostnameX509Certificate, hostname)
+                    );
+                }
+                if (dynamicallyUpdateCertificateAuthority()) {
+                    saveAsPEMFile(hostnameX509Certificate, hostnameX509CertificatePath(hostname), "X509 Certificate PEM");
+                    saveAsPEMFile(keyPair.getPrivate(), hostnamePrivateKeyPath(hostname), "Private Key PEM");
+                }
+                return new PrivateKeyAndCertificate(keyPair.getPrivate(), hostnameX509Certificate);
+            } catch (Exception e) {
+                mockServerLogger.logEvent(
+                    new LogEntry()
+                        .setLogLevel(Level.ERROR)
+                        .setMessageFormat("exception while generating private key and X509 certificate for hostname{}")
+                        .setArguments(hostname)
+                        .setThrowable(e)
+                );
+            }
+        }
+        return null;
+    }
+
+    /**
+     * load a previously saved hostname private key and certificate, if it was signed by the current certificate authority and is still valid
+     */
+    private PrivateKeyAndCertificate loadHostnamePrivateKeyAndX509Certificate(String hostname, X509Certificate certificateAuthorityX509Certificate) {
+        if (dynamicallyUpdateCertificateAuthority() && validX509PEMFileExists(hostnameX509CertificatePath(hostname)) && new File(hostnamePrivateKeyPath(hostname)).exists()) {
+            try {
+                X509Certificate hostnameX509Certificate = x509FromPEMFile(hostnameX509CertificatePath(hostname));
+                hostnameX509Certificate.checkValidity(new Date());
+                hostnameX509Certificate.verify(certificateAuthorityX509Certificate.getPublicKey());
+                return new PrivateKeyAndCertificate(privateKeyFromPEMFile(hostnamePrivateKeyPath(hostname)), hostnameX509Certificate);
+            } catch (Exception e) {
+                if (MockServerLogger.isEnabled(DEBUG)) {
+                    mockServerLogger.logEvent(
+                        new LogEntry()
+                            .setLogLevel(DEBUG)
+                            .setMessageFormat("ignoring saved X509 for hostname{}because " + e.getMessage())
+                            .setArguments(hostname)
+                    );
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * hostname private key path
+     */
+    private String hostnamePrivateKeyPath(String hostname) {
+        return new File(new File(configuration.directoryToSaveDynamicSSLCertificate(), "hostnames"), hostnameFileName(hostname) + "-PKCS8PrivateKey.pem").getAbsolutePath();
+    }
+
+    /**
+     * hostname certificate path
+     */
+    private String hostnameX509CertificatePath(String hostname) {
+        return new File(new File(configuration.directoryToSaveDynamicSSLCertificate(), "hostnames"), hostnameFileName(hostname) + "-Certificate.pem").getAbsolutePath();
+    }
+
+    private String hostnameFileName(String hostname) {
+        return hostname.toLowerCase().replaceAll("[^a-z0-9._-]", "_");
+    }
+
     /**
      * leaf private key path
      */
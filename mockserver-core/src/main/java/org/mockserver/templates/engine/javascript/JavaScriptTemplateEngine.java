@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import jdk.nashorn.api.scripting.ScriptObjectMirror;
+import org.mockserver.cache.LRUCache;
 import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
 import org.mockserver.model.HttpRequest;
@@ -23,6 +24,7 @@ import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.function.Supplier;
 
+import static java.util.concurrent.TimeUnit.MINUTES;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.mockserver.formatting.StringFormatter.formatLogMessage;
 import static org.mockserver.formatting.StringFormatter.indentAndToString;
@@ -35,6 +37,8 @@ import static org.mockserver.log.model.LogEntryMessages.TEMPLATE_GENERATED_MESSA
 @SuppressWarnings({"RedundantSuppression", "deprecation", "removal", "FieldMayBeFinal"})
 public class JavaScriptTemplateEngine implements TemplateEngine {
 
+    // compiled scripts keyed by template text, so an updated expectation never uses a stale script
+    private static final LRUCache<String, CompiledScript> compiledScripts = new LRUCache<>(new MockServerLogger(), "javaScriptTemplate", 250, MINUTES.toMillis(30));
     private static ScriptEngine engine;
     private static ObjectMapper objectMapper;
     private final MockServerLogger mockServerLogger;
@@ -58,9 +62,13 @@ public class JavaScriptTemplateEngine implements TemplateEngine {
         String script = wrapTemplate(template);
         try {
             if (engine != null) {
-                Compilable compilable = (Compilable) engine;
-                // HttpResponse handle(HttpRequest httpRequest) - ES6
-                CompiledScript compiledScript = compilable.compile(script + " function serialise(request) { return JSON.stringify(handle(JSON.parse(request)), null, 2); }");
+                CompiledScript compiledScript = compiledScripts.get(template);
+                if (compiledScript == null) {
+                    Compilable compilable = (Compilable) engine;
+                    // HttpResponse handle(HttpRequest httpRequest) - ES6
+                    compiledScript = compilable.compile(script + " function serialise(request) { return JSON.stringify(handle(JSON.parse(request)), null, 2); }");
+                    compiledScripts.put(template, compiledScript);
+                }
 
                 Bindings serialiseBindings = engine.createBindings();
                 engine.setBindings(new ScriptBindings(TemplateFunctions.BUILT_IN_FUNCTIONS), ScriptContext.ENGINE_SCOPE);
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jayway.jsonpath.JsonPath;
 import com.samskivert.mustache.Mustache;
 import com.samskivert.mustache.Template;
+import org.mockserver.cache.LRUCache;
 import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
 import org.mockserver.model.HttpRequest;
@@ -23,6 +24,7 @@ import java.io.Writer;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
+import static java.util.concurrent.TimeUnit.MINUTES;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.mockserver.formatting.StringFormatter.formatLogMessage;
 import static org.mockserver.log.model.LogEntry.LogMessageType.TEMPLATE_GENERATED;
@@ -36,6 +38,8 @@ import static org.mockserver.log.model.LogEntryMessages.TEMPLATE_GENERATED_MESSA
 @SuppressWarnings("FieldMayBeFinal")
 public class MustacheTemplateEngine implements TemplateEngine {
 
+    // compiled templates keyed by template text, so an updated expectation never uses a stale template
+    private static final LRUCache<String, Template> compiledTemplates = new LRUCache<>(new MockServerLogger(), "mustacheTemplate", 250, MINUTES.toMillis(30));
     private static ObjectMapper objectMapper;
     private final MockServerLogger mockServerLogger;
     private final Mustache.Compiler compiler;
@@ -61,7 +65,11 @@ public class MustacheTemplateEngine implements TemplateEngine {
         T result;
         try {
             Writer writer = new StringWriter();
-            Template compiledTemplate = compiler.compile(template);
+            Template compiledTemplate = compiledTemplates.get(template);
+            if (compiledTemplate == null) {
+                compiledTemplate = compiler.compile(template);
+                compiledTemplates.put(template, compiledTemplate);
+            }
 
             Map<String, Object> data = new ConcurrentHashMap<>();
             data.put("request", new HttpRequestTemplateObject(request));
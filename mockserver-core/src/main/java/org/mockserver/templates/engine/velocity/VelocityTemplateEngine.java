@@ -2,14 +2,18 @@ package org.mockserver.templates.engine.velocity;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.velocity.Template;
 import org.apache.velocity.VelocityContext;
 import org.apache.velocity.app.VelocityEngine;
 import org.apache.velocity.runtime.RuntimeConstants;
+import org.apache.velocity.runtime.resource.loader.StringResourceLoader;
+import org.apache.velocity.runtime.resource.util.StringResourceRepository;
 import org.apache.velocity.tools.ToolContext;
 import org.apache.velocity.tools.ToolManager;
 import org.apache.velocity.tools.config.ToolConfiguration;
 import org.apache.velocity.tools.config.ToolboxConfiguration;
 import org.apache.velocity.tools.config.XmlFactoryConfiguration;
+import org.mockserver.cache.LRUCache;
 import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
 import org.mockserver.model.HttpRequest;
@@ -26,6 +30,7 @@ import java.io.StringWriter;
 import java.io.Writer;
 import java.util.Properties;
 
+import static java.util.concurrent.TimeUnit.MINUTES;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.mockserver.formatting.StringFormatter.formatLogMessage;
 import static org.mockserver.log.model.LogEntry.LogMessageType.TEMPLATE_GENERATED;
@@ -37,8 +42,12 @@ import static org.mockserver.log.model.LogEntryMessages.TEMPLATE_GENERATED_MESSA
 @SuppressWarnings("FieldMayBeFinal")
 public class VelocityTemplateEngine implements TemplateEngine {
 
+    private static final String TEMPLATE_NAME = "VelocityResponseTemplate";
+    private static final String TEMPLATE_REPOSITORY_NAME = VelocityTemplateEngine.class.getName();
     private static final VelocityEngine velocityEngine;
     private static final ToolContext toolContext;
+    // compiled templates keyed by template text, so an updated expectation never uses a stale template
+    private static final LRUCache<String, Template> compiledTemplates = new LRUCache<>(new MockServerLogger(), "velocityTemplate", 250, MINUTES.toMillis(30));
     private static ObjectMapper objectMapper;
     private final MockServerLogger mockServerLogger;
     private HttpTemplateOutputDeserializer httpTemplateOutputDeserializer;
@@ -67,7 +76,12 @@ public class VelocityTemplateEngine implements TemplateEngine {
         velocityProperties.put(RuntimeConstants.CUSTOM_DIRECTIVES, Ifnull.class.getName());
         velocityProperties.put(RuntimeConstants.RESOURCE_MANAGER_CLASS, org.apache.velocity.runtime.resource.ResourceManagerImpl.class.getName());
         velocityProperties.put(RuntimeConstants.RESOURCE_MANAGER_CACHE_CLASS, org.apache.velocity.runtime.resource.ResourceCacheImpl.class.getName());
+        velocityProperties.put(RuntimeConstants.RESOURCE_LOADERS, "string,file");
         velocityProperties.put("resource.loader.file.class", org.apache.velocity.runtime.resource.loader.FileResourceLoader.class.getName());
+        // templates are compiled through the string loader and cached in compiledTemplates, so the loader itself must not cache
+        velocityProperties.put("resource.loader.string.class", StringResourceLoader.class.getName());
+        velocityProperties.put("resource.loader.string.cache", "false");
+        velocityProperties.put("resource.loader.string." + StringResourceLoader.REPOSITORY_NAME, TEMPLATE_REPOSITORY_NAME);
         velocityEngine = new VelocityEngine();
         velocityEngine.init(velocityProperties);
 
@@ -125,7 +139,7 @@ public class VelocityTemplateEngine implements TemplateEngine {
             VelocityContext context = new VelocityContext(toolContext);
             context.put("request", new HttpRequestTemplateObject(request));
             TemplateFunctions.BUILT_IN_FUNCTIONS.forEach(context::put);
-            velocityEngine.evaluate(context, writer, "VelocityResponseTemplate", template);
+            compile(template).merge(context, writer);
             JsonNode generatedObject = null;
             try {
                 generatedObject = objectMapper.readTree(writer.toString());
@@ -156,4 +170,21 @@ public class VelocityTemplateEngine implements TemplateEngine {
         }
         return result;
     }
+
+    private Template compile(String template) {
+        Template compiledTemplate = compiledTemplates.get(template);
+        if (compiledTemplate == null) {
+            synchronized (velocityEngine) {
+                StringResourceRepository templateRepository = StringResourceLoader.getRepository(TEMPLATE_REPOSITORY_NAME);
+                templateRepository.putStringResource(TEMPLATE_NAME, template);
+                try {
+                    compiledTemplate = velocityEngine.getTemplate(TEMPLATE_NAME);
+                } finally {
+                    templateRepository.removeStringResource(TEMPLATE_NAME);
+                }
+            }
+            compiledTemplates.put(template, compiledTemplate);
+        }
+        return compiledTemplate;
+    }
 }
@@ -155,25 +155,42 @@ public class JsonSchemaValidator extends ObjectWithReflectiveEqualsHashCodeToStr
     public String isValid(String json, boolean addOpenAPISpecificationMessage) {
         String validationResult = "";
         if (isNotBlank(json)) {
+            JsonNode jsonNode;
             try {
-                validationResult = formatProcessingReport(validator.validate(OBJECT_MAPPER.readTree(json)), addOpenAPISpecificationMessage);
+                jsonNode = OBJECT_MAPPER.readTree(json);
             } catch (Throwable throwable) {
-                if (isNotBlank(throwable.getMessage()) && throwable.getMessage().contains("Unknown MetaSchema")) {
-                    validator = getJsonSchemaFactory(throwable.getMessage()).getSchema(this.schemaJsonNode);
-                    return isValid(json, addOpenAPISpecificationMessage);
-                }
-                mockServerLogger.logEvent(
-                    new LogEntry()
-                        .setLogLevel(Level.ERROR)
-                        .setMessageFormat("exception validating JSON")
-                        .setThrowable(throwable)
-                );
-                return throwable.getClass().getSimpleName() + " - " + throwable.getMessage();
+                return logValidationException(throwable);
             }
+            validationResult = isValid(jsonNode, addOpenAPISpecificationMessage);
         }
         return validationResult;
     }
 
+    /**
+     * validates json that has already been parsed, avoiding parsing the same json again
+     */
+    public String isValid(JsonNode jsonNode, boolean addOpenAPISpecificationMessage) {
+        try {
+            return formatProcessingReport(validator.validate(jsonNode), addOpenAPISpecificationMessage);
+        } catch (Throwable throwable) {
+            if (isNotBlank(throwable.getMessage()) && throwable.getMessage().contains("Unknown MetaSchema")) {
+                validator = getJsonSchemaFactory(throwable.getMessage()).getSchema(this.schemaJsonNode);
+                return isValid(jsonNode, addOpenAPISpecificationMessage);
+            }
+            return logValidationException(throwable);
+        }
+    }
+
+    private String logValidationException(Throwable throwable) {
+        mockServerLogger.logEvent(
+            new LogEntry()
+                .setLogLevel(Level.ERROR)
+                .setMessageFormat("exception validating JSON")
+                .setThrowable(throwable)
+        );
+        return throwable.getClass().getSimpleName() + " - " + throwable.getMessage();
+    }
+
     private String formatProcessingReport(Set<ValidationMessage> validationMessages, boolean addOpenAPISpecificationMessage) {
         if (validationMessages.isEmpty()) {
             return "";
@@ -160,4 +160,44 @@ public class LRUCacheTest {
         assertThat(lruCacheThree.get("one"), is(nullValue()));
     }
 
+    @Test
+    public void shouldEvictLeastRecentlyUsed() {
+        // given
+        LRUCache<String, Object> lruCache = new LRUCache<>(mockServerLogger, 3, MINUTES.toMillis(10));
+        lruCache.put("one", "a");
+        lruCache.put("two", "b");
+        lruCache.put("three", "c");
+
+        // when
+        lruCache.get("one");
+        lruCache.put("four", "d");
+
+        // then
+        assertThat(lruCache.get("one"), is("a"));
+        assertThat(lruCache.get("two"), is(nullValue()));
+        assertThat(lruCache.get("three"), is("c"));
+        assertThat(lruCache.get("four"), is("d"));
+    }
+
+    @Test
+    public void shouldRecordStatistics() {
+        // given
+        LRUCache<String, Object> lruCache = new LRUCache<>(mockServerLogger, "shouldRecordStatistics", 2, MINUTES.toMillis(10));
+        LRUCache.clearAllStatistics();
+
+        // when
+        lruCache.put("one", "a");
+        lruCache.put("two", "b");
+        lruCache.get("one");
+        lruCache.get("two");
+        lruCache.put("three", "c");
+        lruCache.get("one");
+
+        // then
+        CacheStatistics statistics = LRUCache.allStatistics().get("shouldRecordStatistics");
+        assertThat(statistics.getHitCount(), is(2L));
+        assertThat(statistics.getMissCount(), is(1L));
+        assertThat(statistics.getEvictionCount(), is(1L));
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,224 @@
+package org.mockserver.collections;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static junit.framework.TestCase.assertEquals;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class CircularArrayBufferTest {
+
+    @Test
+    public void shouldNotAllowAddingMoreThenMaximumNumberOfEntries() {
+        // given
+        List<String> evicted = new ArrayList<>();
+        CircularArrayBuffer<String> circularArrayBuffer = new CircularArrayBuffer<>(3, evicted::add);
+
+        // when
+        circularArrayBuffer.add("1");
+        circularArrayBuffer.add("2");
+        circularArrayBuffer.add("3");
+        circularArrayBuffer.add("4");
+
+        // then
+        assertEquals(3, circularArrayBuffer.size());
+        assertThat(circularArrayBuffer, contains("2", "3", "4"));
+        assertThat(evicted, contains("1"));
+    }
+
+    @Test
+    public void shouldNotAddEntriesWhenMaximumSizeIsZero() {
+        // given
+        CircularArrayBuffer<String> circularArrayBuffer = new CircularArrayBuffer<>(0, null);
+
+        // when
+        boolean added = circularArrayBuffer.add("1");
+
+        // then
+        assertThat(added, is(false));
+        assertThat(circularArrayBuffer.isEmpty(), is(true));
+        assertThat(circularArrayBuffer, emptyIterable());
+    }
+
+    @Test
+    public void shouldGrowAndWrapBeyondInitialCapacity() {
+        // given
+        CircularArrayBuffer<Integer> circularArrayBuffer = new CircularArrayBuffer<>(1000, null);
+
+        // when
+        IntStream.range(0, 2500).forEach(circularArrayBuffer::add);
+
+        // then
+        assertEquals(1000, circularArrayBuffer.size());
+        assertThat(circularArrayBuffer.stream().collect(Collectors.toList()), is(IntStream.range(1500, 2500).boxed().collect(Collectors.toList())));
+    }
+
+    @Test
+    public void shouldIterateInReverse() {
+        // given
+        CircularArrayBuffer<String> circularArrayBuffer = new CircularArrayBuffer<>(3, null);
+        circularArrayBuffer.add("1");
+        circularArrayBuffer.add("2");
+        circularArrayBuffer.add("3");
+        circularArrayBuffer.add("4");
+
+        // when
+        List<String> descending = new ArrayList<>();
+        circularArrayBuffer.descendingIterator().forEachRemaining(descending::add);
+
+        // then
+        assertThat(descending, contains("4", "3", "2"));
+    }
+
+    @Test
+    public void shouldOnlyIterateEntriesPresentWhenIterationStarted() {
+        // given
+        CircularArrayBuffer<String> circularArrayBuffer = new CircularArrayBuffer<>(3, null);
+        circularArrayBuffer.add("1");
+        circularArrayBuffer.add("2");
+        circularArrayBuffer.add("3");
+
+        // when
+        Iterator<String> iterator = circularArrayBuffer.iterator();
+        assertThat(iterator.next(), is("1"));
+        circularArrayBuffer.add("4");
+        circularArrayBuffer.add("5");
+        List<String> remaining = new ArrayList<>();
+        iterator.forEachRemaining(remaining::add);
+
+        // then - evicted "2" is skipped and "4" and "5" added after iteration started are not returned
+        assertThat(remaining, contains("3"));
+    }
+
+    @Test
+    public void shouldRemoveMatchingEntries() {
+        // given
+        List<String> evicted = new ArrayList<>();
+        CircularArrayBuffer<String> circularArrayBuffer = new CircularArrayBuffer<>(5, evicted::add);
+        circularArrayBuffer.add("1");
+        circularArrayBuffer.add("2");
+        circularArrayBuffer.add("3");
+
+        // when
+        boolean removed = circularArrayBuffer.removeIf(element -> element.equals("2"));
+
+        // then
+        assertThat(removed, is(true));
+        assertEquals(2, circularArrayBuffer.size());
+        assertThat(circularArrayBuffer, contains("1", "3"));
+        assertThat(evicted, contains("2"));
+    }
+
+    @Test
+    public void shouldRemoveOldestEntryOnlyIfMatching() {
+        // given
+        List<String> evicted = new ArrayList<>();
+        CircularArrayBuffer<String> circularArrayBuffer = new CircularArrayBuffer<>(5, 1, evicted::add);
+        circularArrayBuffer.add("1");
+        circularArrayBuffer.add("2");
+        circularArrayBuffer.add("3");
+        circularArrayBuffer.removeIf(element -> element.equals("1"));
+
+        // when
+        boolean removedThree = circularArrayBuffer.removeOldestIf(element -> element.equals("3"));
+        boolean removedTwo = circularArrayBuffer.removeOldestIf(element -> element.equals("2"));
+
+        // then
+        assertThat(removedThree, is(false));
+        assertThat(removedTwo, is(true));
+        assertEquals(1, circularArrayBuffer.size());
+        assertThat(circularArrayBuffer, contains("3"));
+        assertThat(evicted, contains("1", "2"));
+    }
+
+    @Test
+    public void shouldClearAllEntries() {
+        // given
+        List<String> evicted = new ArrayList<>();
+        CircularArrayBuffer<String> circularArrayBuffer = new CircularArrayBuffer<>(5, evicted::add);
+        circularArrayBuffer.add("1");
+        circularArrayBuffer.add("2");
+
+        // when
+        circularArrayBuffer.clear();
+        circularArrayBuffer.add("3");
+
+        // then
+        assertEquals(1, circularArrayBuffer.size());
+        assertThat(circularArrayBuffer, contains("3"));
+        assertThat(evicted, contains("1", "2"));
+    }
+
+    @Test
+    public void shouldReduceMaximumSize() {
+        // given
+        CircularArrayBuffer<String> circularArrayBuffer = new CircularArrayBuffer<>(5, null);
+        circularArrayBuffer.add("1");
+        circularArrayBuffer.add("2");
+        circularArrayBuffer.add("3");
+
+        // when
+        circularArrayBuffer.setMaxSize(2);
+        circularArrayBuffer.add("4");
+
+        // then
+        assertEquals(2, circularArrayBuffer.size());
+        assertThat(circularArrayBuffer, contains("3", "4"));
+    }
+
+    @Test
+    public void shouldOnlyReturnEntriesAddedSinceSequenceInSnapshot() {
+        // given
+        CircularArrayBuffer<String> circularArrayBuffer = new CircularArrayBuffer<>(3, null);
+        circularArrayBuffer.add("1");
+        circularArrayBuffer.add("2");
+        long sequence = circularArrayBuffer.nextSequence();
+        circularArrayBuffer.add("3");
+        circularArrayBuffer.add("4");
+
+        // when
+        CircularArrayBuffer.Snapshot<String> snapshot = circularArrayBuffer.snapshot(sequence);
+        circularArrayBuffer.add("5");
+
+        // then
+        assertThat(snapshot, contains("3", "4"));
+        List<String> descending = new ArrayList<>();
+        snapshot.descendingIterator().forEachRemaining(descending::add);
+        assertThat(descending, contains("4", "3"));
+        assertThat(snapshot.toSequence(), is(4L));
+        assertThat(circularArrayBuffer.snapshot(snapshot.toSequence()), contains("5"));
+        assertThat(circularArrayBuffer.snapshot(0), contains("3", "4", "5"));
+    }
+
+    @Test
+    public void shouldNotEvictRemainingEntriesWhenAddingAfterRemove() {
+        // given
+        List<Integer> evicted = new ArrayList<>();
+        CircularArrayBuffer<Integer> circularArrayBuffer = new CircularArrayBuffer<>(10, 4, evicted::add);
+        IntStream.range(0, 10).forEach(circularArrayBuffer::add);
+        circularArrayBuffer.removeIf(element -> element % 2 == 1);
+        evicted.clear();
+
+        // when
+        IntStream.range(10, 15).forEach(circularArrayBuffer::add);
+
+        // then
+        assertEquals(10, circularArrayBuffer.size());
+        assertThat(circularArrayBuffer, contains(0, 2, 4, 6, 8, 10, 11, 12, 13, 14));
+        assertThat(evicted, empty());
+
+        // when - full again so oldest entry is evicted
+        circularArrayBuffer.add(15);
+
+        // then
+        assertEquals(10, circularArrayBuffer.size());
+        assertThat(circularArrayBuffer, contains(2, 4, 6, 8, 10, 11, 12, 13, 14, 15));
+        assertThat(evicted, contains(0));
+    }
+}
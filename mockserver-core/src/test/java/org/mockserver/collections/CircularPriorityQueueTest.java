@@ -4,6 +4,7 @@ import org.junit.Test;
 import org.mockserver.mock.Expectation;
 import org.mockserver.mock.SortableExpectationId;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -45,6 +46,28 @@ public class CircularPriorityQueueTest {
         ));
     }
 
+    @Test
+    public void shouldNotifyEvictionListenerWhenMaximumNumberOfEntriesExceeded() {
+        // given
+        List<SortableExpectationId> evicted = new ArrayList<>();
+        CircularPriorityQueue<String, SortableExpectationId, SortableExpectationId> concurrentLinkedQueue = new CircularPriorityQueue<>(
+            2,
+            EXPECTATION_SORTABLE_PRIORITY_COMPARATOR,
+            sortableExpectationId -> sortableExpectationId,
+            sortableExpectationId -> sortableExpectationId.id,
+            evicted::add
+        );
+
+        // when
+        concurrentLinkedQueue.add(new SortableExpectationId("1", 0, 0));
+        concurrentLinkedQueue.add(new SortableExpectationId("2", 0, 0));
+        concurrentLinkedQueue.add(new SortableExpectationId("3", 0, 0));
+
+        // then
+        assertEquals(2, concurrentLinkedQueue.size());
+        assertThat(evicted, contains(new SortableExpectationId("1", 0, 0)));
+    }
+
     @Test
     public void shouldSortOrder() {
         // given
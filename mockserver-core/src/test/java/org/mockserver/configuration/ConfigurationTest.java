@@ -5,8 +5,10 @@ import com.google.common.collect.ImmutableSet;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockserver.server.initialize.ExpectationInitializerExample;
+import org.mockserver.socket.Transport;
 import org.mockserver.socket.tls.ForwardProxyTLSX509CertificatesTrustManager;
 import org.mockserver.socket.tls.KeyAndCertificateFactory;
+import org.mockserver.socket.tls.TLSProvider;
 
 import java.io.File;
 import java.io.IOException;
@@ -145,6 +147,31 @@ public class ConfigurationTest {
         }
     }
 
+    @Test
+    public void shouldSetAndGetMatchFailureSummaryCandidates() {
+        int original = ConfigurationProperties.matchFailureSummaryCandidates();
+        try {
+            // then - default value
+            assertThat(configuration.matchFailureSummaryCandidates(), equalTo(0));
+
+            // when - system property setter
+            ConfigurationProperties.matchFailureSummaryCandidates(5);
+
+            // then - system property getter
+            assertThat(ConfigurationProperties.matchFailureSummaryCandidates(), equalTo(5));
+            assertThat(System.getProperty("mockserver.matchFailureSummaryCandidates"), equalTo("5"));
+            assertThat(configuration.matchFailureSummaryCandidates(), equalTo(5));
+
+            // when - setter
+            configuration.matchFailureSummaryCandidates(10);
+
+            // then - getter
+            assertThat(configuration.matchFailureSummaryCandidates(), equalTo(10));
+        } finally {
+            ConfigurationProperties.matchFailureSummaryCandidates(original);
+        }
+    }
+
     @Test
     public void shouldSetAndGetLaunchUIForLogLevelDebug() {
         boolean original = ConfigurationProperties.launchUIForLogLevelDebug();
@@ -382,6 +409,32 @@ public class ConfigurationTest {
         }
     }
 
+    @Test
+    public void shouldSetAndGetActionHandlerVirtualThreads() {
+        boolean original = ConfigurationProperties.actionHandlerVirtualThreads();
+        try {
+            // then - default value
+            assertThat(configuration.actionHandlerVirtualThreads(), equalTo(false));
+
+            // when - system property setter
+            ConfigurationProperties.actionHandlerVirtualThreads(true);
+
+            // then - system property getter
+            assertThat(ConfigurationProperties.actionHandlerVirtualThreads(), equalTo(true));
+            assertThat(System.getProperty("mockserver.actionHandlerVirtualThreads"), equalTo("true"));
+            assertThat(configuration.actionHandlerVirtualThreads(), equalTo(true));
+            ConfigurationProperties.actionHandlerVirtualThreads(original);
+
+            // when - setter
+            configuration.actionHandlerVirtualThreads(true);
+
+            // then - getter
+            assertThat(configuration.actionHandlerVirtualThreads(), equalTo(true));
+        } finally {
+            ConfigurationProperties.actionHandlerVirtualThreads(original);
+        }
+    }
+
     @Test
     public void shouldSetAndGetWebSocketClientEventLoopThreadCount() {
         int original = ConfigurationProperties.webSocketClientEventLoopThreadCount();
@@ -407,6 +460,31 @@ public class ConfigurationTest {
         }
     }
 
+    @Test
+    public void shouldSetAndGetTransport() {
+        Transport original = ConfigurationProperties.transport();
+        try {
+            // then - default value
+            assertThat(configuration.transport(), equalTo(Transport.NIO));
+
+            // when - system property setter
+            ConfigurationProperties.transport(Transport.EPOLL);
+
+            // then - system property getter
+            assertThat(ConfigurationProperties.transport(), equalTo(Transport.EPOLL));
+            assertThat(System.getProperty("mockserver.transport"), equalTo("EPOLL"));
+            assertThat(configuration.transport(), equalTo(Transport.EPOLL));
+
+            // when - setter
+            configuration.transport(Transport.EPOLL);
+
+            // then - getter
+            assertThat(configuration.transport(), equalTo(Transport.EPOLL));
+        } finally {
+            ConfigurationProperties.transport(original);
+        }
+    }
+
     @Test
     public void shouldSetAndGetClientNioEventLoopThreadCount() {
         int original = ConfigurationProperties.clientNioEventLoopThreadCount();
@@ -483,6 +561,32 @@ public class ConfigurationTest {
         }
     }
 
+    @Test
+    public void shouldSetAndGetExpectationIndexEnabled() {
+        boolean original = ConfigurationProperties.expectationIndexEnabled();
+        try {
+            // then - default value
+            assertThat(configuration.expectationIndexEnabled(), equalTo(false));
+
+            // when - system property setter
+            ConfigurationProperties.expectationIndexEnabled(true);
+
+            // then - system property getter
+            assertThat(ConfigurationProperties.expectationIndexEnabled(), equalTo(true));
+            assertThat(System.getProperty("mockserver.expectationIndexEnabled"), equalTo("true"));
+            assertThat(configuration.expectationIndexEnabled(), equalTo(true));
+            ConfigurationProperties.expectationIndexEnabled(original);
+
+            // when - setter
+            configuration.expectationIndexEnabled(true);
+
+            // then - getter
+            assertThat(configuration.expectationIndexEnabled(), equalTo(true));
+        } finally {
+            ConfigurationProperties.expectationIndexEnabled(original);
+        }
+    }
+
     @Test
     public void shouldSetAndGetMaxSocketTimeoutInMillis() {
         long original = ConfigurationProperties.maxSocketTimeout();
@@ -533,6 +637,107 @@ public class ConfigurationTest {
         }
     }
 
+    @Test
+    public void shouldSetAndGetForwardConnectionPoolSize() {
+        int original = ConfigurationProperties.forwardConnectionPoolSize();
+        try {
+            // then - default value
+            assertThat(configuration.forwardConnectionPoolSize(), equalTo(0));
+
+            // when - system property setter
+            ConfigurationProperties.forwardConnectionPoolSize(10);
+
+            // then - system property getter
+            assertThat(ConfigurationProperties.forwardConnectionPoolSize(), equalTo(10));
+            assertThat(System.getProperty("mockserver.forwardConnectionPoolSize"), equalTo("10"));
+            assertThat(configuration.forwardConnectionPoolSize(), equalTo(10));
+
+            // when - setter
+            configuration.forwardConnectionPoolSize(20);
+
+            // then - getter
+            assertThat(configuration.forwardConnectionPoolSize(), equalTo(20));
+        } finally {
+            ConfigurationProperties.forwardConnectionPoolSize(original);
+        }
+    }
+
+    @Test
+    public void shouldSetAndGetForwardConnectionPoolIdleTimeoutInMillis() {
+        long original = ConfigurationProperties.forwardConnectionPoolIdleTimeout();
+        try {
+            // then - default value
+            assertThat(configuration.forwardConnectionPoolIdleTimeoutInMillis(), equalTo(30000L));
+
+            // when - system property setter
+            ConfigurationProperties.forwardConnectionPoolIdleTimeout(10L);
+
+            // then - system property getter
+            assertThat(ConfigurationProperties.forwardConnectionPoolIdleTimeout(), equalTo(10L));
+            assertThat(System.getProperty("mockserver.forwardConnectionPoolIdleTimeout"), equalTo("10"));
+            assertThat(configuration.forwardConnectionPoolIdleTimeoutInMillis(), equalTo(10L));
+
+            // when - setter
+            configuration.forwardConnectionPoolIdleTimeoutInMillis(20L);
+
+            // then - getter
+            assertThat(configuration.forwardConnectionPoolIdleTimeoutInMillis(), equalTo(20L));
+        } finally {
+            ConfigurationProperties.forwardConnectionPoolIdleTimeout(original);
+        }
+    }
+
+    @Test
+    public void shouldSetAndGetStreamProxiedResponses() {
+        boolean original = ConfigurationProperties.streamProxiedResponses();
+        try {
+            // then - default value
+            assertThat(configuration.streamProxiedResponses(), equalTo(false));
+
+            // when - system property setter
+            ConfigurationProperties.streamProxiedResponses(true);
+
+            // then - system property getter
+            assertThat(ConfigurationProperties.streamProxiedResponses(), equalTo(true));
+            assertThat(System.getProperty("mockserver.streamProxiedResponses"), equalTo("true"));
+            assertThat(configuration.streamProxiedResponses(), equalTo(true));
+            ConfigurationProperties.streamProxiedResponses(original);
+
+            // when - setter
+            configuration.streamProxiedResponses(true);
+
+            // then - getter
+            assertThat(configuration.streamProxiedResponses(), equalTo(true));
+        } finally {
+            ConfigurationProperties.streamProxiedResponses(original);
+        }
+    }
+
+    @Test
+    public void shouldSetAndGetMaxStreamedResponseBodyLogSize() {
+        int original = ConfigurationProperties.maxStreamedResponseBodyLogSize();
+        try {
+            // then - default value
+            assertThat(configuration.maxStreamedResponseBodyLogSize(), equalTo(65536));
+
+            // when - system property setter
+            ConfigurationProperties.maxStreamedResponseBodyLogSize(10);
+
+            // then - system property getter
+            assertThat(ConfigurationProperties.maxStreamedResponseBodyLogSize(), equalTo(10));
+            assertThat(System.getProperty("mockserver.maxStreamedResponseBodyLogSize"), equalTo("10"));
+            assertThat(configuration.maxStreamedResponseBodyLogSize(), equalTo(10));
+
+            // when - setter
+            configuration.maxStreamedResponseBodyLogSize(20);
+
+            // then - getter
+            assertThat(configuration.maxStreamedResponseBodyLogSize(), equalTo(20));
+        } finally {
+            ConfigurationProperties.maxStreamedResponseBodyLogSize(original);
+        }
+    }
+
     @Test
     public void shouldSetAndGetAlwaysCloseSocketConnections() {
         boolean original = ConfigurationProperties.alwaysCloseSocketConnections();
@@ -686,6 +891,32 @@ public class ConfigurationTest {
         }
     }
 
+    @Test
+    public void shouldSetAndGetHttp2Enabled() {
+        boolean original = ConfigurationProperties.http2Enabled();
+        try {
+            // then - default value
+            assertThat(configuration.http2Enabled(), equalTo(false));
+
+            // when - system property setter
+            ConfigurationProperties.http2Enabled(true);
+
+            // then - system property getter
+            assertThat(ConfigurationProperties.http2Enabled(), equalTo(true));
+            assertThat(System.getProperty("mockserver.http2Enabled"), equalTo("true"));
+            assertThat(configuration.http2Enabled(), equalTo(true));
+            ConfigurationProperties.http2Enabled(original);
+
+            // when - setter
+            configuration.http2Enabled(true);
+
+            // then - getter
+            assertThat(configuration.http2Enabled(), equalTo(true));
+        } finally {
+            ConfigurationProperties.http2Enabled(original);
+        }
+    }
+
     @Test
     public void shouldSetAndGetEnableCORSForAPI() {
         boolean original = ConfigurationProperties.enableCORSForAPI();
@@ -996,6 +1227,81 @@ public class ConfigurationTest {
         }
     }
 
+    @Test
+    public void shouldSetAndGetExpectationNotificationDebounceInMillis() {
+        long original = ConfigurationProperties.expectationNotificationDebounceInMillis();
+        try {
+            // then - default value
+            assertThat(configuration.expectationNotificationDebounceInMillis(), equalTo(0L));
+
+            // when - system property setter
+            ConfigurationProperties.expectationNotificationDebounceInMillis(100L);
+
+            // then - system property getter
+            assertThat(ConfigurationProperties.expectationNotificationDebounceInMillis(), equalTo(100L));
+            assertThat(System.getProperty("mockserver.expectationNotificationDebounceInMillis"), equalTo("100"));
+            assertThat(configuration.expectationNotificationDebounceInMillis(), equalTo(100L));
+
+            // when - setter
+            configuration.expectationNotificationDebounceInMillis(50L);
+
+            // then - getter
+            assertThat(configuration.expectationNotificationDebounceInMillis(), equalTo(50L));
+        } finally {
+            ConfigurationProperties.expectationNotificationDebounceInMillis(original);
+        }
+    }
+
+    @Test
+    public void shouldSetAndGetPersistedExpectationsJournal() {
+        boolean original = ConfigurationProperties.persistedExpectationsJournal();
+        try {
+            // then - default value
+            assertThat(configuration.persistedExpectationsJournal(), equalTo(false));
+
+            // when - system property setter
+            ConfigurationProperties.persistedExpectationsJournal(true);
+
+            // then - system property getter
+            assertThat(ConfigurationProperties.persistedExpectationsJournal(), equalTo(true));
+            assertThat(System.getProperty("mockserver.persistedExpectationsJournal"), equalTo("true"));
+            assertThat(configuration.persistedExpectationsJournal(), equalTo(true));
+
+            // when - setter
+            configuration.persistedExpectationsJournal(false);
+
+            // then - getter
+            assertThat(configuration.persistedExpectationsJournal(), equalTo(false));
+        } finally {
+            ConfigurationProperties.persistedExpectationsJournal(original);
+        }
+    }
+
+    @Test
+    public void shouldSetAndGetPersistedExpectationsJournalCompactionThreshold() {
+        int original = ConfigurationProperties.persistedExpectationsJournalCompactionThreshold();
+        try {
+            // then - default value
+            assertThat(configuration.persistedExpectationsJournalCompactionThreshold(), equalTo(1000));
+
+            // when - system property setter
+            ConfigurationProperties.persistedExpectationsJournalCompactionThreshold(10);
+
+            // then - system property getter
+            assertThat(ConfigurationProperties.persistedExpectationsJournalCompactionThreshold(), equalTo(10));
+            assertThat(System.getProperty("mockserver.persistedExpectationsJournalCompactionThreshold"), equalTo("10"));
+            assertThat(configuration.persistedExpectationsJournalCompactionThreshold(), equalTo(10));
+
+            // when - setter
+            configuration.persistedExpectationsJournalCompactionThreshold(20);
+
+            // then - getter
+            assertThat(configuration.persistedExpectationsJournalCompactionThreshold(), equalTo(20));
+        } finally {
+            ConfigurationProperties.persistedExpectationsJournalCompactionThreshold(original);
+        }
+    }
+
     @Test
     public void shouldSetAndGetMaximumNumberOfRequestToReturnInVerificationFailure() {
         int original = ConfigurationProperties.maximumNumberOfRequestToReturnInVerificationFailure();
@@ -1534,6 +1840,32 @@ public class ConfigurationTest {
         }
     }
 
+    @Test
+    public void shouldSetAndGetTLSProvider() {
+        TLSProvider original = ConfigurationProperties.tlsProvider();
+        try {
+            // then - default value
+            assertThat(configuration.tlsProvider(), equalTo(TLSProvider.JDK));
+
+            // when - system property setter
+            ConfigurationProperties.tlsProvider(TLSProvider.OPENSSL);
+
+            // then - system property getter
+            assertThat(ConfigurationProperties.tlsProvider(), equalTo(TLSProvider.OPENSSL));
+            assertThat(System.getProperty("mockserver.tlsProvider"), equalTo("OPENSSL"));
+            assertThat(configuration.tlsProvider(), equalTo(TLSProvider.OPENSSL));
+            ConfigurationProperties.tlsProvider(original);
+
+            // when - setter
+            configuration.tlsProvider(TLSProvider.OPENSSL);
+
+            // then - getter
+            assertThat(configuration.tlsProvider(), equalTo(TLSProvider.OPENSSL));
+        } finally {
+            ConfigurationProperties.tlsProvider(original);
+        }
+    }
+
     @Test
     public void shouldSetAndGetRebuildTLSContext() {
         // then - default value
@@ -1637,6 +1969,31 @@ public class ConfigurationTest {
         }
     }
 
+    @Test
+    public void shouldSetAndGetPerHostnameCertificateCacheSize() {
+        int original = ConfigurationProperties.perHostnameCertificateCacheSize();
+        try {
+            // then - default value
+            assertThat(configuration.perHostnameCertificateCacheSize(), equalTo(0));
+
+            // when - system property setter
+            ConfigurationProperties.perHostnameCertificateCacheSize(100);
+
+            // then - system property getter
+            assertThat(ConfigurationProperties.perHostnameCertificateCacheSize(), equalTo(100));
+            assertThat(System.getProperty("mockserver.perHostnameCertificateCacheSize"), equalTo("100"));
+            assertThat(configuration.perHostnameCertificateCacheSize(), equalTo(100));
+
+            // when - setter
+            configuration.perHostnameCertificateCacheSize(200);
+
+            // then - getter
+            assertThat(configuration.perHostnameCertificateCacheSize(), equalTo(200));
+        } finally {
+            ConfigurationProperties.perHostnameCertificateCacheSize(original);
+        }
+    }
+
     @Test
     public void shouldSetAndGetSslCertificateDomainName() {
         String original = ConfigurationProperties.sslCertificateDomainName();
@@ -0,0 +1,187 @@
+package org.mockserver.httpclient;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.*;
+import org.junit.Test;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.model.HttpResponse;
+import org.mockserver.model.Message;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.core.Is.is;
+import static org.mockserver.httpclient.NettyHttpClient.RESPONSE_FUTURE;
+
+public class HttpClientStreamingResponseHandlerTest {
+
+    private final MockServerLogger mockServerLogger = new MockServerLogger();
+    private final Function<HttpResponse, HttpResponse> responseHeadHandler = responseHead -> responseHead.removeHeader("x-loop-header").withHeader("x-response-head", "handled");
+
+    @Test
+    public void shouldWriteEachResponsePartToClientChannel() {
+        // given
+        EmbeddedChannel clientChannel = new EmbeddedChannel();
+        CompletableFuture<Message> responseFuture = new CompletableFuture<>();
+        EmbeddedChannel remoteChannel = remoteChannel(new HttpClientStreamingResponseHandler(mockServerLogger, clientChannel, true, false, 1024, responseHeadHandler), responseFuture);
+
+        // when
+        remoteChannel.writeInbound(responseHead());
+
+        // then - head written before body received
+        io.netty.handler.codec.http.HttpResponse head = clientChannel.readOutbound();
+        assertThat(head.status().code(), is(200));
+        assertThat(HttpUtil.isTransferEncodingChunked(head), is(true));
+        assertThat(head.headers().get(HttpHeaderNames.CONNECTION), is((String) null));
+        assertThat(head.headers().get("x-loop-header"), is((String) null));
+        assertThat(head.headers().get("x-response-head"), is("handled"));
+        assertThat(head.headers().get(HttpHeaderNames.CONTENT_TYPE), is("text/plain"));
+
+        // when
+        remoteChannel.writeInbound(new DefaultHttpContent(Unpooled.copiedBuffer("some_", UTF_8)));
+
+        // then - content written before response completed
+        assertThat(contentOf(clientChannel.readOutbound()), is("some_"));
+        assertThat(responseFuture.isDone(), is(false));
+
+        // when
+        remoteChannel.writeInbound(new DefaultLastHttpContent(Unpooled.copiedBuffer("body", UTF_8)));
+
+        // then
+        Object lastContent = clientChannel.readOutbound();
+        assertThat(lastContent, instanceOf(LastHttpContent.class));
+        assertThat(contentOf(lastContent), is("body"));
+        assertThat(clientChannel.isOpen(), is(true));
+        HttpResponse loggedResponse = (HttpResponse) responseFuture.getNow(null);
+        assertThat(loggedResponse.getStatusCode(), is(200));
+        assertThat(loggedResponse.getBodyAsString(), is("some_body"));
+        assertThat(loggedResponse.getFirstHeader("x-loop-header"), is("some_value"));
+    }
+
+    @Test
+    public void shouldRetainBoundedPrefixOfBodyForLog() {
+        // given
+        EmbeddedChannel clientChannel = new EmbeddedChannel();
+        CompletableFuture<Message> responseFuture = new CompletableFuture<>();
+        EmbeddedChannel remoteChannel = remoteChannel(new HttpClientStreamingResponseHandler(mockServerLogger, clientChannel, false, false, 7, responseHeadHandler), responseFuture);
+
+        // when
+        remoteChannel.writeInbound(responseHead());
+        remoteChannel.writeInbound(new DefaultHttpContent(Unpooled.copiedBuffer("some_", UTF_8)));
+        remoteChannel.writeInbound(new DefaultLastHttpContent(Unpooled.copiedBuffer("body", UTF_8)));
+
+        // then - client receives whole body
+        io.netty.handler.codec.http.HttpResponse head = clientChannel.readOutbound();
+        assertThat(head.status().code(), is(200));
+        assertThat(contentOf(clientChannel.readOutbound()), is("some_"));
+        assertThat(contentOf(clientChannel.readOutbound()), is("body"));
+        assertThat(clientChannel.isOpen(), is(false));
+
+        // and - log only retains prefix
+        HttpResponse loggedResponse = (HttpResponse) responseFuture.getNow(null);
+        assertThat(loggedResponse.getBodyAsString(), is("some_bo"));
+    }
+
+    @Test
+    public void shouldCloseClientChannelIfRemoteConnectionClosedDuringResponse() {
+        // given
+        EmbeddedChannel clientChannel = new EmbeddedChannel();
+        CompletableFuture<Message> responseFuture = new CompletableFuture<>();
+        HttpClientStreamingResponseHandler streamingResponseHandler = new HttpClientStreamingResponseHandler(mockServerLogger, clientChannel, true, false, 1024, responseHeadHandler);
+        EmbeddedChannel remoteChannel = remoteChannel(streamingResponseHandler, responseFuture);
+
+        // when
+        remoteChannel.writeInbound(responseHead());
+        remoteChannel.writeInbound(new DefaultHttpContent(Unpooled.copiedBuffer("some_", UTF_8)));
+        remoteChannel.close();
+
+        // then
+        assertThat(streamingResponseHandler.isResponseStarted(), is(true));
+        assertThat(responseFuture.isCompletedExceptionally(), is(true));
+        assertThat(clientChannel.isOpen(), is(false));
+    }
+
+    @Test
+    public void shouldNotStartResponseIfRemoteConnectionClosedBeforeResponse() {
+        // given
+        EmbeddedChannel clientChannel = new EmbeddedChannel();
+        CompletableFuture<Message> responseFuture = new CompletableFuture<>();
+        HttpClientStreamingResponseHandler streamingResponseHandler = new HttpClientStreamingResponseHandler(mockServerLogger, clientChannel, true, false, 1024, responseHeadHandler);
+        EmbeddedChannel remoteChannel = remoteChannel(streamingResponseHandler, responseFuture);
+
+        // when
+        remoteChannel.close();
+
+        // then - client channel left open so an error response can be returned
+        assertThat(streamingResponseHandler.isResponseStarted(), is(false));
+        assertThat(responseFuture.isCompletedExceptionally(), is(true));
+        assertThat(clientChannel.isOpen(), is(true));
+    }
+
+    @Test
+    public void shouldOnlyRetainResponseForLogIfResponseHeadHandlerReturnsNull() {
+        // given
+        EmbeddedChannel clientChannel = new EmbeddedChannel();
+        CompletableFuture<Message> responseFuture = new CompletableFuture<>();
+        HttpClientStreamingResponseHandler streamingResponseHandler = new HttpClientStreamingResponseHandler(mockServerLogger, clientChannel, false, false, 1024, responseHead -> null);
+        EmbeddedChannel remoteChannel = remoteChannel(streamingResponseHandler, responseFuture);
+
+        // when
+        remoteChannel.writeInbound(responseHead());
+        remoteChannel.writeInbound(new DefaultHttpContent(Unpooled.copiedBuffer("some_", UTF_8)));
+        remoteChannel.writeInbound(new DefaultLastHttpContent(Unpooled.copiedBuffer("body", UTF_8)));
+
+        // then - nothing written so a response can still be returned
+        assertThat(clientChannel.readOutbound(), is((Object) null));
+        assertThat(streamingResponseHandler.isResponseStarted(), is(false));
+        assertThat(clientChannel.isOpen(), is(true));
+        HttpResponse loggedResponse = (HttpResponse) responseFuture.getNow(null);
+        assertThat(loggedResponse.getBodyAsString(), is("some_body"));
+        assertThat(loggedResponse.getFirstHeader("x-loop-header"), is("some_value"));
+    }
+
+    @Test
+    public void shouldResumeReadingWhenClientChannelBecomesWritable() {
+        // given
+        EmbeddedChannel clientChannel = new EmbeddedChannel();
+        CompletableFuture<Message> responseFuture = new CompletableFuture<>();
+        EmbeddedChannel remoteChannel = remoteChannel(new HttpClientStreamingResponseHandler(mockServerLogger, clientChannel, true, false, 1024, responseHeadHandler), responseFuture);
+        remoteChannel.writeInbound(responseHead());
+        remoteChannel.config().setAutoRead(false);
+
+        // when
+        clientChannel.pipeline().fireChannelWritabilityChanged();
+
+        // then
+        assertThat(remoteChannel.config().isAutoRead(), is(true));
+    }
+
+    private EmbeddedChannel remoteChannel(HttpClientStreamingResponseHandler streamingResponseHandler, CompletableFuture<Message> responseFuture) {
+        EmbeddedChannel remoteChannel = new EmbeddedChannel();
+        remoteChannel.attr(RESPONSE_FUTURE).set(responseFuture);
+        remoteChannel.pipeline().addLast(streamingResponseHandler);
+        return remoteChannel;
+    }
+
+    private DefaultHttpResponse responseHead() {
+        DefaultHttpResponse response = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
+        HttpUtil.setTransferEncodingChunked(response, true);
+        response.headers().set(HttpHeaderNames.CONTENT_TYPE, "text/plain");
+        response.headers().set("x-loop-header", "some_value");
+        return response;
+    }
+
+    private String contentOf(Object httpContent) {
+        ByteBuf content = ((HttpContent) httpContent).content();
+        try {
+            return content.toString(UTF_8);
+        } finally {
+            content.release();
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package org.mockserver.httpclient.netty;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockserver.httpclient.NettyHttpClient;
+import org.mockserver.httpclient.SocketCommunicationException;
+import org.mockserver.httpclient.SocketConnectionException;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.model.HttpResponse;
+import org.mockserver.scheduler.Scheduler;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.fail;
+import static org.mockserver.configuration.Configuration.configuration;
+import static org.mockserver.model.HttpRequest.request;
+
+public class NettyHttpClientConnectionPoolTest {
+
+    private static EventLoopGroup clientEventLoopGroup;
+    private final MockServerLogger mockServerLogger = new MockServerLogger();
+    private CountingHttpServer countingHttpServer;
+
+    @BeforeClass
+    public static void startEventLoopGroup() {
+        clientEventLoopGroup = new NioEventLoopGroup(3, new Scheduler.SchedulerThreadFactory(NettyHttpClientConnectionPoolTest.class.getSimpleName() + "-eventLoop"));
+    }
+
+    @AfterClass
+    public static void stopEventLoopGroup() {
+        clientEventLoopGroup.shutdownGracefully(0, 0, MILLISECONDS).syncUninterruptibly();
+    }
+
+    @After
+    public void stopServer() throws IOException {
+        if (countingHttpServer != null) {
+            countingHttpServer.stop();
+        }
+    }
+
+    @Test
+    public void shouldReuseConnectionForSequentialRequests() throws Exception {
+        // given
+        countingHttpServer = new CountingHttpServer(false);
+        NettyHttpClient nettyHttpClient = new NettyHttpClient(configuration().forwardConnectionPoolSize(2), mockServerLogger, clientEventLoopGroup, null, true);
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            HttpResponse httpResponse = nettyHttpClient.sendRequest(request().withPath("/some_path"), countingHttpServer.address()).get(10, TimeUnit.SECONDS);
+            assertThat(httpResponse.getStatusCode(), is(200));
+        }
+
+        // then
+        assertThat(countingHttpServer.connectionCount(), is(1));
+    }
+
+    @Test
+    public void shouldNotReuseConnectionClosedByServer() throws Exception {
+        // given
+        countingHttpServer = new CountingHttpServer(true);
+        NettyHttpClient nettyHttpClient = new NettyHttpClient(configuration().forwardConnectionPoolSize(2), mockServerLogger, clientEventLoopGroup, null, true);
+
+        // when
+        for (int i = 0; i < 2; i++) {
+            HttpResponse httpResponse = nettyHttpClient.sendRequest(request().withPath("/some_path"), countingHttpServer.address()).get(10, TimeUnit.SECONDS);
+            assertThat(httpResponse.getStatusCode(), is(200));
+        }
+
+        // then
+        assertThat(countingHttpServer.connectionCount(), is(2));
+    }
+
+    @Test
+    public void shouldOpenConnectionPerRequestWhenPoolingDisabled() throws Exception {
+        // given
+        countingHttpServer = new CountingHttpServer(false);
+        NettyHttpClient nettyHttpClient = new NettyHttpClient(configuration().forwardConnectionPoolSize(0), mockServerLogger, clientEventLoopGroup, null, true);
+
+        // when
+        for (int i = 0; i < 2; i++) {
+            HttpResponse httpResponse = nettyHttpClient.sendRequest(request().withPath("/some_path"), countingHttpServer.address()).get(10, TimeUnit.SECONDS);
+            assertThat(httpResponse.getStatusCode(), is(200));
+        }
+
+        // then
+        assertThat(countingHttpServer.connectionCount(), is(2));
+    }
+
+    @Test
+    public void shouldCloseConnectionWhenResponseNotReceived() throws Exception {
+        // given
+        countingHttpServer = new CountingHttpServer(false, false);
+        NettyHttpClient nettyHttpClient = new NettyHttpClient(configuration().forwardConnectionPoolSize(1).maxSocketTimeoutInMillis(500L), mockServerLogger, clientEventLoopGroup, null, true);
+
+        // when
+        for (int i = 0; i < 2; i++) {
+            try {
+                nettyHttpClient.sendRequest(request().withPath("/some_path"), countingHttpServer.address()).get(10, TimeUnit.SECONDS);
+                fail("expected exception to be thrown");
+            } catch (ExecutionException executionException) {
+                // then - the response timed out rather than waiting for a connection from the pool
+                assertThat(executionException.getCause(), instanceOf(SocketCommunicationException.class));
+            }
+        }
+
+        // then - the connection waiting for a response wasn't returned to the pool
+        assertThat(countingHttpServer.connectionCount(), is(2));
+    }
+
+    @Test
+    public void shouldRetryIdempotentRequestWhenReusedConnectionClosedByServer() throws Exception {
+        // given
+        countingHttpServer = new CountingHttpServer(false, true, 1);
+        NettyHttpClient nettyHttpClient = new NettyHttpClient(configuration().forwardConnectionPoolSize(1), mockServerLogger, clientEventLoopGroup, null, true);
+        nettyHttpClient.sendRequest(request().withPath("/some_path"), countingHttpServer.address()).get(10, TimeUnit.SECONDS);
+
+        // when
+        HttpResponse httpResponse = nettyHttpClient.sendRequest(request().withMethod("PUT").withPath("/some_path"), countingHttpServer.address()).get(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(httpResponse.getStatusCode(), is(200));
+        assertThat(countingHttpServer.connectionCount(), is(2));
+    }
+
+    @Test
+    public void shouldNotRetryNonIdempotentRequestWhenReusedConnectionClosedByServer() throws Exception {
+        // given
+        countingHttpServer = new CountingHttpServer(false, true, 1);
+        NettyHttpClient nettyHttpClient = new NettyHttpClient(configuration().forwardConnectionPoolSize(1), mockServerLogger, clientEventLoopGroup, null, true);
+        nettyHttpClient.sendRequest(request().withPath("/some_path"), countingHttpServer.address()).get(10, TimeUnit.SECONDS);
+
+        // when
+        try {
+            nettyHttpClient.sendRequest(request().withMethod("POST").withPath("/some_path"), countingHttpServer.address()).get(10, TimeUnit.SECONDS);
+            fail("expected exception to be thrown");
+        } catch (ExecutionException executionException) {
+            // then - the request reached the server so wasn't sent again
+            assertThat(executionException.getCause(), instanceOf(SocketConnectionException.class));
+        }
+
+        // then
+        assertThat(countingHttpServer.connectionCount(), is(1));
+    }
+
+    private static class CountingHttpServer {
+
+        private final ServerSocket serverSocket;
+        private final ExecutorService executorService = Executors.newCachedThreadPool();
+        private final AtomicInteger connectionCount = new AtomicInteger();
+        private final boolean closeConnection;
+        private final boolean respond;
+        private final int requestsPerConnection;
+
+        CountingHttpServer(boolean closeConnection) throws IOException {
+            this(closeConnection, true);
+        }
+
+        CountingHttpServer(boolean closeConnection, boolean respond) throws IOException {
+            this(closeConnection, respond, Integer.MAX_VALUE);
+        }
+
+        CountingHttpServer(boolean closeConnection, boolean respond, int requestsPerConnection) throws IOException {
+            this.closeConnection = closeConnection;
+            this.respond = respond;
+            this.requestsPerConnection = requestsPerConnection;
+            this.serverSocket = new ServerSocket(0);
+            executorService.submit(this::accept);
+        }
+
+        InetSocketAddress address() {
+            return new InetSocketAddress("127.0.0.1", serverSocket.getLocalPort());
+        }
+
+        int connectionCount() {
+            return connectionCount.get();
+        }
+
+        void stop() throws IOException {
+            serverSocket.close();
+            executorService.shutdownNow();
+        }
+
+        private void accept() {
+            try {
+                while (!serverSocket.isClosed()) {
+                    Socket socket = serverSocket.accept();
+                    connectionCount.incrementAndGet();
+                    executorService.submit(() -> respond(socket));
+                }
+            } catch (IOException ignore) {
+                // server stopped
+            }
+        }
+
+        private void respond(Socket socket) {
+            try (Socket ignored = socket) {
+                BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), US_ASCII));
+                OutputStream outputStream = socket.getOutputStream();
+                String line;
+                int requests = 0;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isEmpty() && ++requests > requestsPerConnection) {
+                        // read the request then close without responding
+                        return;
+                    }
+                    if (line.isEmpty() && respond) {
+                        outputStream.write(("HTTP/1.1 200 OK\r\ncontent-length: 0\r\n" + (closeConnection ? "connection: close\r\n" : "") + "\r\n").getBytes(US_ASCII));
+                        outputStream.flush();
+                        if (closeConnection) {
+                            return;
+                        }
+                    }
+                }
+            } catch (IOException ignore) {
+                // connection closed
+            }
+        }
+    }
+}
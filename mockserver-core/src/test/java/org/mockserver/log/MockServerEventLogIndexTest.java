@@ -0,0 +1,128 @@
+package org.mockserver.log;
+
+import org.junit.Test;
+import org.mockserver.log.model.LogEntry;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockserver.log.model.LogEntry.LogMessageType.*;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.NottableString.not;
+
+public class MockServerEventLogIndexTest {
+
+    private LogEntry receivedRequest(String path) {
+        return new LogEntry()
+            .setType(RECEIVED_REQUEST)
+            .setHttpRequest(request().withMethod("GET").withPath(path));
+    }
+
+    @Test
+    public void shouldPartitionEntriesByType() {
+        // given
+        MockServerEventLogIndex index = new MockServerEventLogIndex(10);
+        LogEntry receivedRequest = receivedRequest("/some/path");
+        LogEntry expectationResponse = new LogEntry().setType(EXPECTATION_RESPONSE).setHttpRequest(request("/some/path"));
+        LogEntry noMatchResponse = new LogEntry().setType(NO_MATCH_RESPONSE).setHttpRequest(request("/some/path"));
+        LogEntry forwardedRequest = new LogEntry().setType(FORWARDED_REQUEST).setHttpRequest(request("/some/path"));
+
+        // when
+        index.add(receivedRequest);
+        index.add(new LogEntry().setType(EXPECTATION_NOT_MATCHED).setHttpRequest(request("/some/path")));
+        index.add(expectationResponse);
+        index.add(noMatchResponse);
+        index.add(new LogEntry().setType(INFO));
+        index.add(forwardedRequest);
+
+        // then
+        assertThat(index.requestLog(null).collect(Collectors.toList()), contains(receivedRequest));
+        assertThat(index.requestResponseLog().collect(Collectors.toList()), contains(expectationResponse, noMatchResponse, forwardedRequest));
+        assertThat(index.recordedExpectationLog().collect(Collectors.toList()), contains(forwardedRequest));
+    }
+
+    @Test
+    public void shouldReturnRequestsWithSamePathOrUnindexablePathInLoggedOrder() {
+        // given
+        MockServerEventLogIndex index = new MockServerEventLogIndex(10);
+        LogEntry samePath = receivedRequest("/some/path");
+        LogEntry otherPath = receivedRequest("/other/path");
+        LogEntry regexPath = receivedRequest("/some/.*");
+        LogEntry samePathDifferentCase = receivedRequest("/SOME/PATH");
+        LogEntry nottedPath = new LogEntry().setType(RECEIVED_REQUEST).setHttpRequest(request().withPath(not("/other/path")));
+        LogEntry noRequest = new LogEntry().setType(RECEIVED_REQUEST);
+
+        // when
+        index.add(samePath);
+        index.add(otherPath);
+        index.add(regexPath);
+        index.add(samePathDifferentCase);
+        index.add(nottedPath);
+        index.add(noRequest);
+
+        // then
+        assertThat(index.requestLog(request().withPath("/some/path")).collect(Collectors.toList()), contains(samePath, regexPath, samePathDifferentCase, nottedPath, noRequest));
+        assertThat(index.requestLog(request().withPath("/unknown")).collect(Collectors.toList()), contains(regexPath, nottedPath, noRequest));
+        assertThat(index.requestLog(request().withPath("/some/.*")).collect(Collectors.toList()), contains(samePath, otherPath, regexPath, samePathDifferentCase, nottedPath, noRequest));
+        assertThat(index.requestLog(request().withPath(not("/some/path"))).collect(Collectors.toList()), hasSize(6));
+        assertThat(index.requestLog(request()).collect(Collectors.toList()), hasSize(6));
+        assertThat(index.pathCount(), is(2));
+    }
+
+    @Test
+    public void shouldFollowEvictionsFromEventLog() {
+        // given
+        MockServerEventLogIndex index = new MockServerEventLogIndex(10);
+        LogEntry first = receivedRequest("/some/path");
+        LogEntry second = receivedRequest("/other/path");
+        LogEntry third = receivedRequest("/some/path");
+        LogEntry forwardedRequest = new LogEntry().setType(FORWARDED_REQUEST).setHttpRequest(request("/some/path"));
+        index.add(first);
+        index.add(second);
+        index.add(forwardedRequest);
+        index.add(third);
+
+        // when
+        index.evicted(first);
+        index.evicted(second);
+        index.evicted(forwardedRequest);
+
+        // then
+        assertThat(index.requestLog(null).collect(Collectors.toList()), contains(third));
+        assertThat(index.requestLog(request().withPath("/some/path")).collect(Collectors.toList()), contains(third));
+        assertThat(index.requestResponseLog().collect(Collectors.toList()), is(empty()));
+        assertThat(index.recordedExpectationLog().collect(Collectors.toList()), is(empty()));
+        assertThat(index.pathCount(), is(1));
+    }
+
+    @Test
+    public void shouldRemoveAndClearEntries() {
+        // given
+        MockServerEventLogIndex index = new MockServerEventLogIndex(10);
+        LogEntry first = receivedRequest("/some/path");
+        LogEntry second = receivedRequest("/other/path");
+        LogEntry third = receivedRequest("/some/path");
+        index.add(first);
+        index.add(second);
+        index.add(third);
+
+        // when
+        index.removeIf(logEntry -> logEntry == first || logEntry == second);
+        index.evicted(third);
+
+        // then
+        List<LogEntry> requests = index.requestLog(request().withPath("/some/path")).collect(Collectors.toList());
+        assertThat(requests, is(empty()));
+        assertThat(index.pathCount(), is(0));
+
+        // when
+        index.add(first);
+        index.clear();
+
+        // then
+        assertThat(index.requestLog(null).collect(Collectors.toList()), is(empty()));
+        assertThat(index.pathCount(), is(0));
+    }
+}
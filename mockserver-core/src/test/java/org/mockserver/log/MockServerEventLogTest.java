@@ -15,9 +15,15 @@ import org.mockserver.scheduler.Scheduler;
 import org.mockserver.time.EpochService;
 import org.slf4j.event.Level;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static junit.framework.TestCase.fail;
@@ -25,6 +31,8 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.collection.IsEmptyCollection.empty;
 import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
 import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.hamcrest.core.IsNull.nullValue;
 import static org.mockito.Mockito.mock;
 import static org.mockserver.configuration.Configuration.configuration;
 import static org.mockserver.log.model.LogEntry.LogMessageType.*;
@@ -957,4 +965,166 @@ public class MockServerEventLogTest {
             ConfigurationProperties.logLevel(originalLevel.name());
         }
     }
+
+    @Test
+    public void shouldRetrieveLogEntriesWhileAnotherRetrieveIsInProgress() throws Exception {
+        // given
+        mockServerEventLog.add(
+            new LogEntry()
+                .setLogLevel(INFO)
+                .setType(RECEIVED_REQUEST)
+                .setHttpRequest(request("request_one"))
+                .setMessageFormat(RECEIVED_REQUEST_MESSAGE_FORMAT)
+                .setArguments(request("request_one"))
+        );
+        CountDownLatch slowRetrieveBlocked = new CountDownLatch(1);
+        CompletableFuture<List<RequestDefinition>> slowRetrieve = new CompletableFuture<>();
+
+        // when
+        mockServerEventLog.retrieveLogEntriesInReverseForUI(
+            request(),
+            logEntry -> logEntry.getType() == RECEIVED_REQUEST,
+            LogEntry::getHttpRequest,
+            logEntries -> {
+                try {
+                    slowRetrieveBlocked.await(60, SECONDS);
+                    slowRetrieve.complete(logEntries.collect(Collectors.toList()));
+                } catch (InterruptedException interruptedException) {
+                    slowRetrieve.completeExceptionally(interruptedException);
+                }
+            }
+        );
+        mockServerEventLog.add(
+            new LogEntry()
+                .setLogLevel(INFO)
+                .setType(RECEIVED_REQUEST)
+                .setHttpRequest(request("request_two"))
+                .setMessageFormat(RECEIVED_REQUEST_MESSAGE_FORMAT)
+                .setArguments(request("request_two"))
+        );
+        List<RequestDefinition> requests = retrieveRequests(null);
+        slowRetrieveBlocked.countDown();
+
+        // then - log entries added and retrieved without waiting for the slow retrieve
+        assertThat(requests, contains(
+            request("request_one"),
+            request("request_two")
+        ));
+        // and - slow retrieve only returns log entries added before it started
+        assertThat(slowRetrieve.get(60, SECONDS), contains(
+            request("request_one")
+        ));
+    }
+
+    @Test
+    public void shouldCompleteRetrieveExceptionallyWhenQueryFails() throws Exception {
+        // given
+        mockServerEventLog.add(
+            new LogEntry()
+                .setLogLevel(INFO)
+                .setType(RECEIVED_REQUEST)
+                .setHttpRequest(request("request_one"))
+                .setMessageFormat(RECEIVED_REQUEST_MESSAGE_FORMAT)
+                .setArguments(request("request_one"))
+        );
+
+        // when
+        CompletableFuture<Void> retrieve = mockServerEventLog.retrieveRequests(null, requests -> {
+            throw new IllegalStateException("query failed");
+        });
+
+        // then
+        try {
+            retrieve.get(60, SECONDS);
+            fail("expected exception to be thrown");
+        } catch (ExecutionException executionException) {
+            assertThat(executionException.getCause().getMessage(), is("query failed"));
+        }
+    }
+
+    @Test
+    public void shouldClearEvictedLogEntries() throws Exception {
+        // given
+        MockServerEventLog mockServerEventLog = new MockServerEventLog(configuration().maxLogEntries(1), mockServerLogger, mock(Scheduler.class), true);
+        try {
+            mockServerEventLog.add(
+                new LogEntry()
+                    .setLogLevel(INFO)
+                    .setType(RECEIVED_REQUEST)
+                    .setHttpRequest(request("request_one"))
+                    .setMessageFormat(RECEIVED_REQUEST_MESSAGE_FORMAT)
+                    .setArguments(request("request_one"))
+            );
+            AtomicReference<List<LogEntry>> logEntries = new AtomicReference<>();
+            mockServerEventLog.retrieveMessageLogEntries(null, logEntries::set).get(60, SECONDS);
+            LogEntry evictedLogEntry = logEntries.get().get(0);
+
+            // when
+            mockServerEventLog.add(
+                new LogEntry()
+                    .setLogLevel(INFO)
+                    .setType(RECEIVED_REQUEST)
+                    .setHttpRequest(request("request_two"))
+                    .setMessageFormat(RECEIVED_REQUEST_MESSAGE_FORMAT)
+                    .setArguments(request("request_two"))
+            );
+            mockServerEventLog.retrieveMessageLogEntries(null, logEntries::set).get(60, SECONDS);
+
+            // then
+            assertThat(logEntries.get().size(), is(1));
+            assertThat(logEntries.get().get(0).getHttpRequests(), is(new RequestDefinition[]{request("request_two")}));
+            assertThat(evictedLogEntry.getType(), is(nullValue()));
+        } finally {
+            mockServerEventLog.stop();
+        }
+    }
+
+    @Test
+    public void shouldCompleteQueryExceptionallyWhenTooManyQueriesAreQueued() throws Exception {
+        // given
+        CountDownLatch queriesBlocked = new CountDownLatch(1);
+        List<CompletableFuture<Void>> queries = new ArrayList<>();
+        try {
+            // when - enough queries to occupy every query thread and fill the queue
+            int queryThreadsAndQueueSize = Math.max(2, Runtime.getRuntime().availableProcessors()) + 1024;
+            for (int i = 0; i <= queryThreadsAndQueueSize; i++) {
+                queries.add(mockServerEventLog.retrieveMessageLogEntries(null, logEntries -> {
+                    try {
+                        queriesBlocked.await(60, SECONDS);
+                    } catch (InterruptedException ignore) {
+                        // ignore
+                    }
+                }));
+            }
+
+            // then
+            try {
+                queries.get(queries.size() - 1).get(60, SECONDS);
+                fail("expected exception to be thrown");
+            } catch (ExecutionException executionException) {
+                assertThat(executionException.getCause(), instanceOf(RejectedExecutionException.class));
+            }
+        } finally {
+            queriesBlocked.countDown();
+        }
+    }
+
+    @Test
+    public void shouldCompleteFutureOnceReset() throws Exception {
+        // given
+        mockServerEventLog.add(
+            new LogEntry()
+                .setLogLevel(INFO)
+                .setType(RECEIVED_REQUEST)
+                .setHttpRequest(request("request_one"))
+                .setMessageFormat(RECEIVED_REQUEST_MESSAGE_FORMAT)
+                .setArguments(request("request_one"))
+        );
+
+        // when
+        mockServerEventLog.reset().get(60, SECONDS);
+
+        // then
+        assertThat(mockServerEventLog.size(), is(0));
+    }
 }
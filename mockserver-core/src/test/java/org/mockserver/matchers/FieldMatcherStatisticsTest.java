@@ -0,0 +1,56 @@
+package org.mockserver.matchers;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.mockserver.matchers.FieldMatcherStatistics.*;
+import static org.mockserver.matchers.MatchDifference.Field.BODY;
+import static org.mockserver.matchers.MatchDifference.Field.HEADERS;
+import static org.mockserver.matchers.MatchDifference.Field.METHOD;
+
+public class FieldMatcherStatisticsTest {
+
+    @Test
+    public void shouldRankOnCostBeforeFieldsEvaluated() {
+        // given
+        FieldMatcherStatistics method = new FieldMatcherStatistics(METHOD, CHEAP);
+        FieldMatcherStatistics body = new FieldMatcherStatistics(BODY, VERY_EXPENSIVE);
+
+        // then
+        assertThat(method.rank(), lessThan(body.rank()));
+    }
+
+    @Test
+    public void shouldRankSelectiveFieldBeforeCheaperFieldThatAlwaysMatches() {
+        // given
+        FieldMatcherStatistics method = new FieldMatcherStatistics(METHOD, CHEAP);
+        FieldMatcherStatistics headers = new FieldMatcherStatistics(HEADERS, MODERATE);
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            method.record(true);
+            headers.record(false);
+        }
+
+        // then
+        assertThat(headers.rank(), lessThan(method.rank()));
+    }
+
+    @Test
+    public void shouldRankExpensiveFieldAfterCheapFieldWithSameSelectivity() {
+        // given
+        FieldMatcherStatistics headers = new FieldMatcherStatistics(HEADERS, MODERATE);
+        FieldMatcherStatistics body = new FieldMatcherStatistics(BODY, VERY_EXPENSIVE);
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            headers.record(i % 2 == 0);
+            body.record(i % 2 == 0);
+        }
+
+        // then
+        assertThat(body.rank(), greaterThan(headers.rank()));
+    }
+}
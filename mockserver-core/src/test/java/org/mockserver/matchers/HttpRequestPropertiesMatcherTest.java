@@ -7,10 +7,15 @@ import org.mockserver.mock.Expectation;
 import org.mockserver.model.*;
 import org.mockserver.serialization.model.*;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static java.nio.charset.StandardCharsets.UTF_16;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.jar.Attributes.Name.CONTENT_TYPE;
 import static junit.framework.TestCase.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
 import static org.mockserver.character.Character.NEW_LINE;
 import static org.mockserver.configuration.Configuration.configuration;
 import static org.mockserver.matchers.NotMatcher.notMatcher;
@@ -6163,4 +6168,91 @@ public class HttpRequestPropertiesMatcherTest {
             ).toString()
         );
     }
+
+    // FIELD ORDER
+
+    private boolean bodyParsedAsJson(HttpRequest request) throws Exception {
+        AtomicInteger numberOfParses = new AtomicInteger();
+        request.getParsedBody().parse(JsonStringMatcher.JSON_REPRESENTATION, request.getBodyAsString(), json -> numberOfParses.incrementAndGet());
+        return numberOfParses.get() == 0;
+    }
+
+    @Test
+    public void shouldNotEvaluateExpensiveBodyMatcherWhenCheaperFieldDoesNotMatch() throws Exception {
+        // given
+        HttpRequestPropertiesMatcher httpRequestPropertiesMatcher = update(new HttpRequest()
+            .withHeader("headerName", "headerValue")
+            .withBody(json("{ \"id\": 1 }"))
+        );
+        HttpRequest request = new HttpRequest()
+            .withHeader("headerName", "otherValue")
+            .withBody(json("{ \"id\": 1 }"));
+        request.cacheParsedBody();
+
+        // when
+        boolean matches = httpRequestPropertiesMatcher.matches(null, request);
+
+        // then
+        assertFalse(matches);
+        assertThat(bodyParsedAsJson(request), is(false));
+    }
+
+    @Test
+    public void shouldEvaluateFieldsInCanonicalOrderWhenReportingMatchDifferences() throws Exception {
+        // given
+        HttpRequestPropertiesMatcher httpRequestPropertiesMatcher = update(new HttpRequest()
+            .withHeader("headerName", "headerValue")
+            .withBody(json("{ \"id\": 1 }"))
+        );
+        HttpRequest request = new HttpRequest()
+            .withHeader("headerName", "otherValue")
+            .withBody(json("{ \"id\": 1 }"));
+        MatchDifference context = new MatchDifference(true, request);
+        request.cacheParsedBody();
+
+        // when
+        boolean matches = httpRequestPropertiesMatcher.matches(context, request);
+
+        // then
+        assertFalse(matches);
+        assertThat(bodyParsedAsJson(request), is(true));
+        assertThat(context.getDifferences(MatchDifference.Field.HEADERS), hasSize(1));
+    }
+
+    @Test
+    public void shouldMatchWhenFieldsReordered() {
+        // given
+        HttpRequestPropertiesMatcher httpRequestPropertiesMatcher = update(new HttpRequest()
+            .withMethod("POST")
+            .withPath("/some/path")
+            .withHeader("headerName", "headerValue")
+            .withBody(json("{ \"id\": 1 }"))
+        );
+
+        // when
+        for (int i = 0; i < 200; i++) {
+            httpRequestPropertiesMatcher.matches(null, new HttpRequest()
+                .withMethod("POST")
+                .withPath("/some/path")
+                .withHeader("headerName", "otherValue")
+                .withBody(json("{ \"id\": 1 }")));
+        }
+
+        // then
+        assertTrue(httpRequestPropertiesMatcher.matches(null, new HttpRequest()
+            .withMethod("POST")
+            .withPath("/some/path")
+            .withHeader("headerName", "headerValue")
+            .withBody(json("{ \"id\": 1 }"))));
+        assertFalse(httpRequestPropertiesMatcher.matches(null, new HttpRequest()
+            .withMethod("GET")
+            .withPath("/some/path")
+            .withHeader("headerName", "headerValue")
+            .withBody(json("{ \"id\": 1 }"))));
+        assertFalse(httpRequestPropertiesMatcher.matches(null, new HttpRequest()
+            .withMethod("POST")
+            .withPath("/some/path")
+            .withHeader("headerName", "headerValue")
+            .withBody(json("{ \"id\": 2 }"))));
+    }
 }
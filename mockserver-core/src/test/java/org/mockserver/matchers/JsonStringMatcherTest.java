@@ -2,10 +2,12 @@ package org.mockserver.matchers;
 
 import org.junit.Test;
 import org.mockserver.logging.MockServerLogger;
+import org.mockserver.model.ParsedBody;
 
 import static junit.framework.TestCase.*;
 import static org.mockserver.character.Character.NEW_LINE;
 import static org.mockserver.matchers.NotMatcher.notMatcher;
+import static org.mockserver.model.HttpRequest.request;
 
 /**
  * @author jamesdbloom
@@ -624,4 +626,21 @@ public class JsonStringMatcherTest {
         MockServerLogger mockServerLogger = new MockServerLogger();
         assertEquals(new JsonStringMatcher(mockServerLogger, "some_value", MatchType.ONLY_MATCHING_FIELDS), new JsonStringMatcher(mockServerLogger, "some_value", MatchType.ONLY_MATCHING_FIELDS));
     }
+
+    @Test
+    public void shouldShareParsedJsonAcrossMatchers() throws Exception {
+        // given
+        String matched = "{ \"id\": \"file\", \"value\": \"File\" }";
+        ParsedBody parsedBody = request().withBody(matched).getParsedBody();
+
+        // when
+        assertTrue(new JsonStringMatcher(new MockServerLogger(), "{ \"id\": \"file\" }", MatchType.ONLY_MATCHING_FIELDS).matches(null, matched, parsedBody));
+        assertFalse(new JsonStringMatcher(new MockServerLogger(), "{ \"id\": \"file\" }", MatchType.STRICT).matches(null, matched, parsedBody));
+        assertTrue(new JsonSchemaMatcher(new MockServerLogger(), "{ \"type\": \"object\", \"required\": [ \"id\" ] }").matches(null, matched, parsedBody));
+
+        // then
+        assertNotNull(parsedBody.parse(JsonStringMatcher.JSON_REPRESENTATION, matched, json -> {
+            throw new AssertionError("json should only be parsed once");
+        }));
+    }
 }
@@ -0,0 +1,95 @@
+package org.mockserver.matchers;
+
+import org.junit.Test;
+import org.mockserver.mock.Expectation;
+import org.mockserver.model.HttpRequest;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.mockserver.matchers.MatchDifference.Field.*;
+import static org.mockserver.model.HttpRequest.request;
+
+public class MatchFailureSummaryTest {
+
+    private final HttpRequest request = request().withPath("/some/path");
+
+    private AbstractHttpRequestMatcher httpRequestMatcher(String id, String because) {
+        AbstractHttpRequestMatcher httpRequestMatcher = mock(AbstractHttpRequestMatcher.class);
+        when(httpRequestMatcher.getExpectation()).thenReturn(new Expectation(request()).withId(id));
+        when(httpRequestMatcher.didNotMatchBecause(any(HttpRequest.class))).thenReturn(because);
+        return httpRequestMatcher;
+    }
+
+    private MatchDifference context(MatchDifference.Field... fieldsMatched) {
+        MatchDifference context = new MatchDifference(false, request);
+        for (MatchDifference.Field field : fieldsMatched) {
+            context.fieldMatched(field, true);
+        }
+        return context.fieldMatched(BODY, false);
+    }
+
+    @Test
+    public void shouldRetainClosestExpectations() {
+        // given
+        AbstractHttpRequestMatcher noFieldsMatched = httpRequestMatcher("noFieldsMatched", "");
+        AbstractHttpRequestMatcher twoFieldsMatched = httpRequestMatcher("twoFieldsMatched", "");
+        AbstractHttpRequestMatcher oneFieldMatched = httpRequestMatcher("oneFieldMatched", "");
+        AbstractHttpRequestMatcher otherTwoFieldsMatched = httpRequestMatcher("otherTwoFieldsMatched", "");
+
+        // when
+        MatchFailureSummary matchFailureSummary = new MatchFailureSummary(request, 2, expectation -> null)
+            .add(noFieldsMatched, context())
+            .add(twoFieldsMatched, context(METHOD, PATH))
+            .add(oneFieldMatched, context(METHOD))
+            .add(otherTwoFieldsMatched, context(METHOD, PATH));
+
+        // then
+        assertThat(matchFailureSummary.getExpectationsNotMatched(), is(4));
+        assertThat(matchFailureSummary.getClosestExpectations(), contains(
+            twoFieldsMatched.getExpectation(),
+            otherTwoFieldsMatched.getExpectation()
+        ));
+    }
+
+    @Test
+    public void shouldOnlyCalculateReasonWhenDisplayed() {
+        // given
+        AbstractHttpRequestMatcher httpRequestMatcher = httpRequestMatcher("someId", "body didn't match");
+        MatchFailureSummary matchFailureSummary = new MatchFailureSummary(request, 5, expectation -> httpRequestMatcher)
+            .add(httpRequestMatcher, context(METHOD, PATH));
+        verify(httpRequestMatcher, never()).didNotMatchBecause(any(HttpRequest.class));
+
+        // when
+        String first = matchFailureSummary.toString();
+        String second = matchFailureSummary.toString();
+
+        // then
+        verify(httpRequestMatcher, times(1)).didNotMatchBecause(request);
+        assertThat(second, sameInstance(first));
+        assertThat(first, containsString("someId"));
+        assertThat(first, containsString("body didn't match"));
+    }
+
+    @Test
+    public void shouldDescribeExpectationCapturedWhenAdded() {
+        // given
+        AbstractHttpRequestMatcher httpRequestMatcher = httpRequestMatcher("originalId", "");
+        Expectation originalExpectation = httpRequestMatcher.getExpectation();
+        AbstractHttpRequestMatcher originalMatcher = httpRequestMatcher("originalId", "body didn't match");
+        MatchFailureSummary matchFailureSummary = new MatchFailureSummary(request, 5, expectation -> expectation == originalExpectation ? originalMatcher : httpRequestMatcher)
+            .add(httpRequestMatcher, context(METHOD, PATH));
+
+        // when
+        when(httpRequestMatcher.getExpectation()).thenReturn(new Expectation(request()).withId("updatedId"));
+        String summary = matchFailureSummary.toString();
+
+        // then
+        assertThat(matchFailureSummary.getClosestExpectations(), contains(originalExpectation));
+        assertThat(summary, containsString("originalId"));
+        assertThat(summary, containsString("body didn't match"));
+        assertThat(summary, not(containsString("updatedId")));
+        verify(httpRequestMatcher, never()).didNotMatchBecause(any(HttpRequest.class));
+    }
+}
@@ -3,6 +3,12 @@ package org.mockserver.matchers;
 import org.junit.Test;
 import org.mockserver.logging.MockServerLogger;
 import com.google.common.collect.ImmutableMap;
+import org.mockserver.model.ParsedBody;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockserver.model.HttpRequest.request;
 
 import static junit.framework.TestCase.*;
 import static org.mockserver.matchers.NotMatcher.notMatcher;
@@ -113,4 +119,38 @@ public class XPathMatcherTest {
         assertTrue(new XPathMatcher(new MockServerLogger(),"//bar:content", ImmutableMap.of("bar","http://bar.example.com")).matches(null, matched));      
     }
 
+    @Test
+    public void shouldMatchUsingDocumentSharedByXPathMatchers() {
+        // given
+        String matched = "" +
+            "<foo:root xmlns:foo='http://foo.example.com' xmlns:bar='http://bar.example.com'>" +
+            "   <bar:content>some_key</bar:content>" +
+            "</foo:root>";
+        ParsedBody parsedBody = request().withBody(matched).getParsedBody();
+
+        // then
+        assertTrue(new XPathMatcher(new MockServerLogger(), "//*[local-name()='content']").matches(null, matched, parsedBody));
+        assertFalse(new XPathMatcher(new MockServerLogger(), "//*[local-name()='content' and namespace-uri()='http://bar.example.com']").matches(null, matched, parsedBody));
+        assertTrue(new XPathMatcher(new MockServerLogger(), "//bar:content", ImmutableMap.of("bar", "http://bar.example.com")).matches(null, matched, parsedBody));
+        assertFalse(new XPathMatcher(new MockServerLogger(), "//*[local-name()='content' and namespace-uri()='http://bar.example.com']").matches(null, matched, parsedBody));
+    }
+
+    @Test
+    public void shouldReportParseErrorsToEveryMatcherUsingSharedDocument() {
+        // given
+        String matched = "<element><key>some_key</key>";
+        ParsedBody parsedBody = request().withBody(matched).getParsedBody();
+
+        for (int i = 0; i < 2; i++) {
+            // when
+            MatchDifference context = new MatchDifference(true, request().withBody(matched)).currentField(MatchDifference.Field.BODY);
+            boolean result = new XPathMatcher(new MockServerLogger(), "/element/key").matches(context, matched, parsedBody);
+
+            // then
+            assertFalse(result);
+            assertThat(context.getDifferences(MatchDifference.Field.BODY), hasSize(2));
+            assertThat(context.getDifferences(MatchDifference.Field.BODY).get(0), containsString("failed because fatal error"));
+        }
+    }
+
 }
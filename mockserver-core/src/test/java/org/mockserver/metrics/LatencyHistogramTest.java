@@ -0,0 +1,48 @@
+package org.mockserver.metrics;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void shouldRecordIntoCumulativeBuckets() {
+        // given
+        LatencyHistogram latencyHistogram = new LatencyHistogram();
+
+        // when
+        latencyHistogram.record(TimeUnit.MICROSECONDS.toNanos(50));
+        latencyHistogram.record(TimeUnit.MICROSECONDS.toNanos(100));
+        latencyHistogram.record(TimeUnit.MILLISECONDS.toNanos(7));
+        latencyHistogram.record(TimeUnit.SECONDS.toNanos(30));
+
+        // then
+        long[] cumulativeCounts = latencyHistogram.cumulativeCounts();
+        assertThat(cumulativeCounts.length, is(LatencyHistogram.BUCKET_UPPER_BOUNDS_IN_NANOS.length + 1));
+        assertThat(cumulativeCounts[0], is(2L));
+        assertThat(cumulativeCounts[5], is(2L));
+        assertThat(cumulativeCounts[6], is(3L));
+        assertThat(cumulativeCounts[cumulativeCounts.length - 2], is(3L));
+        assertThat(cumulativeCounts[cumulativeCounts.length - 1], is(4L));
+        assertThat(latencyHistogram.getCount(), is(4L));
+        assertThat(latencyHistogram.getSumInNanos(), is(TimeUnit.MICROSECONDS.toNanos(150) + TimeUnit.MILLISECONDS.toNanos(7) + TimeUnit.SECONDS.toNanos(30)));
+    }
+
+    @Test
+    public void shouldReset() {
+        // given
+        LatencyHistogram latencyHistogram = new LatencyHistogram();
+        latencyHistogram.record(TimeUnit.MILLISECONDS.toNanos(1));
+
+        // when
+        latencyHistogram.reset();
+
+        // then
+        assertThat(latencyHistogram.getCount(), is(0L));
+        assertThat(latencyHistogram.getSumInNanos(), is(0L));
+    }
+}
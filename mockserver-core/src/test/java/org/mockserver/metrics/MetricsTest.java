@@ -0,0 +1,133 @@
+package org.mockserver.metrics;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockserver.cache.LRUCache;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.model.Action;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockserver.configuration.Configuration.configuration;
+import static org.mockserver.metrics.Metrics.Name.*;
+import static org.mockserver.metrics.Metrics.Timer.EXPECTATION_MATCHING;
+import static org.mockserver.metrics.Metrics.Timer.FORWARD_ROUND_TRIP;
+
+public class MetricsTest {
+
+    @Before
+    @After
+    public void clearMetrics() {
+        Metrics.clear();
+    }
+
+    @Test
+    public void shouldIncrementAndDecrementCounters() {
+        // given
+        Metrics metrics = new Metrics(configuration().metricsEnabled(true));
+
+        // when
+        metrics.increment(EXPECTATION_NOT_MATCHED_COUNT);
+        metrics.increment(EXPECTATION_NOT_MATCHED_COUNT);
+        metrics.increment(Action.Type.FORWARD_REPLACE);
+        metrics.increment(Action.Type.ERROR);
+        metrics.decrement(Action.Type.ERROR);
+        metrics.set(WEBSOCKET_CALLBACK_CLIENT_COUNT, 5);
+
+        // then
+        assertThat(Metrics.get(EXPECTATION_NOT_MATCHED_COUNT), is(2));
+        assertThat(Metrics.get(ACTION_FORWARD_REPLACE_COUNT), is(1));
+        assertThat(Metrics.get(ACTION_ERROR_COUNT), is(0));
+        assertThat(Metrics.get(WEBSOCKET_CALLBACK_CLIENT_COUNT), is(5));
+    }
+
+    @Test
+    public void shouldNotRecordWhenMetricsDisabled() {
+        // given
+        Metrics metrics = new Metrics(configuration().metricsEnabled(false));
+
+        // when
+        metrics.increment(EXPECTATION_NOT_MATCHED_COUNT);
+        metrics.increment(Action.Type.RESPONSE);
+        metrics.record(EXPECTATION_MATCHING, metrics.startTimer());
+
+        // then
+        assertThat(Metrics.get(EXPECTATION_NOT_MATCHED_COUNT), is(0));
+        assertThat(Metrics.get(ACTION_RESPONSE_COUNT), is(0));
+        assertThat(Metrics.get(EXPECTATION_MATCHING).getCount(), is(0L));
+    }
+
+    @Test
+    public void shouldClearActionAndWebSocketMetrics() {
+        // given
+        Metrics metrics = new Metrics(configuration().metricsEnabled(true));
+        metrics.increment(Action.Type.RESPONSE);
+        metrics.increment(RESPONSE_EXPECTATION_MATCHED_COUNT);
+        metrics.set(WEBSOCKET_CALLBACK_FORWARD_HANDLER_COUNT, 3);
+
+        // when
+        Metrics.clearActionMetrics();
+        Metrics.clearWebSocketMetrics();
+
+        // then
+        assertThat(Metrics.get(ACTION_RESPONSE_COUNT), is(0));
+        assertThat(Metrics.get(WEBSOCKET_CALLBACK_FORWARD_HANDLER_COUNT), is(0));
+        assertThat(Metrics.get(RESPONSE_EXPECTATION_MATCHED_COUNT), is(1));
+    }
+
+    @Test
+    public void shouldRecordTimers() {
+        // given
+        Metrics metrics = new Metrics(configuration().metricsEnabled(true));
+
+        // when
+        metrics.record(EXPECTATION_MATCHING, metrics.startTimer());
+        metrics.record(EXPECTATION_MATCHING, metrics.startTimer());
+
+        // then
+        assertThat(Metrics.get(EXPECTATION_MATCHING).getCount(), is(2L));
+        assertThat(Metrics.get(FORWARD_ROUND_TRIP).getCount(), is(0L));
+    }
+
+    @Test
+    public void shouldSerialiseToPrometheusTextFormat() {
+        // given
+        Metrics metrics = new Metrics(configuration().metricsEnabled(true));
+        metrics.increment(FORWARD_EXPECTATION_MATCHED_COUNT);
+        metrics.increment(Action.Type.RESPONSE_TEMPLATE);
+        Metrics.get(FORWARD_ROUND_TRIP).record(3_000_000L);
+
+        // when
+        String prometheusText = Metrics.toPrometheusTextFormat();
+
+        // then
+        assertThat(prometheusText, containsString("# TYPE mockserver_forward_expectation_matched_total counter\nmockserver_forward_expectation_matched_total 1\n"));
+        assertThat(prometheusText, containsString("# TYPE mockserver_action_response_template_count gauge\nmockserver_action_response_template_count 1\n"));
+        assertThat(prometheusText, containsString("# TYPE mockserver_forward_round_trip_seconds histogram\n"));
+        assertThat(prometheusText, containsString("mockserver_forward_round_trip_seconds_bucket{le=\"0.0025\"} 0\n"));
+        assertThat(prometheusText, containsString("mockserver_forward_round_trip_seconds_bucket{le=\"0.005\"} 1\n"));
+        assertThat(prometheusText, containsString("mockserver_forward_round_trip_seconds_bucket{le=\"+Inf\"} 1\n"));
+        assertThat(prometheusText, containsString("mockserver_forward_round_trip_seconds_sum 0.003\n"));
+        assertThat(prometheusText, containsString("mockserver_forward_round_trip_seconds_count 1\n"));
+    }
+
+    @Test
+    public void shouldSerialiseCacheStatisticsToPrometheusTextFormat() {
+        // given
+        LRUCache<String, String> lruCache = new LRUCache<>(new MockServerLogger(), "metricsTest", 5, 60_000L);
+        LRUCache.clearAllStatistics();
+        lruCache.put("one", "a");
+        lruCache.get("one");
+        lruCache.get("two");
+
+        // when
+        String prometheusText = Metrics.toPrometheusTextFormat();
+
+        // then
+        assertThat(prometheusText, containsString("# TYPE mockserver_cache_hits_total counter\n"));
+        assertThat(prometheusText, containsString("mockserver_cache_hits_total{cache=\"metricsTest\"} 1\n"));
+        assertThat(prometheusText, containsString("mockserver_cache_misses_total{cache=\"metricsTest\"} 1\n"));
+        assertThat(prometheusText, containsString("mockserver_cache_evictions_total{cache=\"metricsTest\"} 0\n"));
+    }
+}
@@ -0,0 +1,130 @@
+package org.mockserver.mock;
+
+import org.junit.Test;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.matchers.HttpRequestMatcher;
+import org.mockserver.matchers.MatcherBuilder;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.model.Not;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockserver.configuration.Configuration.configuration;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.NottableString.not;
+import static org.mockserver.model.OpenAPIDefinition.openAPI;
+
+public class HttpRequestMatcherIndexTest {
+
+    private final MatcherBuilder matcherBuilder = new MatcherBuilder(configuration(), new MockServerLogger());
+
+    private HttpRequestMatcher add(HttpRequestMatcherIndex httpRequestMatcherIndex, Expectation expectation) {
+        HttpRequestMatcher httpRequestMatcher = matcherBuilder.transformsToMatcher(expectation);
+        httpRequestMatcherIndex.add(expectation.getId(), httpRequestMatcher);
+        return httpRequestMatcher;
+    }
+
+    @Test
+    public void shouldCalculateLiteralPathPrefix() {
+        assertThat(HttpRequestMatcherIndex.literalPathPrefix("/some/path/.*"), is("/some/path/"));
+        assertThat(HttpRequestMatcherIndex.literalPathPrefix("/some/path.*"), is("/some/"));
+        assertThat(HttpRequestMatcherIndex.literalPathPrefix("/some/path/\\d+"), is("/some/path/"));
+        assertThat(HttpRequestMatcherIndex.literalPathPrefix("/some/path/{id}"), is("/some/path/"));
+        assertThat(HttpRequestMatcherIndex.literalPathPrefix("/some/path/?"), is("/some/"));
+        assertThat(HttpRequestMatcherIndex.literalPathPrefix("/some/path/*"), is("/some/"));
+        assertThat(HttpRequestMatcherIndex.literalPathPrefix("/some/path/{2}"), is("/some/"));
+        assertThat(HttpRequestMatcherIndex.literalPathPrefix("/some/path|/other/path"), is(""));
+        assertThat(HttpRequestMatcherIndex.literalPathPrefix("(?i)/some/path"), is(""));
+        assertThat(HttpRequestMatcherIndex.literalPathPrefix("[a-z]*"), is(""));
+        assertThat(HttpRequestMatcherIndex.literalPathPrefix("/some/pÄth/.*"), is("/some/"));
+    }
+
+    @Test
+    public void shouldReturnMatchersForExactMethodAndPath() {
+        // given
+        HttpRequestMatcherIndex httpRequestMatcherIndex = new HttpRequestMatcherIndex();
+        HttpRequestMatcher matcherOne = add(httpRequestMatcherIndex, new Expectation(request().withMethod("GET").withPath("/some/path")));
+        HttpRequestMatcher matcherTwo = add(httpRequestMatcherIndex, new Expectation(request().withMethod("POST").withPath("/some/path")));
+        HttpRequestMatcher matcherThree = add(httpRequestMatcherIndex, new Expectation(request().withMethod("GET").withPath("/some/other/path")));
+
+        // then
+        assertThat(httpRequestMatcherIndex.candidates(request().withMethod("GET").withPath("/some/path")), contains(matcherOne));
+        assertThat(httpRequestMatcherIndex.candidates(request().withMethod("post").withPath("/SOME/PATH")), contains(matcherTwo));
+        assertThat(httpRequestMatcherIndex.candidates(request().withMethod("GET").withPath("/some/other/path")), contains(matcherThree));
+        assertThat(httpRequestMatcherIndex.candidates(request().withMethod("PUT").withPath("/some/path")), is(empty()));
+        assertThat(httpRequestMatcherIndex.candidates(request().withMethod("GET").withPath("/some/path/more")), is(empty()));
+    }
+
+    @Test
+    public void shouldReturnMatchersForPathPrefix() {
+        // given
+        HttpRequestMatcherIndex httpRequestMatcherIndex = new HttpRequestMatcherIndex();
+        HttpRequestMatcher matcherOne = add(httpRequestMatcherIndex, new Expectation(request().withMethod("GET").withPath("/some/path/.*")));
+        HttpRequestMatcher matcherTwo = add(httpRequestMatcherIndex, new Expectation(request().withPath("/some/.*")));
+        HttpRequestMatcher matcherThree = add(httpRequestMatcherIndex, new Expectation(request().withMethod("GET").withPath("/other/.*")));
+
+        // then
+        assertThat(httpRequestMatcherIndex.candidates(request().withMethod("GET").withPath("/some/path/one")), containsInAnyOrder(matcherOne, matcherTwo));
+        assertThat(httpRequestMatcherIndex.candidates(request().withMethod("DELETE").withPath("/some/path/one")), contains(matcherTwo));
+        assertThat(httpRequestMatcherIndex.candidates(request().withMethod("GET").withPath("/other/path")), contains(matcherThree));
+        assertThat(httpRequestMatcherIndex.candidates(request().withMethod("GET").withPath("/unknown")), is(empty()));
+    }
+
+    @Test
+    public void shouldReturnUnindexableMatchersForEveryRequest() {
+        // given
+        HttpRequestMatcherIndex httpRequestMatcherIndex = new HttpRequestMatcherIndex();
+        HttpRequestMatcher regexMethod = add(httpRequestMatcherIndex, new Expectation(request().withMethod("GET|POST").withPath("/some/path")));
+        HttpRequestMatcher nottedPath = add(httpRequestMatcherIndex, new Expectation(request().withMethod("GET").withPath(not("/some/path"))));
+        HttpRequestMatcher nottedRequest = add(httpRequestMatcherIndex, new Expectation(Not.not(request().withMethod("GET").withPath("/some/path"))));
+        HttpRequestMatcher openAPI = add(httpRequestMatcherIndex, new Expectation(openAPI().withSpecUrlOrPayload("org/mockserver/openapi/openapi_petstore_example.json")));
+        HttpRequestMatcher noPath = add(httpRequestMatcherIndex, new Expectation(request()));
+
+        // then
+        List<HttpRequestMatcher> candidates = httpRequestMatcherIndex.candidates(request().withMethod("PUT").withPath("/unknown"));
+        assertThat(candidates, containsInAnyOrder(nottedRequest, openAPI, noPath));
+        candidates = httpRequestMatcherIndex.candidates(request().withMethod("GET").withPath("/some/path"));
+        assertThat(candidates, containsInAnyOrder(regexMethod, nottedPath, nottedRequest, openAPI, noPath));
+    }
+
+    @Test
+    public void shouldNotNarrowCandidatesForUnindexableRequests() {
+        // given
+        HttpRequestMatcherIndex httpRequestMatcherIndex = new HttpRequestMatcherIndex();
+        add(httpRequestMatcherIndex, new Expectation(request().withMethod("GET").withPath("/some/path")));
+
+        // then
+        assertThat(httpRequestMatcherIndex.candidates(request().withPath("/some/path")), nullValue());
+        assertThat(httpRequestMatcherIndex.candidates(request().withMethod("GET")), nullValue());
+        assertThat(httpRequestMatcherIndex.candidates(request().withMethod("GET").withPath("/some/Key")), nullValue());
+        assertThat(httpRequestMatcherIndex.candidates(request().withMethod("GET").withPath(not("/some/path"))), nullValue());
+        assertThat(httpRequestMatcherIndex.candidates((HttpRequest) null), nullValue());
+    }
+
+    @Test
+    public void shouldUpdateAndRemoveMatchers() {
+        // given
+        HttpRequestMatcherIndex httpRequestMatcherIndex = new HttpRequestMatcherIndex();
+        Expectation expectation = new Expectation(request().withMethod("GET").withPath("/some/path"));
+        HttpRequestMatcher httpRequestMatcher = add(httpRequestMatcherIndex, expectation);
+
+        // when
+        Expectation updatedExpectation = new Expectation(request().withMethod("GET").withPath("/updated/path")).withId(expectation.getId());
+        httpRequestMatcher.update(updatedExpectation);
+        httpRequestMatcherIndex.add(updatedExpectation.getId(), httpRequestMatcher);
+
+        // then
+        assertThat(httpRequestMatcherIndex.size(), is(1));
+        assertThat(httpRequestMatcherIndex.candidates(request().withMethod("GET").withPath("/some/path")), is(empty()));
+        assertThat(httpRequestMatcherIndex.candidates(request().withMethod("GET").withPath("/updated/path")), contains(httpRequestMatcher));
+
+        // when
+        httpRequestMatcherIndex.remove(updatedExpectation.getId());
+
+        // then
+        assertThat(httpRequestMatcherIndex.size(), is(0));
+        assertThat(httpRequestMatcherIndex.candidates(request().withMethod("GET").withPath("/updated/path")), is(empty()));
+    }
+}
@@ -28,6 +28,7 @@ import org.mockserver.serialization.*;
 import org.mockserver.serialization.java.ExpectationToJavaSerializer;
 import org.mockserver.verify.Verification;
 import org.mockserver.verify.VerificationSequence;
+import org.mockserver.verify.VerificationTimes;
 import org.slf4j.event.Level;
 
 import java.net.URL;
@@ -36,6 +37,8 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.concurrent.TimeUnit.SECONDS;
@@ -61,6 +64,7 @@ import static org.mockserver.model.HttpRequest.request;
 import static org.mockserver.model.HttpResponse.notFoundResponse;
 import static org.mockserver.model.HttpResponse.response;
 import static org.mockserver.model.JsonBody.json;
+import static org.mockserver.model.OpenAPIDefinition.openAPI;
 import static org.mockserver.model.PortBinding.portBinding;
 import static org.mockserver.model.RetrieveType.REQUEST_RESPONSES;
 import static org.slf4j.event.Level.INFO;
@@ -98,7 +102,8 @@ public class HttpStateTest {
     }
 
     private static class FakeResponseWriter extends ResponseWriter {
-        public HttpResponse response;
+        private final CountDownLatch responseWritten = new CountDownLatch(1);
+        public volatile HttpResponse response;
 
         protected FakeResponseWriter() {
             super(configuration(), new MockServerLogger());
@@ -107,6 +112,19 @@ public class HttpStateTest {
         @Override
         public void sendResponse(HttpRequest request, HttpResponse response) {
             this.response = response;
+            responseWritten.countDown();
+        }
+
+        /**
+         * waits for responses written asynchronously by the event log thread
+         */
+        public HttpResponse response() {
+            try {
+                responseWritten.await(10, SECONDS);
+            } catch (InterruptedException ignore) {
+                // ignore
+            }
+            return response;
         }
     }
 
@@ -130,12 +148,105 @@ public class HttpStateTest {
 
         // then
         assertThat(handle, is(true));
+        assertThat(responseWriter.response().getStatusCode(), is(200));
+        assertThat(responseWriter.response().getBodyAsString(), is(requestDefinitionSerializer.serialize(true, Collections.singletonList(
+            request("request_one")
+        ))));
+    }
+
+    @Test
+    public void shouldWriteRetrieveResponseBeforeReturningForWarDeployment() {
+        // given
+        httpState.log(
+            new LogEntry()
+                .setHttpRequest(request("request_one"))
+                .setType(RECEIVED_REQUEST)
+        );
+        FakeResponseWriter responseWriter = new FakeResponseWriter();
+
+        // when
+        HttpRequest expectationRetrieveRequestsRequest = request("/mockserver/retrieve")
+            .withMethod("PUT")
+            .withBody(
+                requestDefinitionSerializer.serialize(request("request_one"))
+            );
+        boolean handle = httpState.handle(expectationRetrieveRequestsRequest, responseWriter, true);
+
+        // then - response field read without waiting
+        assertThat(handle, is(true));
         assertThat(responseWriter.response.getStatusCode(), is(200));
         assertThat(responseWriter.response.getBodyAsString(), is(requestDefinitionSerializer.serialize(true, Collections.singletonList(
             request("request_one")
         ))));
     }
 
+    @Test
+    public void shouldRetrieveRequestsAsynchronously() throws Exception {
+        // given
+        httpState.log(
+            new LogEntry()
+                .setHttpRequest(request("request_one"))
+                .setType(RECEIVED_REQUEST)
+        );
+
+        // when
+        CompletableFuture<HttpResponse> responseFuture = httpState.retrieveAsync(request("/mockserver/retrieve")
+            .withMethod("PUT")
+            .withBody(
+                requestDefinitionSerializer.serialize(request("request_one"))
+            ));
+
+        // then
+        HttpResponse response = responseFuture.get(10, SECONDS);
+        assertThat(response.getStatusCode(), is(200));
+        assertThat(response.getBodyAsString(), is(requestDefinitionSerializer.serialize(true, Collections.singletonList(
+            request("request_one")
+        ))));
+    }
+
+    @Test
+    public void shouldWriteErrorResponseWhenRetrieveFails() {
+        // given - request matcher can't be built for invalid open api spec
+        httpState.log(
+            new LogEntry()
+                .setHttpRequest(request("request_one"))
+                .setType(RECEIVED_REQUEST)
+        );
+        FakeResponseWriter responseWriter = new FakeResponseWriter();
+
+        // when
+        HttpRequest retrieveRequest = request("/mockserver/retrieve")
+            .withMethod("PUT")
+            .withBody(
+                requestDefinitionSerializer.serialize(openAPI("\"openapi\": \"3.0.0\"," + NEW_LINE + "  \"info\": {"))
+            );
+        boolean handle = httpState.handle(retrieveRequest, responseWriter, false);
+
+        // then
+        assertThat(handle, is(true));
+        assertThat(responseWriter.response().getStatusCode(), is(400));
+        assertThat(responseWriter.response().getBodyAsString(), startsWith("Unable to load API spec"));
+    }
+
+    @Test
+    public void shouldCompleteRetrieveExceptionallyWhenRetrieveFails() throws Exception {
+        // when
+        CompletableFuture<HttpResponse> responseFuture = httpState.retrieveAsync(request("/mockserver/retrieve")
+            .withMethod("PUT")
+            .withBody(
+                requestDefinitionSerializer.serialize(openAPI("\"openapi\": \"3.0.0\"," + NEW_LINE + "  \"info\": {"))
+            ));
+
+        // then
+        try {
+            responseFuture.get(10, SECONDS);
+            fail("expected exception to be thrown");
+        } catch (ExecutionException executionException) {
+            assertThat(executionException.getCause(), instanceOf(IllegalArgumentException.class));
+            assertThat(executionException.getCause().getMessage(), startsWith("Unable to load API spec"));
+        }
+    }
+
     @Test
     public void shouldHandleClearRequest() {
         // given
@@ -157,8 +268,8 @@ public class HttpStateTest {
 
         // then
         assertThat(handle, is(true));
-        assertThat(responseWriter.response.getStatusCode(), is(200));
-        assertThat(responseWriter.response.getBodyAsString(), is(""));
+        assertThat(responseWriter.response().getStatusCode(), is(200));
+        assertThat(responseWriter.response().getBodyAsString(), is(""));
         assertThat(httpState.firstMatchingExpectation(request("request_one")), is(nullValue()));
         assertThat(httpState.retrieve(request("/mockserver/retrieve")
             .withMethod("PUT")
@@ -214,6 +325,40 @@ public class HttpStateTest {
         assertThat(responseWriter.response, is(nullValue()));
     }
 
+    @Test
+    public void shouldHandleMetricsRequestWhenMetricsEnabled() {
+        // given
+        httpState = new HttpState(configuration().metricsEnabled(true), new MockServerLogger(), mock(Scheduler.class));
+        HttpRequest metricsRequest = request("/mockserver/metrics")
+            .withMethod("GET");
+        FakeResponseWriter responseWriter = new FakeResponseWriter();
+
+        // when
+        boolean handle = httpState.handle(metricsRequest, responseWriter, false);
+
+        // then
+        assertThat(handle, is(true));
+        assertThat(responseWriter.response().getStatusCode(), is(200));
+        assertThat(responseWriter.response().getFirstHeader("content-type"), is("text/plain; version=0.0.4; charset=utf-8"));
+        assertThat(responseWriter.response().getBodyAsString(), containsString("# TYPE mockserver_expectation_not_matched_total counter"));
+        assertThat(responseWriter.response().getBodyAsString(), containsString("# TYPE mockserver_expectation_matching_seconds histogram"));
+    }
+
+    @Test
+    public void shouldNotHandleMetricsRequestWhenMetricsDisabled() {
+        // given
+        HttpRequest metricsRequest = request("/mockserver/metrics")
+            .withMethod("GET");
+        FakeResponseWriter responseWriter = new FakeResponseWriter();
+
+        // when
+        boolean handle = httpState.handle(metricsRequest, responseWriter, false);
+
+        // then
+        assertThat(handle, is(false));
+        assertThat(responseWriter.response, is(nullValue()));
+    }
+
     @Test
     public void shouldHandleRetrieveRecordedExpectationsRequest() {
         // given
@@ -237,8 +382,8 @@ public class HttpStateTest {
 
         // then
         assertThat(handle, is(true));
-        assertThat(responseWriter.response.getStatusCode(), is(200));
-        assertThat(responseWriter.response.getBodyAsString(), is(expectationSerializerWithDefaultFields.serialize(Collections.singletonList(
+        assertThat(responseWriter.response().getStatusCode(), is(200));
+        assertThat(responseWriter.response().getBodyAsString(), is(expectationSerializerWithDefaultFields.serialize(Collections.singletonList(
             new Expectation(request("request_one"), Times.once(), TimeToLive.unlimited(), 0).withId("key_one").thenRespond(response("response_one"))
         ))));
     }
@@ -263,9 +408,9 @@ public class HttpStateTest {
 
             // then
             assertThat(handle, is(true));
-            assertThat(responseWriter.response.getStatusCode(), is(200));
+            assertThat(responseWriter.response().getStatusCode(), is(200));
             assertThat(
-                responseWriter.response.getBodyAsString(),
+                responseWriter.response().getBodyAsString(),
                 is(endsWith(LOG_DATE_FORMAT.format(new Date(EpochService.currentTimeMillis())) + " - creating expectation:" + NEW_LINE +
                     NEW_LINE +
                     "  {" + NEW_LINE +
@@ -311,8 +456,8 @@ public class HttpStateTest {
 
         // then
         assertThat(handle, is(true));
-        assertThat(responseWriter.response.getStatusCode(), is(201));
-        assertThat(responseWriter.response.getBodyAsString(), CoreMatchers.containsString("[ {" + NEW_LINE +
+        assertThat(responseWriter.response().getStatusCode(), is(201));
+        assertThat(responseWriter.response().getBodyAsString(), CoreMatchers.containsString("[ {" + NEW_LINE +
             "  \"httpRequest\" : {" + NEW_LINE +
             "    \"path\" : \"request_one\"" + NEW_LINE +
             "  }," + NEW_LINE +
@@ -322,7 +467,7 @@ public class HttpStateTest {
             "    \"body\" : \"response_one\"" + NEW_LINE +
             "  }," + NEW_LINE +
             "  \"id\" : \""));
-        assertThat(responseWriter.response.getBodyAsString(), CoreMatchers.containsString("\"," + NEW_LINE +
+        assertThat(responseWriter.response().getBodyAsString(), CoreMatchers.containsString("\"," + NEW_LINE +
             "  \"priority\" : 0," + NEW_LINE +
             "  \"timeToLive\" : {" + NEW_LINE +
             "    \"unlimited\" : true" + NEW_LINE +
@@ -349,8 +494,8 @@ public class HttpStateTest {
 
         // then
         assertThat(handle, is(true));
-        assertThat(responseWriter.response.getStatusCode(), is(201));
-        List<Expectation> actualExpectations = Arrays.asList(expectationSerializer.deserializeArray(responseWriter.response.getBodyAsString(), true));
+        assertThat(responseWriter.response().getStatusCode(), is(201));
+        List<Expectation> actualExpectations = Arrays.asList(expectationSerializer.deserializeArray(responseWriter.response().getBodyAsString(), true));
         shouldBuildPetStoreExpectations(ObjectMapperFactory.createObjectMapper().readTree(FileReader.readFileFromClassPathOrPath("org/mockserver/openapi/openapi_petstore_example.json")).toPrettyString(), actualExpectations);
     }
 
@@ -373,8 +518,8 @@ public class HttpStateTest {
 
         // then
         assertThat(handle, is(true));
-        assertThat(responseWriter.response.getStatusCode(), is(201));
-        List<Expectation> actualExpectations = Arrays.asList(expectationSerializer.deserializeArray(responseWriter.response.getBodyAsString(), true));
+        assertThat(responseWriter.response().getStatusCode(), is(201));
+        List<Expectation> actualExpectations = Arrays.asList(expectationSerializer.deserializeArray(responseWriter.response().getBodyAsString(), true));
         shouldBuildPetStoreExpectationsWithSpecificResponses(ObjectMapperFactory.createObjectMapper().readTree(FileReader.readFileFromClassPathOrPath("org/mockserver/openapi/openapi_petstore_example.json")).toPrettyString(), actualExpectations);
     }
 
@@ -396,8 +541,8 @@ public class HttpStateTest {
 
         // then
         assertThat(handle, is(true));
-        assertThat(responseWriter.response.getStatusCode(), is(400));
-        assertThat(responseWriter.response.getBodyAsString(), is("Unable to load API spec, while parsing a block mapping" + NEW_LINE +
+        assertThat(responseWriter.response().getStatusCode(), is(400));
+        assertThat(responseWriter.response().getBodyAsString(), is("Unable to load API spec, while parsing a block mapping" + NEW_LINE +
             " in 'reader', line 1, column 1:" + NEW_LINE +
             "    \"openapi\": \"3.0.0\"," + NEW_LINE +
             "    ^" + NEW_LINE +
@@ -422,8 +567,8 @@ public class HttpStateTest {
 
         // then
         assertThat(handle, is(true));
-        assertThat(responseWriter.response.getStatusCode(), is(201));
-        List<Expectation> actualExpectations = Arrays.asList(expectationSerializer.deserializeArray(responseWriter.response.getBodyAsString(), true));
+        assertThat(responseWriter.response().getStatusCode(), is(201));
+        List<Expectation> actualExpectations = Arrays.asList(expectationSerializer.deserializeArray(responseWriter.response().getBodyAsString(), true));
         shouldBuildPetStoreExpectations(FileReader.readFileFromClassPathOrPath("org/mockserver/openapi/openapi_petstore_example.yaml"), actualExpectations);
     }
 
@@ -446,8 +591,8 @@ public class HttpStateTest {
 
         // then
         assertThat(handle, is(true));
-        assertThat(responseWriter.response.getStatusCode(), is(201));
-        List<Expectation> actualExpectations = Arrays.asList(expectationSerializer.deserializeArray(responseWriter.response.getBodyAsString(), true));
+        assertThat(responseWriter.response().getStatusCode(), is(201));
+        List<Expectation> actualExpectations = Arrays.asList(expectationSerializer.deserializeArray(responseWriter.response().getBodyAsString(), true));
         shouldBuildPetStoreExpectationsWithSpecificResponses(FileReader.readFileFromClassPathOrPath("org/mockserver/openapi/openapi_petstore_example.yaml"), actualExpectations);
     }
 
@@ -466,8 +611,8 @@ public class HttpStateTest {
 
         // then
         assertThat(handle, is(true));
-        assertThat(responseWriter.response.getStatusCode(), is(400));
-        assertThat(responseWriter.response.getBodyAsString(), is("Unable to load API spec, while scanning a simple key" + NEW_LINE +
+        assertThat(responseWriter.response().getStatusCode(), is(400));
+        assertThat(responseWriter.response().getBodyAsString(), is("Unable to load API spec, while scanning a simple key" + NEW_LINE +
             " in 'reader', line 8, column 1:" + NEW_LINE +
             "    servers" + NEW_LINE +
             "    ^" + NEW_LINE +
@@ -495,8 +640,8 @@ public class HttpStateTest {
 
         // then
         assertThat(handle, is(true));
-        assertThat(responseWriter.response.getStatusCode(), is(200));
-        assertThat(responseWriter.response.getBodyAsString(), is(expectationSerializer.serialize(Collections.singletonList(
+        assertThat(responseWriter.response().getStatusCode(), is(200));
+        assertThat(responseWriter.response().getBodyAsString(), is(expectationSerializer.serialize(Collections.singletonList(
             expectationOne
         ))));
     }
@@ -535,8 +680,8 @@ public class HttpStateTest {
 
         // then
         assertThat(handle, is(true));
-        assertThat(responseWriter.response.getStatusCode(), is(202));
-        assertThat(responseWriter.response.getBodyAsString(), is(""));
+        assertThat(responseWriter.response().getStatusCode(), is(202));
+        assertThat(responseWriter.response().getBodyAsString(), is(""));
     }
 
     @Test
@@ -563,14 +708,43 @@ public class HttpStateTest {
 
         // then
         assertThat(handle, is(true));
-        assertThat(responseWriter.response.getStatusCode(), is(406));
-        assertThat(responseWriter.response.getBodyAsString(), is("Request not found at least once, expected:<{" + NEW_LINE +
+        assertThat(responseWriter.response().getStatusCode(), is(406));
+        assertThat(responseWriter.response().getBodyAsString(), is("Request not found at least once, expected:<{" + NEW_LINE +
             "  \"path\" : \"two\"" + NEW_LINE +
             "}> but was:<{" + NEW_LINE +
             "  \"path\" : \"one\"" + NEW_LINE +
             "}>"));
     }
 
+    @Test
+    public void shouldWriteVerifyFailureResponseWhenVerifyFails() {
+        // given
+        httpState.getMockServerLog().add(
+            new LogEntry()
+                .setHttpRequest(request("one"))
+                .setType(RECEIVED_REQUEST)
+        );
+        HttpRequest verifyRequest = request("/mockserver/verify")
+            .withMethod("PUT")
+            .withBody(
+                verificationSerializer.serialize(
+                    new Verification()
+                        .withRequest(request())
+                        .withTimes(VerificationTimes.never())
+                )
+            );
+        FakeResponseWriter responseWriter = new FakeResponseWriter();
+
+        // when
+        boolean handle = httpState.handle(verifyRequest, responseWriter, false);
+
+        // then
+        assertThat(handle, is(true));
+        assertThat(responseWriter.response().getStatusCode(), is(406));
+        assertThat(responseWriter.response().getFirstHeader("content-type"), is("text/plain; charset=utf-8"));
+        assertThat(responseWriter.response().getBodyAsString(), startsWith("Request not found exactly 0 times"));
+    }
+
     @Test
     public void shouldHandleVerifySequenceRequest() {
         // given
@@ -608,8 +782,8 @@ public class HttpStateTest {
 
         // then
         assertThat(handle, is(true));
-        assertThat(responseWriter.response.getStatusCode(), is(202));
-        assertThat(responseWriter.response.getBodyAsString(), is(""));
+        assertThat(responseWriter.response().getStatusCode(), is(202));
+        assertThat(responseWriter.response().getBodyAsString(), is(""));
     }
 
     @Test
@@ -649,8 +823,8 @@ public class HttpStateTest {
 
         // then
         assertThat(handle, is(true));
-        assertThat(responseWriter.response.getStatusCode(), is(406));
-        assertThat(responseWriter.response.getBodyAsString(), is("Request sequence not found, expected:<[ {" + NEW_LINE +
+        assertThat(responseWriter.response().getStatusCode(), is(406));
+        assertThat(responseWriter.response().getBodyAsString(), is("Request sequence not found, expected:<[ {" + NEW_LINE +
             "  \"path\" : \"three\"" + NEW_LINE +
             "}, {" + NEW_LINE +
             "  \"path\" : \"one\"" + NEW_LINE +
@@ -8,6 +8,7 @@ import org.mockserver.model.*;
 import org.mockserver.scheduler.Scheduler;
 
 import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertNotSame;
 import static junit.framework.TestCase.assertNull;
 import static org.mockito.Mockito.mock;
 import static org.mockserver.configuration.Configuration.configuration;
@@ -512,4 +513,18 @@ public class MockServerMatcherBasicResponsesTest {
         // then
         assertEquals(expectation, requestMatchers.firstMatchingExpectation(new HttpRequest().withPath("somePath").withCookies(new Cookie("name", "value"))));
     }
+
+    @Test
+    public void doNotRetainParsedBodyAfterMatching() {
+        // given
+        Expectation expectation = new Expectation(request().withBody(new JsonBody("{ \"id\": 1 }"))).thenRespond(response().withBody("someBody"));
+        requestMatchers.add(expectation, API);
+        HttpRequest httpRequest = new HttpRequest().withBody(new JsonBody("{ \"id\": 1 }"));
+
+        // when
+        assertEquals(expectation, requestMatchers.firstMatchingExpectation(httpRequest));
+
+        // then
+        assertNotSame(httpRequest.getParsedBody(), httpRequest.getParsedBody());
+    }
 }
@@ -0,0 +1,117 @@
+package org.mockserver.mock;
+
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockserver.closurecallback.websocketregistry.WebSocketClientRegistry;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.matchers.TimeToLive;
+import org.mockserver.matchers.Times;
+import org.mockserver.scheduler.Scheduler;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockserver.configuration.Configuration.configuration;
+import static org.mockserver.mock.listeners.MockServerMatcherNotifier.Cause.API;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+public class MockServerMatcherIndexedRequestsTest {
+
+    private RequestMatchers requestMatchers;
+
+    private static final Scheduler scheduler = new Scheduler(configuration(), new MockServerLogger());
+
+    @Before
+    public void prepareTestFixture() {
+        WebSocketClientRegistry webSocketClientRegistry = mock(WebSocketClientRegistry.class);
+        requestMatchers = new RequestMatchers(configuration().expectationIndexEnabled(true), mock(MockServerLogger.class), scheduler, webSocketClientRegistry);
+    }
+
+    @AfterClass
+    public static void stopScheduler() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void shouldMatchExactPrefixAndUnindexedExpectations() {
+        // given
+        Expectation exactPath = new Expectation(request().withMethod("GET").withPath("/some/path")).thenRespond(response().withBody("exact"));
+        Expectation prefixPath = new Expectation(request().withMethod("GET").withPath("/some/other/.*")).thenRespond(response().withBody("prefix"));
+        Expectation regexMethod = new Expectation(request().withMethod("P.*").withPath("/some/path")).thenRespond(response().withBody("regex"));
+        for (int i = 0; i < 100; i++) {
+            requestMatchers.add(new Expectation(request().withMethod("GET").withPath("/some/path/" + i)).thenRespond(response().withBody("" + i)), API);
+        }
+
+        // when
+        requestMatchers.add(exactPath, API);
+        requestMatchers.add(prefixPath, API);
+        requestMatchers.add(regexMethod, API);
+
+        // then
+        assertEquals(exactPath, requestMatchers.firstMatchingExpectation(request().withMethod("GET").withPath("/some/path")));
+        assertEquals(prefixPath, requestMatchers.firstMatchingExpectation(request().withMethod("GET").withPath("/some/other/path")));
+        assertEquals(regexMethod, requestMatchers.firstMatchingExpectation(request().withMethod("PUT").withPath("/some/path")));
+        assertEquals("50", requestMatchers.firstMatchingExpectation(request().withMethod("GET").withPath("/some/path/50")).getHttpResponse().getBodyAsString());
+        assertNull(requestMatchers.firstMatchingExpectation(request().withMethod("GET").withPath("/some/path/100")));
+    }
+
+    @Test
+    public void shouldMatchInPriorityAndCreationOrder() {
+        // given
+        Expectation firstCreated = new Expectation(request().withMethod("GET").withPath("/some/.*")).thenRespond(response().withBody("first"));
+        Expectation secondCreated = new Expectation(request().withMethod("GET").withPath("/some/path")).thenRespond(response().withBody("second"));
+        Expectation highestPriority = new Expectation(request().withPath("/some/path"), Times.unlimited(), TimeToLive.unlimited(), 10).thenRespond(response().withBody("priority"));
+
+        // when
+        requestMatchers.add(firstCreated, API);
+        requestMatchers.add(secondCreated, API);
+
+        // then
+        assertEquals(firstCreated, requestMatchers.firstMatchingExpectation(request().withMethod("GET").withPath("/some/path")));
+
+        // when
+        requestMatchers.add(highestPriority, API);
+
+        // then
+        assertEquals(highestPriority, requestMatchers.firstMatchingExpectation(request().withMethod("GET").withPath("/some/path")));
+    }
+
+    @Test
+    public void shouldMatchUpdatedAndNotRemovedExpectations() {
+        // given
+        Expectation expectation = new Expectation(request().withMethod("GET").withPath("/some/path")).thenRespond(response().withBody("original"));
+        requestMatchers.add(expectation, API);
+
+        // when
+        Expectation updatedExpectation = new Expectation(request().withMethod("GET").withPath("/updated/path")).withId(expectation.getId()).thenRespond(response().withBody("updated"));
+        requestMatchers.add(updatedExpectation, API);
+
+        // then
+        assertNull(requestMatchers.firstMatchingExpectation(request().withMethod("GET").withPath("/some/path")));
+        assertEquals(updatedExpectation, requestMatchers.firstMatchingExpectation(request().withMethod("GET").withPath("/updated/path")));
+
+        // when
+        requestMatchers.clear(request().withPath("/updated/path"));
+
+        // then
+        assertNull(requestMatchers.firstMatchingExpectation(request().withMethod("GET").withPath("/updated/path")));
+        assertEquals(0, requestMatchers.httpRequestMatcherIndex.size());
+    }
+
+    @Test
+    public void shouldRemoveEvictedExpectationsFromIndex() {
+        // given
+        requestMatchers = new RequestMatchers(configuration().expectationIndexEnabled(true).maxExpectations(2), mock(MockServerLogger.class), scheduler, mock(WebSocketClientRegistry.class));
+
+        // when
+        requestMatchers.add(new Expectation(request().withMethod("GET").withPath("/one")).thenRespond(response()), API);
+        requestMatchers.add(new Expectation(request().withMethod("GET").withPath("/two")).thenRespond(response()), API);
+        requestMatchers.add(new Expectation(request().withMethod("GET").withPath("/three")).thenRespond(response()), API);
+
+        // then
+        assertEquals(2, requestMatchers.httpRequestMatcherIndex.size());
+        assertNull(requestMatchers.firstMatchingExpectation(request().withMethod("GET").withPath("/one")));
+    }
+}
@@ -6,10 +6,18 @@ import org.mockserver.closurecallback.websocketregistry.WebSocketClientRegistry;
 import org.mockserver.logging.MockServerLogger;
 import org.mockserver.matchers.TimeToLive;
 import org.mockserver.matchers.Times;
+import org.mockserver.mock.listeners.ExpectationChanges;
+import org.mockserver.mock.listeners.MockServerMatcherListener;
+import org.mockserver.mock.listeners.MockServerMatcherNotifier;
 import org.mockserver.model.HttpRequest;
 import org.mockserver.scheduler.Scheduler;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
@@ -154,4 +162,84 @@ public class MockServerMatcherManageExpectationsTest {
         assertThat(requestMatchers.firstMatchingExpectation(new HttpRequest().withPath("someOtherPath")), nullValue());
         assertThat(requestMatchers.httpRequestMatchers.toSortedList(), empty());
     }
+
+    @Test
+    public void shouldAddBatchOfExpectations() {
+        // given
+        requestMatchers.add(new Expectation(request().withPath("/existing")).withId("existing").thenRespond(response().withBody("existing")), API);
+        List<Expectation> expectations = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            expectations.add(new Expectation(request().withPath("/path_" + i)).withId("key_" + i).thenRespond(response().withBody("body_" + i)));
+        }
+        Expectation updatedExisting = new Expectation(request().withPath("/existing")).withId("existing").thenRespond(response().withBody("updated"));
+        expectations.add(updatedExisting);
+        Expectation updatedInBatch = new Expectation(request().withPath("/path_5")).withId("key_5").thenRespond(response().withBody("updated"));
+        expectations.add(updatedInBatch);
+
+        // when
+        List<Expectation> upsertedExpectations = requestMatchers.add(expectations, API);
+
+        // then
+        assertThat(upsertedExpectations.size(), is(22));
+        assertThat(requestMatchers.httpRequestMatchers.size(), is(21));
+        assertThat(requestMatchers.firstMatchingExpectation(new HttpRequest().withPath("/path_19")), is(expectations.get(19)));
+        assertThat(requestMatchers.firstMatchingExpectation(new HttpRequest().withPath("/existing")), is(updatedExisting));
+        assertThat(requestMatchers.firstMatchingExpectation(new HttpRequest().withPath("/path_5")), is(updatedInBatch));
+    }
+
+    @Test
+    public void shouldNotifyOnceForBatchOfExpectations() {
+        // given
+        List<ExpectationChanges> notifiedChanges = new ArrayList<>();
+        requestMatchers.registerListener(new MockServerMatcherListener() {
+            @Override
+            public void updated(RequestMatchers requestMatchers, MockServerMatcherNotifier.Cause cause) {
+
+            }
+
+            @Override
+            public void changed(RequestMatchers requestMatchers, ExpectationChanges changes) {
+                notifiedChanges.add(changes);
+            }
+        });
+        List<Expectation> expectations = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            expectations.add(new Expectation(request().withPath("/path_" + i)).withId("key_" + i).thenRespond(response().withBody("body_" + i)));
+        }
+
+        // when
+        requestMatchers.add(expectations, API);
+
+        // then
+        assertThat(notifiedChanges.size(), is(1));
+        assertThat(notifiedChanges.get(0).getUpserted().size(), is(20));
+    }
+
+    @Test
+    public void shouldNotMatchPartiallyAddedBatchOfExpectations() throws Exception {
+        // given
+        List<Expectation> expectations = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            expectations.add(new Expectation(request().withPath("/path_" + i)).withId("key_" + i).thenRespond(response().withBody("body_" + i)));
+        }
+        AtomicBoolean batchAdded = new AtomicBoolean(false);
+        AtomicInteger partialBatchesMatched = new AtomicInteger();
+        CompletableFuture<Void> matching = CompletableFuture.runAsync(() -> {
+            while (!batchAdded.get()) {
+                // first expectation in batch matched before last expectation in batch
+                if (requestMatchers.firstMatchingExpectation(new HttpRequest().withPath("/path_0")) != null
+                    && requestMatchers.firstMatchingExpectation(new HttpRequest().withPath("/path_999")) == null) {
+                    partialBatchesMatched.incrementAndGet();
+                }
+            }
+        });
+
+        // when
+        requestMatchers.add(expectations, API);
+        batchAdded.set(true);
+        matching.get(10, SECONDS);
+
+        // then
+        assertThat(partialBatchesMatched.get(), is(0));
+    }
 }
@@ -0,0 +1,126 @@
+package org.mockserver.mock;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockserver.closurecallback.websocketregistry.WebSocketClientRegistry;
+import org.mockserver.log.model.LogEntry;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.matchers.MatchFailureSummary;
+import org.mockserver.scheduler.Scheduler;
+import org.slf4j.event.Level;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
+import static org.mockserver.configuration.Configuration.configuration;
+import static org.mockserver.configuration.ConfigurationProperties.logLevel;
+import static org.mockserver.log.model.LogEntry.LogMessageType.EXPECTATION_NOT_MATCHED;
+import static org.mockserver.mock.listeners.MockServerMatcherNotifier.Cause.API;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+public class MockServerMatcherMatchFailureSummaryTest {
+
+    private static final Scheduler scheduler = new Scheduler(configuration(), new MockServerLogger());
+    private static Level originalLevel;
+
+    @BeforeClass
+    public static void setLogLevel() {
+        originalLevel = logLevel();
+        logLevel("INFO");
+    }
+
+    @AfterClass
+    public static void resetLogLevelAndStopScheduler() {
+        logLevel(originalLevel.name());
+        scheduler.shutdown();
+    }
+
+    private List<LogEntry> notMatchedLogEntries(MockServerLogger mockServerLogger) {
+        ArgumentCaptor<LogEntry> logEntries = ArgumentCaptor.forClass(LogEntry.class);
+        verify(mockServerLogger, atLeast(0)).logEvent(logEntries.capture());
+        return logEntries
+            .getAllValues()
+            .stream()
+            .filter(logEntry -> logEntry.getType() == EXPECTATION_NOT_MATCHED)
+            .collect(Collectors.toList());
+    }
+
+    private RequestMatchers requestMatchers(MockServerLogger mockServerLogger, int matchFailureSummaryCandidates) {
+        RequestMatchers requestMatchers = new RequestMatchers(configuration().matchFailureSummaryCandidates(matchFailureSummaryCandidates), mockServerLogger, scheduler, mock(WebSocketClientRegistry.class));
+        requestMatchers.add(new Expectation(request().withMethod("POST").withPath("/some/path")).withId("method").thenRespond(response()), API);
+        requestMatchers.add(new Expectation(request().withMethod("GET").withPath("/some/other/path")).withId("path").thenRespond(response()), API);
+        requestMatchers.add(new Expectation(request().withMethod("GET").withPath("/some/path").withHeader("name", "value")).withId("headers").thenRespond(response()), API);
+        return requestMatchers;
+    }
+
+    @Test
+    public void shouldLogSingleSummaryWhenNoExpectationMatches() {
+        // given
+        MockServerLogger mockServerLogger = mock(MockServerLogger.class);
+        RequestMatchers requestMatchers = requestMatchers(mockServerLogger, 2);
+
+        // when
+        Expectation expectation = requestMatchers.firstMatchingExpectation(request().withMethod("GET").withPath("/some/path"));
+
+        // then
+        assertThat(expectation, nullValue());
+        List<LogEntry> notMatchedLogEntries = notMatchedLogEntries(mockServerLogger);
+        assertThat(notMatchedLogEntries, hasSize(1));
+        MatchFailureSummary matchFailureSummary = (MatchFailureSummary) notMatchedLogEntries.get(0).getArguments()[1];
+        assertThat(matchFailureSummary.getExpectationsNotMatched(), is(3));
+        assertThat(matchFailureSummary.getClosestExpectations().stream().map(Expectation::getId).collect(Collectors.toList()), contains("headers", "path"));
+        assertThat(notMatchedLogEntries.get(0).getMessage(), containsString("headers didn't match"));
+    }
+
+    @Test
+    public void shouldDescribeExpectationAsMatchedWhenUpdatedAfterwards() {
+        // given
+        MockServerLogger mockServerLogger = mock(MockServerLogger.class);
+        RequestMatchers requestMatchers = requestMatchers(mockServerLogger, 1);
+        requestMatchers.firstMatchingExpectation(request().withMethod("GET").withPath("/some/path"));
+
+        // when
+        requestMatchers.add(new Expectation(request().withMethod("GET").withPath("/some/path").withQueryStringParameter("updatedName", "updatedValue")).withId("headers").thenRespond(response()), API);
+
+        // then
+        List<LogEntry> notMatchedLogEntries = notMatchedLogEntries(mockServerLogger);
+        assertThat(notMatchedLogEntries, hasSize(1));
+        MatchFailureSummary matchFailureSummary = (MatchFailureSummary) notMatchedLogEntries.get(0).getArguments()[1];
+        assertThat(matchFailureSummary.getClosestExpectations().get(0).getHttpRequest().toString(), containsString("\"name\""));
+        assertThat(notMatchedLogEntries.get(0).getMessage(), containsString("headers didn't match"));
+        assertThat(notMatchedLogEntries.get(0).getMessage(), not(containsString("updatedName")));
+    }
+
+    @Test
+    public void shouldNotLogSummaryWhenExpectationMatches() {
+        // given
+        MockServerLogger mockServerLogger = mock(MockServerLogger.class);
+        RequestMatchers requestMatchers = requestMatchers(mockServerLogger, 2);
+
+        // when
+        Expectation expectation = requestMatchers.firstMatchingExpectation(request().withMethod("GET").withPath("/some/path").withHeader("name", "value"));
+
+        // then
+        assertThat(expectation.getId(), is("headers"));
+        assertThat(notMatchedLogEntries(mockServerLogger), empty());
+    }
+
+    @Test
+    public void shouldLogEachExpectationNotMatchedWhenNotSummarised() {
+        // given
+        MockServerLogger mockServerLogger = mock(MockServerLogger.class);
+        RequestMatchers requestMatchers = requestMatchers(mockServerLogger, 0);
+
+        // when
+        requestMatchers.firstMatchingExpectation(request().withMethod("GET").withPath("/some/path"));
+
+        // then
+        assertThat(notMatchedLogEntries(mockServerLogger), hasSize(3));
+    }
+}
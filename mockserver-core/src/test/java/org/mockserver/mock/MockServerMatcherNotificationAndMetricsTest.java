@@ -8,6 +8,8 @@ import org.mockserver.closurecallback.websocketregistry.WebSocketClientRegistry;
 import org.mockserver.configuration.ConfigurationProperties;
 import org.mockserver.logging.MockServerLogger;
 import org.mockserver.metrics.Metrics;
+import org.mockserver.mock.listeners.ExpectationChanges;
+import org.mockserver.mock.listeners.MockServerMatcherListener;
 import org.mockserver.mock.listeners.MockServerMatcherNotifier;
 import org.mockserver.model.HttpObjectCallback;
 import org.mockserver.scheduler.Scheduler;
@@ -15,6 +17,8 @@ import org.mockserver.uuid.UUIDService;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -208,4 +212,60 @@ public class MockServerMatcherNotificationAndMetricsTest {
         assertThat(Metrics.get(Metrics.Name.ACTION_RESPONSE_COUNT), is(3));
     }
 
+    @Test
+    public void shouldNotifyOnEveryChangeWhenDebounceDisabled() throws InterruptedException {
+        // given
+        requestMatchers = new RequestMatchers(configuration().expectationNotificationDebounceInMillis(0L), mockServerLogger, scheduler, mock(WebSocketClientRegistry.class));
+        List<MockServerMatcherNotifier.Cause> causes = new ArrayList<>();
+        requestMatchers.registerListener((requestMatchers, cause) -> {
+            causes.add(cause);
+        });
+
+        // when
+        requestMatchers.add(new Expectation(request().withPath("path_one")).thenRespond(response().withBody("body_one")), API);
+        requestMatchers.add(new Expectation(request().withPath("path_two")).thenRespond(response().withBody("body_two")), API);
+
+        // then
+        MILLISECONDS.sleep(500);
+        assertThat(causes, contains(API, API));
+    }
+
+    @Test
+    public void shouldNotifyWithCoalescedChanges() throws InterruptedException {
+        // given
+        requestMatchers = new RequestMatchers(configuration().expectationNotificationDebounceInMillis(50L), mockServerLogger, scheduler, mock(WebSocketClientRegistry.class));
+        List<ExpectationChanges> notifiedChanges = new CopyOnWriteArrayList<>();
+        requestMatchers.registerListener(new MockServerMatcherListener() {
+            @Override
+            public void updated(RequestMatchers requestMatchers, MockServerMatcherNotifier.Cause cause) {
+
+            }
+
+            @Override
+            public void changed(RequestMatchers requestMatchers, ExpectationChanges changes) {
+                notifiedChanges.add(changes);
+            }
+        });
+        MockServerMatcherNotifier.Cause fileCause = new MockServerMatcherNotifier.Cause("some_file.json", MockServerMatcherNotifier.Cause.Type.FILE_INITIALISER);
+
+        // when
+        requestMatchers.add(new Expectation(request().withPath("path_one")).withId("key_one").thenRespond(response().withBody("body_one")), API);
+        requestMatchers.add(new Expectation(request().withPath("path_two")).withId("key_two").thenRespond(response().withBody("body_two")), API);
+        requestMatchers.clear(request().withPath("path_one"));
+        requestMatchers.add(new Expectation(request().withPath("path_three")).withId("key_three").thenRespond(response().withBody("body_three")), fileCause);
+        requestMatchers.add(new Expectation(request().withPath("path_four")).withId("key_four").thenRespond(response().withBody("body_four")), API);
+
+        // then - changes from the same cause merged, order across causes retained
+        MILLISECONDS.sleep(500);
+        assertThat(notifiedChanges.size(), is(3));
+        assertThat(notifiedChanges.get(0).getCause(), is(API));
+        assertThat(notifiedChanges.get(0).getNumberOfChanges(), is(3));
+        assertThat(notifiedChanges.get(0).getUpserted().stream().map(Expectation::getId).collect(Collectors.toList()), contains("key_two"));
+        assertThat(notifiedChanges.get(0).getRemoved(), contains("key_one"));
+        assertThat(notifiedChanges.get(1).getCause(), is(fileCause));
+        assertThat(notifiedChanges.get(1).getUpserted().stream().map(Expectation::getId).collect(Collectors.toList()), contains("key_three"));
+        assertThat(notifiedChanges.get(2).getCause(), is(API));
+        assertThat(notifiedChanges.get(2).getUpserted().stream().map(Expectation::getId).collect(Collectors.toList()), contains("key_four"));
+    }
+
 }
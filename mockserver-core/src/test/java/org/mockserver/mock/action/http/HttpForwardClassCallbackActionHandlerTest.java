@@ -4,12 +4,14 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockserver.httpclient.NettyHttpClient;
 import org.mockserver.logging.MockServerLogger;
+import org.mockserver.mock.action.ExpectationForwardAsyncCallback;
 import org.mockserver.mock.action.ExpectationForwardCallback;
 import org.mockserver.model.HttpClassCallback;
 import org.mockserver.model.HttpRequest;
 import org.mockserver.model.HttpResponse;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
@@ -73,6 +75,27 @@ public class HttpForwardClassCallbackActionHandlerTest {
         verify(mockHttpClient).sendRequest(request("some_path"), null);
     }
 
+    @Test
+    public void shouldForwardWhenAsyncCallbackCompletes() throws Exception {
+        // given
+        CompletableFuture<HttpResponse> httpResponse = new CompletableFuture<>();
+        httpResponse.complete(response("some_response_body"));
+        when(mockHttpClient.sendRequest(any(HttpRequest.class), isNull())).thenReturn(httpResponse);
+        AsyncCallback.REQUEST.set(new CompletableFuture<>());
+
+        HttpClassCallback httpClassCallback = HttpClassCallback.callback(HttpForwardClassCallbackActionHandlerTest.AsyncCallback.class);
+
+        // when
+        HttpForwardActionResult httpForwardActionResult = httpForwardClassCallbackActionHandler.handle(httpClassCallback, request().withBody("some_body"));
+
+        // then
+        verify(mockHttpClient, never()).sendRequest(any(HttpRequest.class), isNull());
+        AsyncCallback.REQUEST.get().complete(request("some_async_path"));
+        assertThat(httpForwardActionResult.getHttpResponse().get(), is(httpResponse.get()));
+        assertThat(httpForwardActionResult.getHttpRequest(), is(request("some_async_path")));
+        verify(mockHttpClient).sendRequest(request("some_async_path"), null);
+    }
+
     public static class TestCallback implements ExpectationForwardCallback {
 
         @Override
@@ -80,4 +103,14 @@ public class HttpForwardClassCallbackActionHandlerTest {
             return request("some_path");
         }
     }
+
+    public static class AsyncCallback implements ExpectationForwardAsyncCallback {
+
+        static final AtomicReference<CompletableFuture<HttpRequest>> REQUEST = new AtomicReference<>();
+
+        @Override
+        public CompletableFuture<HttpRequest> handleAsync(HttpRequest httpRequest) {
+            return REQUEST.get();
+        }
+    }
 }
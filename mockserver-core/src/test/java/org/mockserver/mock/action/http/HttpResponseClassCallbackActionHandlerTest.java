@@ -2,13 +2,18 @@ package org.mockserver.mock.action.http;
 
 import org.junit.Test;
 import org.mockserver.logging.MockServerLogger;
+import org.mockserver.mock.action.CallbackLifecycle;
+import org.mockserver.mock.action.ExpectationResponseAsyncCallback;
 import org.mockserver.mock.action.ExpectationResponseCallback;
-import org.mockserver.mock.action.http.HttpResponseClassCallbackActionHandler;
 import org.mockserver.model.HttpClassCallback;
 import org.mockserver.model.HttpRequest;
 import org.mockserver.model.HttpResponse;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
 import static org.hamcrest.core.Is.is;
 import static org.mockserver.model.HttpClassCallback.callback;
 import static org.mockserver.model.HttpRequest.request;
@@ -21,29 +26,100 @@ import static org.mockserver.model.HttpResponse.response;
 public class HttpResponseClassCallbackActionHandlerTest {
 
     @Test
-    public void shouldHandleInvalidClass() {
+    public void shouldHandleInvalidClass() throws Exception {
         // given
         HttpClassCallback httpClassCallback = callback("org.mockserver.mock.action.FooBar");
 
         // when
-        HttpResponse actualHttpResponse = new HttpResponseClassCallbackActionHandler(new MockServerLogger()).handle(httpClassCallback, request().withBody("some_body"));
+        HttpResponse actualHttpResponse = new HttpResponseClassCallbackActionHandler(new MockServerLogger()).handle(httpClassCallback, request().withBody("some_body")).get();
 
         // then
         assertThat(actualHttpResponse, is(notFoundResponse()));
     }
 
     @Test
-    public void shouldHandleValidLocalClass() {
+    public void shouldHandleValidLocalClass() throws Exception {
         // given
         HttpClassCallback httpClassCallback = callback("org.mockserver.mock.action.http.HttpResponseClassCallbackActionHandlerTest$TestCallback");
 
         // when
-        HttpResponse actualHttpResponse = new HttpResponseClassCallbackActionHandler(new MockServerLogger()).handle(httpClassCallback, request().withBody("some_body"));
+        HttpResponse actualHttpResponse = new HttpResponseClassCallbackActionHandler(new MockServerLogger()).handle(httpClassCallback, request().withBody("some_body")).get();
 
         // then
         assertThat(actualHttpResponse, is(response("some_body")));
     }
 
+    @Test
+    public void shouldCreateInstancePerRequestByDefault() throws Exception {
+        // given
+        HttpClassCallback httpClassCallback = callback(CountingCallback.class);
+        HttpResponseClassCallbackActionHandler httpResponseClassCallbackActionHandler = new HttpResponseClassCallbackActionHandler(new MockServerLogger());
+        CountingCallback.INSTANCES.set(0);
+
+        // when
+        httpResponseClassCallbackActionHandler.handle(httpClassCallback, request().withBody("some_body")).get();
+        HttpResponse actualHttpResponse = httpResponseClassCallbackActionHandler.handle(httpClassCallback, request().withBody("some_body")).get();
+
+        // then
+        assertThat(actualHttpResponse, is(response("2")));
+    }
+
+    @Test
+    public void shouldReuseSingletonInstance() throws Exception {
+        // given
+        HttpClassCallback httpClassCallback = callback(SingletonCountingCallback.class);
+        HttpResponseClassCallbackActionHandler httpResponseClassCallbackActionHandler = new HttpResponseClassCallbackActionHandler(new MockServerLogger());
+        SingletonCountingCallback.INSTANCES.set(0);
+
+        // when
+        httpResponseClassCallbackActionHandler.handle(httpClassCallback, request().withBody("some_body")).get();
+        HttpResponse actualHttpResponse = httpResponseClassCallbackActionHandler.handle(httpClassCallback, request().withBody("some_body")).get();
+
+        // then
+        assertThat(actualHttpResponse, is(response("1")));
+    }
+
+    @Test
+    public void shouldHandleExceptionInConstructor() throws Exception {
+        // given
+        HttpClassCallback httpClassCallback = callback(FailingConstructorCallback.class);
+
+        // when
+        HttpResponse actualHttpResponse = new HttpResponseClassCallbackActionHandler(new MockServerLogger()).handle(httpClassCallback, request().withBody("some_body")).get();
+
+        // then
+        assertThat(actualHttpResponse, is(notFoundResponse()));
+    }
+
+    @Test
+    public void shouldCompleteWhenAsyncCallbackCompletes() throws Exception {
+        // given
+        HttpClassCallback httpClassCallback = callback(AsyncCallback.class);
+        AsyncCallback.RESPONSE.set(new CompletableFuture<>());
+
+        // when
+        CompletableFuture<HttpResponse> actualHttpResponse = new HttpResponseClassCallbackActionHandler(new MockServerLogger()).handle(httpClassCallback, request().withBody("some_body"));
+
+        // then
+        assertThat(actualHttpResponse.isDone(), is(false));
+        AsyncCallback.RESPONSE.get().complete(response("some_async_body"));
+        assertThat(actualHttpResponse.get(), is(response("some_async_body")));
+    }
+
+    @Test
+    public void shouldHandleAsyncCallbackCompletedExceptionally() throws Exception {
+        // given
+        HttpClassCallback httpClassCallback = callback(AsyncCallback.class);
+        AsyncCallback.RESPONSE.set(new CompletableFuture<>());
+
+        // when
+        CompletableFuture<HttpResponse> actualHttpResponse = new HttpResponseClassCallbackActionHandler(new MockServerLogger()).handle(httpClassCallback, request().withBody("some_body"));
+        AsyncCallback.RESPONSE.get().completeExceptionally(new IllegalStateException("failed to create response"));
+
+        // then
+        assertThat(actualHttpResponse.get(), is(notFoundResponse()));
+    }
+
     public static class TestCallback implements ExpectationResponseCallback {
 
         @Override
@@ -51,4 +127,55 @@ public class HttpResponseClassCallbackActionHandlerTest {
             return response(httpRequest.getBodyAsString());
         }
     }
+
+    public static class CountingCallback implements ExpectationResponseCallback {
+
+        static final AtomicInteger INSTANCES = new AtomicInteger();
+
+        public CountingCallback() {
+            INSTANCES.incrementAndGet();
+        }
+
+        @Override
+        public HttpResponse handle(HttpRequest httpRequest) {
+            return response(String.valueOf(INSTANCES.get()));
+        }
+    }
+
+    @CallbackLifecycle(CallbackLifecycle.Lifecycle.SINGLETON)
+    public static class SingletonCountingCallback implements ExpectationResponseCallback {
+
+        static final AtomicInteger INSTANCES = new AtomicInteger();
+
+        public SingletonCountingCallback() {
+            INSTANCES.incrementAndGet();
+        }
+
+        @Override
+        public HttpResponse handle(HttpRequest httpRequest) {
+            return response(String.valueOf(INSTANCES.get()));
+        }
+    }
+
+    public static class FailingConstructorCallback implements ExpectationResponseCallback {
+
+        public FailingConstructorCallback() {
+            throw new IllegalStateException("failed to initialise");
+        }
+
+        @Override
+        public HttpResponse handle(HttpRequest httpRequest) {
+            return response();
+        }
+    }
+
+    public static class AsyncCallback implements ExpectationResponseAsyncCallback {
+
+        static final AtomicReference<CompletableFuture<HttpResponse>> RESPONSE = new AtomicReference<>();
+
+        @Override
+        public CompletableFuture<HttpResponse> handleAsync(HttpRequest httpRequest) {
+            return RESPONSE.get();
+        }
+    }
 }
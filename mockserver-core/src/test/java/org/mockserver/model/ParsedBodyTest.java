@@ -0,0 +1,127 @@
+package org.mockserver.model;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.fail;
+import static org.mockserver.model.HttpRequest.request;
+
+public class ParsedBodyTest {
+
+    @Test
+    public void shouldParseRepresentationOnce() throws Exception {
+        // given
+        ParsedBody parsedBody = request().withBody("some_body").getParsedBody();
+        AtomicInteger numberOfParses = new AtomicInteger();
+
+        // when
+        Object first = parsedBody.parse("representation", parsedBody.getBodyAsString(), source -> {
+            numberOfParses.incrementAndGet();
+            return new StringBuilder(source);
+        });
+        Object second = parsedBody.parse("representation", parsedBody.getBodyAsString(), source -> {
+            numberOfParses.incrementAndGet();
+            return new StringBuilder(source);
+        });
+
+        // then
+        assertThat(numberOfParses.get(), is(1));
+        assertThat(second, sameInstance(first));
+    }
+
+    @Test
+    public void shouldParseAgainWhenSourceChanges() throws Exception {
+        // given
+        ParsedBody parsedBody = request().withBody("some_body").getParsedBody();
+        parsedBody.parse("representation", "some_source", String::toUpperCase);
+
+        // when
+        String parsed = parsedBody.parse("representation", "some_other_source", String::toUpperCase);
+
+        // then
+        assertThat(parsed, is("SOME_OTHER_SOURCE"));
+    }
+
+    @Test
+    public void shouldRetainParseException() throws Exception {
+        // given
+        ParsedBody parsedBody = request().withBody("some_body").getParsedBody();
+        AtomicInteger numberOfParses = new AtomicInteger();
+        ParsedBody.Parser<Object> parser = source -> {
+            numberOfParses.incrementAndGet();
+            throw new IllegalArgumentException("invalid " + source);
+        };
+
+        // when
+        for (int i = 0; i < 2; i++) {
+            try {
+                parsedBody.parse("representation", "some_source", parser);
+                fail("expected exception to be thrown");
+            } catch (IllegalArgumentException iae) {
+                // then
+                assertThat(iae.getMessage(), is("invalid some_source"));
+            }
+        }
+
+        // then
+        assertThat(numberOfParses.get(), is(1));
+    }
+
+    @Test
+    public void shouldConvertBodyToJsonAgainWhenContentTypeChanges() {
+        // given
+        HttpRequest request = request().withHeader("Content-Type", "application/json").withBody("some_body");
+        ParsedBody parsedBody = request.getParsedBody();
+        AtomicInteger numberOfConversions = new AtomicInteger();
+        parsedBody.getBodyAsJson(() -> "json_" + numberOfConversions.incrementAndGet());
+
+        // when
+        String sameContentType = parsedBody.getBodyAsJson(() -> "json_" + numberOfConversions.incrementAndGet());
+        request.replaceHeader(new Header("Content-Type", "application/xml"));
+        String differentContentType = parsedBody.getBodyAsJson(() -> "json_" + numberOfConversions.incrementAndGet());
+
+        // then
+        assertThat(sameContentType, is("json_1"));
+        assertThat(differentContentType, is("json_2"));
+    }
+
+    @Test
+    public void shouldDiscardParsedBodyWhenBodyChanged() {
+        // given
+        HttpRequest request = request().withBody("some_body");
+        ParsedBody parsedBody = request.getParsedBody();
+
+        // when
+        request.withBody("some_other_body");
+
+        // then
+        assertThat(request.getParsedBody(), not(sameInstance(parsedBody)));
+        assertThat(request.getParsedBody().getBodyAsString(), is("some_other_body"));
+    }
+
+    @Test
+    public void shouldOnlyShareParsedBodyWhileCached() {
+        // given
+        HttpRequest request = request().withBody("some_body");
+
+        // when
+        boolean cached = request.cacheParsedBody();
+        boolean cachedAgain = request.cacheParsedBody();
+        ParsedBody parsedBody = request.getParsedBody();
+
+        // then
+        assertThat(cached, is(true));
+        assertThat(cachedAgain, is(false));
+        assertThat(request.getParsedBody(), sameInstance(parsedBody));
+
+        // when
+        request.clearParsedBody();
+
+        // then
+        assertThat(request.getParsedBody(), not(sameInstance(parsedBody)));
+        assertThat(request.getParsedBody(), not(sameInstance(request.getParsedBody())));
+    }
+}
@@ -7,6 +7,7 @@ import org.mockserver.configuration.ConfigurationProperties;
 import org.mockserver.logging.MockServerLogger;
 import org.mockserver.mock.Expectation;
 import org.mockserver.mock.RequestMatchers;
+import org.mockserver.mock.listeners.ExpectationChanges;
 import org.mockserver.mock.listeners.MockServerMatcherNotifier;
 import org.mockserver.scheduler.Scheduler;
 
@@ -586,4 +587,107 @@ public class ExpectationFileSystemPersistenceTest {
         }
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldAppendChangesToJournalAndCompactIntoJson() throws Exception {
+        // given
+        String persistedExpectationsPath = ConfigurationProperties.persistedExpectationsPath();
+        ConfigurationProperties.persistExpectations(true);
+        ConfigurationProperties.persistedExpectationsJournal(true);
+        int compactionThreshold = ConfigurationProperties.persistedExpectationsJournalCompactionThreshold();
+        ConfigurationProperties.persistedExpectationsJournalCompactionThreshold(2);
+        ExpectationFileSystemPersistence expectationFileSystemPersistence = null;
+        try {
+            File persistedExpectations = File.createTempFile("persistedExpectations", ".json");
+            ConfigurationProperties.persistedExpectationsPath(persistedExpectations.getAbsolutePath());
+            File journal = ExpectationJournal.journalPath(persistedExpectations.getAbsolutePath()).toFile();
+            journal.deleteOnExit();
+            Expectation one = new Expectation(request().withPath("/simpleFirst")).withId("one").thenRespond(response().withBody("some first response"));
+            Expectation two = new Expectation(request().withPath("/simpleSecond")).withId("two").thenRespond(response().withBody("some second response"));
+            Expectation three = new Expectation(request().withPath("/simpleThird")).withId("three").thenRespond(response().withBody("some third response"));
+            expectationFileSystemPersistence = new ExpectationFileSystemPersistence(configuration(), mockServerLogger, requestMatchers);
+
+            // when - first change compacts because the persisted file wasn't loaded at startup
+            requestMatchers.add(one, API);
+            MILLISECONDS.sleep(1500);
+
+            // then
+            assertThat(new String(Files.readAllBytes(persistedExpectations.toPath()), StandardCharsets.UTF_8), is(expectationFileSystemPersistence.serialize(new Expectation[]{one})));
+            assertThat(journal.length(), is(0L));
+
+            // when - changes appended to journal
+            requestMatchers.add(two, API);
+            requestMatchers.add(three, API);
+            MILLISECONDS.sleep(1500);
+
+            // then
+            assertThat(new String(Files.readAllBytes(persistedExpectations.toPath()), StandardCharsets.UTF_8), is(expectationFileSystemPersistence.serialize(new Expectation[]{one})));
+            assertThat(Files.readAllLines(journal.toPath(), StandardCharsets.UTF_8).size(), is(2));
+            assertThat(new ExpectationJournal(configuration(), mockServerLogger).replay(new Expectation[]{one}), is(new Expectation[]{one, two, three}));
+
+            // when - journal exceeds threshold and number of active expectations
+            requestMatchers.clear(request().withPath("/simpleFirst"));
+            MILLISECONDS.sleep(1500);
+
+            // then
+            assertThat(new String(Files.readAllBytes(persistedExpectations.toPath()), StandardCharsets.UTF_8), is(expectationFileSystemPersistence.serialize(new Expectation[]{two, three})));
+            assertThat(journal.length(), is(0L));
+        } finally {
+            ConfigurationProperties.persistedExpectationsPath(persistedExpectationsPath);
+            ConfigurationProperties.persistExpectations(false);
+            ConfigurationProperties.persistedExpectationsJournal(false);
+            ConfigurationProperties.persistedExpectationsJournalCompactionThreshold(compactionThreshold);
+            if (expectationFileSystemPersistence != null) {
+                expectationFileSystemPersistence.stop();
+            }
+        }
+    }
+
+    @Test
+    public void shouldCountJournalRecordsAppendedBeforeRestart() throws Exception {
+        // given
+        String persistedExpectationsPath = ConfigurationProperties.persistedExpectationsPath();
+        String initializationJsonPath = ConfigurationProperties.initializationJsonPath();
+        ConfigurationProperties.persistExpectations(true);
+        ConfigurationProperties.persistedExpectationsJournal(true);
+        int compactionThreshold = ConfigurationProperties.persistedExpectationsJournalCompactionThreshold();
+        ConfigurationProperties.persistedExpectationsJournalCompactionThreshold(2);
+        ExpectationFileSystemPersistence expectationFileSystemPersistence = null;
+        try {
+            File persistedExpectations = File.createTempFile("persistedExpectations", ".json");
+            ConfigurationProperties.persistedExpectationsPath(persistedExpectations.getAbsolutePath());
+            ConfigurationProperties.initializationJsonPath(persistedExpectations.getAbsolutePath());
+            File journal = ExpectationJournal.journalPath(persistedExpectations.getAbsolutePath()).toFile();
+            journal.deleteOnExit();
+            Expectation one = new Expectation(request().withPath("/simpleFirst")).withId("one").thenRespond(response().withBody("some first response"));
+            Expectation two = new Expectation(request().withPath("/simpleSecond")).withId("two").thenRespond(response().withBody("some second response"));
+            Expectation updatedTwo = new Expectation(request().withPath("/simpleSecond")).withId("two").thenRespond(response().withBody("some updated second response"));
+            Expectation three = new Expectation(request().withPath("/simpleThird")).withId("three").thenRespond(response().withBody("some third response"));
+            // journal written before restart
+            ExpectationJournal expectationJournal = new ExpectationJournal(configuration(), mockServerLogger);
+            expectationJournal.append(new ExpectationChanges(API).upserted(one).upserted(two));
+            expectationJournal.append(new ExpectationChanges(API).upserted(updatedTwo));
+            // snapshot and journal loaded at startup
+            MockServerMatcherNotifier.Cause fileCause = new MockServerMatcherNotifier.Cause(persistedExpectations.getAbsolutePath(), MockServerMatcherNotifier.Cause.Type.FILE_INITIALISER);
+            requestMatchers.add(one, fileCause);
+            requestMatchers.add(updatedTwo, fileCause);
+            expectationFileSystemPersistence = new ExpectationFileSystemPersistence(configuration(), mockServerLogger, requestMatchers);
+
+            // when - journal exceeds threshold and number of active expectations
+            requestMatchers.add(three, API);
+            MILLISECONDS.sleep(1500);
+
+            // then
+            assertThat(new String(Files.readAllBytes(persistedExpectations.toPath()), StandardCharsets.UTF_8), is(expectationFileSystemPersistence.serialize(new Expectation[]{one, updatedTwo, three})));
+            assertThat(journal.length(), is(0L));
+        } finally {
+            ConfigurationProperties.persistedExpectationsPath(persistedExpectationsPath);
+            ConfigurationProperties.initializationJsonPath(initializationJsonPath);
+            ConfigurationProperties.persistExpectations(false);
+            ConfigurationProperties.persistedExpectationsJournal(false);
+            ConfigurationProperties.persistedExpectationsJournalCompactionThreshold(compactionThreshold);
+            if (expectationFileSystemPersistence != null) {
+                expectationFileSystemPersistence.stop();
+            }
+        }
+    }
+}
@@ -866,4 +866,59 @@ public class ExpectationFileWatcherTest {
         }
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldOnlyUpdateExpectationsFromModifiedInitialiserJson() throws Exception {
+        String initializationJsonPath = ConfigurationProperties.initializationJsonPath();
+        ConfigurationProperties.watchInitializationJson(true);
+        ExpectationFileWatcher expectationFileWatcher = null;
+        try {
+            // given - two initialization files
+            File directory = Files.createTempDirectory("mockserverInitialization").toFile();
+            directory.deleteOnExit();
+            File firstInitialization = new File(directory, "first.json");
+            firstInitialization.deleteOnExit();
+            File secondInitialization = new File(directory, "second.json");
+            secondInitialization.deleteOnExit();
+            Files.write(firstInitialization.toPath(), "[ { \"id\" : \"one\", \"httpRequest\" : { \"path\" : \"/simpleFirst\" }, \"httpResponse\" : { \"body\" : \"some first response\" } } ]".getBytes(StandardCharsets.UTF_8));
+            Files.write(secondInitialization.toPath(), "[ { \"id\" : \"two\", \"httpRequest\" : { \"path\" : \"/simpleSecond\" }, \"httpResponse\" : { \"body\" : \"some second response\" } } ]".getBytes(StandardCharsets.UTF_8));
+            ConfigurationProperties.initializationJsonPath(directory.getAbsolutePath() + "/*.json");
+            // and - file watcher
+            expectationFileWatcher = new ExpectationFileWatcher(configuration(), mockServerLogger, requestMatchers, new ExpectationInitializerLoader(configuration(), mockServerLogger, requestMatchers));
+            // and - expectation from second file removed
+            requestMatchers.clear(request().withPath("/simpleSecond"));
+            // and - expectation update notification
+            CompletableFuture<String> expectationsUpdated = new CompletableFuture<>();
+            requestMatchers.registerListener((requestMatchers, cause) -> {
+                if (cause.getType() == MockServerMatcherNotifier.Cause.Type.FILE_INITIALISER) {
+                    expectationsUpdated.complete("updated");
+                }
+            });
+
+            // when
+            Files.write(firstInitialization.toPath(), "[ { \"id\" : \"one\", \"httpRequest\" : { \"path\" : \"/simpleFirst\" }, \"httpResponse\" : { \"body\" : \"some updated response\" } } ]".getBytes(StandardCharsets.UTF_8));
+            expectationsUpdated.get(30, SECONDS);
+
+            // then - second file not reloaded
+            assertThat(
+                requestMatchers.retrieveActiveExpectations(null),
+                contains(
+                    new Expectation(
+                        request()
+                            .withPath("/simpleFirst")
+                    )
+                        .withId("one")
+                        .thenRespond(
+                            response()
+                                .withBody("some updated response")
+                        )
+                )
+            );
+        } finally {
+            ConfigurationProperties.initializationJsonPath(initializationJsonPath);
+            ConfigurationProperties.watchInitializationJson(false);
+            if (expectationFileWatcher != null) {
+                expectationFileWatcher.stop();
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package org.mockserver.persistence;
+
+import org.junit.Test;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.mock.Expectation;
+import org.mockserver.mock.listeners.ExpectationChanges;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockserver.configuration.Configuration.configuration;
+import static org.mockserver.mock.listeners.MockServerMatcherNotifier.Cause.API;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+public class ExpectationJournalTest {
+
+    private final MockServerLogger mockServerLogger = new MockServerLogger();
+
+    private Expectation expectation(String id, String path) {
+        return new Expectation(request().withPath(path)).withId(id).thenRespond(response().withBody("response for " + id));
+    }
+
+    private ExpectationJournal journal() throws Exception {
+        File persistedExpectations = File.createTempFile("persistedExpectations", ".json");
+        persistedExpectations.deleteOnExit();
+        ExpectationJournal expectationJournal = new ExpectationJournal(configuration().persistedExpectationsPath(persistedExpectations.getAbsolutePath()), mockServerLogger);
+        expectationJournal.getJournalPath().toFile().deleteOnExit();
+        return expectationJournal;
+    }
+
+    @Test
+    public void shouldAppendOneRecordPerChange() throws Exception {
+        // given
+        ExpectationJournal expectationJournal = journal();
+
+        // when
+        int numberOfRecords = expectationJournal.append(
+            new ExpectationChanges(API)
+                .upserted(expectation("one", "/one"))
+                .upserted(expectation("two", "/two"))
+                .removed(expectation("three", "/three"))
+        );
+
+        // then
+        assertThat(numberOfRecords, is(3));
+        assertThat(Files.readAllLines(expectationJournal.getJournalPath(), StandardCharsets.UTF_8), contains(
+            "{\"remove\":\"three\"}",
+            "{\"upsert\":{\"httpRequest\":{\"path\":\"/one\"},\"httpResponse\":{\"body\":\"response for one\"},\"id\":\"one\",\"priority\":0,\"timeToLive\":{\"unlimited\":true},\"times\":{\"unlimited\":true}}}",
+            "{\"upsert\":{\"httpRequest\":{\"path\":\"/two\"},\"httpResponse\":{\"body\":\"response for two\"},\"id\":\"two\",\"priority\":0,\"timeToLive\":{\"unlimited\":true},\"times\":{\"unlimited\":true}}}"
+        ));
+    }
+
+    @Test
+    public void shouldReplayJournalOnTopOfSnapshot() throws Exception {
+        // given
+        ExpectationJournal expectationJournal = journal();
+        expectationJournal.append(new ExpectationChanges(API).upserted(expectation("three", "/three")));
+        expectationJournal.append(new ExpectationChanges(API).removed(expectation("one", "/one")));
+        expectationJournal.append(new ExpectationChanges(API).upserted(expectation("two", "/updated")));
+
+        // when
+        Expectation[] expectations = expectationJournal.replay(new Expectation[]{
+            expectation("one", "/one"),
+            expectation("two", "/two")
+        });
+
+        // then
+        assertThat(expectations, arrayContaining(
+            expectation("two", "/updated"),
+            expectation("three", "/three")
+        ));
+    }
+
+    @Test
+    public void shouldIgnorePartiallyWrittenRecordWhenReplaying() throws Exception {
+        // given
+        ExpectationJournal expectationJournal = journal();
+        expectationJournal.append(new ExpectationChanges(API).upserted(expectation("two", "/two")));
+        Files.write(expectationJournal.getJournalPath(), "{\"upsert\":{\"httpRequest\":{\"pa".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        // when
+        Expectation[] expectations = expectationJournal.replay(new Expectation[]{
+            expectation("one", "/one")
+        });
+
+        // then
+        assertThat(expectations, arrayContaining(
+            expectation("one", "/one"),
+            expectation("two", "/two")
+        ));
+    }
+
+    @Test
+    public void shouldCountRecordsInExistingJournal() throws Exception {
+        // given
+        ExpectationJournal expectationJournal = journal();
+        expectationJournal.append(new ExpectationChanges(API).upserted(expectation("one", "/one")).upserted(expectation("two", "/two")));
+        expectationJournal.append(new ExpectationChanges(API).removed(expectation("one", "/one")));
+
+        // when
+        int numberOfRecords = expectationJournal.countRecords();
+
+        // then
+        assertThat(numberOfRecords, is(3));
+    }
+
+    @Test
+    public void shouldReturnSnapshotWhenJournalTruncated() throws Exception {
+        // given
+        ExpectationJournal expectationJournal = journal();
+        expectationJournal.append(new ExpectationChanges(API).removed(expectation("one", "/one")));
+
+        // when
+        expectationJournal.truncate();
+
+        // then
+        assertThat(expectationJournal.getJournalPath().toFile().length(), is(0L));
+        assertThat(expectationJournal.replay(new Expectation[]{
+            expectation("one", "/one")
+        }), arrayContaining(
+            expectation("one", "/one")
+        ));
+    }
+}
@@ -0,0 +1,181 @@
+package org.mockserver.persistence;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockserver.logging.MockServerLogger;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assume.assumeTrue;
+
+public class FileWatcherTest {
+
+    private final MockServerLogger mockServerLogger = new MockServerLogger();
+    private long originalPollPeriod;
+    private TimeUnit originalPollPeriodUnits;
+    private long originalDebouncePeriod;
+    private TimeUnit originalDebouncePeriodUnits;
+
+    @Before
+    public void recordPeriods() {
+        originalPollPeriod = FileWatcher.getPollPeriod();
+        originalPollPeriodUnits = FileWatcher.getPollPeriodUnits();
+        originalDebouncePeriod = FileWatcher.getDebouncePeriod();
+        originalDebouncePeriodUnits = FileWatcher.getDebouncePeriodUnits();
+    }
+
+    @After
+    public void restorePeriods() {
+        FileWatcher.setPollPeriod(originalPollPeriod);
+        FileWatcher.setPollPeriodUnits(originalPollPeriodUnits);
+        FileWatcher.setDebouncePeriod(originalDebouncePeriod);
+        FileWatcher.setDebouncePeriodUnits(originalDebouncePeriodUnits);
+    }
+
+    @Test
+    public void shouldNotifyOfModificationBeforePollPeriod() throws Exception {
+        // given
+        FileWatcher.setPollPeriod(1);
+        FileWatcher.setPollPeriodUnits(TimeUnit.HOURS);
+        File file = File.createTempFile("fileWatcher", ".json");
+        file.deleteOnExit();
+        AtomicInteger updates = new AtomicInteger();
+        FileWatcher fileWatcher = new FileWatcher(file.toPath(), updates::incrementAndGet, throwable -> {
+        }, mockServerLogger);
+        try {
+            // when
+            Files.write(file.toPath(), "some content".getBytes(StandardCharsets.UTF_8));
+            SECONDS.sleep(2);
+
+            // then
+            assertThat(updates.get(), is(1));
+        } finally {
+            fileWatcher.setRunning(false);
+        }
+    }
+
+    @Test
+    public void shouldCloseWatchServiceWhenLastWatcherStopped() throws Exception {
+        // given
+        File fileOne = Files.createTempDirectory("fileWatcherOne").resolve("fileOne.json").toFile();
+        File fileTwo = Files.createTempDirectory("fileWatcherTwo").resolve("fileTwo.json").toFile();
+        FileWatcher fileWatcherOne = new FileWatcher(fileOne.toPath(), () -> {
+        }, throwable -> {
+        }, mockServerLogger);
+        FileWatcher fileWatcherTwo = new FileWatcher(fileTwo.toPath(), () -> {
+        }, throwable -> {
+        }, mockServerLogger);
+        assumeTrue("platform WatchService is implemented by polling", FileWatcher.isWatchServiceOpen());
+
+        // when
+        fileWatcherOne.setRunning(false);
+
+        // then
+        assertThat(FileWatcher.isWatchServiceOpen(), is(true));
+
+        // when
+        fileWatcherTwo.setRunning(false);
+
+        // then
+        assertThat(FileWatcher.isWatchServiceOpen(), is(false));
+    }
+
+    @Test
+    public void shouldNotifyOnceForModificationsWithinDebouncePeriod() throws Exception {
+        // given
+        FileWatcher.setDebouncePeriod(500);
+        FileWatcher.setDebouncePeriodUnits(MILLISECONDS);
+        File file = File.createTempFile("fileWatcher", ".json");
+        file.deleteOnExit();
+        AtomicInteger updates = new AtomicInteger();
+        FileWatcher fileWatcher = new FileWatcher(file.toPath(), updates::incrementAndGet, throwable -> {
+        }, mockServerLogger);
+        try {
+            // when
+            for (int i = 0; i < 5; i++) {
+                Files.write(file.toPath(), ("some content " + i).getBytes(StandardCharsets.UTF_8));
+                MILLISECONDS.sleep(50);
+            }
+            SECONDS.sleep(2);
+
+            // then
+            assertThat(updates.get(), is(1));
+        } finally {
+            fileWatcher.setRunning(false);
+        }
+    }
+
+    @Test
+    public void shouldNotNotifyWhenContentUnchanged() throws Exception {
+        // given
+        File file = File.createTempFile("fileWatcher", ".json");
+        file.deleteOnExit();
+        Files.write(file.toPath(), "some content".getBytes(StandardCharsets.UTF_8));
+        AtomicInteger updates = new AtomicInteger();
+        FileWatcher fileWatcher = new FileWatcher(file.toPath(), updates::incrementAndGet, throwable -> {
+        }, mockServerLogger);
+        try {
+            // when
+            Files.write(file.toPath(), "some content".getBytes(StandardCharsets.UTF_8));
+            SECONDS.sleep(1);
+
+            // then
+            assertThat(updates.get(), is(0));
+        } finally {
+            fileWatcher.setRunning(false);
+        }
+    }
+
+    @Test
+    public void shouldPollWhenDirectoryCannotBeWatched() throws Exception {
+        // given
+        FileWatcher.setPollPeriod(100);
+        FileWatcher.setPollPeriodUnits(MILLISECONDS);
+        Path directory = Files.createTempDirectory("fileWatcher").resolve("notCreatedYet");
+        Path file = directory.resolve("expectations.json");
+        AtomicInteger updates = new AtomicInteger();
+        FileWatcher fileWatcher = new FileWatcher(file, updates::incrementAndGet, throwable -> {
+        }, mockServerLogger);
+        try {
+            // when
+            Files.createDirectories(directory);
+            Files.write(file, "some content".getBytes(StandardCharsets.UTF_8));
+            SECONDS.sleep(1);
+
+            // then
+            assertThat(updates.get(), is(1));
+        } finally {
+            fileWatcher.setRunning(false);
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    @Test
+    public void shouldNotNotifyWhenStopped() throws Exception {
+        // given
+        File file = File.createTempFile("fileWatcher", ".json");
+        file.deleteOnExit();
+        AtomicInteger updates = new AtomicInteger();
+        FileWatcher fileWatcher = new FileWatcher(file.toPath(), updates::incrementAndGet, throwable -> {
+        }, mockServerLogger);
+
+        // when
+        fileWatcher.setRunning(false);
+        Files.write(file.toPath(), "some content".getBytes(StandardCharsets.UTF_8));
+        SECONDS.sleep(1);
+
+        // then
+        assertThat(updates.get(), is(0));
+    }
+}
@@ -0,0 +1,117 @@
+package org.mockserver.scheduler;
+
+import org.junit.Test;
+import org.mockserver.logging.MockServerLogger;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.fail;
+import static org.mockserver.configuration.Configuration.configuration;
+import static org.mockserver.model.Delay.milliseconds;
+
+public class SchedulerTest {
+
+    private static boolean virtualThreadsSupported() {
+        try {
+            Thread.class.getMethod("isVirtual");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    @Test
+    public void shouldUseThreadPoolByDefault() throws Exception {
+        // given
+        Scheduler scheduler = new Scheduler(configuration(), new MockServerLogger());
+        try {
+            CompletableFuture<String> threadName = new CompletableFuture<>();
+
+            // when
+            scheduler.submit(() -> threadName.complete(Thread.currentThread().getName()));
+
+            // then
+            assertThat(scheduler.isUsingVirtualThreads(), is(false));
+            assertThat(threadName.get(5, TimeUnit.SECONDS), startsWith("MockServer-Scheduler"));
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldExecuteActionsWhenVirtualThreadsConfigured() throws Exception {
+        // given
+        Scheduler scheduler = new Scheduler(configuration().actionHandlerVirtualThreads(true), new MockServerLogger());
+        try {
+            CompletableFuture<String> submitted = new CompletableFuture<>();
+            CompletableFuture<String> delayed = new CompletableFuture<>();
+
+            // when
+            scheduler.submit(() -> submitted.complete("submitted"));
+            scheduler.schedule(() -> delayed.complete("delayed"), false, milliseconds(10));
+
+            // then - virtual threads are only used on java 21 or later
+            assertThat(scheduler.isUsingVirtualThreads(), is(virtualThreadsSupported()));
+            assertThat(submitted.get(5, TimeUnit.SECONDS), is("submitted"));
+            assertThat(delayed.get(5, TimeUnit.SECONDS), is("delayed"));
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldCompleteFutureExceptionallyAfterFutureTimeout() throws Exception {
+        // given
+        Scheduler scheduler = new Scheduler(configuration().maxFutureTimeoutInMillis(100L), new MockServerLogger());
+        try {
+            CompletableFuture<String> future = new CompletableFuture<>();
+
+            // when
+            scheduler.completeExceptionallyAfterFutureTimeout(future);
+
+            // then
+            try {
+                future.get(5, TimeUnit.SECONDS);
+                fail("expected exception to be thrown");
+            } catch (ExecutionException executionException) {
+                assertThat(executionException.getCause(), instanceOf(TimeoutException.class));
+            }
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldTransformLargeBatchesOnBulkProcessingPoolUntilShutdown() {
+        // given
+        Scheduler scheduler = new Scheduler(configuration(), new MockServerLogger());
+        List<Integer> items = IntStream.range(0, 64).boxed().collect(Collectors.toList());
+
+        // when
+        List<String> transformed = scheduler.parallelTransform(items, item -> item + ":" + Thread.currentThread().getName());
+
+        // then
+        for (int i = 0; i < items.size(); i++) {
+            assertThat(transformed.get(i), startsWith(i + ":MockServer-BulkProcessing"));
+        }
+
+        // when
+        scheduler.shutdown();
+        transformed = scheduler.parallelTransform(items, item -> item + ":" + Thread.currentThread().getName());
+
+        // then
+        for (int i = 0; i < items.size(); i++) {
+            assertThat(transformed.get(i), is(i + ":" + Thread.currentThread().getName()));
+        }
+    }
+}
@@ -21,6 +21,7 @@ import static junit.framework.TestCase.fail;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.core.IsEqual.equalTo;
 import static org.junit.Assert.assertArrayEquals;
 import static org.mockserver.character.Character.NEW_LINE;
@@ -256,6 +257,58 @@ public class ExpectationSerializerIntegrationTest {
         }
     }
 
+    @Test
+    public void shouldDeserializeLargeArrayInOrder() {
+        // given
+        StringBuilder requestBytes = new StringBuilder("[");
+        Expectation[] expectedExpectations = new Expectation[50];
+        for (int i = 0; i < 50; i++) {
+            requestBytes.append(i > 0 ? "," : "").append("{ \"id\" : \"key_").append(i).append("\", \"httpRequest\" : { \"path\" : \"/path_").append(i).append("\" }, \"httpResponse\" : { \"body\" : \"body_").append(i).append("\" } }");
+            expectedExpectations[i] = new ExpectationDTO()
+                .setId("key_" + i)
+                .setHttpRequest(
+                    new HttpRequestDTO()
+                        .setPath(string("/path_" + i))
+                )
+                .setHttpResponse(
+                    new HttpResponseDTO()
+                        .setBody(new StringBodyDTO(exact("body_" + i)))
+                )
+                .buildObject();
+        }
+        requestBytes.append("]");
+
+        // when
+        Expectation[] expectations = new ExpectationSerializer(new MockServerLogger()).deserializeArray(requestBytes.toString(), false);
+
+        // then
+        assertArrayEquals(expectedExpectations, expectations);
+    }
+
+    @Test
+    public void shouldValidateLargeArrayAndReportErrorsInOrder() {
+        // given
+        StringBuilder requestBytes = new StringBuilder("[");
+        for (int i = 0; i < 50; i++) {
+            String extraField = i == 3 || i == 37 ? ", \"extra_field\" : \"extra_value\"" : "";
+            requestBytes.append(i > 0 ? "," : "").append("{ \"httpRequest\" : { \"path\" : \"/path_").append(i).append("\"").append(extraField).append(" }, \"httpResponse\" : { \"body\" : \"body_").append(i).append("\" } }");
+        }
+        requestBytes.append("]");
+
+        // when
+        try {
+            new ExpectationSerializer(new MockServerLogger()).deserializeArray(requestBytes.toString(), false);
+            fail("expected exception to be thrown");
+        } catch (Throwable throwable) {
+            // then
+            assertThat(throwable, instanceOf(IllegalArgumentException.class));
+            String message = throwable.getMessage();
+            assertThat(message.split("incorrect expectation json format for:").length, is(3));
+            assertThat(message.indexOf("/path_3\""), greaterThan(0));
+            assertThat(message.indexOf("/path_37\""), greaterThan(message.indexOf("/path_3\"")));
+        }
+    }
+
     @Test
     public void shouldAllowMultipleObjectsForArray() {
         // given
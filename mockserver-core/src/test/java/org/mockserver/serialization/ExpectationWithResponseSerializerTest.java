@@ -151,8 +151,8 @@ public class ExpectationWithResponseSerializerTest {
     public void shouldDeserializeArray() throws IOException {
         // given
         when(jsonArraySerializer.splitJSONArrayToJSONNodes("requestBytes")).thenReturn(Arrays.asList(new TextNode("requestBytes"), new TextNode("requestBytes")));
-        when(expectationValidator.isValid("\"requestBytes\"")).thenReturn("");
-        when(objectMapper.readValue(eq("\"requestBytes\""), same(ExpectationDTO.class))).thenReturn(fullExpectationDTO);
+        when(expectationValidator.isValid(new TextNode("requestBytes"), true)).thenReturn("");
+        when(objectMapper.treeToValue(eq(new TextNode("requestBytes")), same(ExpectationDTO.class))).thenReturn(fullExpectationDTO);
 
         // when
         Expectation[] expectations = expectationSerializer.deserializeArray("requestBytes", false);
@@ -179,8 +179,8 @@ public class ExpectationWithResponseSerializerTest {
     public void shouldDeserializeArrayWithError() throws IOException {
         // given
         when(jsonArraySerializer.splitJSONArrayToJSONNodes("requestBytes")).thenReturn(Arrays.asList(new TextNode("requestBytes"), new TextNode("requestBytes")));
-        when(expectationValidator.isValid("\"requestBytes\"")).thenReturn("an error");
-        when(objectMapper.readValue(eq("\"requestBytes\""), same(ExpectationDTO.class))).thenReturn(fullExpectationDTO);
+        when(expectationValidator.isValid(new TextNode("requestBytes"), true)).thenReturn("an error");
+        when(objectMapper.treeToValue(eq(new TextNode("requestBytes")), same(ExpectationDTO.class))).thenReturn(fullExpectationDTO);
 
         // then
         thrown.expect(IllegalArgumentException.class);
@@ -0,0 +1,75 @@
+package org.mockserver.socket;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import org.junit.Test;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.scheduler.Scheduler;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assume.assumeTrue;
+
+public class TransportTest {
+
+    private final MockServerLogger mockServerLogger = new MockServerLogger();
+
+    @Test
+    public void shouldCreateNioEventLoopGroup() {
+        // when
+        EventLoopGroup eventLoopGroup = Transport.NIO.createEventLoopGroup(1, new Scheduler.SchedulerThreadFactory("TransportTest"), mockServerLogger);
+
+        try {
+            // then
+            assertThat(eventLoopGroup, instanceOf(NioEventLoopGroup.class));
+            assertThat(Transport.socketChannelClass(eventLoopGroup), equalTo(NioSocketChannel.class));
+            assertThat(Transport.socketChannelClass(eventLoopGroup.next()), equalTo(NioSocketChannel.class));
+            assertThat(Transport.serverSocketChannelClass(eventLoopGroup), equalTo(NioServerSocketChannel.class));
+        } finally {
+            eventLoopGroup.shutdownGracefully();
+        }
+    }
+
+    @Test
+    public void shouldCreateEpollEventLoopGroupWhenAvailable() {
+        assumeTrue(Epoll.isAvailable());
+
+        // when
+        EventLoopGroup eventLoopGroup = Transport.EPOLL.createEventLoopGroup(1, new Scheduler.SchedulerThreadFactory("TransportTest"), mockServerLogger);
+
+        try {
+            // then
+            assertThat(eventLoopGroup, instanceOf(EpollEventLoopGroup.class));
+            assertThat(Transport.socketChannelClass(eventLoopGroup), equalTo(EpollSocketChannel.class));
+            assertThat(Transport.socketChannelClass(eventLoopGroup.next()), equalTo(EpollSocketChannel.class));
+            assertThat(Transport.serverSocketChannelClass(eventLoopGroup), equalTo(EpollServerSocketChannel.class));
+        } finally {
+            eventLoopGroup.shutdownGracefully();
+        }
+    }
+
+    @Test
+    public void shouldFallbackToNioWhenTransportNotAvailable() {
+        // given - io_uring incubator transport is not on the classpath
+        assertThat(Transport.IO_URING.isAvailable(), is(false));
+
+        // when
+        EventLoopGroup eventLoopGroup = Transport.IO_URING.createEventLoopGroup(1, new Scheduler.SchedulerThreadFactory("TransportTest"), mockServerLogger);
+
+        try {
+            // then
+            assertThat(eventLoopGroup, instanceOf(NioEventLoopGroup.class));
+            assertThat(Transport.socketChannelClass(eventLoopGroup), equalTo(NioSocketChannel.class));
+        } finally {
+            eventLoopGroup.shutdownGracefully();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package org.mockserver.socket.tls;
+
+import io.netty.handler.ssl.OpenSsl;
+import io.netty.handler.ssl.OpenSslSessionContext;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslProvider;
+import org.junit.Test;
+import org.mockserver.logging.MockServerLogger;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockserver.configuration.Configuration.configuration;
+
+public class NettySslContextFactoryTest {
+
+    @Test
+    public void shouldReturnSharedServerSslContextWhenPerHostnameCertificatesDisabled() throws Exception {
+        // given
+        NettySslContextFactory nettySslContextFactory = new NettySslContextFactory(configuration(), new MockServerLogger());
+
+        // when
+        SslContext sslContext = nettySslContextFactory.createServerSslContext("www.some-host.com").get(30, TimeUnit.SECONDS);
+
+        // then
+        assertThat(sslContext, sameInstance(nettySslContextFactory.createServerSslContext()));
+    }
+
+    @Test
+    public void shouldCacheServerSslContextPerHostname() throws Exception {
+        // given
+        NettySslContextFactory nettySslContextFactory = new NettySslContextFactory(configuration().perHostnameCertificateCacheSize(10), new MockServerLogger());
+
+        // when
+        SslContext someHost = nettySslContextFactory.createServerSslContext("www.some-host.com").get(30, TimeUnit.SECONDS);
+        SslContext someHostAgain = nettySslContextFactory.createServerSslContext("WWW.SOME-HOST.COM").get(30, TimeUnit.SECONDS);
+        SslContext otherHost = nettySslContextFactory.createServerSslContext("www.other-host.com").get(30, TimeUnit.SECONDS);
+
+        // then
+        assertThat(someHost, notNullValue());
+        assertThat(someHostAgain, sameInstance(someHost));
+        assertThat(otherHost, not(sameInstance(someHost)));
+        assertThat(someHost, not(sameInstance(nettySslContextFactory.createServerSslContext())));
+    }
+
+    @Test
+    public void shouldReturnSharedServerSslContextWithoutHostname() throws Exception {
+        // given
+        NettySslContextFactory nettySslContextFactory = new NettySslContextFactory(configuration().perHostnameCertificateCacheSize(10), new MockServerLogger());
+
+        // when
+        SslContext sslContext = nettySslContextFactory.createServerSslContext((String) null).get(30, TimeUnit.SECONDS);
+
+        // then
+        assertThat(sslContext, sameInstance(nettySslContextFactory.createServerSslContext()));
+    }
+
+    @Test
+    public void shouldOnlyOfferHttp2UsingAlpnForServerSslContextWithHttp2() throws Exception {
+        // given
+        NettySslContextFactory nettySslContextFactory = new NettySslContextFactory(configuration().http2Enabled(true), new MockServerLogger());
+
+        // when
+        SslContext http1SslContext = nettySslContextFactory.createServerSslContext();
+        SslContext http2SslContext = nettySslContextFactory.createServerSslContext(true);
+        SslContext hostnameSslContext = nettySslContextFactory.createServerSslContext("www.some-host.com", true).get(30, TimeUnit.SECONDS);
+
+        // then
+        assertThat(http1SslContext.applicationProtocolNegotiator().protocols(), empty());
+        assertThat(http2SslContext.applicationProtocolNegotiator().protocols(), contains("h2", "http/1.1"));
+        assertThat(hostnameSslContext, sameInstance(http2SslContext));
+    }
+
+    @Test
+    public void shouldUseJdkTLSProviderByDefault() {
+        // given
+        NettySslContextFactory nettySslContextFactory = new NettySslContextFactory(configuration(), new MockServerLogger());
+
+        // when
+        SslContext serverSslContext = nettySslContextFactory.createServerSslContext();
+        SslContext clientSslContext = nettySslContextFactory.createClientSslContext(false);
+
+        // then
+        assertThat(nettySslContextFactory.sslProvider(), is(SslProvider.JDK));
+        assertThat(serverSslContext.sessionContext().getSessionCacheSize(), is(20480));
+        assertThat(serverSslContext.sessionContext().getSessionTimeout(), is(86400));
+        assertThat(clientSslContext.sessionContext().getSessionCacheSize(), is(20480));
+    }
+
+    @Test
+    public void shouldUseOpenSslTLSProviderWithSessionCacheAndTickets() {
+        // given
+        NettySslContextFactory nettySslContextFactory = new NettySslContextFactory(configuration().tlsProvider(TLSProvider.OPENSSL), new MockServerLogger());
+
+        // when
+        SslContext serverSslContext = nettySslContextFactory.createServerSslContext();
+        SslContext clientSslContext = nettySslContextFactory.createClientSslContext(false);
+
+        // then
+        if (OpenSsl.isAvailable()) {
+            assertThat(nettySslContextFactory.sslProvider(), is(SslProvider.OPENSSL));
+            assertThat(serverSslContext.sessionContext(), instanceOf(OpenSslSessionContext.class));
+            assertThat(((OpenSslSessionContext) serverSslContext.sessionContext()).isSessionCacheEnabled(), is(true));
+            assertThat(clientSslContext.sessionContext(), instanceOf(OpenSslSessionContext.class));
+        } else {
+            // falls back to JDK when native library is not available
+            assertThat(nettySslContextFactory.sslProvider(), is(SslProvider.JDK));
+            assertThat(serverSslContext.isServer(), is(true));
+        }
+    }
+}
@@ -4,10 +4,16 @@ import org.junit.Test;
 import org.mockserver.configuration.Configuration;
 import org.mockserver.logging.MockServerLogger;
 import org.mockserver.socket.tls.KeyAndCertificateFactory;
+import org.mockserver.socket.tls.PrivateKeyAndCertificate;
 
 import java.math.BigInteger;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.List;
 
 import static junit.framework.TestCase.assertTrue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
 import static org.mockserver.configuration.Configuration.configuration;
 
 /**
@@ -31,4 +37,34 @@ public class BCKeyAndCertificateFactoryTest {
         assertTrue("The client cert serial number is non-negative", keyAndCertificateFactory.x509Certificate().getSerialNumber().compareTo(BigInteger.ZERO) > 0);
     }
 
+    @Test
+    public void shouldCreateCertificateForSingleHostnameSignedByCertificateAuthority() throws Exception {
+        // when
+        PrivateKeyAndCertificate privateKeyAndCertificate = keyAndCertificateFactory.buildPrivateKeyAndX509Certificate("www.some-host.com");
+
+        // then
+        X509Certificate x509Certificate = privateKeyAndCertificate.getX509Certificate();
+        x509Certificate.verify(keyAndCertificateFactory.certificateAuthorityX509Certificate().getPublicKey());
+        assertThat(x509Certificate.getSubjectDN().getName(), containsString("CN=www.some-host.com"));
+        assertThat(subjectAlternativeNames(x509Certificate), contains("www.some-host.com"));
+        assertThat(privateKeyAndCertificate.getPrivateKey(), notNullValue());
+    }
+
+    @Test
+    public void shouldCreateCertificateForSingleIpAddress() throws Exception {
+        // when
+        PrivateKeyAndCertificate privateKeyAndCertificate = keyAndCertificateFactory.buildPrivateKeyAndX509Certificate("10.1.2.3");
+
+        // then
+        assertThat(subjectAlternativeNames(privateKeyAndCertificate.getX509Certificate()), contains("10.1.2.3"));
+    }
+
+    private List<String> subjectAlternativeNames(X509Certificate x509Certificate) throws Exception {
+        List<String> subjectAlternativeNames = new ArrayList<>();
+        for (List<?> subjectAlternativeName : x509Certificate.getSubjectAlternativeNames()) {
+            subjectAlternativeNames.add(String.valueOf(subjectAlternativeName.get(1)));
+        }
+        return subjectAlternativeNames;
+    }
+
 }
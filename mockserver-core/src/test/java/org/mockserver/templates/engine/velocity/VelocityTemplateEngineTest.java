@@ -6,6 +6,7 @@ import org.hamcrest.Matcher;
 import org.junit.*;
 import org.junit.rules.ExpectedException;
 import org.mockito.Mock;
+import org.mockserver.cache.LRUCache;
 import org.mockserver.configuration.ConfigurationProperties;
 import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
@@ -87,6 +88,27 @@ public class VelocityTemplateEngineTest {
         ConfigurationProperties.logLevel(originalLogLevel.name());
     }
 
+    @Test
+    public void shouldReuseCompiledTemplateForDifferentRequests() {
+        // given
+        String template = "{" + NEW_LINE +
+            "    'statusCode': 200," + NEW_LINE +
+            "    'body': \"{'path': '$request.path'}\"" + NEW_LINE +
+            "}";
+        VelocityTemplateEngine templateEngine = new VelocityTemplateEngine(mockServerLogger);
+        templateEngine.executeTemplate(template, request().withPath("/warmUp"), HttpResponseDTO.class);
+        long hitCount = LRUCache.allStatistics().get("velocityTemplate").getHitCount();
+
+        // when
+        HttpResponse firstHttpResponse = templateEngine.executeTemplate(template, request().withPath("/firstPath"), HttpResponseDTO.class);
+        HttpResponse secondHttpResponse = templateEngine.executeTemplate(template, request().withPath("/secondPath"), HttpResponseDTO.class);
+
+        // then
+        assertThat(firstHttpResponse, is(response().withStatusCode(200).withBody("{'path': '/firstPath'}")));
+        assertThat(secondHttpResponse, is(response().withStatusCode(200).withBody("{'path': '/secondPath'}")));
+        assertThat(LRUCache.allStatistics().get("velocityTemplate").getHitCount(), greaterThanOrEqualTo(hitCount + 2));
+    }
+
     @Test
     public void shouldHandleHttpRequestsWithVelocityResponseTemplateWithMethodPathAndHeader() throws JsonProcessingException {
         // given
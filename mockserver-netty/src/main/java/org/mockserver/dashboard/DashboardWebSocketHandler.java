@@ -10,6 +10,7 @@ import com.google.common.collect.ImmutableMap;
 import io.netty.channel.*;
 import io.netty.handler.codec.http.DefaultHttpHeaders;
 import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.QueryStringDecoder;
 import io.netty.handler.codec.http.websocketx.*;
 import io.netty.util.AttributeKey;
 import io.netty.util.ReferenceCountUtil;
@@ -35,8 +36,10 @@ import org.slf4j.event.Level;
 
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.google.common.net.HttpHeaders.HOST;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
@@ -58,7 +61,9 @@ public class DashboardWebSocketHandler extends ChannelInboundHandlerAdapter impl
         -> input.getType() == FORWARDED_REQUEST;
     private static final AttributeKey<Boolean> CHANNEL_UPGRADED_FOR_UI_WEB_SOCKET = AttributeKey.valueOf("CHANNEL_UPGRADED_FOR_UI_WEB_SOCKET");
     private static final String UPGRADE_CHANNEL_FOR_UI_WEB_SOCKET_URI = "/_mockserver_ui_websocket";
+    private static final String DELTA_UPDATES_QUERY_PARAMETER = "deltaUpdates";
     private static final int UI_UPDATE_ITEM_LIMIT = 100;
+    private static final long UI_UPDATE_INTERVAL_IN_MILLIS = 500;
     private static ObjectWriter objectWriter;
     private static ObjectMapper objectMapper;
     private final boolean prettyPrint;
@@ -68,11 +73,11 @@ public class DashboardWebSocketHandler extends ChannelInboundHandlerAdapter impl
     private HttpRequestSerializer httpRequestSerializer;
     private WebSocketServerHandshaker handshaker;
     private Map<ChannelOutboundInvoker, HttpRequest> clientRegistry;
+    private final Map<ChannelOutboundInvoker, DashboardClient> dashboardClients = new ConcurrentHashMap<>();
     private RequestMatchers requestMatchers;
     private MockServerEventLog mockServerEventLog;
     private ThreadPoolExecutor scheduler;
     private ScheduledExecutorService throttleExecutorService;
-    private Semaphore semaphore;
 
     public DashboardWebSocketHandler(HttpState httpState, boolean sslEnabledUpstream, boolean prettyPrint) {
         this.httpState = httpState;
@@ -92,15 +97,7 @@ public class DashboardWebSocketHandler extends ChannelInboundHandlerAdapter impl
     @Override
     public void handlerAdded(ChannelHandlerContext ctx) {
         try {
-            scheduler = new ThreadPoolExecutor(
-                1,
-                1,
-                0L,
-                SECONDS,
-                new LinkedBlockingQueue<>(1),
-                Executors.defaultThreadFactory(),
-                new ThreadPoolExecutor.DiscardOldestPolicy()
-            );
+            scheduler = newScheduler();
         } catch (Throwable throwable) {
             mockServerLogger.logEvent(
                 new LogEntry()
@@ -125,7 +122,7 @@ public class DashboardWebSocketHandler extends ChannelInboundHandlerAdapter impl
     public void channelRead(ChannelHandlerContext ctx, Object msg) {
         boolean release = true;
         try {
-            if (msg instanceof FullHttpRequest && ((FullHttpRequest) msg).uri().equals(UPGRADE_CHANNEL_FOR_UI_WEB_SOCKET_URI)) {
+            if (msg instanceof FullHttpRequest && new QueryStringDecoder(((FullHttpRequest) msg).uri()).path().equals(UPGRADE_CHANNEL_FOR_UI_WEB_SOCKET_URI)) {
                 upgradeChannel(ctx, (FullHttpRequest) msg);
                 ctx.channel().attr(CHANNEL_UPGRADED_FOR_UI_WEB_SOCKET).set(true);
             } else if (ctx.channel().attr(CHANNEL_UPGRADED_FOR_UI_WEB_SOCKET).get() != null &&
@@ -148,7 +145,14 @@ public class DashboardWebSocketHandler extends ChannelInboundHandlerAdapter impl
         ctx.flush();
     }
 
+    /**
+     * clients connecting with the query parameter deltaUpdates=true (as the bundled dashboard UI does) receive a full
+     * snapshot (with "type" : "snapshot") when they connect or change their filter and then only what has changed (with
+     * "type" : "delta"), other clients receive a full snapshot whenever anything has changed, in both cases at most
+     * once every tick
+     */
     private void upgradeChannel(final ChannelHandlerContext ctx, FullHttpRequest httpRequest) {
+        List<String> deltaUpdates = new QueryStringDecoder(httpRequest.uri()).parameters().get(DELTA_UPDATES_QUERY_PARAMETER);
         String webSocketURL = (sslEnabledUpstream ? "wss" : "ws") + "://" + httpRequest.headers().get(HOST) + UPGRADE_CHANNEL_FOR_UI_WEB_SOCKET_URI;
         if (MockServerLogger.isEnabled(Level.TRACE)) {
             mockServerLogger.logEvent(
@@ -172,11 +176,17 @@ public class DashboardWebSocketHandler extends ChannelInboundHandlerAdapter impl
                 httpRequest,
                 new DefaultHttpHeaders(),
                 ctx.channel().newPromise()
-            ).addListener((ChannelFutureListener) future -> getClientRegistry().put(ctx, request()));
+            ).addListener((ChannelFutureListener) future -> addClient(ctx, request(), deltaUpdates != null && deltaUpdates.contains("true")));
         }
         registerListeners();
     }
 
+    @VisibleForTesting
+    void addClient(ChannelOutboundInvoker ctx, HttpRequest httpRequest, boolean deltaUpdates) {
+        getClientRegistry().put(ctx, httpRequest);
+        dashboardClients.put(ctx, new DashboardClient(deltaUpdates));
+    }
+
     @VisibleForTesting
     protected DashboardWebSocketHandler registerListeners() {
         if (objectWriter == null) {
@@ -195,56 +205,56 @@ public class DashboardWebSocketHandler extends ChannelInboundHandlerAdapter impl
         if (httpRequestSerializer == null) {
             httpRequestSerializer = new HttpRequestSerializer(mockServerLogger);
         }
-        if (semaphore == null) {
-            semaphore = new Semaphore(1);
+        if (scheduler == null) {
+            scheduler = newScheduler();
         }
         if (throttleExecutorService == null) {
             throttleExecutorService = Executors.newScheduledThreadPool(1);
+            throttleExecutorService.scheduleAtFixedRate(this::sendPendingUpdates, UI_UPDATE_INTERVAL_IN_MILLIS, UI_UPDATE_INTERVAL_IN_MILLIS, MILLISECONDS);
         }
-        if (scheduler == null) {
-            scheduler = new ThreadPoolExecutor(
-                1,
-                1,
-                0L,
-                SECONDS,
-                new LinkedBlockingQueue<>(10),
-                Executors.defaultThreadFactory(),
-                new ThreadPoolExecutor.DiscardOldestPolicy()
-            );
-        }
-        throttleExecutorService.scheduleAtFixedRate(() -> {
-            if (semaphore.availablePermits() == 0) {
-                semaphore.release(1);
-            }
-        }, 0, 1, SECONDS);
         if (mockServerEventLog == null) {
             mockServerEventLog = httpState.getMockServerLog();
             mockServerEventLog.registerListener(this);
             requestMatchers = httpState.getRequestMatchers();
             requestMatchers.registerListener(this);
-            scheduler.submit(() -> {
-                try {
-                    MILLISECONDS.sleep(100);
-                } catch (InterruptedException ignore) {
-                }
-                // ensure any exception added during initialisation are caught
-                updated(mockServerEventLog);
-                updated(requestMatchers, null);
-            });
         }
         return this;
     }
 
+    /**
+     * the queue is not bounded as each client only has one update in progress at a time
+     */
+    private ThreadPoolExecutor newScheduler() {
+        return new ThreadPoolExecutor(
+            1,
+            1,
+            0L,
+            SECONDS,
+            new LinkedBlockingQueue<>(),
+            Executors.defaultThreadFactory()
+        );
+    }
+
     private void handleWebSocketFrame(final ChannelHandlerContext ctx, WebSocketFrame frame) {
         if (frame instanceof CloseWebSocketFrame) {
-            handshaker.close(ctx.channel(), (CloseWebSocketFrame) frame.retain()).addListener((ChannelFutureListener) future -> getClientRegistry().remove(ctx));
+            handshaker.close(ctx.channel(), (CloseWebSocketFrame) frame.retain()).addListener((ChannelFutureListener) future -> {
+                getClientRegistry().remove(ctx);
+                dashboardClients.remove(ctx);
+            });
         } else if (frame instanceof TextWebSocketFrame) {
             try {
                 HttpRequest httpRequest = httpRequestSerializer.deserialize(((TextWebSocketFrame) frame).text());
                 getClientRegistry().put(ctx, httpRequest);
-                sendUpdate(ctx, httpRequest);
+                DashboardClient dashboardClient = dashboardClients.get(ctx);
+                if (dashboardClient != null) {
+                    // filter changed so send a snapshot without waiting for the next tick
+                    dashboardClient.snapshotRequired = true;
+                    throttleExecutorService.execute(this::sendPendingUpdates);
+                } else {
+                    sendUpdate(ctx, httpRequest);
+                }
             } catch (IllegalArgumentException iae) {
-                sendMessage(ctx, null, ImmutableMap.of("error", iae.getMessage()), 2);
+                scheduler.submit(() -> writeMessage(ctx, ImmutableMap.<String, Object>of("error", iae.getMessage())));
             }
         } else if (frame instanceof PingWebSocketFrame) {
             ctx.write(new PongWebSocketFrame(frame.content().retain()));
@@ -253,36 +263,18 @@ public class DashboardWebSocketHandler extends ChannelInboundHandlerAdapter impl
         }
     }
 
-    private void sendMessage(ChannelOutboundInvoker ctx, RequestDefinition httpRequest, ImmutableMap<String, Object> message, int retryCount) {
-        if (semaphore.tryAcquire()) {
-            scheduler.submit(() -> {
-                try {
-                    String text = objectWriter.writeValueAsString(message);
-                    ctx.writeAndFlush(new TextWebSocketFrame(text));
-                } catch (JsonProcessingException jpe) {
-                    mockServerLogger.logEvent(
-                        new LogEntry()
-                            .setLogLevel(Level.ERROR)
-                            .setMessageFormat("exception with serialising UI data " + jpe.getMessage())
-                            .setThrowable(jpe)
-                    );
-                }
-            });
-        } else if (retryCount >= 0) {
-            scheduler.submit(() -> {
-                try {
-                    TimeUnit.MILLISECONDS.sleep(200);
-                } catch (InterruptedException ignore) {
-                }
-                if (httpRequest != null) {
-                    sendUpdate(ctx, httpRequest, retryCount - 1);
-                } else {
-                    sendMessage(ctx, null, message, retryCount - 1);
-                }
-            });
-
+    private void writeMessage(ChannelOutboundInvoker ctx, ImmutableMap<String, Object> message) {
+        try {
+            String text = objectWriter.writeValueAsString(message);
+            ctx.writeAndFlush(new TextWebSocketFrame(text));
+        } catch (JsonProcessingException jpe) {
+            mockServerLogger.logEvent(
+                new LogEntry()
+                    .setLogLevel(Level.ERROR)
+                    .setMessageFormat("exception with serialising UI data " + jpe.getMessage())
+                    .setThrowable(jpe)
+            );
         }
-
     }
 
     @Override
@@ -300,6 +292,7 @@ public class DashboardWebSocketHandler extends ChannelInboundHandlerAdapter impl
 
     @Override
     public void channelInactive(ChannelHandlerContext ctx) {
+        dashboardClients.remove(ctx);
         if (requestMatchers != null) {
             requestMatchers.unregisterListener(this);
         }
@@ -311,118 +304,335 @@ public class DashboardWebSocketHandler extends ChannelInboundHandlerAdapter impl
 
     @Override
     public void updated(MockServerEventLog mockServerLog) {
-        for (Map.Entry<ChannelOutboundInvoker, HttpRequest> registryEntry : getClientRegistry().entrySet()) {
-            sendUpdate(registryEntry.getKey(), registryEntry.getValue());
+        for (DashboardClient dashboardClient : dashboardClients.values()) {
+            dashboardClient.logUpdated = true;
         }
     }
 
     @Override
     public void updated(RequestMatchers requestMatchers, MockServerMatcherNotifier.Cause cause) {
-        for (Map.Entry<ChannelOutboundInvoker, HttpRequest> registryEntry : getClientRegistry().entrySet()) {
-            sendUpdate(registryEntry.getKey(), registryEntry.getValue());
+        for (DashboardClient dashboardClient : dashboardClients.values()) {
+            dashboardClient.expectationsUpdated = true;
+        }
+    }
+
+    /**
+     * called on a fixed tick so any number of log or expectation changes between ticks result in at most one update per
+     * client, a client only has one update in progress at a time, any changes during an update are sent on a later tick
+     */
+    private void sendPendingUpdates() {
+        try {
+            for (Map.Entry<ChannelOutboundInvoker, DashboardClient> clientEntry : dashboardClients.entrySet()) {
+                ChannelOutboundInvoker ctx = clientEntry.getKey();
+                DashboardClient dashboardClient = clientEntry.getValue();
+                HttpRequest httpRequest = getClientRegistry().get(ctx);
+                if (httpRequest == null) {
+                    dashboardClients.remove(ctx);
+                } else if (dashboardClient.updatePending() && dashboardClient.updateInProgress.compareAndSet(false, true)) {
+                    boolean snapshotRequired = dashboardClient.snapshotRequired || !dashboardClient.deltaUpdates;
+                    boolean logUpdated = dashboardClient.logUpdated;
+                    boolean expectationsUpdated = dashboardClient.expectationsUpdated;
+                    dashboardClient.snapshotRequired = false;
+                    dashboardClient.logUpdated = false;
+                    dashboardClient.expectationsUpdated = false;
+                    if (snapshotRequired) {
+                        sendSnapshot(ctx, httpRequest, dashboardClient);
+                    } else {
+                        sendDelta(ctx, httpRequest, dashboardClient, logUpdated, expectationsUpdated);
+                    }
+                }
+            }
+        } catch (Throwable throwable) {
+            mockServerLogger.logEvent(
+                new LogEntry()
+                    .setLogLevel(Level.ERROR)
+                    .setMessageFormat("exception sending UI updates " + throwable.getMessage())
+                    .setThrowable(throwable)
+            );
         }
     }
 
     @VisibleForTesting
     void sendUpdate(ChannelOutboundInvoker ctx, RequestDefinition httpRequest) {
-        sendUpdate(ctx, httpRequest, 2);
+        sendSnapshot(ctx, httpRequest, null);
     }
 
-    private void sendUpdate(ChannelOutboundInvoker ctx, RequestDefinition httpRequest, int retryCount) {
-        DescriptionProcessor activeExpectationsDescriptionProcessor = new DescriptionProcessor();
-        DescriptionProcessor logMessagesDescriptionProcessor = new DescriptionProcessor();
-        DescriptionProcessor recordedRequestsDescriptionProcessor = new DescriptionProcessor();
-        DescriptionProcessor proxiedRequestsDescriptionProcessor = new DescriptionProcessor();
+    /**
+     * sends every log entry and active expectation for the filter, for clients receiving deltas this also records the
+     * log sequence and expectations sent so the next update only contains what has changed since this snapshot
+     */
+    private void sendSnapshot(ChannelOutboundInvoker ctx, RequestDefinition httpRequest, DashboardClient dashboardClient) {
+        // read before the snapshot is taken so a concurrent clear results in another snapshot instead of being missed
+        long clearCount = mockServerEventLog.clearCount();
         mockServerEventLog
             .retrieveLogEntriesInReverseForUI(
                 httpRequest,
+                0,
                 logEntry -> true,
                 DashboardLogEntryDTO::new,
-                reverseLogEventsStream -> {
-                    List<ImmutableMap<String, Object>> activeExpectations = requestMatchers
-                        .retrieveRequestMatchers(httpRequest)
-                        .stream()
-                        .limit(UI_UPDATE_ITEM_LIMIT)
-                        .map(requestMatcher -> {
-                            JsonNode expectationJsonNode = objectMapper.valueToTree(new ExpectationDTO(requestMatcher.getExpectation()));
-                            if (requestMatcher.getExpectation().getHttpRequest() instanceof OpenAPIDefinition) {
-                                JsonNode httpRequestJsonNode = expectationJsonNode.get("httpRequest");
-                                if (httpRequestJsonNode instanceof ObjectNode) {
-                                    ((ObjectNode) httpRequestJsonNode).set("requestMatchers", objectMapper.valueToTree(requestMatcher.getHttpRequests()));
-                                }
+                (reverseLogEventsStream, nextLogSequence) -> {
+                    LogUpdate logUpdate = new LogUpdate(reverseLogEventsStream);
+                    submit(dashboardClient, () -> {
+                        List<ImmutableMap<String, Object>> activeExpectations = activeExpectations(httpRequest);
+                        ImmutableMap<String, Object> message = ImmutableMap.of(
+                            "logMessages", logUpdate.logMessages,
+                            "activeExpectations", activeExpectations,
+                            "recordedRequests", logUpdate.recordedRequests,
+                            "proxiedRequests", logUpdate.proxiedRequests // reverse
+                        );
+                        if (dashboardClient != null && dashboardClient.deltaUpdates) {
+                            dashboardClient.logSequence = nextLogSequence;
+                            dashboardClient.clearCount = clearCount;
+                            dashboardClient.expectations = expectationValues(activeExpectations);
+                            writeMessage(ctx, ImmutableMap.<String, Object>builder().put("type", "snapshot").putAll(message).build());
+                        } else {
+                            writeMessage(ctx, message);
+                        }
+                    });
+                }
+            )
+            .whenComplete((ignore, throwable) -> updateFailed(dashboardClient, throwable));
+    }
+
+    /**
+     * sends only the log entries added since the last update and the expectations added, changed or removed since the
+     * last update, with the keys of all active expectations in match order so the client can order them, log entries
+     * are grouped by correlation id within each update only; if the log has been reset or
+     * cleared since the last update, or more log entries were added than fit in a single update, a snapshot is sent on
+     * the next tick instead
+     */
+    private void sendDelta(ChannelOutboundInvoker ctx, RequestDefinition httpRequest, DashboardClient dashboardClient, boolean logUpdated, boolean expectationsUpdated) {
+        if (logUpdated) {
+            mockServerEventLog
+                .retrieveLogEntriesInReverseForUI(
+                    httpRequest,
+                    dashboardClient.logSequence,
+                    logEntry -> true,
+                    DashboardLogEntryDTO::new,
+                    (reverseLogEventsStream, nextLogSequence) -> {
+                        if (mockServerEventLog.clearCount() != dashboardClient.clearCount) {
+                            dashboardClient.snapshotRequired = true;
+                            dashboardClient.updateInProgress.set(false);
+                        } else {
+                            LogUpdate logUpdate = new LogUpdate(reverseLogEventsStream);
+                            if (logUpdate.truncated) {
+                                // entries beyond the limit can't be sent later without resending those already sent
+                                dashboardClient.snapshotRequired = true;
+                                dashboardClient.updateInProgress.set(false);
+                            } else {
+                                submit(dashboardClient, () -> {
+                                    dashboardClient.logSequence = nextLogSequence;
+                                    writeDelta(ctx, httpRequest, dashboardClient, logUpdate, expectationsUpdated);
+                                });
                             }
-                            Description description = activeExpectationsDescriptionProcessor.description(requestMatcher.getExpectation().getHttpRequest(), requestMatcher.getExpectation().getId());
-                            return ImmutableMap.of(
-                                "key", requestMatcher.getExpectation().getId(),
-                                "description", description != null ? description : requestMatcher.getExpectation().getId(),
-                                "value", expectationJsonNode
-                            );
-                        })
-                        .collect(Collectors.toList());
-                    List<Map<String, Object>> proxiedRequests = new LinkedList<>();
-                    List<Map<String, Object>> recordedRequests = new LinkedList<>();
-                    List<Object> logMessages = new LinkedList<>();
-                    Map<String, DashboardLogEntryDTOGroup> logEntryGroups = new HashMap<>();
-                    reverseLogEventsStream
-                        .forEach(logEntryDTO -> {
-                            if (logEntryDTO != null) {
-                                if (logMessages.size() < UI_UPDATE_ITEM_LIMIT) {
-                                    DashboardLogEntryDTO dashboardLogEntryDTO = logEntryDTO.setDescription(logMessagesDescriptionProcessor.description(logEntryDTO));
-                                    if (isNotBlank(logEntryDTO.getCorrelationId()) && logEntryDTO.getType() != TRACE) {
-                                        DashboardLogEntryDTOGroup logEntryGroup = logEntryGroups.get(logEntryDTO.getCorrelationId());
-                                        if (logEntryGroup == null) {
-                                            logEntryGroup = new DashboardLogEntryDTOGroup(logMessagesDescriptionProcessor);
-                                            logEntryGroups.put(logEntryDTO.getCorrelationId(), logEntryGroup);
-                                            logMessages.add(logEntryGroup);
-                                        }
-                                        logEntryGroup.getLogEntryDTOS().add(dashboardLogEntryDTO);
-                                    } else {
-                                        logMessages.add(dashboardLogEntryDTO);
-                                    }
-                                }
-                                if (recordedRequestsPredicate.test(logEntryDTO) && recordedRequests.size() < UI_UPDATE_ITEM_LIMIT) {
-                                    for (RequestDefinition request : logEntryDTO.getHttpRequests()) {
-                                        if (request != null) {
-                                            Map<String, Object> entry = new HashMap<>();
-                                            entry.put("key", logEntryDTO.getId() + "_request");
-                                            Description description = recordedRequestsDescriptionProcessor.description(request);
-                                            if (description != null) {
-                                                entry.put("description", description);
-                                            }
-                                            entry.put("value", request);
-                                            recordedRequests.add(entry);
-                                        }
-                                    }
+                        }
+                    }
+                )
+                .whenComplete((ignore, throwable) -> updateFailed(dashboardClient, throwable));
+        } else {
+            submit(dashboardClient, () -> writeDelta(ctx, httpRequest, dashboardClient, null, expectationsUpdated));
+        }
+    }
+
+    private void writeDelta(ChannelOutboundInvoker ctx, RequestDefinition httpRequest, DashboardClient dashboardClient, LogUpdate logUpdate, boolean expectationsUpdated) {
+        ImmutableMap.Builder<String, Object> message = ImmutableMap.<String, Object>builder().put("type", "delta");
+        boolean changed = false;
+        if (logUpdate != null && !logUpdate.logMessages.isEmpty()) {
+            message
+                .put("logMessages", logUpdate.logMessages)
+                .put("recordedRequests", logUpdate.recordedRequests)
+                .put("proxiedRequests", logUpdate.proxiedRequests);
+            changed = true;
+        }
+        if (expectationsUpdated) {
+            Map<String, JsonNode> previousExpectations = dashboardClient.expectations;
+            List<ImmutableMap<String, Object>> activeExpectations = activeExpectations(httpRequest);
+            List<ImmutableMap<String, Object>> updatedExpectations = activeExpectations
+                .stream()
+                .filter(activeExpectation -> !activeExpectation.get("value").equals(previousExpectations.get((String) activeExpectation.get("key"))))
+                .collect(Collectors.toList());
+            Map<String, JsonNode> expectations = expectationValues(activeExpectations);
+            List<String> removedExpectations = previousExpectations
+                .keySet()
+                .stream()
+                .filter(key -> !expectations.containsKey(key))
+                .collect(Collectors.toList());
+            dashboardClient.expectations = expectations;
+            if (!updatedExpectations.isEmpty() || !removedExpectations.isEmpty()) {
+                message
+                    .put("updatedExpectations", updatedExpectations)
+                    .put("removedExpectations", removedExpectations)
+                    .put("activeExpectationKeys", expectationKeys(activeExpectations));
+                changed = true;
+            }
+        }
+        if (changed) {
+            writeMessage(ctx, message.build());
+        }
+    }
+
+    /**
+     * if the log entries couldn't be retrieved the next update is a snapshot, so no log entries are missed
+     */
+    private void updateFailed(DashboardClient dashboardClient, Throwable throwable) {
+        if (throwable != null) {
+            mockServerLogger.logEvent(
+                new LogEntry()
+                    .setLogLevel(Level.ERROR)
+                    .setMessageFormat("exception sending UI updates " + throwable.getMessage())
+                    .setThrowable(throwable)
+            );
+            if (dashboardClient != null) {
+                dashboardClient.snapshotRequired = true;
+                dashboardClient.updateInProgress.set(false);
+            }
+        }
+    }
+
+    private void submit(DashboardClient dashboardClient, Runnable runnable) {
+        scheduler.submit(() -> {
+            try {
+                runnable.run();
+            } finally {
+                if (dashboardClient != null) {
+                    dashboardClient.updateInProgress.set(false);
+                }
+            }
+        });
+    }
+
+    private List<ImmutableMap<String, Object>> activeExpectations(RequestDefinition httpRequest) {
+        DescriptionProcessor activeExpectationsDescriptionProcessor = new DescriptionProcessor();
+        return requestMatchers
+            .retrieveRequestMatchers(httpRequest)
+            .stream()
+            .limit(UI_UPDATE_ITEM_LIMIT)
+            .map(requestMatcher -> {
+                JsonNode expectationJsonNode = objectMapper.valueToTree(new ExpectationDTO(requestMatcher.getExpectation()));
+                if (requestMatcher.getExpectation().getHttpRequest() instanceof OpenAPIDefinition) {
+                    JsonNode httpRequestJsonNode = expectationJsonNode.get("httpRequest");
+                    if (httpRequestJsonNode instanceof ObjectNode) {
+                        ((ObjectNode) httpRequestJsonNode).set("requestMatchers", objectMapper.valueToTree(requestMatcher.getHttpRequests()));
+                    }
+                }
+                Description description = activeExpectationsDescriptionProcessor.description(requestMatcher.getExpectation().getHttpRequest(), requestMatcher.getExpectation().getId());
+                return ImmutableMap.<String, Object>of(
+                    "key", requestMatcher.getExpectation().getId(),
+                    "description", description != null ? description : requestMatcher.getExpectation().getId(),
+                    "value", expectationJsonNode
+                );
+            })
+            .collect(Collectors.toList());
+    }
+
+    private List<String> expectationKeys(List<ImmutableMap<String, Object>> activeExpectations) {
+        return activeExpectations
+            .stream()
+            .map(activeExpectation -> (String) activeExpectation.get("key"))
+            .collect(Collectors.toList());
+    }
+
+    private Map<String, JsonNode> expectationValues(List<ImmutableMap<String, Object>> activeExpectations) {
+        Map<String, JsonNode> expectationValues = new HashMap<>();
+        for (ImmutableMap<String, Object> activeExpectation : activeExpectations) {
+            expectationValues.put((String) activeExpectation.get("key"), (JsonNode) activeExpectation.get("value"));
+        }
+        return expectationValues;
+    }
+
+    private static class LogUpdate {
+
+        private final List<Object> logMessages = new LinkedList<>();
+        private final List<Map<String, Object>> recordedRequests = new LinkedList<>();
+        private final List<Map<String, Object>> proxiedRequests = new LinkedList<>();
+        private boolean truncated;
+
+        private LogUpdate(Stream<DashboardLogEntryDTO> reverseLogEventsStream) {
+            DescriptionProcessor logMessagesDescriptionProcessor = new DescriptionProcessor();
+            DescriptionProcessor recordedRequestsDescriptionProcessor = new DescriptionProcessor();
+            DescriptionProcessor proxiedRequestsDescriptionProcessor = new DescriptionProcessor();
+            Map<String, DashboardLogEntryDTOGroup> logEntryGroups = new HashMap<>();
+            reverseLogEventsStream
+                .forEach(logEntryDTO -> {
+                    if (logEntryDTO != null) {
+                        if (logMessages.size() < UI_UPDATE_ITEM_LIMIT) {
+                            DashboardLogEntryDTO dashboardLogEntryDTO = logEntryDTO.setDescription(logMessagesDescriptionProcessor.description(logEntryDTO));
+                            if (isNotBlank(logEntryDTO.getCorrelationId()) && logEntryDTO.getType() != TRACE) {
+                                DashboardLogEntryDTOGroup logEntryGroup = logEntryGroups.get(logEntryDTO.getCorrelationId());
+                                if (logEntryGroup == null) {
+                                    logEntryGroup = new DashboardLogEntryDTOGroup(logMessagesDescriptionProcessor);
+                                    logEntryGroups.put(logEntryDTO.getCorrelationId(), logEntryGroup);
+                                    logMessages.add(logEntryGroup);
                                 }
-                                if (proxiedRequestsPredicate.test(logEntryDTO) && proxiedRequests.size() < UI_UPDATE_ITEM_LIMIT) {
-                                    Map<String, Object> value = new HashMap<>();
-                                    if (logEntryDTO.getHttpRequest() != null) {
-                                        value.put("httpRequest", logEntryDTO.getHttpRequest());
-                                    }
-                                    if (logEntryDTO.getHttpResponse() != null) {
-                                        value.put("httpResponse", logEntryDTO.getHttpResponse());
-                                    }
+                                logEntryGroup.getLogEntryDTOS().add(dashboardLogEntryDTO);
+                            } else {
+                                logMessages.add(dashboardLogEntryDTO);
+                            }
+                        } else {
+                            truncated = true;
+                        }
+                        boolean recordedRequest = recordedRequestsPredicate.test(logEntryDTO);
+                        if (recordedRequest && recordedRequests.size() >= UI_UPDATE_ITEM_LIMIT) {
+                            truncated = true;
+                        } else if (recordedRequest) {
+                            for (RequestDefinition request : logEntryDTO.getHttpRequests()) {
+                                if (request != null) {
                                     Map<String, Object> entry = new HashMap<>();
-                                    entry.put("key", logEntryDTO.getId() + "_proxied");
-                                    Description description = proxiedRequestsDescriptionProcessor.description(logEntryDTO.getHttpRequest());
+                                    entry.put("key", logEntryDTO.getId() + "_request");
+                                    Description description = recordedRequestsDescriptionProcessor.description(request);
                                     if (description != null) {
                                         entry.put("description", description);
                                     }
-                                    entry.put("value", value);
-                                    if (!value.isEmpty()) {
-                                        proxiedRequests.add(entry);
-                                    }
+                                    entry.put("value", request);
+                                    recordedRequests.add(entry);
                                 }
                             }
-                        });
-                    sendMessage(ctx, httpRequest, ImmutableMap.of(
-                        "logMessages", logMessages,
-                        "activeExpectations", activeExpectations,
-                        "recordedRequests", recordedRequests,
-                        "proxiedRequests", proxiedRequests // reverse
-                    ), retryCount);
-                }
-            );
+                        }
+                        boolean proxiedRequest = proxiedRequestsPredicate.test(logEntryDTO);
+                        if (proxiedRequest && proxiedRequests.size() >= UI_UPDATE_ITEM_LIMIT) {
+                            truncated = true;
+                        } else if (proxiedRequest) {
+                            Map<String, Object> value = new HashMap<>();
+                            if (logEntryDTO.getHttpRequest() != null) {
+                                value.put("httpRequest", logEntryDTO.getHttpRequest());
+                            }
+                            if (logEntryDTO.getHttpResponse() != null) {
+                                value.put("httpResponse", logEntryDTO.getHttpResponse());
+                            }
+                            Map<String, Object> entry = new HashMap<>();
+                            entry.put("key", logEntryDTO.getId() + "_proxied");
+                            Description description = proxiedRequestsDescriptionProcessor.description(logEntryDTO.getHttpRequest());
+                            if (description != null) {
+                                entry.put("description", description);
+                            }
+                            entry.put("value", value);
+                            if (!value.isEmpty()) {
+                                proxiedRequests.add(entry);
+                            }
+                        }
+                    }
+                });
+        }
+    }
+
+    private static class DashboardClient {
+
+        private final boolean deltaUpdates;
+        private final AtomicBoolean updateInProgress = new AtomicBoolean(false);
+        private volatile boolean snapshotRequired = true;
+        private volatile boolean logUpdated;
+        private volatile boolean expectationsUpdated;
+        private volatile long logSequence;
+        private volatile long clearCount;
+        private volatile Map<String, JsonNode> expectations = new HashMap<>();
+
+        private DashboardClient(boolean deltaUpdates) {
+            this.deltaUpdates = deltaUpdates;
+        }
+
+        private boolean updatePending() {
+            return snapshotRequired || logUpdated || expectationsUpdated;
+        }
     }
 
 }
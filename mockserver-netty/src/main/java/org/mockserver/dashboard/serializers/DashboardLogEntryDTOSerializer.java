@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import com.google.common.collect.ImmutableMap;
 import org.mockserver.dashboard.model.DashboardLogEntryDTO;
+import org.mockserver.matchers.MatchFailureSummary;
 import org.mockserver.model.NottableString;
 
 import java.io.IOException;
@@ -45,7 +46,7 @@ public class DashboardLogEntryDTOSerializer extends StdSerializer<DashboardLogEn
                     "value", messageFormatParts[i]
                 ));
                 if (arguments != null && i < arguments.length) {
-                    if (arguments[i] instanceof String || arguments[i] instanceof NottableString) {
+                    if (arguments[i] instanceof String || arguments[i] instanceof NottableString || arguments[i] instanceof MatchFailureSummary) {
                         String[] split = String.valueOf(arguments[i]).split("\n");
                         if (arguments[i].equals(logEntry.getBecause())) {
                             messageParts.add(ImmutableMap.of(
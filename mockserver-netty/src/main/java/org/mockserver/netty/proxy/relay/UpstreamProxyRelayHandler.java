@@ -6,11 +6,13 @@ import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslHandler;
 import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
 import org.slf4j.event.Level;
 
+import java.net.InetSocketAddress;
 import java.nio.channels.ClosedChannelException;
 import java.nio.channels.ClosedSelectorException;
 
@@ -41,7 +43,14 @@ public class UpstreamProxyRelayHandler extends SimpleChannelInboundHandler<FullH
     @Override
     public void channelRead0(final ChannelHandlerContext ctx, final FullHttpRequest request) {
         if (isSslEnabledDownstream(upstreamChannel) && downstreamChannel.pipeline().get(SslHandler.class) == null) {
-            downstreamChannel.pipeline().addFirst(nettySslContextFactory(ctx.channel()).createClientSslContext(true).newHandler(ctx.alloc()));
+            SslContext clientSslContext = nettySslContextFactory(ctx.channel()).createClientSslContext(true);
+            if (downstreamChannel.remoteAddress() instanceof InetSocketAddress) {
+                // peer host and port allow TLS sessions to be resumed for the same upstream host
+                InetSocketAddress remoteAddress = (InetSocketAddress) downstreamChannel.remoteAddress();
+                downstreamChannel.pipeline().addFirst(clientSslContext.newHandler(ctx.alloc(), remoteAddress.getHostString(), remoteAddress.getPort()));
+            } else {
+                downstreamChannel.pipeline().addFirst(clientSslContext.newHandler(ctx.alloc()));
+            }
         }
         downstreamChannel.writeAndFlush(request).addListener((ChannelFutureListener) future -> {
             if (future.isSuccess()) {
@@ -4,16 +4,21 @@ import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.*;
 import io.netty.handler.codec.ReplayingDecoder;
+import io.netty.handler.codec.http.FullHttpRequest;
 import io.netty.handler.codec.http.HttpContentDecompressor;
 import io.netty.handler.codec.http.HttpObjectAggregator;
 import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.codec.http.HttpServerUpgradeHandler;
+import io.netty.handler.codec.http2.*;
 import io.netty.handler.codec.socksx.v4.Socks4ServerDecoder;
 import io.netty.handler.codec.socksx.v4.Socks4ServerEncoder;
 import io.netty.handler.codec.socksx.v5.Socks5InitialRequestDecoder;
 import io.netty.handler.codec.socksx.v5.Socks5ServerEncoder;
 import io.netty.handler.ssl.SslHandler;
+import io.netty.util.AsciiString;
 import io.netty.util.AttributeKey;
 import org.apache.commons.lang3.StringUtils;
+import org.mockserver.codec.Http2ExtensionHeadersRemover;
 import org.mockserver.codec.MockServerHttpServerCodec;
 import org.mockserver.configuration.Configuration;
 import org.mockserver.dashboard.DashboardWebSocketHandler;
@@ -39,6 +44,7 @@ import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.nio.charset.StandardCharsets;
+import java.security.cert.Certificate;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -133,6 +139,9 @@ public class PortUnificationHandler extends ReplayingDecoder<Void> {
         } else if (isTls(msg)) {
             logStage(ctx, "adding TLS decoders");
             enableTls(ctx, msg);
+        } else if (isHttp2Enabled(ctx) && isHttp2(msg)) {
+            logStage(ctx, "adding HTTP2 decoders");
+            switchToHttp2(ctx, msg);
         } else if (isHttp(msg)) {
             logStage(ctx, "adding HTTP decoders");
             switchToHttp(ctx, msg);
@@ -191,7 +200,7 @@ public class PortUnificationHandler extends ReplayingDecoder<Void> {
 
     private void enableTls(ChannelHandlerContext ctx, ByteBuf msg) {
         ChannelPipeline pipeline = ctx.pipeline();
-        pipeline.addFirst(new SniHandler(configuration, nettySslContextFactory));
+        pipeline.addFirst(new SniHandler(configuration, nettySslContextFactory, isHttp2Enabled(ctx)));
         enableSslUpstreamAndDownstream(ctx.channel());
 
         // re-unify (with SSL enabled)
@@ -214,14 +223,31 @@ public class PortUnificationHandler extends ReplayingDecoder<Void> {
     private void switchToHttp(ChannelHandlerContext ctx, ByteBuf msg) {
         ChannelPipeline pipeline = ctx.pipeline();
 
-        addLastIfNotPresent(pipeline, new HttpServerCodec(
+        HttpServerCodec httpServerCodec = new HttpServerCodec(
             configuration.maxInitialLineLength(),
             configuration.maxHeaderSize(),
             configuration.maxChunkSize()
-        ));
+        );
+        addLastIfNotPresent(pipeline, httpServerCodec);
         addLastIfNotPresent(pipeline, new HttpContentDecompressor());
         addLastIfNotPresent(pipeline, httpContentLengthRemover);
         addLastIfNotPresent(pipeline, new HttpObjectAggregator(Integer.MAX_VALUE));
+        if (isHttp2Enabled(ctx) && !configuration.tlsMutualAuthenticationRequired() && !isSslEnabledUpstream(ctx.channel()) && pipeline.context(httpServerCodec) != null && pipeline.get(HttpServerUpgradeHandler.class) == null) {
+            // h2c upgrade, over TLS HTTP2 is negotiated using ALPN instead
+            pipeline.addAfter(pipeline.context(httpServerCodec).name(), null, new HttpServerUpgradeHandler(httpServerCodec, protocol -> {
+                if (AsciiString.contentEquals(Http2CodecUtil.HTTP_UPGRADE_PROTOCOL_NAME, protocol)) {
+                    return new Http2ServerUpgradeCodec(Http2FrameCodecBuilder.forServer().build(), new Http2MultiplexHandler(http2StreamInitializer(ctx))) {
+                        @Override
+                        public void upgradeTo(ChannelHandlerContext upgradeCtx, FullHttpRequest upgradeRequest) {
+                            super.upgradeTo(upgradeCtx, upgradeRequest);
+                            removeHttpHandlers(upgradeCtx.pipeline());
+                        }
+                    };
+                } else {
+                    return null;
+                }
+            }, Integer.MAX_VALUE));
+        }
         if (configuration.tlsMutualAuthenticationRequired() && !isSslEnabledUpstream(ctx.channel())) {
             HttpResponse httpResponse = response()
                 .withStatusCode(426)
@@ -258,6 +284,99 @@ public class PortUnificationHandler extends ReplayingDecoder<Void> {
         }
     }
 
+    private boolean isHttp2Enabled(ChannelHandlerContext ctx) {
+        // relayed connections (i.e. SOCKS) only support HTTP/1.1
+        return configuration.http2Enabled() && !Boolean.TRUE.equals(ctx.channel().attr(PROXYING).get());
+    }
+
+    private boolean isHttp2(ByteBuf msg) {
+        // connection preface is sent with prior knowledge (h2c) or after HTTP2 is negotiated using ALPN (h2)
+        return msg.toString(msg.readerIndex(), 8, StandardCharsets.US_ASCII).startsWith("PRI * HT");
+    }
+
+    private void switchToHttp2(ChannelHandlerContext ctx, ByteBuf msg) {
+        if (configuration.tlsMutualAuthenticationRequired() && !isSslEnabledUpstream(ctx.channel())) {
+            if (MockServerLogger.isEnabled(Level.INFO)) {
+                mockServerLogger.logEvent(
+                    new LogEntry()
+                        .setLogLevel(Level.INFO)
+                        .setMessageFormat("no tls for HTTP2 connection:{}closing connection")
+                        .setArguments(ctx.channel().localAddress())
+                );
+            }
+            msg.skipBytes(actualReadableBytes());
+            ctx.close();
+        } else {
+            ChannelPipeline pipeline = ctx.pipeline();
+            pipeline.addLast(Http2FrameCodecBuilder.forServer().build());
+            pipeline.addLast(new Http2MultiplexHandler(http2StreamInitializer(ctx)));
+            pipeline.remove(this);
+
+            ctx.channel().attr(LOCAL_HOST_HEADERS).set(getLocalAddresses(ctx));
+
+            // fire message back through pipeline
+            ctx.fireChannelRead(msg.readBytes(actualReadableBytes()));
+        }
+    }
+
+    /**
+     * each HTTP2 stream is a child channel of the connection with its own pipeline, so each request and response is
+     * converted to and from the same objects as HTTP/1.1 and handled by the same handlers
+     */
+    private ChannelHandler http2StreamInitializer(ChannelHandlerContext ctx) {
+        Channel connection = ctx.channel();
+        boolean sslEnabledUpstream = isSslEnabledUpstream(connection);
+        Certificate[] clientCertificates = SniHandler.retrieveClientCertificates(mockServerLogger, ctx);
+        return new ChannelInitializer<Channel>() {
+            @Override
+            protected void initChannel(Channel stream) {
+                copyAttribute(connection, stream, TLS_ENABLED_UPSTREAM);
+                copyAttribute(connection, stream, TLS_ENABLED_DOWNSTREAM);
+                copyAttribute(connection, stream, NETTY_SSL_CONTEXT_FACTORY);
+                copyAttribute(connection, stream, PROXYING);
+                copyAttribute(connection, stream, REMOTE_SOCKET);
+                if (connection.attr(LOCAL_HOST_HEADERS).get() == null) {
+                    connection.attr(LOCAL_HOST_HEADERS).set(getLocalAddresses(ctx));
+                }
+                copyAttribute(connection, stream, LOCAL_HOST_HEADERS);
+
+                ChannelPipeline pipeline = stream.pipeline();
+                pipeline.addLast(new Http2StreamFrameToHttpObjectCodec(true));
+                pipeline.addLast(new HttpContentDecompressor());
+                pipeline.addLast(httpContentLengthRemover);
+                pipeline.addLast(new HttpObjectAggregator(Integer.MAX_VALUE));
+                pipeline.addLast(Http2ExtensionHeadersRemover.INSTANCE);
+                pipeline.addLast(new MockServerHttpServerCodec(configuration, mockServerLogger, sslEnabledUpstream, connection.localAddress(), clientCertificates));
+                pipeline.addLast(new HttpRequestHandler(configuration, server, httpState, actionHandler));
+            }
+        };
+    }
+
+    private <T> void copyAttribute(Channel from, Channel to, AttributeKey<T> key) {
+        T value = from.attr(key).get();
+        if (value != null) {
+            to.attr(key).set(value);
+        }
+    }
+
+    private void removeHttpHandlers(ChannelPipeline pipeline) {
+        List<Class<? extends ChannelHandler>> httpHandlerClasses = Arrays.asList(
+            HttpContentDecompressor.class,
+            HttpContentLengthRemover.class,
+            HttpObjectAggregator.class,
+            CallbackWebSocketServerHandler.class,
+            DashboardWebSocketHandler.class,
+            MockServerHttpServerCodec.class,
+            HttpRequestHandler.class
+        );
+        // exact class is matched as HttpServerUpgradeHandler is also an HttpObjectAggregator
+        for (ChannelHandler channelHandler : pipeline.toMap().values()) {
+            if (httpHandlerClasses.contains(channelHandler.getClass())) {
+                pipeline.remove(channelHandler);
+            }
+        }
+    }
+
     private boolean isProxyConnected(ByteBuf msg) {
         return msg.toString(msg.readerIndex(), 8, StandardCharsets.US_ASCII).startsWith(PROXIED);
     }
@@ -1,2 +1,2 @@
-(window.webpackJsonp=window.webpackJsonp||[]).push([[0],{249:function(e,t,n){e.exports=n(476)},253:function(e,t,n){e.exports=n(475)},41:function(e,t,n){"use strict";n.d(t,"a",function(){return a}),n.d(t,"d",function(){return i}),n.d(t,"f",function(){return l}),n.d(t,"c",function(){return r}),n.d(t,"g",function(){return o}),n.d(t,"b",function(){return c}),n.d(t,"e",function(){return s});var a="CONNECT_SOCKET",i="SEND_MESSAGE",l=function(e,t,n,a){return function(l){return l(function(e,t,n,a){return{type:i,message:e,host:t,port:n,secure:a}}(e,t,n,a))}},r="MESSAGE_RECEIVED",o=function(e){return{type:r,entities:e}},c="DISCONNECT_SOCKET",s=function(){return function(e){return e({type:c})}}},460:function(e,t,n){},461:function(e,t,n){},462:function(e,t,n){},475:function(e,t,n){"use strict";n.r(t);var a=n(0),i=n.n(a),l=n(15),r=n(35),o=n(20),c=n(21),s=n(24),d=n(22),p=n(25),u=n(478),m=n(479),y=n(481),g=n(477),b=n(14),v=n(123),h=n.n(v),f=n(124),x=n.n(f),E=n(42),k=n(41);function w(e,t){var n="undefined"!==typeof Symbol&&e[Symbol.iterator]||e["@@iterator"];if(!n){if(Array.isArray(e)||(n=function(e,t){if(!e)return;if("string"===typeof e)return O(e,t);var n=Object.prototype.toString.call(e).slice(8,-1);"Object"===n&&e.constructor&&(n=e.constructor.name);if("Map"===n||"Set"===n)return Array.from(e);if("Arguments"===n||/^(?:Ui|I)nt(?:8|16|32)(?:Clamped)?Array$/.test(n))return O(e,t)}(e))||t&&e&&"number"===typeof e.length){n&&(e=n);var a=0,i=function(){};return{s:i,n:function(){return a>=e.length?{done:!0}:{done:!1,value:e[a++]}},e:function(e){throw e},f:i}}throw new TypeError("Invalid attempt to iterate non-iterable instance.\nIn order to be iterable, non-array objects must have a [Symbol.iterator]() method.")}var l,r=!0,o=!1;return{s:function(){n=n.call(e)},n:function(){var e=n.next();return r=e.done,e},e:function(e){o=!0,l=e},f:function(){try{r||null==n.return||n.return()}finally{if(o)throw l}}}}function O(e,t){(null==t||t>e.length)&&(t=e.length);for(var n=0,a=new Array(t);n<t;n++)a[n]=e[n];return a}var j=function(e){var t,n=void 0,a=w(e);try{for(a.s();!(t=a.n()).done;){var i,l=t.value,r=!1,o=w(l.values);try{for(o.s();!(i=o.n()).done;){i.value&&(r=!0)}}catch(c){o.e(c)}finally{o.f()}l.name&&r&&(n||(n=[]),n.push(l))}}catch(c){a.e(c)}finally{a.f()}return n},S=function(e){var t=e.host,n=void 0===t?"127.0.0.1":t,a=e.port,i=void 0===a?"1080":a,l=e.secure,r=void 0===l||l,o=e.requestMatcher,c=void 0===o?{}:o,s=e.sendMessage,d={method:void 0,path:void 0,keepAlive:void 0,secure:void 0,headers:void 0,queryStringParameters:void 0,cookies:void 0};c.enabled&&((d={method:c.method,path:c.path,keepAlive:!!c.keepAlive||void 0,secure:!!c.secure||void 0,headers:void 0,queryStringParameters:void 0,cookies:void 0}).cookies=function(e){var t,n=void 0,a=w(e);try{for(a.s();!(t=a.n()).done;){var i=t.value;i.name&&i.value&&(n||(n=[]),n.push(i))}}catch(l){a.e(l)}finally{a.f()}return n}(c.cookies),d.headers=j(c.headers),d.queryStringParameters=j(c.queryStringParameters)),s(d,n,i,r)},T=function(e){function t(){var e,n;Object(o.a)(this,t);for(var a=arguments.length,l=new Array(a),r=0;r<a;r++)l[r]=arguments[r];return(n=Object(s.a)(this,(e=Object(d.a)(t)).call.apply(e,[this].concat(l)))).renderValues=function(e){var t=e.fields,n=e.disabled;return i.a.createElement("div",{style:{width:"50%",padding:"5px",paddingRight:"10px",display:"inline-block",verticalAlign:"bottom"}},t.map(function(e,a){return i.a.createElement("div",{key:a,style:{display:"inline-block",width:"70%"}},i.a.createElement(u.a,{disabled:n,fullWidth:!0,style:{width:"75%"},name:e,component:E.TextField,hintText:"Value",onChange:function(e){console.log(e)},floatingLabelText:"Value"}),a>0?i.a.createElement(b.f,{style:{display:"inline-block",verticalAlign:"bottom",minWidth:"28px",width:"28px"},disabled:n,onClick:function(){return t.remove(a)}},i.a.createElement(x.a,null)):"")}),i.a.createElement(b.f,{style:{display:"inline-block",verticalAlign:"bottom",minWidth:"28px",width:"28px"},disabled:n,onClick:function(){return t.push("")}},i.a.createElement(h.a,null)))},n.renderKeysToMultiValues=function(e){var t=e.fields,a=e.disabled,l=e.title;return i.a.createElement("div",{style:{width:"100%",display:"inline-block",paddingRight:"10px"}},i.a.createElement("div",{style:{color:a?"#9c9c9c":"rgb(0, 188, 212)",width:"20%",paddingTop:"45px",paddingRight:"15px",display:"inline-block",verticalAlign:"top",textAlign:"right",fontFamily:"Roboto, sans-serif"}},l),i.a.createElement("div",{style:{display:"inline-block",width:"75%"}},t.map(function(e,l){return i.a.createElement("div",{key:l,style:{display:"inline-block",width:"80%"}},i.a.createElement("div",{style:{width:"30%",padding:"5px",display:"inline-block",verticalAlign:"top"}},i.a.createElement(u.a,{disabled:a,name:"".concat(e,".name"),component:E.AutoComplete,hintText:"Name",floatingLabelText:"Name",fullWidth:!0,openOnFocus:!0,filter:b.a.fuzzyFilter,dataSource:[]})),i.a.createElement(m.a,{name:"".concat(e,".values"),component:n.renderValues,disabled:a}),l>0?i.a.createElement(b.e,{mini:!0,style:{display:"inline-block",verticalAlign:"bottom"},disabled:a,onClick:function(){return t.remove(l)}},i.a.createElement(x.a,null)):"")}),i.a.createElement(b.e,{mini:!0,style:{display:"inline-block",verticalAlign:"bottom"},disabled:a,onClick:function(){return t.push({values:[""]})}},i.a.createElement(h.a,null))))},n.renderKeysToValues=function(e){var t=e.fields,n=e.disabled,a=e.title;return i.a.createElement("div",{style:{width:"100%",display:"inline-block",paddingRight:"10px"}},i.a.createElement("div",{style:{color:n?"#9c9c9c":"rgb(0, 188, 212)",width:"20%",paddingTop:"45px",paddingRight:"15px",display:"inline-block",verticalAlign:"top",textAlign:"right",fontFamily:"Roboto, sans-serif"}},a),i.a.createElement("div",{style:{display:"inline-block",width:"75%"}},t.map(function(e,a){return i.a.createElement("div",{key:a,style:{display:"inline-block",width:"80%"}},i.a.createElement("div",{style:{width:"30%",padding:"5px",display:"inline-block",verticalAlign:"top"}},i.a.createElement(u.a,{disabled:n,name:"".concat(e,".name"),component:E.AutoComplete,hintText:"Name",floatingLabelText:"Name",fullWidth:!0,openOnFocus:!0,filter:b.a.fuzzyFilter,dataSource:[]})),i.a.createElement("div",{style:{width:"45%",padding:"5px",paddingRight:"10px",display:"inline-block",verticalAlign:"bottom"}},i.a.createElement(u.a,{disabled:n,fullWidth:!0,name:"".concat(e,".value"),component:E.TextField,hintText:"Value",floatingLabelText:"Value"})),a>0?i.a.createElement(b.e,{mini:!0,style:{display:"inline-block",verticalAlign:"bottom"},disabled:n,onClick:function(){return t.remove(a)}},i.a.createElement(x.a,null)):"")}),i.a.createElement(b.e,{mini:!0,style:{display:"inline-block",verticalAlign:"bottom"},disabled:n,onClick:function(){return t.push({})}},i.a.createElement(h.a,null))))},n}return Object(p.a)(t,e),Object(c.a)(t,[{key:"componentWillUnmount",value:function(){this.props.disconnectSocket()}},{key:"componentWillReceiveProps",value:function(e){e.requestMatcher===this.props.requestMatcher&&e.expanded===this.props.expanded||S(e)}},{key:"render",value:function(){var e=!this.props.requestMatcher.enabled;return i.a.createElement("div",{style:{margin:"1%",width:"98%"}},i.a.createElement(b.b,{expanded:this.expanded},i.a.createElement(b.c,{title:"Filter",actAsExpander:!0,showExpandableButton:!0,style:{backgroundColor:e?"rgba(220, 220, 220, 0.5)":"rgba(0, 188, 212, 0.75)"}}),i.a.createElement(b.d,{expandable:!0},i.a.createElement("div",{style:{display:"inline"}},i.a.createElement("div",{style:{width:"10%",display:"inline-block",verticalAlign:"top"}},i.a.createElement("div",{style:{paddingRight:"10px",padding:"5px",display:"inline-block"}},i.a.createElement(u.a,{name:"enabled",component:E.Toggle,label:"Enabled",labelPosition:"left"}))),i.a.createElement("div",{style:{width:"90%",display:"inline-block",verticalAlign:"bottom",marginBottom:"2%"}},i.a.createElement("div",{style:{width:"32%",paddingLeft:"3%",display:"inline-block",verticalAlign:"top"}},i.a.createElement("div",null,i.a.createElement("div",{style:{width:"45%",padding:"5px",display:"inline-block",verticalAlign:"top"}},i.a.createElement(u.a,{disabled:e,name:"method",component:E.SelectField,fullWidth:!0,floatingLabelText:"Method"},i.a.createElement(b.g,{value:"",primaryText:""}),i.a.createElement(b.g,{value:"CONNECT",primaryText:"CONNECT"}),i.a.createElement(b.g,{value:"DELETE",primaryText:"DELETE"}),i.a.createElement(b.g,{value:"GET",primaryText:"GET"}),i.a.createElement(b.g,{value:"HEAD",primaryText:"HEAD"}),i.a.createElement(b.g,{value:"OPTIONS",primaryText:"OPTIONS"}),i.a.createElement(b.g,{value:"PATCH",primaryText:"PATCH"}),i.a.createElement(b.g,{value:"POST",primaryText:"POST"}),i.a.createElement(b.g,{value:"PUT",primaryText:"PUT"}),i.a.createElement(b.g,{value:"TRACE",primaryText:"TRACE"}))),i.a.createElement("div",{style:{width:"45%",padding:"5px",display:"inline-block",verticalAlign:"top"}},i.a.createElement(u.a,{disabled:e,name:"path",component:E.TextField,fullWidth:!0,hintText:"Path",floatingLabelText:"Path"}))),i.a.createElement("div",null,i.a.createElement("div",{style:{width:"45%",padding:"5px",display:"inline-block",verticalAlign:"bottom"}},i.a.createElement(u.a,{disabled:e,name:"secure",component:E.Toggle,label:"Secure",labelPosition:"right"})),i.a.createElement("div",{style:{width:"45%",padding:"5px",display:"inline-block",verticalAlign:"bottom",overflow:"none"}},i.a.createElement(u.a,{disabled:e,name:"keepAlive",component:E.Toggle,label:"Keep-Alive",labelPosition:"right"})))),i.a.createElement("div",{style:{width:"65%",display:"inline-block",verticalAlign:"bottom"}},i.a.createElement("div",null,i.a.createElement(m.a,{name:"headers",component:this.renderKeysToMultiValues,disabled:e,title:"Headers:"}),i.a.createElement(m.a,{name:"cookies",component:this.renderKeysToValues,disabled:e,title:"Cookies:"}),i.a.createElement(m.a,{name:"queryStringParameters",component:this.renderKeysToMultiValues,disabled:e,title:"Query Parameters:"}))))))))}}]),t}(a.Component),A=Object(y.a)("requestFilter");T=Object(g.a)({form:"requestFilter",initialValues:{headers:[{values:[""]}],queryStringParameters:[{values:[""]}],cookies:[{}]},destroyOnUnmount:!1})(T);var C={sendMessage:k.f,disconnectSocket:k.e},R=T=Object(r.b)(function(e,t){return{requestMatcher:A(e,"enabled","method","path","keepAlive","secure","headers","queryStringParameters","cookies"),expanded:e.requestFilterExpanded}},C,void 0,{pure:!0})(T),q=n(185),M=n.n(q),N=(n(460),function(e){function t(){return Object(o.a)(this,t),Object(s.a)(this,Object(d.a)(t).apply(this,arguments))}return Object(p.a)(t,e),Object(c.a)(t,[{key:"render",value:function(){var e=this.props,n=e.collapsed,a=void 0===n?0:n,l=e.jsonItem,r=void 0===l?null:l,o=e.description,c=void 0===o?null:o,s=e.display,d=void 0===s?"inline-block":s,p=e.enableClipboard,u=void 0===p||p,m=e.textStyle,y=void 0===m?{}:m;return"object"===typeof r||Array.isArray(r)?c?function(e,n){return e.json?i.a.createElement("div",{key:"description",style:{display:"table-row",maxWidth:"200px",overflow:"hidden"}},i.a.createElement(t,{key:"description_first",index:null,collapsed:"0",display:"inline-block",textStyle:{fontFamily:"monospace, Roboto, sans-serif",display:"table-cell",padding:"5px"},enableClipboard:!1,jsonItem:e.first}),i.a.createElement(t,{key:"description_object",index:null,collapsed:"0",display:"table-cell",textStyle:{fontFamily:"monospace, Roboto, sans-serif",display:"table-cell",verticalAlign:"top",padding:"5px"},enableClipboard:!1,jsonItem:e.object}),i.a.createElement(t,{key:"description_second",index:null,collapsed:"0",display:"inline-block",textStyle:{fontFamily:"monospace, Roboto, sans-serif",display:"table-cell",padding:"5px"},enableClipboard:!1,jsonItem:e.second}),n):i.a.createElement("div",{key:"wrap_div"},i.a.createElement(t,{key:"description",index:null,collapsed:"0",display:"inline-block",textStyle:{fontFamily:"monospace, Roboto, sans-serif",display:"table-cell",padding:"5px",maxWidth:"1100px",overflow:"hidden",textOverflow:"ellipsis"},enableClipboard:!1,jsonItem:e}),n)}(c,i.a.createElement(M.a,{src:r,key:"json",style:{whiteSpace:"nowrap",paddingTop:"6px",top:"-2px",display:d},name:null,theme:"tomorrow",iconStyle:"triangle",indentWidth:4,collapsed:null!=a?a:0,shouldCollapse:function(){return!1},enableClipboard:u,displayObjectSize:!1,displayDataTypes:!1,onEdit:!1,onAdd:!1,onDelete:!1})):i.a.createElement(M.a,{src:r,key:"json",style:{whiteSpace:"nowrap",paddingLeft:"5px",top:"-1px",display:d},name:null,theme:"tomorrow",iconStyle:"triangle",indentWidth:4,collapsed:null!=a?a:0,shouldCollapse:function(){return!1},enableClipboard:u,displayObjectSize:!1,displayDataTypes:!1,onEdit:!1,onAdd:!1,onDelete:!1}):"string"===typeof r?i.a.createElement("pre",{style:y},r):i.a.createElement("div",null)}}]),t}(a.Component)),P=(n(461),function(e){function t(){return Object(o.a)(this,t),Object(s.a)(this,Object(d.a)(t).apply(this,arguments))}return Object(p.a)(t,e),Object(c.a)(t,[{key:"render",value:function(){function e(e){var t=e.match("(http){1}s?://[^\\s]*");if(t){var n=t[0];return i.a.createElement("span",null,e.substr(0,e.indexOf(n)),i.a.createElement("a",{style:{textDecoration:"underline",color:"rgb(95, 113, 245)"},href:n,target:"_blank",rel:"noopener noreferrer"},n),e.substr(e.indexOf(n)+n.length))}return e}var n=this.props,a=n.logMessage,l=void 0===a?{}:a,r=n.group,o=void 0!==r&&r,c=n.indent,s=void 0!==c&&c;return o?i.a.createElement("details",{className:"logGroup"},i.a.createElement("summary",{style:{color:"rgb(222, 147, 95)"}},i.a.createElement(t,{key:o.key+"_summary",logMessage:o.value})),i.a.createElement("div",{style:{borderStyle:"dashed",borderColor:"rgb(43, 52, 62)",marginLeft:"35px",marginTop:"10px",marginRight:"5px",marginBottom:"10px",display:"inline-block",paddingLeft:"5px",paddingRight:"5px",paddingBottom:"5px"}},l.map(function(e,n){return i.a.createElement(t,{index:n,indent:!0,key:e.key,logMessage:e.value})}))):function(t){var n={display:"table-cell",fontFamily:"monospace, Roboto, sans-serif"};return i.a.createElement("div",{style:Object.assign({paddingLeft:"5px",paddingRight:"5px",fontSize:s?"0.9em":"1.0em"},t.style)},i.a.createElement("div",{style:Object.assign({whiteSpace:"pre",position:"relative"},n)},t.description),t.messageParts?t.messageParts.map(function(t){if(t.value){if(t.argument){if(t.multiline||t.because){var a=t.value.map(function(n,a){var l="rgb(255, 255, 255)";return t.because&&(l=-1!==n.indexOf("matched")?"rgb(107, 199, 118)":-1!==n.indexOf("didn't match")?"rgb(216, 88, 118)":"rgb(255, 255, 255)"),i.a.createElement("span",{key:t.key+"_"+a,style:{marginTop:"-10px",color:l,display:"block",fontSize:"0.95em",lineHeight:"1.5em",whiteSpace:"pre",paddingLeft:"20px",paddingBottom:"10px"}},e(n))});return i.a.createElement("div",{key:t.key,style:Object.assign({paddingLeft:"5px"},n)},i.a.createElement("details",{className:"because"},i.a.createElement("summary",{style:{color:"rgb(222, 147, 95)",fontSize:"19px",lineHeight:"25px",paddingLeft:"5px",paddingTop:"0px",marginTop:"-1px"}},i.a.createElement("span",null,i.a.createElement("svg",{className:"summaryClosed",viewBox:"0 0 15 15",fill:"currentColor",style:{verticalAlign:"top",color:"rgb(178, 148, 187)",height:"1em",width:"1em",paddingLeft:"2px",paddingTop:"5px"}},i.a.createElement("path",{d:"M0 14l6-6-6-6z"})),i.a.createElement("svg",{className:"summaryOpen",viewBox:"0 0 15 15",fill:"currentColor",style:{verticalAlign:"top",color:"rgb(129, 162, 190)",height:"1em",width:"1em",paddingLeft:"2px",paddingTop:"5px",paddingBottom:"15px"}},i.a.createElement("path",{d:"M0 5l6 6 6-6z"})),i.a.createElement("span",{className:"summaryClosed"},"..."))),a))}return t.json?i.a.createElement(N,{key:t.key,index:null,collapsed:"0",display:"table-cell",textStyle:{fontFamily:"monospace, Roboto, sans-serif",color:"rgb(255, 255, 255)",display:"table-cell",paddingLeft:"5px",paddingRight:"5px",whiteSpace:"pre",letterSpacing:"0.08em"},enableClipboard:!0,jsonItem:"number"===typeof t.value?""+t.value:t.value}):i.a.createElement("div",{key:t.key,style:{fontFamily:"Roboto, sans-serif",color:"rgb(255, 255, 255)",display:"table-cell",paddingLeft:"5px",paddingRight:"5px",whiteSpace:"pre",letterSpacing:"0.08em"}},e(t.value))}return i.a.createElement("div",{key:t.key,style:n},e(t.value))}return i.a.createElement("span",null)}):i.a.createElement("div",{style:Object.assign({fontSize:"19px",lineHeight:"25px"},n)},i.a.createElement("svg",{className:"logGroupSummaryClosed",viewBox:"0 0 15 15",fill:"currentColor",style:{verticalAlign:"top",color:"rgb(178, 148, 187)",height:"1em",width:"1em",paddingLeft:"2px",paddingTop:"5px"}},i.a.createElement("path",{d:"M0 14l6-6-6-6z"})),i.a.createElement("svg",{className:"logGroupSummaryOpen",viewBox:"0 0 15 15",fill:"currentColor",style:{verticalAlign:"top",color:"rgb(129, 162, 190)",height:"1em",width:"1em",paddingLeft:"2px",paddingTop:"5px"}},i.a.createElement("path",{d:"M0 5l6 6 6-6z"})),i.a.createElement("span",{className:"logGroupSummaryClosed"},"...")))}(l)}}]),t}(a.Component)),W=function(e){function t(){return Object(o.a)(this,t),Object(s.a)(this,Object(d.a)(t).apply(this,arguments))}return Object(p.a)(t,e),Object(c.a)(t,[{key:"render",value:function(){var e=this.props.text,t=void 0===e?"":e;return i.a.createElement("div",{style:{font:"1.25em 'Averia Sans Libre', Helvetica, Arial, sans-serif",margin:"0px 0px 3px 2px"}},t)}}]),t}(a.Component),L=function(e){function t(){return Object(o.a)(this,t),Object(s.a)(this,Object(d.a)(t).apply(this,arguments))}return Object(p.a)(t,e),Object(c.a)(t,[{key:"render",value:function(){var e=this.props,t=e.header,n=void 0===t?"":t,a=e.items,l=void 0===a?[]:a;return i.a.createElement("div",{style:{padding:"2px 0"}},i.a.createElement(W,{text:n}),i.a.createElement("div",{style:{overflowY:"scroll",maxHeight:"700px",minHeight:"100px",borderRadius:"5px",margin:"2px 0px 3px",paddingTop:"5px",paddingBottom:"5px",backgroundColor:"rgb(29, 31, 33)",color:"rgb(250, 250, 250)"}},i.a.createElement("div",{style:{borderCollapse:"collapse",display:"table",minWidth:"100%"}},l.map(function(e,t){return i.a.createElement(P,{index:t,key:e.key,group:e.group,logMessage:e.value})}))))}}]),t}(a.Component),F=function(e){function t(){return Object(o.a)(this,t),Object(s.a)(this,Object(d.a)(t).apply(this,arguments))}return Object(p.a)(t,e),Object(c.a)(t,[{key:"render",value:function(){var e=this.props,t=e.header,n=void 0===t?"":t,a=e.items,l=void 0===a?[]:a,r=e.reverseIndex,o=void 0===r||r;return i.a.createElement("div",{style:{padding:"2px 0"}},i.a.createElement(W,{text:n}),i.a.createElement("div",{style:{overflowY:"scroll",maxHeight:"700px",minHeight:"100px",borderRadius:"5px",margin:"2px 0px 3px",padding:"5px",backgroundColor:"rgb(29, 31, 33)",color:"rgb(250, 250, 250)"}},l.map(function(e,t){return i.a.createElement(N,{index:o?l.length-t:t+1,key:e.key,display:"table-cell",description:e.description,jsonItem:e.value})})))}}]),t}(a.Component),I=(n(462),function(e){function t(){return Object(o.a)(this,t),Object(s.a)(this,Object(d.a)(t).apply(this,arguments))}return Object(p.a)(t,e),Object(c.a)(t,[{key:"render",value:function(){var e=this.props.entities,t=e.activeExpectations,n=void 0===t?[]:t,a=e.proxiedRequests,l=void 0===a?[]:a,r=e.recordedRequests,o=void 0===r?[]:r,c=e.logMessages,s=void 0===c?[]:c;return i.a.createElement("div",{style:{margin:"1%",width:"98%"}},i.a.createElement("div",{className:"row",style:{borderStyle:"dashed",borderWidth:"1px",margin:"15px 0",padding:"17px 17px",minWidth:"1100px"}},i.a.createElement(L,{items:s,header:"Log Messages (most recent at the top)"})),i.a.createElement("div",{className:"row",style:{borderStyle:"dashed",borderWidth:"1px",margin:"15px 0",padding:"17px 17px",minWidth:"1100px"}},i.a.createElement(F,{items:n,header:"Active Expectations (in the order they are applied)",reverseIndex:!1})),i.a.createElement("div",{className:"row",style:{borderStyle:"dashed",borderWidth:"1px",margin:"15px 0",padding:"17px 17px",minWidth:"1100px"}},i.a.createElement("div",{style:{width:"49%",minWidth:"500px",float:"left",padding:"0",paddingRight:"1%",borderRightStyle:"dashed",borderRightWidth:"1px"}},i.a.createElement(F,{items:o,header:"Received Requests (most recent at the top)"})),i.a.createElement("div",{style:{width:"49%",minWidth:"500px",float:"right"}},i.a.createElement(F,{items:l,header:"Proxied Requests (most recent at the top)"}))))}}]),t}(a.Component)),z=Object(r.b)(function(e){var t=e.entities,n=t.activeExpectations,a=void 0===n?[]:n,i=t.proxiedRequests,l=void 0===i?[]:i,r=t.recordedRequests,o=void 0===r?[]:r,c=t.logMessages,s=void 0===c?[]:c,d=e.requestFilter;return{entities:{activeExpectations:a,proxiedRequests:l,recordedRequests:o,logMessages:s},requestFilter:void 0===d?{}:d}},{})(I),_=n(101),H=function(e){function t(){return Object(o.a)(this,t),Object(s.a)(this,Object(d.a)(t).apply(this,arguments))}return Object(p.a)(t,e),Object(c.a)(t,[{key:"render",value:function(){return i.a.createElement("div",null,i.a.createElement(R,{host:t.host(),port:t.port(),secure:t.secure()}),i.a.createElement(z,null))}}],[{key:"host",value:function(){return window.location.search&&Object(_.parse)(window.location.search).host?Object(_.parse)(window.location.search).host:(window.location.hostname,window.location.hostname)}},{key:"port",value:function(){return window.location.search&&Object(_.parse)(window.location.search).port?Object(_.parse)(window.location.search).port:window.location.port?window.location.port:"https:"===window.location.protocol?443:80}},{key:"secure",value:function(){return!!window.location.protocol&&"https:"===window.location.protocol}}]),t}(a.Component),V=n(249),B=n.n(V)()();Object(l.render)(i.a.createElement(r.a,{store:B},i.a.createElement(b.h,null,i.a.createElement(H,null))),document.getElementById("app"))},476:function(e,t,n){"use strict";n.r(t);var a=n(13),i=n(250),l=n(480),r=n(41),o=function(){var e=arguments.length>0&&void 0!==arguments[0]?arguments[0]:{activeExpectations:[],proxiedRequests:[],recordedRequests:[],logMessages:[]},t=arguments.length>1?arguments[1]:void 0;return t.type===r.c&&t.entities?{activeExpectations:t.entities.activeExpectations?t.entities.activeExpectations:[],proxiedRequests:t.entities.proxiedRequests?t.entities.proxiedRequests:[],recordedRequests:t.entities.recordedRequests?t.entities.recordedRequests:[],logMessages:t.entities.logMessages}:e},c=Object(a.c)({entities:o,form:l.a}),s=function(){var e=null,t=!1,n=function(){t=!1,null!=e&&e.close(),e=null},a=function(a,i){null!=e&&e.close(),(e=new WebSocket((a.secure?"wss":"ws")+"://"+a.host+":"+a.port+"/_mockserver_ui_websocket")).onmessage=function(e){i(Object(r.g)(JSON.parse(e.data)))},e.onclose=function(){n()},e.onopen=function(){t=!0,e&&a.message&&1===e.readyState&&e.send(JSON.stringify(a.message))}};return function(i){return function(i){return function(l){switch(l.type){case r.a:a(l,i);break;case r.b:n();break;case r.d:t?e.send(JSON.stringify(l.message)):a(l,i);break;default:return i(l)}}}}}(),d=n(251),p=function(e){return function(t){return function(n){t(Object(d.a)({},n,{getState:e.getState}))}}};t.default=function(e){return Object(a.d)(c,e,Object(a.a)(i.a,s,p))}}},[[253,1,2]]]);
+(window.webpackJsonp=window.webpackJsonp||[]).push([[0],{249:function(e,t,n){e.exports=n(476)},253:function(e,t,n){e.exports=n(475)},41:function(e,t,n){"use strict";n.d(t,"a",function(){return a}),n.d(t,"d",function(){return i}),n.d(t,"f",function(){return l}),n.d(t,"c",function(){return r}),n.d(t,"g",function(){return o}),n.d(t,"b",function(){return c}),n.d(t,"e",function(){return s});var a="CONNECT_SOCKET",i="SEND_MESSAGE",l=function(e,t,n,a){return function(l){return l(function(e,t,n,a){return{type:i,message:e,host:t,port:n,secure:a}}(e,t,n,a))}},r="MESSAGE_RECEIVED",o=function(e){return{type:r,entities:e}},c="DISCONNECT_SOCKET",s=function(){return function(e){return e({type:c})}}},460:function(e,t,n){},461:function(e,t,n){},462:function(e,t,n){},475:function(e,t,n){"use strict";n.r(t);var a=n(0),i=n.n(a),l=n(15),r=n(35),o=n(20),c=n(21),s=n(24),d=n(22),p=n(25),u=n(478),m=n(479),y=n(481),g=n(477),b=n(14),v=n(123),h=n.n(v),f=n(124),x=n.n(f),E=n(42),k=n(41);function w(e,t){var n="undefined"!==typeof Symbol&&e[Symbol.iterator]||e["@@iterator"];if(!n){if(Array.isArray(e)||(n=function(e,t){if(!e)return;if("string"===typeof e)return O(e,t);var n=Object.prototype.toString.call(e).slice(8,-1);"Object"===n&&e.constructor&&(n=e.constructor.name);if("Map"===n||"Set"===n)return Array.from(e);if("Arguments"===n||/^(?:Ui|I)nt(?:8|16|32)(?:Clamped)?Array$/.test(n))return O(e,t)}(e))||t&&e&&"number"===typeof e.length){n&&(e=n);var a=0,i=function(){};return{s:i,n:function(){return a>=e.length?{done:!0}:{done:!1,value:e[a++]}},e:function(e){throw e},f:i}}throw new TypeError("Invalid attempt to iterate non-iterable instance.\nIn order to be iterable, non-array objects must have a [Symbol.iterator]() method.")}var l,r=!0,o=!1;return{s:function(){n=n.call(e)},n:function(){var e=n.next();return r=e.done,e},e:function(e){o=!0,l=e},f:function(){try{r||null==n.return||n.return()}finally{if(o)throw l}}}}function O(e,t){(null==t||t>e.length)&&(t=e.length);for(var n=0,a=new Array(t);n<t;n++)a[n]=e[n];return a}var j=function(e){var t,n=void 0,a=w(e);try{for(a.s();!(t=a.n()).done;){var i,l=t.value,r=!1,o=w(l.values);try{for(o.s();!(i=o.n()).done;){i.value&&(r=!0)}}catch(c){o.e(c)}finally{o.f()}l.name&&r&&(n||(n=[]),n.push(l))}}catch(c){a.e(c)}finally{a.f()}return n},S=function(e){var t=e.host,n=void 0===t?"127.0.0.1":t,a=e.port,i=void 0===a?"1080":a,l=e.secure,r=void 0===l||l,o=e.requestMatcher,c=void 0===o?{}:o,s=e.sendMessage,d={method:void 0,path:void 0,keepAlive:void 0,secure:void 0,headers:void 0,queryStringParameters:void 0,cookies:void 0};c.enabled&&((d={method:c.method,path:c.path,keepAlive:!!c.keepAlive||void 0,secure:!!c.secure||void 0,headers:void 0,queryStringParameters:void 0,cookies:void 0}).cookies=function(e){var t,n=void 0,a=w(e);try{for(a.s();!(t=a.n()).done;){var i=t.value;i.name&&i.value&&(n||(n=[]),n.push(i))}}catch(l){a.e(l)}finally{a.f()}return n}(c.cookies),d.headers=j(c.headers),d.queryStringParameters=j(c.queryStringParameters)),s(d,n,i,r)},T=function(e){function t(){var e,n;Object(o.a)(this,t);for(var a=arguments.length,l=new Array(a),r=0;r<a;r++)l[r]=arguments[r];return(n=Object(s.a)(this,(e=Object(d.a)(t)).call.apply(e,[this].concat(l)))).renderValues=function(e){var t=e.fields,n=e.disabled;return i.a.createElement("div",{style:{width:"50%",padding:"5px",paddingRight:"10px",display:"inline-block",verticalAlign:"bottom"}},t.map(function(e,a){return i.a.createElement("div",{key:a,style:{display:"inline-block",width:"70%"}},i.a.createElement(u.a,{disabled:n,fullWidth:!0,style:{width:"75%"},name:e,component:E.TextField,hintText:"Value",onChange:function(e){console.log(e)},floatingLabelText:"Value"}),a>0?i.a.createElement(b.f,{style:{display:"inline-block",verticalAlign:"bottom",minWidth:"28px",width:"28px"},disabled:n,onClick:function(){return t.remove(a)}},i.a.createElement(x.a,null)):"")}),i.a.createElement(b.f,{style:{display:"inline-block",verticalAlign:"bottom",minWidth:"28px",width:"28px"},disabled:n,onClick:function(){return t.push("")}},i.a.createElement(h.a,null)))},n.renderKeysToMultiValues=function(e){var t=e.fields,a=e.disabled,l=e.title;return i.a.createElement("div",{style:{width:"100%",display:"inline-block",paddingRight:"10px"}},i.a.createElement("div",{style:{color:a?"#9c9c9c":"rgb(0, 188, 212)",width:"20%",paddingTop:"45px",paddingRight:"15px",display:"inline-block",verticalAlign:"top",textAlign:"right",fontFamily:"Roboto, sans-serif"}},l),i.a.createElement("div",{style:{display:"inline-block",width:"75%"}},t.map(function(e,l){return i.a.createElement("div",{key:l,style:{display:"inline-block",width:"80%"}},i.a.createElement("div",{style:{width:"30%",padding:"5px",display:"inline-block",verticalAlign:"top"}},i.a.createElement(u.a,{disabled:a,name:"".concat(e,".name"),component:E.AutoComplete,hintText:"Name",floatingLabelText:"Name",fullWidth:!0,openOnFocus:!0,filter:b.a.fuzzyFilter,dataSource:[]})),i.a.createElement(m.a,{name:"".concat(e,".values"),component:n.renderValues,disabled:a}),l>0?i.a.createElement(b.e,{mini:!0,style:{display:"inline-block",verticalAlign:"bottom"},disabled:a,onClick:function(){return t.remove(l)}},i.a.createElement(x.a,null)):"")}),i.a.createElement(b.e,{mini:!0,style:{display:"inline-block",verticalAlign:"bottom"},disabled:a,onClick:function(){return t.push({values:[""]})}},i.a.createElement(h.a,null))))},n.renderKeysToValues=function(e){var t=e.fields,n=e.disabled,a=e.title;return i.a.createElement("div",{style:{width:"100%",display:"inline-block",paddingRight:"10px"}},i.a.createElement("div",{style:{color:n?"#9c9c9c":"rgb(0, 188, 212)",width:"20%",paddingTop:"45px",paddingRight:"15px",display:"inline-block",verticalAlign:"top",textAlign:"right",fontFamily:"Roboto, sans-serif"}},a),i.a.createElement("div",{style:{display:"inline-block",width:"75%"}},t.map(function(e,a){return i.a.createElement("div",{key:a,style:{display:"inline-block",width:"80%"}},i.a.createElement("div",{style:{width:"30%",padding:"5px",display:"inline-block",verticalAlign:"top"}},i.a.createElement(u.a,{disabled:n,name:"".concat(e,".name"),component:E.AutoComplete,hintText:"Name",floatingLabelText:"Name",fullWidth:!0,openOnFocus:!0,filter:b.a.fuzzyFilter,dataSource:[]})),i.a.createElement("div",{style:{width:"45%",padding:"5px",paddingRight:"10px",display:"inline-block",verticalAlign:"bottom"}},i.a.createElement(u.a,{disabled:n,fullWidth:!0,name:"".concat(e,".value"),component:E.TextField,hintText:"Value",floatingLabelText:"Value"})),a>0?i.a.createElement(b.e,{mini:!0,style:{display:"inline-block",verticalAlign:"bottom"},disabled:n,onClick:function(){return t.remove(a)}},i.a.createElement(x.a,null)):"")}),i.a.createElement(b.e,{mini:!0,style:{display:"inline-block",verticalAlign:"bottom"},disabled:n,onClick:function(){return t.push({})}},i.a.createElement(h.a,null))))},n}return Object(p.a)(t,e),Object(c.a)(t,[{key:"componentWillUnmount",value:function(){this.props.disconnectSocket()}},{key:"componentWillReceiveProps",value:function(e){e.requestMatcher===this.props.requestMatcher&&e.expanded===this.props.expanded||S(e)}},{key:"render",value:function(){var e=!this.props.requestMatcher.enabled;return i.a.createElement("div",{style:{margin:"1%",width:"98%"}},i.a.createElement(b.b,{expanded:this.expanded},i.a.createElement(b.c,{title:"Filter",actAsExpander:!0,showExpandableButton:!0,style:{backgroundColor:e?"rgba(220, 220, 220, 0.5)":"rgba(0, 188, 212, 0.75)"}}),i.a.createElement(b.d,{expandable:!0},i.a.createElement("div",{style:{display:"inline"}},i.a.createElement("div",{style:{width:"10%",display:"inline-block",verticalAlign:"top"}},i.a.createElement("div",{style:{paddingRight:"10px",padding:"5px",display:"inline-block"}},i.a.createElement(u.a,{name:"enabled",component:E.Toggle,label:"Enabled",labelPosition:"left"}))),i.a.createElement("div",{style:{width:"90%",display:"inline-block",verticalAlign:"bottom",marginBottom:"2%"}},i.a.createElement("div",{style:{width:"32%",paddingLeft:"3%",display:"inline-block",verticalAlign:"top"}},i.a.createElement("div",null,i.a.createElement("div",{style:{width:"45%",padding:"5px",display:"inline-block",verticalAlign:"top"}},i.a.createElement(u.a,{disabled:e,name:"method",component:E.SelectField,fullWidth:!0,floatingLabelText:"Method"},i.a.createElement(b.g,{value:"",primaryText:""}),i.a.createElement(b.g,{value:"CONNECT",primaryText:"CONNECT"}),i.a.createElement(b.g,{value:"DELETE",primaryText:"DELETE"}),i.a.createElement(b.g,{value:"GET",primaryText:"GET"}),i.a.createElement(b.g,{value:"HEAD",primaryText:"HEAD"}),i.a.createElement(b.g,{value:"OPTIONS",primaryText:"OPTIONS"}),i.a.createElement(b.g,{value:"PATCH",primaryText:"PATCH"}),i.a.createElement(b.g,{value:"POST",primaryText:"POST"}),i.a.createElement(b.g,{value:"PUT",primaryText:"PUT"}),i.a.createElement(b.g,{value:"TRACE",primaryText:"TRACE"}))),i.a.createElement("div",{style:{width:"45%",padding:"5px",display:"inline-block",verticalAlign:"top"}},i.a.createElement(u.a,{disabled:e,name:"path",component:E.TextField,fullWidth:!0,hintText:"Path",floatingLabelText:"Path"}))),i.a.createElement("div",null,i.a.createElement("div",{style:{width:"45%",padding:"5px",display:"inline-block",verticalAlign:"bottom"}},i.a.createElement(u.a,{disabled:e,name:"secure",component:E.Toggle,label:"Secure",labelPosition:"right"})),i.a.createElement("div",{style:{width:"45%",padding:"5px",display:"inline-block",verticalAlign:"bottom",overflow:"none"}},i.a.createElement(u.a,{disabled:e,name:"keepAlive",component:E.Toggle,label:"Keep-Alive",labelPosition:"right"})))),i.a.createElement("div",{style:{width:"65%",display:"inline-block",verticalAlign:"bottom"}},i.a.createElement("div",null,i.a.createElement(m.a,{name:"headers",component:this.renderKeysToMultiValues,disabled:e,title:"Headers:"}),i.a.createElement(m.a,{name:"cookies",component:this.renderKeysToValues,disabled:e,title:"Cookies:"}),i.a.createElement(m.a,{name:"queryStringParameters",component:this.renderKeysToMultiValues,disabled:e,title:"Query Parameters:"}))))))))}}]),t}(a.Component),A=Object(y.a)("requestFilter");T=Object(g.a)({form:"requestFilter",initialValues:{headers:[{values:[""]}],queryStringParameters:[{values:[""]}],cookies:[{}]},destroyOnUnmount:!1})(T);var C={sendMessage:k.f,disconnectSocket:k.e},R=T=Object(r.b)(function(e,t){return{requestMatcher:A(e,"enabled","method","path","keepAlive","secure","headers","queryStringParameters","cookies"),expanded:e.requestFilterExpanded}},C,void 0,{pure:!0})(T),q=n(185),M=n.n(q),N=(n(460),function(e){function t(){return Object(o.a)(this,t),Object(s.a)(this,Object(d.a)(t).apply(this,arguments))}return Object(p.a)(t,e),Object(c.a)(t,[{key:"render",value:function(){var e=this.props,n=e.collapsed,a=void 0===n?0:n,l=e.jsonItem,r=void 0===l?null:l,o=e.description,c=void 0===o?null:o,s=e.display,d=void 0===s?"inline-block":s,p=e.enableClipboard,u=void 0===p||p,m=e.textStyle,y=void 0===m?{}:m;return"object"===typeof r||Array.isArray(r)?c?function(e,n){return e.json?i.a.createElement("div",{key:"description",style:{display:"table-row",maxWidth:"200px",overflow:"hidden"}},i.a.createElement(t,{key:"description_first",index:null,collapsed:"0",display:"inline-block",textStyle:{fontFamily:"monospace, Roboto, sans-serif",display:"table-cell",padding:"5px"},enableClipboard:!1,jsonItem:e.first}),i.a.createElement(t,{key:"description_object",index:null,collapsed:"0",display:"table-cell",textStyle:{fontFamily:"monospace, Roboto, sans-serif",display:"table-cell",verticalAlign:"top",padding:"5px"},enableClipboard:!1,jsonItem:e.object}),i.a.createElement(t,{key:"description_second",index:null,collapsed:"0",display:"inline-block",textStyle:{fontFamily:"monospace, Roboto, sans-serif",display:"table-cell",padding:"5px"},enableClipboard:!1,jsonItem:e.second}),n):i.a.createElement("div",{key:"wrap_div"},i.a.createElement(t,{key:"description",index:null,collapsed:"0",display:"inline-block",textStyle:{fontFamily:"monospace, Roboto, sans-serif",display:"table-cell",padding:"5px",maxWidth:"1100px",overflow:"hidden",textOverflow:"ellipsis"},enableClipboard:!1,jsonItem:e}),n)}(c,i.a.createElement(M.a,{src:r,key:"json",style:{whiteSpace:"nowrap",paddingTop:"6px",top:"-2px",display:d},name:null,theme:"tomorrow",iconStyle:"triangle",indentWidth:4,collapsed:null!=a?a:0,shouldCollapse:function(){return!1},enableClipboard:u,displayObjectSize:!1,displayDataTypes:!1,onEdit:!1,onAdd:!1,onDelete:!1})):i.a.createElement(M.a,{src:r,key:"json",style:{whiteSpace:"nowrap",paddingLeft:"5px",top:"-1px",display:d},name:null,theme:"tomorrow",iconStyle:"triangle",indentWidth:4,collapsed:null!=a?a:0,shouldCollapse:function(){return!1},enableClipboard:u,displayObjectSize:!1,displayDataTypes:!1,onEdit:!1,onAdd:!1,onDelete:!1}):"string"===typeof r?i.a.createElement("pre",{style:y},r):i.a.createElement("div",null)}}]),t}(a.Component)),P=(n(461),function(e){function t(){return Object(o.a)(this,t),Object(s.a)(this,Object(d.a)(t).apply(this,arguments))}return Object(p.a)(t,e),Object(c.a)(t,[{key:"render",value:function(){function e(e){var t=e.match("(http){1}s?://[^\\s]*");if(t){var n=t[0];return i.a.createElement("span",null,e.substr(0,e.indexOf(n)),i.a.createElement("a",{style:{textDecoration:"underline",color:"rgb(95, 113, 245)"},href:n,target:"_blank",rel:"noopener noreferrer"},n),e.substr(e.indexOf(n)+n.length))}return e}var n=this.props,a=n.logMessage,l=void 0===a?{}:a,r=n.group,o=void 0!==r&&r,c=n.indent,s=void 0!==c&&c;return o?i.a.createElement("details",{className:"logGroup"},i.a.createElement("summary",{style:{color:"rgb(222, 147, 95)"}},i.a.createElement(t,{key:o.key+"_summary",logMessage:o.value})),i.a.createElement("div",{style:{borderStyle:"dashed",borderColor:"rgb(43, 52, 62)",marginLeft:"35px",marginTop:"10px",marginRight:"5px",marginBottom:"10px",display:"inline-block",paddingLeft:"5px",paddingRight:"5px",paddingBottom:"5px"}},l.map(function(e,n){return i.a.createElement(t,{index:n,indent:!0,key:e.key,logMessage:e.value})}))):function(t){var n={display:"table-cell",fontFamily:"monospace, Roboto, sans-serif"};return i.a.createElement("div",{style:Object.assign({paddingLeft:"5px",paddingRight:"5px",fontSize:s?"0.9em":"1.0em"},t.style)},i.a.createElement("div",{style:Object.assign({whiteSpace:"pre",position:"relative"},n)},t.description),t.messageParts?t.messageParts.map(function(t){if(t.value){if(t.argument){if(t.multiline||t.because){var a=t.value.map(function(n,a){var l="rgb(255, 255, 255)";return t.because&&(l=-1!==n.indexOf("matched")?"rgb(107, 199, 118)":-1!==n.indexOf("didn't match")?"rgb(216, 88, 118)":"rgb(255, 255, 255)"),i.a.createElement("span",{key:t.key+"_"+a,style:{marginTop:"-10px",color:l,display:"block",fontSize:"0.95em",lineHeight:"1.5em",whiteSpace:"pre",paddingLeft:"20px",paddingBottom:"10px"}},e(n))});return i.a.createElement("div",{key:t.key,style:Object.assign({paddingLeft:"5px"},n)},i.a.createElement("details",{className:"because"},i.a.createElement("summary",{style:{color:"rgb(222, 147, 95)",fontSize:"19px",lineHeight:"25px",paddingLeft:"5px",paddingTop:"0px",marginTop:"-1px"}},i.a.createElement("span",null,i.a.createElement("svg",{className:"summaryClosed",viewBox:"0 0 15 15",fill:"currentColor",style:{verticalAlign:"top",color:"rgb(178, 148, 187)",height:"1em",width:"1em",paddingLeft:"2px",paddingTop:"5px"}},i.a.createElement("path",{d:"M0 14l6-6-6-6z"})),i.a.createElement("svg",{className:"summaryOpen",viewBox:"0 0 15 15",fill:"currentColor",style:{verticalAlign:"top",color:"rgb(129, 162, 190)",height:"1em",width:"1em",paddingLeft:"2px",paddingTop:"5px",paddingBottom:"15px"}},i.a.createElement("path",{d:"M0 5l6 6 6-6z"})),i.a.createElement("span",{className:"summaryClosed"},"..."))),a))}return t.json?i.a.createElement(N,{key:t.key,index:null,collapsed:"0",display:"table-cell",textStyle:{fontFamily:"monospace, Roboto, sans-serif",color:"rgb(255, 255, 255)",display:"table-cell",paddingLeft:"5px",paddingRight:"5px",whiteSpace:"pre",letterSpacing:"0.08em"},enableClipboard:!0,jsonItem:"number"===typeof t.value?""+t.value:t.value}):i.a.createElement("div",{key:t.key,style:{fontFamily:"Roboto, sans-serif",color:"rgb(255, 255, 255)",display:"table-cell",paddingLeft:"5px",paddingRight:"5px",whiteSpace:"pre",letterSpacing:"0.08em"}},e(t.value))}return i.a.createElement("div",{key:t.key,style:n},e(t.value))}return i.a.createElement("span",null)}):i.a.createElement("div",{style:Object.assign({fontSize:"19px",lineHeight:"25px"},n)},i.a.createElement("svg",{className:"logGroupSummaryClosed",viewBox:"0 0 15 15",fill:"currentColor",style:{verticalAlign:"top",color:"rgb(178, 148, 187)",height:"1em",width:"1em",paddingLeft:"2px",paddingTop:"5px"}},i.a.createElement("path",{d:"M0 14l6-6-6-6z"})),i.a.createElement("svg",{className:"logGroupSummaryOpen",viewBox:"0 0 15 15",fill:"currentColor",style:{verticalAlign:"top",color:"rgb(129, 162, 190)",height:"1em",width:"1em",paddingLeft:"2px",paddingTop:"5px"}},i.a.createElement("path",{d:"M0 5l6 6 6-6z"})),i.a.createElement("span",{className:"logGroupSummaryClosed"},"...")))}(l)}}]),t}(a.Component)),W=function(e){function t(){return Object(o.a)(this,t),Object(s.a)(this,Object(d.a)(t).apply(this,arguments))}return Object(p.a)(t,e),Object(c.a)(t,[{key:"render",value:function(){var e=this.props.text,t=void 0===e?"":e;return i.a.createElement("div",{style:{font:"1.25em 'Averia Sans Libre', Helvetica, Arial, sans-serif",margin:"0px 0px 3px 2px"}},t)}}]),t}(a.Component),L=function(e){function t(){return Object(o.a)(this,t),Object(s.a)(this,Object(d.a)(t).apply(this,arguments))}return Object(p.a)(t,e),Object(c.a)(t,[{key:"render",value:function(){var e=this.props,t=e.header,n=void 0===t?"":t,a=e.items,l=void 0===a?[]:a;return i.a.createElement("div",{style:{padding:"2px 0"}},i.a.createElement(W,{text:n}),i.a.createElement("div",{style:{overflowY:"scroll",maxHeight:"700px",minHeight:"100px",borderRadius:"5px",margin:"2px 0px 3px",paddingTop:"5px",paddingBottom:"5px",backgroundColor:"rgb(29, 31, 33)",color:"rgb(250, 250, 250)"}},i.a.createElement("div",{style:{borderCollapse:"collapse",display:"table",minWidth:"100%"}},l.map(function(e,t){return i.a.createElement(P,{index:t,key:e.key,group:e.group,logMessage:e.value})}))))}}]),t}(a.Component),F=function(e){function t(){return Object(o.a)(this,t),Object(s.a)(this,Object(d.a)(t).apply(this,arguments))}return Object(p.a)(t,e),Object(c.a)(t,[{key:"render",value:function(){var e=this.props,t=e.header,n=void 0===t?"":t,a=e.items,l=void 0===a?[]:a,r=e.reverseIndex,o=void 0===r||r;return i.a.createElement("div",{style:{padding:"2px 0"}},i.a.createElement(W,{text:n}),i.a.createElement("div",{style:{overflowY:"scroll",maxHeight:"700px",minHeight:"100px",borderRadius:"5px",margin:"2px 0px 3px",padding:"5px",backgroundColor:"rgb(29, 31, 33)",color:"rgb(250, 250, 250)"}},l.map(function(e,t){return i.a.createElement(N,{index:o?l.length-t:t+1,key:e.key,display:"table-cell",description:e.description,jsonItem:e.value})})))}}]),t}(a.Component),I=(n(462),function(e){function t(){return Object(o.a)(this,t),Object(s.a)(this,Object(d.a)(t).apply(this,arguments))}return Object(p.a)(t,e),Object(c.a)(t,[{key:"render",value:function(){var e=this.props.entities,t=e.activeExpectations,n=void 0===t?[]:t,a=e.proxiedRequests,l=void 0===a?[]:a,r=e.recordedRequests,o=void 0===r?[]:r,c=e.logMessages,s=void 0===c?[]:c;return i.a.createElement("div",{style:{margin:"1%",width:"98%"}},i.a.createElement("div",{className:"row",style:{borderStyle:"dashed",borderWidth:"1px",margin:"15px 0",padding:"17px 17px",minWidth:"1100px"}},i.a.createElement(L,{items:s,header:"Log Messages (most recent at the top)"})),i.a.createElement("div",{className:"row",style:{borderStyle:"dashed",borderWidth:"1px",margin:"15px 0",padding:"17px 17px",minWidth:"1100px"}},i.a.createElement(F,{items:n,header:"Active Expectations (in the order they are applied)",reverseIndex:!1})),i.a.createElement("div",{className:"row",style:{borderStyle:"dashed",borderWidth:"1px",margin:"15px 0",padding:"17px 17px",minWidth:"1100px"}},i.a.createElement("div",{style:{width:"49%",minWidth:"500px",float:"left",padding:"0",paddingRight:"1%",borderRightStyle:"dashed",borderRightWidth:"1px"}},i.a.createElement(F,{items:o,header:"Received Requests (most recent at the top)"})),i.a.createElement("div",{style:{width:"49%",minWidth:"500px",float:"right"}},i.a.createElement(F,{items:l,header:"Proxied Requests (most recent at the top)"}))))}}]),t}(a.Component)),z=Object(r.b)(function(e){var t=e.entities,n=t.activeExpectations,a=void 0===n?[]:n,i=t.proxiedRequests,l=void 0===i?[]:i,r=t.recordedRequests,o=void 0===r?[]:r,c=t.logMessages,s=void 0===c?[]:c,d=e.requestFilter;return{entities:{activeExpectations:a,proxiedRequests:l,recordedRequests:o,logMessages:s},requestFilter:void 0===d?{}:d}},{})(I),_=n(101),H=function(e){function t(){return Object(o.a)(this,t),Object(s.a)(this,Object(d.a)(t).apply(this,arguments))}return Object(p.a)(t,e),Object(c.a)(t,[{key:"render",value:function(){return i.a.createElement("div",null,i.a.createElement(R,{host:t.host(),port:t.port(),secure:t.secure()}),i.a.createElement(z,null))}}],[{key:"host",value:function(){return window.location.search&&Object(_.parse)(window.location.search).host?Object(_.parse)(window.location.search).host:(window.location.hostname,window.location.hostname)}},{key:"port",value:function(){return window.location.search&&Object(_.parse)(window.location.search).port?Object(_.parse)(window.location.search).port:window.location.port?window.location.port:"https:"===window.location.protocol?443:80}},{key:"secure",value:function(){return!!window.location.protocol&&"https:"===window.location.protocol}}]),t}(a.Component),V=n(249),B=n.n(V)()();Object(l.render)(i.a.createElement(r.a,{store:B},i.a.createElement(b.h,null,i.a.createElement(H,null))),document.getElementById("app"))},476:function(e,t,n){"use strict";n.r(t);var a=n(13),i=n(250),l=n(480),r=n(41),m=function(e,t){return e?e.concat(t||[]).slice(0,100):t},u=function(e,t){var n=e.activeExpectations;if(t.activeExpectationKeys){var a={};e.activeExpectations.forEach(function(e){a[e.key]=e}),(t.updatedExpectations||[]).forEach(function(e){a[e.key]=e}),n=t.activeExpectationKeys.map(function(e){return a[e]}).filter(function(e){return e})}return{activeExpectations:n,proxiedRequests:m(t.proxiedRequests,e.proxiedRequests),recordedRequests:m(t.recordedRequests,e.recordedRequests),logMessages:m(t.logMessages,e.logMessages)}},o=function(){var e=arguments.length>0&&void 0!==arguments[0]?arguments[0]:{activeExpectations:[],proxiedRequests:[],recordedRequests:[],logMessages:[]},t=arguments.length>1?arguments[1]:void 0;return t.type===r.c&&t.entities?"delta"===t.entities.type?u(e,t.entities):{activeExpectations:t.entities.activeExpectations?t.entities.activeExpectations:[],proxiedRequests:t.entities.proxiedRequests?t.entities.proxiedRequests:[],recordedRequests:t.entities.recordedRequests?t.entities.recordedRequests:[],logMessages:t.entities.logMessages}:e},c=Object(a.c)({entities:o,form:l.a}),s=function(){var e=null,t=!1,n=function(){t=!1,null!=e&&e.close(),e=null},a=function(a,i){null!=e&&e.close(),(e=new WebSocket((a.secure?"wss":"ws")+"://"+a.host+":"+a.port+"/_mockserver_ui_websocket?deltaUpdates=true")).onmessage=function(e){i(Object(r.g)(JSON.parse(e.data)))},e.onclose=function(){n()},e.onopen=function(){t=!0,e&&a.message&&1===e.readyState&&e.send(JSON.stringify(a.message))}};return function(i){return function(i){return function(l){switch(l.type){case r.a:a(l,i);break;case r.b:n();break;case r.d:t?e.send(JSON.stringify(l.message)):a(l,i);break;default:return i(l)}}}}}(),d=n(251),p=function(e){return function(t){return function(n){t(Object(d.a)({},n,{getState:e.getState}))}}};t.default=function(e){return Object(a.d)(c,e,Object(a.a)(i.a,s,p))}}},[[253,1,2]]]);
 //# sourceMappingURL=main.defc53a6.chunk.js.map
\ No newline at end of file
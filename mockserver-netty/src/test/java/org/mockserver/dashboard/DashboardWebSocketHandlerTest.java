@@ -20,11 +20,13 @@ import org.mockserver.uuid.UUIDService;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.apache.commons.lang3.exception.ExceptionUtils.getStackTrace;
 import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.mockserver.character.Character.NEW_LINE;
@@ -1277,6 +1279,118 @@ public class DashboardWebSocketHandlerTest {
         shouldRenderFilteredLogEntriesCorrectly(true, request(), Collections.emptyList(), expectations, renderedList);
     }
 
+    @Test
+    public void shouldSendSnapshotAndThenOnlyNewLogEntriesToDeltaClients() throws InterruptedException {
+        // given
+        MockServerLogger mockServerLogger = new MockServerLogger(DashboardWebSocketHandlerTest.class);
+        Scheduler scheduler = new Scheduler(configuration(), mockServerLogger, true);
+        HttpState httpState = new HttpState(configuration(), mockServerLogger, scheduler);
+        MockServerEventLog mockServerEventLog = httpState.getMockServerLog();
+        mockServerEventLog.add(
+            new LogEntry()
+                .setHttpRequest(request("/somePathOne"))
+                .setMessageFormat("messageFormatOne")
+        );
+        DashboardWebSocketHandler handler =
+            new DashboardWebSocketHandler(httpState, false, true)
+                .registerListeners();
+        MockChannelHandlerContext mockChannelHandlerContext = new MockChannelHandlerContext();
+
+        // when
+        handler.addClient(mockChannelHandlerContext, request(), true);
+        SECONDS.sleep(1);
+
+        // then
+        String snapshot = mockChannelHandlerContext.textWebSocketFrame.text();
+        assertThat(snapshot, containsString("\"type\" : \"snapshot\""));
+        assertThat(snapshot, containsString("messageFormatOne"));
+
+        // when
+        mockServerEventLog.add(
+            new LogEntry()
+                .setHttpRequest(request("/somePathTwo"))
+                .setMessageFormat("messageFormatTwo")
+        );
+        SECONDS.sleep(1);
+
+        // then
+        String delta = mockChannelHandlerContext.textWebSocketFrame.text();
+        assertThat(delta, containsString("\"type\" : \"delta\""));
+        assertThat(delta, containsString("messageFormatTwo"));
+        assertThat(delta, not(containsString("messageFormatOne")));
+    }
+
+    @Test
+    public void shouldSendChangedExpectationsAndActiveExpectationKeysToDeltaClients() throws InterruptedException {
+        // given
+        MockServerLogger mockServerLogger = new MockServerLogger(DashboardWebSocketHandlerTest.class);
+        Scheduler scheduler = new Scheduler(configuration(), mockServerLogger, true);
+        HttpState httpState = new HttpState(configuration(), mockServerLogger, scheduler);
+        RequestMatchers requestMatchers = httpState.getRequestMatchers();
+        requestMatchers.add(Expectation.when(request("/pathOne")).withId("expectationOne").thenRespond(response("one")), MockServerMatcherNotifier.Cause.API);
+        DashboardWebSocketHandler handler =
+            new DashboardWebSocketHandler(httpState, false, true)
+                .registerListeners();
+        MockChannelHandlerContext mockChannelHandlerContext = new MockChannelHandlerContext();
+        handler.addClient(mockChannelHandlerContext, request(), true);
+        SECONDS.sleep(1);
+
+        // when
+        requestMatchers.add(Expectation.when(request("/pathTwo"), 10).withId("expectationTwo").thenRespond(response("two")), MockServerMatcherNotifier.Cause.API);
+        SECONDS.sleep(1);
+
+        // then
+        String delta = mockChannelHandlerContext.textWebSocketFrame.text();
+        assertThat(delta, containsString("\"type\" : \"delta\""));
+        assertThat(delta, containsString("/pathTwo"));
+        assertThat(delta, not(containsString("/pathOne")));
+        assertThat(delta, containsString("\"activeExpectationKeys\" : [ \"expectationTwo\", \"expectationOne\" ]"));
+    }
+
+    @Test
+    public void shouldSendSnapshotToDeltaClientsWhenMoreLogEntriesAddedThanFitInDelta() throws InterruptedException {
+        // given
+        MockServerLogger mockServerLogger = new MockServerLogger(DashboardWebSocketHandlerTest.class);
+        Scheduler scheduler = new Scheduler(configuration(), mockServerLogger, true);
+        HttpState httpState = new HttpState(configuration(), mockServerLogger, scheduler);
+        MockServerEventLog mockServerEventLog = httpState.getMockServerLog();
+        DashboardWebSocketHandler handler =
+            new DashboardWebSocketHandler(httpState, false, true)
+                .registerListeners();
+        MockChannelHandlerContext mockChannelHandlerContext = new MockChannelHandlerContext();
+        handler.addClient(mockChannelHandlerContext, request(), true);
+        SECONDS.sleep(1);
+        mockChannelHandlerContext.textWebSocketFrames.clear();
+
+        // when
+        for (int i = 0; i < 150; i++) {
+            mockServerEventLog.add(
+                new LogEntry()
+                    .setHttpRequest(request("/somePath"))
+                    .setMessageFormat("messageFormat" + i + "Entry")
+            );
+        }
+        SECONDS.sleep(2);
+
+        // then
+        List<String> deltas = mockChannelHandlerContext.textWebSocketFrames
+            .stream()
+            .map(TextWebSocketFrame::text)
+            .filter(text -> text.contains("\"type\" : \"delta\""))
+            .collect(Collectors.toList());
+        boolean everyEntryInDeltas = true;
+        for (int i = 0; i < 150; i++) {
+            String messageFormat = "messageFormat" + i + "Entry";
+            everyEntryInDeltas &= deltas.stream().anyMatch(delta -> delta.contains(messageFormat));
+        }
+        String lastUpdate = mockChannelHandlerContext.textWebSocketFrame.text();
+        assertThat(lastUpdate, containsString("messageFormat149Entry"));
+        if (!everyEntryInDeltas) {
+            // entries that didn't fit in a delta must result in a snapshot not be silently skipped
+            assertThat(lastUpdate, containsString("\"type\" : \"snapshot\""));
+        }
+    }
+
     private void shouldRenderFilteredLogEntriesCorrectly(boolean contains, RequestDefinition requestFilter, List<LogEntry> logEntries, List<Expectation> expectations, String... renderListSections) throws InterruptedException {
         // given
         MockServerLogger mockServerLogger = new MockServerLogger(DashboardWebSocketHandlerTest.class);
@@ -1314,11 +1428,13 @@ public class DashboardWebSocketHandlerTest {
 
         // can't use future as called mutiple times
         TextWebSocketFrame textWebSocketFrame;
+        final List<TextWebSocketFrame> textWebSocketFrames = new CopyOnWriteArrayList<>();
 
         @Override
         public ChannelFuture writeAndFlush(Object msg) {
             if (msg instanceof TextWebSocketFrame) {
                 textWebSocketFrame = (TextWebSocketFrame) msg;
+                textWebSocketFrames.add(textWebSocketFrame);
             }
             return null;
         }
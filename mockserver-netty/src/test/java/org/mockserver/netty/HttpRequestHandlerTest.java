@@ -35,11 +35,13 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.endsWith;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.notNullValue;
 import static org.hamcrest.core.IsNull.nullValue;
 import static org.mockito.Mockito.*;
 import static org.mockito.MockitoAnnotations.openMocks;
@@ -53,6 +55,7 @@ import static org.mockserver.model.HttpResponse.response;
 import static org.mockserver.model.PortBinding.portBinding;
 import static org.mockserver.netty.HttpRequestHandler.LOCAL_HOST_HEADERS;
 import static org.mockserver.netty.HttpRequestHandler.PROXYING;
+import static org.mockserver.test.Retries.tryWaitForSuccess;
 
 /**
  * @author jamesdbloom
@@ -91,6 +94,18 @@ public class HttpRequestHandlerTest {
         embeddedChannel = new EmbeddedChannel(mockServerHandler);
     }
 
+    /**
+     * waits for responses written asynchronously once the event log has been updated or queried
+     */
+    private HttpResponse readOutbound() {
+        AtomicReference<HttpResponse> httpResponse = new AtomicReference<>();
+        tryWaitForSuccess(() -> {
+            httpResponse.set(embeddedChannel.readOutbound());
+            assertThat(httpResponse.get(), notNullValue());
+        });
+        return httpResponse.get();
+    }
+
     @Test
     public void shouldRetrieveRequests() {
         // given
@@ -109,7 +124,7 @@ public class HttpRequestHandlerTest {
         embeddedChannel.writeInbound(expectationRetrieveRequestsRequest);
 
         // then
-        HttpResponse httpResponse = embeddedChannel.readOutbound();
+        HttpResponse httpResponse = readOutbound();
         assertThat(httpResponse.getStatusCode(), is(200));
         assertThat(httpResponse.getBodyAsString(), is(httpRequestSerializer.serialize(Collections.singletonList(
             request("request_one")
@@ -135,7 +150,7 @@ public class HttpRequestHandlerTest {
         embeddedChannel.writeInbound(clearRequest);
 
         // then
-        HttpResponse httpResponse = embeddedChannel.readOutbound();
+        HttpResponse httpResponse = readOutbound();
         assertThat(httpResponse.getStatusCode(), is(200));
         assertThat(httpResponse.getBodyAsString(), is(""));
         assertThat(httpStateHandler.firstMatchingExpectation(request("request_one")), is(nullValue()));
@@ -156,7 +171,7 @@ public class HttpRequestHandlerTest {
         embeddedChannel.writeInbound(statusRequest);
 
         // then
-        HttpResponse httpResponse = embeddedChannel.readOutbound();
+        HttpResponse httpResponse = readOutbound();
         assertThat(httpResponse.getStatusCode(), is(200));
         assertThat(httpResponse.getBodyAsString(), is(portBindingSerializer.serialize(
             portBinding(1090, 1090)
@@ -176,7 +191,7 @@ public class HttpRequestHandlerTest {
             embeddedChannel.writeInbound(statusRequest);
 
             // then
-            HttpResponse httpResponse = embeddedChannel.readOutbound();
+            HttpResponse httpResponse = readOutbound();
             assertThat(httpResponse.getStatusCode(), is(200));
             assertThat(httpResponse.getBodyAsString(), is(portBindingSerializer.serialize(
                 portBinding(1090, 1090)
@@ -201,7 +216,7 @@ public class HttpRequestHandlerTest {
 
         // then
         verify(server).bindServerPorts(Arrays.asList(1090, 1090));
-        HttpResponse httpResponse = embeddedChannel.readOutbound();
+        HttpResponse httpResponse = readOutbound();
         assertThat(httpResponse.getStatusCode(), is(200));
         assertThat(httpResponse.getBodyAsString(), is(portBindingSerializer.serialize(
             portBinding(1090, 1090)
@@ -218,7 +233,7 @@ public class HttpRequestHandlerTest {
         embeddedChannel.writeInbound(statusRequest);
 
         // then
-        HttpResponse httpResponse = embeddedChannel.readOutbound();
+        HttpResponse httpResponse = readOutbound();
         assertThat(httpResponse.getStatusCode(), is(200));
         assertThat(httpResponse.getBodyAsString(), is((String) null));
         TimeUnit.SECONDS.sleep(1); // ensure stop thread has run
@@ -246,7 +261,7 @@ public class HttpRequestHandlerTest {
         embeddedChannel.writeInbound(expectationRetrieveExpectationsRequest);
 
         // then
-        HttpResponse httpResponse = embeddedChannel.readOutbound();
+        HttpResponse httpResponse = readOutbound();
         assertThat(httpResponse.getStatusCode(), is(200));
         assertThat(httpResponse.getBodyAsString(), is(expectationSerializerWithDefaultFields.serialize(Collections.singletonList(
             new Expectation(request("request_one"), Times.once(), TimeToLive.unlimited(), 0).withId("key_one").thenRespond(response("response_one"))
@@ -271,7 +286,7 @@ public class HttpRequestHandlerTest {
             embeddedChannel.writeInbound(retrieveLogRequest);
 
             // then
-            HttpResponse response = embeddedChannel.readOutbound();
+            HttpResponse response = readOutbound();
             assertThat(response.getStatusCode(), is(200));
             assertThat(
                 response.getBodyAsString(),
@@ -318,7 +333,7 @@ public class HttpRequestHandlerTest {
         embeddedChannel.writeInbound(request);
 
         // then
-        HttpResponse httpResponse = embeddedChannel.readOutbound();
+        HttpResponse httpResponse = readOutbound();
         assertThat(httpResponse.getStatusCode(), is(201));
         assertThat(httpResponse.getBodyAsString(), containsString("[ {" + NEW_LINE +
             "  \"httpRequest\" : {" + NEW_LINE +
@@ -359,7 +374,7 @@ public class HttpRequestHandlerTest {
         embeddedChannel.writeInbound(expectationRetrieveExpectationsRequest);
 
         // then
-        HttpResponse httpResponse = embeddedChannel.readOutbound();
+        HttpResponse httpResponse = readOutbound();
         assertThat(httpResponse.getStatusCode(), is(200));
         assertThat(httpResponse.getBodyAsString(), is(expectationSerializer.serialize(Collections.singletonList(
             expectationOne
@@ -0,0 +1,88 @@
+package org.mockserver.netty.integration.mock;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import org.junit.*;
+import org.mockserver.httpclient.NettyHttpClient;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.mock.action.ExpectationResponseAsyncCallback;
+import org.mockserver.model.HttpResponse;
+import org.mockserver.scheduler.Scheduler;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.mockserver.configuration.Configuration.configuration;
+import static org.mockserver.matchers.Times.unlimited;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+import static org.mockserver.stop.Stop.stopQuietly;
+import static org.mockserver.testing.closurecallback.ViaWebSocket.viaWebSocket;
+
+public class AsyncResponseCallbackWebSocketMockingIntegrationTest {
+
+    private ClientAndServer clientAndServer;
+    private NettyHttpClient httpClient;
+
+    private static EventLoopGroup clientEventLoopGroup;
+
+    @BeforeClass
+    public static void startEventLoopGroup() {
+        clientEventLoopGroup = new NioEventLoopGroup(3, new Scheduler.SchedulerThreadFactory(AsyncResponseCallbackWebSocketMockingIntegrationTest.class.getSimpleName() + "-eventLoop"));
+    }
+
+    @AfterClass
+    public static void stopEventLoopGroup() {
+        clientEventLoopGroup.shutdownGracefully(0, 0, MILLISECONDS).syncUninterruptibly();
+    }
+
+    @Before
+    public void setUp() {
+        // a single web socket client thread, so a blocked callback would hold up every other callback
+        clientAndServer = ClientAndServer.startClientAndServer(configuration().webSocketClientEventLoopThreadCount(1));
+        httpClient = new NettyHttpClient(configuration(), new MockServerLogger(), clientEventLoopGroup, null, false);
+    }
+
+    @After
+    public void tearDown() {
+        stopQuietly(clientAndServer);
+    }
+
+    @Test
+    public void shouldNotBlockWebSocketClientWhileAsyncCallbackIsPending() throws Exception {
+        viaWebSocket(() -> {
+            // given
+            CompletableFuture<HttpResponse> slowResponse = new CompletableFuture<>();
+            clientAndServer
+                .when(
+                    request()
+                        .withPath("/async/.*"),
+                    unlimited()
+                )
+                .respond((ExpectationResponseAsyncCallback) request ->
+                    request.getPath().getValue().endsWith("slow") ? slowResponse : CompletableFuture.completedFuture(response().withBody("fast"))
+                );
+            InetSocketAddress serverAddress = new InetSocketAddress("localhost", clientAndServer.getPort());
+
+            // when
+            CompletableFuture<HttpResponse> slow = httpClient.sendRequest(request().withPath("/async/slow"), serverAddress);
+            HttpResponse fast = httpClient.sendRequest(request().withPath("/async/fast"), serverAddress).get(10, SECONDS);
+
+            // then
+            assertThat(fast.getBodyAsString(), is("fast"));
+            assertThat(slow.isDone(), is(false));
+
+            // when
+            slowResponse.complete(response().withBody("slow"));
+
+            // then
+            assertThat(slow.get(10, SECONDS).getBodyAsString(), is("slow"));
+        });
+    }
+
+}
@@ -0,0 +1,202 @@
+package org.mockserver.netty.integration.mock;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.*;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.codec.http.*;
+import io.netty.handler.codec.http2.*;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslHandler;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockserver.httpclient.NettyHttpClient;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.model.HttpResponse;
+import org.mockserver.scheduler.Scheduler;
+import org.mockserver.socket.tls.NettySslContextFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import static io.netty.handler.codec.http.HttpHeaderNames.HOST;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockserver.configuration.Configuration.configuration;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+import static org.mockserver.stop.Stop.stopQuietly;
+
+public class Http2MockingIntegrationTest {
+
+    private static final MockServerLogger mockServerLogger = new MockServerLogger(Http2MockingIntegrationTest.class);
+    private static EventLoopGroup clientEventLoopGroup;
+    private static ClientAndServer mockServer;
+
+    @BeforeClass
+    public static void startServerAndEventLoopGroup() {
+        clientEventLoopGroup = new NioEventLoopGroup(3, new Scheduler.SchedulerThreadFactory(Http2MockingIntegrationTest.class.getSimpleName() + "-eventLoop"));
+        mockServer = new ClientAndServer(configuration().http2Enabled(true));
+        mockServer
+            .when(
+                request()
+                    .withPath("/some_path")
+            )
+            .respond(
+                response()
+                    .withBody("some_body")
+            );
+    }
+
+    @AfterClass
+    public static void stopServerAndEventLoopGroup() {
+        stopQuietly(mockServer);
+        clientEventLoopGroup.shutdownGracefully(0, 0, MILLISECONDS).syncUninterruptibly();
+    }
+
+    @Test
+    public void shouldReturnResponseOverHttp2NegotiatedUsingAlpn() throws Exception {
+        // given
+        SslContext sslContext = new NettySslContextFactory(configuration().http2Enabled(true), mockServerLogger).createClientSslContext(false, true);
+        CompletableFuture<String> applicationProtocol = new CompletableFuture<>();
+
+        // when
+        FullHttpResponse response = sendRequest(pipeline -> {
+            SslHandler sslHandler = sslContext.newHandler(pipeline.channel().alloc(), "localhost", mockServer.getPort());
+            sslHandler.handshakeFuture().addListener(future -> applicationProtocol.complete(sslHandler.applicationProtocol()));
+            pipeline.addLast(sslHandler);
+            pipeline.addLast(Http2FrameCodecBuilder.forClient().build());
+            pipeline.addLast(new Http2MultiplexHandler(new ChannelInboundHandlerAdapter()));
+        }, true);
+
+        // then
+        assertThat(applicationProtocol.get(10, SECONDS), is("h2"));
+        assertThat(response.status().code(), is(200));
+        assertThat(response.content().toString(StandardCharsets.UTF_8), is("some_body"));
+    }
+
+    @Test
+    public void shouldReturnResponseOverHttp2WithPriorKnowledge() throws Exception {
+        // when
+        FullHttpResponse response = sendRequest(pipeline -> {
+            pipeline.addLast(Http2FrameCodecBuilder.forClient().build());
+            pipeline.addLast(new Http2MultiplexHandler(new ChannelInboundHandlerAdapter()));
+        }, false);
+
+        // then
+        assertThat(response.status().code(), is(200));
+        assertThat(response.content().toString(StandardCharsets.UTF_8), is("some_body"));
+    }
+
+    @Test
+    public void shouldReturnResponseOverHttp2AfterUpgrade() throws Exception {
+        // given
+        CompletableFuture<FullHttpResponse> responseFuture = new CompletableFuture<>();
+        Channel channel = new Bootstrap()
+            .group(clientEventLoopGroup)
+            .channel(NioSocketChannel.class)
+            .handler(new ChannelInitializer<Channel>() {
+                @Override
+                protected void initChannel(Channel channel) {
+                    HttpClientCodec httpClientCodec = new HttpClientCodec();
+                    Http2MultiplexHandler http2MultiplexHandler = new Http2MultiplexHandler(new ChannelInboundHandlerAdapter(), streamInitializer(responseFuture));
+                    channel.pipeline().addLast(httpClientCodec);
+                    channel.pipeline().addLast(new HttpClientUpgradeHandler(httpClientCodec, new Http2ClientUpgradeCodec((Http2ConnectionHandler) Http2FrameCodecBuilder.forClient().build(), http2MultiplexHandler), Integer.MAX_VALUE));
+                }
+            })
+            .connect("localhost", mockServer.getPort())
+            .sync()
+            .channel();
+
+        try {
+            // when
+            channel.writeAndFlush(http2Request(false));
+            FullHttpResponse response = responseFuture.get(10, SECONDS);
+
+            // then
+            assertThat(response.status().code(), is(200));
+            assertThat(response.content().toString(StandardCharsets.UTF_8), is("some_body"));
+        } finally {
+            channel.close();
+        }
+    }
+
+    @Test
+    public void shouldForwardRequestOverHttp2UsingNettyHttpClient() throws Exception {
+        // given
+        NettyHttpClient httpClient = new NettyHttpClient(configuration().http2Enabled(true), mockServerLogger, clientEventLoopGroup, null, false);
+
+        // when
+        HttpResponse response = httpClient.sendRequest(
+            request()
+                .withSecure(true)
+                .withHeader(HOST.toString(), "localhost:" + mockServer.getPort())
+                .withPath("/some_path")
+        ).get(10, SECONDS);
+
+        // then
+        assertThat(response.getStatusCode(), is(200));
+        assertThat(response.getBodyAsString(), is("some_body"));
+    }
+
+    private FullHttpResponse sendRequest(Consumer<ChannelPipeline> connectionInitializer, boolean secure) throws Exception {
+        CompletableFuture<FullHttpResponse> responseFuture = new CompletableFuture<>();
+        Channel channel = new Bootstrap()
+            .group(clientEventLoopGroup)
+            .channel(NioSocketChannel.class)
+            .handler(new ChannelInitializer<Channel>() {
+                @Override
+                protected void initChannel(Channel channel) {
+                    connectionInitializer.accept(channel.pipeline());
+                }
+            })
+            .connect("localhost", mockServer.getPort())
+            .sync()
+            .channel();
+        try {
+            Http2StreamChannel streamChannel = new Http2StreamChannelBootstrap(channel)
+                .handler(streamInitializer(responseFuture))
+                .open()
+                .sync()
+                .getNow();
+            streamChannel.writeAndFlush(http2Request(secure));
+            return responseFuture.get(10, SECONDS);
+        } finally {
+            channel.close();
+        }
+    }
+
+    private ChannelInitializer<Channel> streamInitializer(CompletableFuture<FullHttpResponse> responseFuture) {
+        return new ChannelInitializer<Channel>() {
+            @Override
+            protected void initChannel(Channel channel) {
+                channel.pipeline().addLast(new Http2StreamFrameToHttpObjectCodec(false));
+                channel.pipeline().addLast(new HttpObjectAggregator(Integer.MAX_VALUE));
+                channel.pipeline().addLast(new SimpleChannelInboundHandler<FullHttpResponse>() {
+                    @Override
+                    protected void channelRead0(ChannelHandlerContext ctx, FullHttpResponse response) {
+                        responseFuture.complete(response.replace(Unpooled.copiedBuffer(response.content())));
+                    }
+
+                    @Override
+                    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+                        responseFuture.completeExceptionally(cause);
+                    }
+                });
+            }
+        };
+    }
+
+    private FullHttpRequest http2Request(boolean secure) {
+        FullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/some_path");
+        request.headers().set(HOST, "localhost:" + mockServer.getPort());
+        request.headers().set(HttpConversionUtil.ExtensionHeaderNames.SCHEME.text(), secure ? "https" : "http");
+        return request;
+    }
+}
@@ -0,0 +1,176 @@
+package org.mockserver.netty.integration.proxy.http;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockserver.httpclient.NettyHttpClient;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.model.HttpResponse;
+import org.mockserver.model.LogEventRequestAndResponse;
+import org.mockserver.scheduler.Scheduler;
+import org.mockserver.socket.PortFactory;
+
+import java.net.InetSocketAddress;
+
+import static io.netty.handler.codec.http.HttpHeaderNames.ACCESS_CONTROL_ALLOW_ORIGIN;
+import static io.netty.handler.codec.http.HttpHeaderNames.HOST;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.mockserver.configuration.Configuration.configuration;
+import static org.mockserver.integration.ClientAndServer.startClientAndServer;
+import static org.mockserver.model.ConnectionOptions.connectionOptions;
+import static org.mockserver.model.HttpForward.forward;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+import static org.mockserver.stop.Stop.stopQuietly;
+
+/**
+ * @author jamesdbloom
+ */
+public class HttpProxyStreamingIntegrationTest {
+
+    private static ClientAndServer targetClientAndServer;
+    private static ClientAndServer proxyClientAndServer;
+    private static ClientAndServer loopClientAndServer;
+
+    private static EventLoopGroup clientEventLoopGroup;
+
+    private static NettyHttpClient httpClient;
+
+    @BeforeClass
+    public static void startServer() {
+        targetClientAndServer = startClientAndServer();
+        proxyClientAndServer = startClientAndServer(configuration().streamProxiedResponses(true).maxStreamedResponseBodyLogSize(10).enableCORSForAllResponses(true).corsAllowOrigin("*"), "127.0.0.1", targetClientAndServer.getPort());
+        // forwards to itself
+        int loopPort = PortFactory.findFreePort();
+        loopClientAndServer = startClientAndServer(configuration().streamProxiedResponses(true), "127.0.0.1", loopPort, loopPort);
+    }
+
+    @BeforeClass
+    public static void startEventLoopGroup() {
+        clientEventLoopGroup = new NioEventLoopGroup(3, new Scheduler.SchedulerThreadFactory(HttpProxyStreamingIntegrationTest.class.getSimpleName() + "-eventLoop"));
+        httpClient = new NettyHttpClient(configuration(), new MockServerLogger(), clientEventLoopGroup, null, false);
+    }
+
+    @AfterClass
+    public static void stopEventLoopGroup() {
+        clientEventLoopGroup.shutdownGracefully(0, 0, MILLISECONDS).syncUninterruptibly();
+    }
+
+    @AfterClass
+    public static void stopServer() {
+        stopQuietly(targetClientAndServer);
+        stopQuietly(proxyClientAndServer);
+        stopQuietly(loopClientAndServer);
+    }
+
+    @Before
+    public void reset() {
+        targetClientAndServer.reset();
+        proxyClientAndServer.reset();
+        loopClientAndServer.reset();
+    }
+
+    @Test
+    public void shouldStreamProxiedResponseWithCORSHeaders() throws Exception {
+        // given
+        targetClientAndServer
+            .when(
+                request()
+                    .withPath("/streamed")
+            )
+            .respond(
+                response()
+                    .withBody("some_streamed_response_body")
+                    .withConnectionOptions(
+                        connectionOptions()
+                            .withChunkSize(5)
+                    )
+            );
+
+        // when
+        HttpResponse httpResponse = httpClient
+            .sendRequest(
+                request()
+                    .withPath("/streamed")
+                    .withHeader(HOST.toString(), "127.0.0.1:" + targetClientAndServer.getPort()),
+                new InetSocketAddress(proxyClientAndServer.getPort())
+            )
+            .get(10, SECONDS);
+
+        // then
+        assertThat(httpResponse.getStatusCode(), is(200));
+        assertThat(httpResponse.getBodyAsString(), is("some_streamed_response_body"));
+        assertThat(httpResponse.getFirstHeader(ACCESS_CONTROL_ALLOW_ORIGIN.toString()), is("*"));
+    }
+
+    @Test
+    public void shouldStreamForwardActionResponse() throws Exception {
+        // given
+        targetClientAndServer
+            .when(
+                request()
+                    .withPath("/forwarded")
+            )
+            .respond(
+                response()
+                    .withBody("some_forwarded_response_body")
+                    .withConnectionOptions(
+                        connectionOptions()
+                            .withChunkSize(5)
+                    )
+            );
+        proxyClientAndServer
+            .when(
+                request()
+                    .withPath("/forwarded")
+            )
+            .forward(
+                forward()
+                    .withHost("127.0.0.1")
+                    .withPort(targetClientAndServer.getPort())
+            );
+
+        // when
+        HttpResponse httpResponse = httpClient
+            .sendRequest(
+                request()
+                    .withPath("/forwarded")
+                    .withHeader(HOST.toString(), "127.0.0.1:" + proxyClientAndServer.getPort()),
+                new InetSocketAddress(proxyClientAndServer.getPort())
+            )
+            .get(10, SECONDS);
+
+        // then
+        assertThat(httpResponse.getStatusCode(), is(200));
+        assertThat(httpResponse.getBodyAsString(), is("some_forwarded_response_body"));
+        assertThat(httpResponse.getFirstHeader(ACCESS_CONTROL_ALLOW_ORIGIN.toString()), is("*"));
+        LogEventRequestAndResponse[] recorded = proxyClientAndServer.retrieveRecordedRequestsAndResponses(request().withPath("/forwarded"));
+        assertThat(recorded.length, is(1));
+        // only the start of the streamed body is retained for the log
+        assertThat(recorded[0].getHttpResponse().getBodyAsString(), is("some_forwa"));
+    }
+
+    @Test
+    public void shouldReturnNotFoundForProxyLoop() throws Exception {
+        // when
+        HttpResponse httpResponse = httpClient
+            .sendRequest(
+                request()
+                    .withPath("/some_path")
+                    .withHeader(HOST.toString(), "127.0.0.1:" + loopClientAndServer.getPort()),
+                new InetSocketAddress(loopClientAndServer.getPort())
+            )
+            .get(10, SECONDS);
+
+        // then
+        assertThat(httpResponse.getStatusCode(), is(404));
+        assertThat(httpResponse.containsHeader("x-forwarded-by"), is(false));
+    }
+}
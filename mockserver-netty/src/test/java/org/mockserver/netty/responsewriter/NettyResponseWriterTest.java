@@ -14,6 +14,7 @@ import org.mockserver.scheduler.Scheduler;
 
 import java.net.ServerSocket;
 import java.net.Socket;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -72,6 +73,25 @@ public class NettyResponseWriterTest {
         verify(mockChannelFuture).addListener(any(GenericFutureListener.class));
     }
 
+    @Test
+    public void shouldRunResponseWrittenListenerOnceAfterResponseWritten() {
+        // given
+        HttpRequest request = request("some_request");
+        AtomicInteger responsesWritten = new AtomicInteger();
+        NettyResponseWriter responseWriter = new NettyResponseWriter(configuration(), new MockServerLogger(), mockChannelHandlerContext, scheduler);
+        responseWriter.whenResponseWritten(() -> {
+            verify(mockChannelHandlerContext).writeAndFlush(any());
+            responsesWritten.incrementAndGet();
+        });
+
+        // when
+        responseWriter.writeResponse(request.clone(), response("some_response"), false);
+        responseWriter.writeResponse(request.clone(), response("some_other_response"), false);
+
+        // then
+        assertThat(responsesWritten.get(), is(1));
+    }
+
     @Test
     public void shouldWriteNullResponse() {
         // given